@@ -79,8 +79,8 @@ public class Bicho {
 
     /**
      * Applies bullet damage to this bicho.
-     * Reduces health by {@value GameConstants#BULLET_DAMAGE} points.
-     * Health cannot go below zero.
+     * Reduces health by the bullet damage for this bicho's type in the
+     * active {@link CreatureRegistry}. Health cannot go below zero.
      *
      * @return true if the bicho was alive before the shot, false if already dead
      */
@@ -88,7 +88,7 @@ public class Bicho {
         if (estaMuerto()) {
             return false;
         }
-        setSalud(getSalud() - GameConstants.BULLET_DAMAGE);
+        setSalud(saludTrasBala(getSalud(), getTipo()));
         return true;
     }
 
@@ -109,18 +109,47 @@ public class Bicho {
     /**
      * Mutates this bicho, multiplying its health.
      * Only applies if the bicho is currently alive.
-     * Health is multiplied by {@value GameConstants#MUTATION_MULTIPLIER}.
+     * Health is multiplied by the mutation multiplier of this bicho's type
+     * in the active {@link CreatureRegistry}.
      *
      * @return true if mutation was applied, false if bicho was dead
      */
     public boolean mutar() {
         if (getSalud() > 0) {
-            setSalud(getSalud() * GameConstants.MUTATION_MULTIPLIER);
+            setSalud(saludTrasMutacion(getSalud(), getTipo()));
             return true;
         }
         return false;
     }
 
+    /**
+     * Computes the health left after a bullet hits a bicho of the given
+     * type, using the active {@link CreatureRegistry}.
+     * <p>
+     * Shared by {@link #recibirBala()} and the game engines so the damage
+     * rule lives in a single place.
+     * </p>
+     *
+     * @param salud health before the shot
+     * @param tipo  type of the bicho
+     * @return health after the shot (never negative)
+     */
+    public static int saludTrasBala(int salud, TipoBicho tipo) {
+        return CreatureRegistry.getActivo().saludTrasBala(tipo.ordinal(), salud);
+    }
+
+    /**
+     * Computes the health of a bicho of the given type after mutating, using
+     * the active {@link CreatureRegistry}.
+     *
+     * @param salud health before the mutation
+     * @param tipo  type of the bicho
+     * @return health after the mutation
+     */
+    public static int saludTrasMutacion(int salud, TipoBicho tipo) {
+        return CreatureRegistry.getActivo().saludTrasMutacion(tipo.ordinal(), salud);
+    }
+
     /**
      * Returns a string representation of this bicho.
      * <p>
@@ -0,0 +1,346 @@
+package models;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Data-driven table of the properties of the creature types.
+ * <p>
+ * Every type has a starting health, a damage resistance (subtracted from
+ * each bullet, which always deals at least 1), a mutation multiplier and
+ * the points awarded for defeating it. Properties are kept in flat
+ * primitive arrays indexed by type code, so game rules read them with one
+ * array access instead of branching on the type. The codes are the
+ * {@link TipoBicho} ordinals.
+ * </p>
+ * <p>
+ * Scope: the registry tunes the built-in types only; it does not add new
+ * ones. Every board backend, save file and wire format stores a cell's type
+ * as a {@link TipoBicho} code, two bits wide in {@link TableroCompacto} and
+ * in {@code DeltaFeed} messages, so a type defined only in a configuration
+ * file could never be placed on a board. Such entries are rejected when
+ * loading. Supporting configuration-defined types means widening those
+ * formats first; the tables here are already indexed by code and would not
+ * change.
+ * </p>
+ * <p>
+ * Registries are immutable. The one used by the game rules is
+ * {@link #getActivo()}; it starts with the values of {@link GameConstants}
+ * and can be replaced with {@link #setActivo(CreatureRegistry)}, typically
+ * with one loaded by {@link #cargar(Path)} from a JSON array such as:
+ * </p>
+ * <pre>{@code
+ * [
+ *   {"nombre": "NORMAL", "salud": 10, "resistencia": 0, "mutacion": 2, "puntos": 10},
+ *   {"nombre": "ALIEN", "salud": 30, "resistencia": 3, "mutacion": 1, "puntos": 50}
+ * ]
+ * }</pre>
+ * <p>
+ * Types and fields missing from the file keep their default values. The
+ * health of VACIO must stay 0.
+ * </p>
+ * <p>
+ * The active registry is process-wide, not per game: every
+ * {@code BichoManager} in the JVM, including every session hosted by a
+ * {@code SessionRegistry} or {@code GameServer}, reads the same one, so
+ * replacing it changes the rules of all running games at once. Set it once
+ * at startup, before games are created.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public final class CreatureRegistry {
+
+    private static final TipoBicho[] BASE = TipoBicho.values();
+    /** Marks a field missing from a definition. */
+    private static final int FALTA = Integer.MIN_VALUE;
+    private static final CreatureRegistry PREDETERMINADO = new CreatureRegistry(List.of(
+        new Definicion(TipoBicho.NORMAL.name(), GameConstants.NORMAL_HEALTH, 0,
+            GameConstants.MUTATION_MULTIPLIER, GameConstants.POINTS_NORMAL),
+        new Definicion(TipoBicho.ALIEN.name(), GameConstants.ALIEN_HEALTH, 0,
+            GameConstants.MUTATION_MULTIPLIER, GameConstants.POINTS_ALIEN),
+        new Definicion(TipoBicho.VACIO.name(), 0, 0, 1, 0)));
+
+    private static volatile CreatureRegistry activo = PREDETERMINADO;
+
+    private final String[] nombres;
+    private final int[] salud;
+    private final int[] dano;
+    private final int[] resistencia;
+    private final int[] multiplicador;
+    private final int[] puntos;
+    private final Map<String, Integer> codigos;
+
+    private record Definicion(String nombre, int salud, int resistencia, int mutacion, int puntos) {
+    }
+
+    private CreatureRegistry(List<Definicion> definiciones) {
+        int n = definiciones.size();
+        nombres = new String[n];
+        salud = new int[n];
+        dano = new int[n];
+        resistencia = new int[n];
+        multiplicador = new int[n];
+        puntos = new int[n];
+        codigos = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            Definicion d = definiciones.get(i);
+            nombres[i] = d.nombre();
+            salud[i] = d.salud();
+            resistencia[i] = d.resistencia();
+            dano[i] = Math.max(1, GameConstants.BULLET_DAMAGE - d.resistencia());
+            multiplicador[i] = d.mutacion();
+            puntos[i] = d.puntos();
+            codigos.put(d.nombre(), i);
+        }
+    }
+
+    /**
+     * Gets the registry holding the default values of {@link GameConstants}.
+     *
+     * @return the default registry
+     */
+    public static CreatureRegistry predeterminado() {
+        return PREDETERMINADO;
+    }
+
+    /**
+     * Gets the registry used by the game rules of every game in the JVM.
+     *
+     * @return the active registry
+     */
+    public static CreatureRegistry getActivo() {
+        return activo;
+    }
+
+    /**
+     * Replaces the registry used by the game rules of every game in the
+     * JVM, including games already running. Bichos already on a board keep
+     * their current health.
+     *
+     * @param registro new active registry
+     * @throws IllegalArgumentException if registro is null
+     */
+    public static void setActivo(CreatureRegistry registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        activo = registro;
+    }
+
+    /**
+     * Loads a registry from a JSON file.
+     *
+     * @param archivo configuration file
+     * @return the loaded registry
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public static CreatureRegistry cargar(Path archivo) throws IOException {
+        try (Reader in = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            return leer(in);
+        }
+    }
+
+    /**
+     * Reads a registry from a JSON array of type definitions.
+     *
+     * @param in source of the JSON document (not closed)
+     * @return the registry read
+     * @throws IOException if the document is malformed, names a type that
+     *         is not a {@link TipoBicho} or has invalid values
+     */
+    public static CreatureRegistry leer(Reader in) throws IOException {
+        List<Definicion> definiciones = new ArrayList<>();
+        for (TipoBicho tipo : BASE) {
+            int i = tipo.ordinal();
+            definiciones.add(new Definicion(tipo.name(), PREDETERMINADO.salud[i],
+                PREDETERMINADO.resistencia[i], PREDETERMINADO.multiplicador[i], PREDETERMINADO.puntos[i]));
+        }
+        Set<String> vistos = new HashSet<>();
+        JsonReader json = new JsonReader(in);
+        try {
+            json.beginArray();
+            while (json.hasNext()) {
+                Definicion d = leerDefinicion(json);
+                if (!vistos.add(d.nombre())) {
+                    throw new IOException("Duplicate creature type " + d.nombre());
+                }
+                definiciones.set(PREDETERMINADO.codigo(d.nombre()), d);
+            }
+            json.endArray();
+        } catch (IllegalStateException e) {
+            throw new IOException("Malformed creature registry", e);
+        }
+        return new CreatureRegistry(definiciones);
+    }
+
+    private static Definicion leerDefinicion(JsonReader json) throws IOException {
+        String nombre = null;
+        int s = -1;
+        int r = FALTA;
+        int m = FALTA;
+        int p = -1;
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "nombre" -> nombre = json.nextString();
+                case "salud" -> s = json.nextInt();
+                case "resistencia" -> r = json.nextInt();
+                case "mutacion" -> m = json.nextInt();
+                case "puntos" -> p = json.nextInt();
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+        if (nombre == null || nombre.isBlank()) {
+            throw new IOException("Creature type without name");
+        }
+        int base = PREDETERMINADO.codigo(nombre);
+        if (base < 0) {
+            throw new IOException(String.format(
+                "Unknown creature type %s; only %s can be configured", nombre, Arrays.toString(BASE)));
+        }
+        boolean vacio = base == TipoBicho.VACIO.ordinal();
+        s = s < 0 ? PREDETERMINADO.salud[base] : s;
+        r = r == FALTA ? PREDETERMINADO.resistencia[base] : r;
+        m = m == FALTA ? PREDETERMINADO.multiplicador[base] : m;
+        p = p < 0 ? PREDETERMINADO.puntos[base] : p;
+        if (r < 0 || m < 1 || (vacio && s != 0) || (!vacio && s == 0)) {
+            throw new IOException(String.format(
+                "Invalid values for creature type %s: health %d, resistance %d, mutation %d", nombre, s, r, m));
+        }
+        return new Definicion(nombre, s, r, m, p);
+    }
+
+    /**
+     * Gets the number of types defined.
+     *
+     * @return number of types, the number of {@link TipoBicho} constants
+     */
+    public int getTamano() {
+        return nombres.length;
+    }
+
+    /**
+     * Gets the code of a type by name.
+     *
+     * @param nombre type name
+     * @return type code, or -1 if no type has that name
+     */
+    public int codigo(String nombre) {
+        Integer codigo = codigos.get(nombre);
+        return codigo == null ? -1 : codigo;
+    }
+
+    /**
+     * Gets the name of a type.
+     *
+     * @param codigo type code
+     * @return type name
+     */
+    public String getNombre(int codigo) {
+        return nombres[codigo];
+    }
+
+    /**
+     * Gets the starting health of a type.
+     *
+     * @param codigo type code
+     * @return starting health
+     */
+    public int getSalud(int codigo) {
+        return salud[codigo];
+    }
+
+    /**
+     * Gets the starting health of a built-in type.
+     *
+     * @param tipo bicho type
+     * @return starting health
+     */
+    public int getSalud(TipoBicho tipo) {
+        return salud[tipo.ordinal()];
+    }
+
+    /**
+     * Gets the damage resistance of a type.
+     *
+     * @param codigo type code
+     * @return health subtracted from each bullet's damage
+     */
+    public int getResistencia(int codigo) {
+        return resistencia[codigo];
+    }
+
+    /**
+     * Gets the damage a bullet deals to a type.
+     *
+     * @param codigo type code
+     * @return damage per bullet, at least 1
+     */
+    public int getDanoBala(int codigo) {
+        return dano[codigo];
+    }
+
+    /**
+     * Gets the mutation multiplier of a type.
+     *
+     * @param codigo type code
+     * @return health multiplier applied by a mutation
+     */
+    public int getMultiplicadorMutacion(int codigo) {
+        return multiplicador[codigo];
+    }
+
+    /**
+     * Gets the points awarded for defeating a type.
+     *
+     * @param codigo type code
+     * @return points
+     */
+    public int getPuntos(int codigo) {
+        return puntos[codigo];
+    }
+
+    /**
+     * Computes the health left after a bullet hits a bicho of a type.
+     *
+     * @param codigo type code
+     * @param s      health before the shot
+     * @return health after the shot (never negative)
+     */
+    public int saludTrasBala(int codigo, int s) {
+        return Math.max(0, s - dano[codigo]);
+    }
+
+    /**
+     * Computes the health of a bicho of a type after mutating, saturating
+     * at {@link Integer#MAX_VALUE}.
+     *
+     * @param codigo type code
+     * @param s      health before the mutation
+     * @return health after the mutation
+     */
+    public int saludTrasMutacion(int codigo, int s) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) s * multiplicador[codigo]);
+    }
+
+    @Override
+    public String toString() {
+        return "CreatureRegistry" + Arrays.toString(nombres);
+    }
+}
@@ -58,11 +58,44 @@ public final class GameConstants {
      */
     public static final int MAX_BOARD_SIZE = 10;
 
+    /**
+     * Maximum dimension allowed for programmatically created arenas.
+     * Keeps every cell index {@code fila * columnas + col} within an {@code int}.
+     */
+    public static final int MAX_ARENA_SIZE = 32768;
+
+    /**
+     * Largest board area, in cells, that gets a threat map. The map takes
+     * up to 64 bytes per cell, so this caps it at 256 MiB.
+     */
+    public static final int MAX_THREAT_MAP_AREA = 1 << 22;
+
+    /**
+     * Minimum number of cells before a sparse board is considered.
+     * Smaller boards always use the dense {@code Bicho[][]} layout.
+     */
+    public static final int SPARSE_MIN_AREA = 4096;
+
+    /**
+     * Occupancy ratio below which large boards switch to the sparse layout.
+     */
+    public static final double SPARSE_DENSITY_THRESHOLD = 0.25;
+
     /**
      * Name of the save file for game persistence.
      */
     public static final String SAVE_FILE = "partida.json";
 
+    /**
+     * Directory of the persistent cross-game leaderboard.
+     */
+    public static final String LEADERBOARD_DIR = "ranking";
+
+    /**
+     * Optional creature type configuration loaded by the console at startup.
+     */
+    public static final String CREATURES_FILE = "criaturas.json";
+
     /**
      * Points awarded for defeating a NORMAL bicho.
      */
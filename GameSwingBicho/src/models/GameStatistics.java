@@ -74,16 +74,18 @@ public class GameStatistics {
      */
     public void recordDefeat(TipoBicho tipo) {
         this.bichosDefeated++;
-        switch (tipo) {
-            case NORMAL:
-                this.totalPoints += GameConstants.POINTS_NORMAL;
-                break;
-            case ALIEN:
-                this.totalPoints += GameConstants.POINTS_ALIEN;
-                break;
-            default:
-                break;
-        }
+        this.totalPoints += pointsFor(tipo);
+    }
+
+    /**
+     * Gets the points awarded for defeating a bicho of the given type.
+     *
+     * @param tipo the type of bicho
+     * @return points for defeating it in the active {@link CreatureRegistry}
+     *         (0 for VACIO by default)
+     */
+    public static int pointsFor(TipoBicho tipo) {
+        return CreatureRegistry.getActivo().getPuntos(tipo.ordinal());
     }
 
     /**
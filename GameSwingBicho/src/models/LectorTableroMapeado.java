@@ -0,0 +1,233 @@
+package models;
+
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only view of a board written by {@link TableroMapeado}, usually from
+ * another process.
+ * <p>
+ * The file is mapped read-only, so single cells can be read in place with
+ * {@link #getTipo(int, int)} and {@link #getSalud(int, int)} at no cost; such
+ * reads may mix cells from different turns. {@link #capturar()} instead
+ * copies the whole board between two reads of the seqlock sequence and
+ * retries until nothing changed in between, so the copy always matches the
+ * board at the end of some turn.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class LectorTableroMapeado {
+
+    private static final long ESPERA_MAXIMA = TimeUnit.SECONDS.toNanos(1);
+
+    private final MappedByteBuffer mapa;
+    private final int filas;
+    private final int columnas;
+    private final int inicioSaludes;
+
+    private LectorTableroMapeado(MappedByteBuffer mapa) {
+        this.mapa = mapa;
+        this.filas = mapa.getInt(TableroMapeado.OFFSET_FILAS);
+        this.columnas = mapa.getInt(TableroMapeado.OFFSET_COLUMNAS);
+        this.inicioSaludes = mapa.getInt(TableroMapeado.OFFSET_SALUDES);
+    }
+
+    /**
+     * Maps a board file for reading.
+     *
+     * @param archivo file written by a {@link TableroMapeado}
+     * @return a reader for the file
+     * @throws IOException if the file cannot be mapped or is not a board file
+     */
+    public static LectorTableroMapeado abrir(Path archivo) throws IOException {
+        MappedByteBuffer mapa;
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            if (canal.size() < TableroMapeado.CABECERA || canal.size() > Integer.MAX_VALUE) {
+                throw new IOException("Not a mapped board file: " + archivo);
+            }
+            mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+        mapa.order(ByteOrder.nativeOrder());
+        if (mapa.getInt(0) != TableroMapeado.MAGIC || mapa.getInt(4) != TableroMapeado.VERSION) {
+            throw new IOException("Not a mapped board file: " + archivo);
+        }
+        int filas = mapa.getInt(TableroMapeado.OFFSET_FILAS);
+        int columnas = mapa.getInt(TableroMapeado.OFFSET_COLUMNAS);
+        long area = (long) filas * columnas;
+        if (filas <= 0 || columnas <= 0
+                || mapa.getInt(TableroMapeado.OFFSET_SALUDES) + area * Integer.BYTES > mapa.capacity()) {
+            throw new IOException("Corrupt mapped board header: " + archivo);
+        }
+        return new LectorTableroMapeado(mapa);
+    }
+
+    /**
+     * Gets the number of rows of the board.
+     *
+     * @return row count
+     */
+    public int getFilas() {
+        return filas;
+    }
+
+    /**
+     * Gets the number of columns of the board.
+     *
+     * @return column count
+     */
+    public int getColumnas() {
+        return columnas;
+    }
+
+    /**
+     * Gets the writer's current sequence number.
+     *
+     * @return even between turns, odd while a turn is being written
+     */
+    public long getSecuencia() {
+        return (long) TableroMapeado.SECUENCIA.getAcquire(mapa, TableroMapeado.OFFSET_SECUENCIA);
+    }
+
+    /**
+     * Reads the live type of one cell, without snapshot consistency.
+     *
+     * @param fila row coordinate
+     * @param col  column coordinate
+     * @return cell type
+     */
+    public TipoBicho getTipo(int fila, int col) {
+        return TableroMapeado.tipoDeCodigo(mapa.get(TableroMapeado.CABECERA + fila * columnas + col));
+    }
+
+    /**
+     * Reads the live health of one cell, without snapshot consistency.
+     *
+     * @param fila row coordinate
+     * @param col  column coordinate
+     * @return cell health
+     */
+    public int getSalud(int fila, int col) {
+        return mapa.getInt(inicioSaludes + (fila * columnas + col) * Integer.BYTES);
+    }
+
+    /**
+     * Copies a consistent snapshot of the board.
+     *
+     * @return a new snapshot
+     * @throws IllegalStateException if the writer keeps a turn open for over a second
+     */
+    public Instantanea capturar() {
+        return capturar(new Instantanea(filas, columnas));
+    }
+
+    /**
+     * Copies a consistent snapshot of the board into an existing snapshot,
+     * avoiding new arrays when polling repeatedly.
+     *
+     * @param destino snapshot of the same dimensions to overwrite
+     * @return {@code destino}
+     * @throws IllegalArgumentException if the dimensions differ
+     * @throws IllegalStateException if the writer keeps a turn open for over a second
+     */
+    public Instantanea capturar(Instantanea destino) {
+        if (destino.filas != filas || destino.columnas != columnas) {
+            throw new IllegalArgumentException("Snapshot dimensions do not match the board");
+        }
+        long limite = System.nanoTime() + ESPERA_MAXIMA;
+        while (true) {
+            long antes = getSecuencia();
+            if ((antes & 1) == 0) {
+                mapa.get(TableroMapeado.CABECERA, destino.tipos);
+                mapa.slice(inicioSaludes, destino.saludes.length * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder()).asIntBuffer().get(destino.saludes);
+                VarHandle.acquireFence();
+                long despues = (long) TableroMapeado.SECUENCIA.getOpaque(mapa, TableroMapeado.OFFSET_SECUENCIA);
+                if (antes == despues) {
+                    destino.secuencia = antes;
+                    return destino;
+                }
+            }
+            if (System.nanoTime() - limite > 0) {
+                throw new IllegalStateException("Writer did not finish its turn in time");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Immutable-looking copy of the board at the end of one turn.
+     */
+    public static final class Instantanea {
+        private final int filas;
+        private final int columnas;
+        private final byte[] tipos;
+        private final int[] saludes;
+        private long secuencia;
+
+        /**
+         * Creates an empty snapshot buffer.
+         *
+         * @param filas    number of rows
+         * @param columnas number of columns
+         */
+        public Instantanea(int filas, int columnas) {
+            this.filas = filas;
+            this.columnas = columnas;
+            this.tipos = new byte[filas * columnas];
+            this.saludes = new int[filas * columnas];
+        }
+
+        /**
+         * Gets the writer sequence this snapshot was taken at.
+         *
+         * @return even sequence number
+         */
+        public long getSecuencia() {
+            return secuencia;
+        }
+
+        /**
+         * Gets the type of a cell.
+         *
+         * @param fila row coordinate
+         * @param col  column coordinate
+         * @return cell type
+         */
+        public TipoBicho getTipo(int fila, int col) {
+            return TableroMapeado.tipoDeCodigo(tipos[fila * columnas + col]);
+        }
+
+        /**
+         * Gets the health of a cell.
+         *
+         * @param fila row coordinate
+         * @param col  column coordinate
+         * @return cell health
+         */
+        public int getSalud(int fila, int col) {
+            return saludes[fila * columnas + col];
+        }
+
+        /**
+         * Copies the snapshot into a board backend.
+         *
+         * @param destino empty board with the same dimensions
+         */
+        public void copiarEn(Tablero destino) {
+            for (int i = 0; i < tipos.length; i++) {
+                if (tipos[i] != 0 || saludes[i] > 0) {
+                    destino.setCelda(i / columnas, i % columnas, TableroMapeado.tipoDeCodigo(tipos[i]), saludes[i]);
+                }
+            }
+        }
+    }
+}
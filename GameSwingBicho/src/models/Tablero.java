@@ -0,0 +1,159 @@
+package models;
+
+/**
+ * Storage backend for the cells of a game board.
+ * <p>
+ * {@code BichoManager} reads and writes cells exclusively through this
+ * interface, so the same game rules run on top of different memory layouts:
+ * <ul>
+ *   <li>{@link TableroDenso}: one {@link Bicho} object per cell</li>
+ *   <li>{@link TableroDisperso}: only occupied cells, in a primitive hash map</li>
+ *   <li>{@link TableroMapeado}: primitive cells in a memory-mapped file shared
+ *       with other processes</li>
+ *   <li>{@link TableroPaginado}: tiles paged in lazily from a tiled save file</li>
+ * </ul>
+ * A cell is <em>occupied</em> when it is anything other than an empty
+ * {@link TipoBicho#VACIO} cell with zero health; dead bichos are occupied
+ * cells with zero health.
+ * </p>
+ * <p>
+ * Coordinates passed to these methods are assumed to be valid; bounds are
+ * checked by the caller.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public interface Tablero {
+
+    /**
+     * Gets the number of rows of the board.
+     *
+     * @return row count
+     */
+    int getFilas();
+
+    /**
+     * Gets the number of columns of the board.
+     *
+     * @return column count
+     */
+    int getColumnas();
+
+    /**
+     * Gets the type of the bicho in a cell.
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @return the cell type, {@link TipoBicho#VACIO} for empty cells
+     */
+    TipoBicho getTipo(int fila, int col);
+
+    /**
+     * Gets the health of the bicho in a cell.
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @return the cell health (0 or greater)
+     */
+    int getSalud(int fila, int col);
+
+    /**
+     * Replaces the content of a cell.
+     *
+     * @param fila  row coordinate (0-indexed)
+     * @param col   column coordinate (0-indexed)
+     * @param tipo  new type of the cell
+     * @param salud new health of the cell (negative values treated as 0)
+     */
+    void setCelda(int fila, int col, TipoBicho tipo, int salud);
+
+    /**
+     * Gets the bicho stored in a cell.
+     * <p>
+     * Object-based backends return the live instance; primitive backends
+     * return a detached copy whose changes do not affect the board.
+     * </p>
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @return the bicho in the cell
+     */
+    Bicho getBicho(int fila, int col);
+
+    /**
+     * Resets every cell to an empty {@link TipoBicho#VACIO} cell.
+     */
+    void limpiar();
+
+    /**
+     * Counts the occupied cells of the board.
+     *
+     * @return number of cells that are not empty
+     */
+    int contarOcupadas();
+
+    /**
+     * Counts the cells holding a living bicho (health greater than zero).
+     *
+     * @return number of living bichos
+     */
+    int contarVivos();
+
+    /**
+     * Finds the living bicho with the lowest health.
+     * <p>
+     * Ties are broken in row-major order, so every backend picks the same cell.
+     * </p>
+     *
+     * @return cell index ({@code fila * columnas + col}) of the weakest bicho,
+     *         or -1 if no bicho is alive
+     */
+    int indiceMasDebil();
+
+    /**
+     * Visits every occupied cell of the board.
+     * <p>
+     * The visiting order is backend specific.
+     * </p>
+     *
+     * @param visitante callback receiving each occupied cell
+     */
+    void recorrerOcupadas(VisitanteCelda visitante);
+
+    /**
+     * Marks the start of a group of writes that belong to one turn.
+     * <p>
+     * Backends read concurrently by other threads or processes use this to
+     * publish the whole turn atomically; calls may nest and must be paired
+     * with {@link #finalizarTurno()}. The default does nothing.
+     * </p>
+     */
+    default void iniciarTurno() {
+    }
+
+    /**
+     * Marks the end of a group of writes started by {@link #iniciarTurno()}.
+     * The default does nothing.
+     */
+    default void finalizarTurno() {
+    }
+
+    /**
+     * Callback used by {@link #recorrerOcupadas(VisitanteCelda)}.
+     */
+    @FunctionalInterface
+    interface VisitanteCelda {
+
+        /**
+         * Receives one occupied cell.
+         *
+         * @param fila  row coordinate
+         * @param col   column coordinate
+         * @param tipo  cell type
+         * @param salud cell health
+         */
+        void visitar(int fila, int col, TipoBicho tipo, int salud);
+    }
+}
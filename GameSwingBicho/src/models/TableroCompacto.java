@@ -0,0 +1,265 @@
+package models;
+
+import java.util.Arrays;
+
+/**
+ * Board backend that packs every cell into a few bits of a {@code long[]}.
+ * <p>
+ * Each cell takes {@code 2 + bitsSalud} bits: 2 for the type code (0 empty,
+ * 1 normal, 2 alien) and {@code bitsSalud} for the health. Cells never
+ * straddle two words, so a word holds {@code 64 / (2 + bitsSalud)} cells.
+ * By default the health field is just wide enough for the largest starting
+ * health of the active {@link CreatureRegistry}: with the default values
+ * (10 and 20) that is 5 bits, 7 bits per cell and 9 cells per word, against
+ * a reference plus a {@link Bicho} object per cell for {@link TableroDenso}.
+ * </p>
+ * <p>
+ * The all-ones health code is an escape. Cells whose health grows past the
+ * packed range, typically through repeated mutation, are widened: they keep
+ * their type in the packed word and their exact health in a side
+ * {@link TableroDisperso}, and are narrowed back once their health fits
+ * again. Widened cells cost as much as a sparse board cell, so memory stays
+ * at a few bits per cell as long as most bichos are near their starting
+ * health.
+ * </p>
+ * <p>
+ * Living and occupied counts are maintained on every write, which makes
+ * {@link #contarVivos()} and {@link #contarOcupadas()} constant time.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class TableroCompacto implements Tablero {
+
+    private static final int VACIO = 0;
+    private static final TipoBicho[] POR_CODIGO = { TipoBicho.VACIO, TipoBicho.NORMAL, TipoBicho.ALIEN };
+
+    private final int filas;
+    private final int columnas;
+    private final int area;
+    private final int bitsCelda;
+    private final int celdasPorPalabra;
+    private final long mascaraCelda;
+    private final int escape;
+    private final long[] palabras;
+    private final TableroDisperso anchas;
+    private int ocupadas;
+    private int vivos;
+
+    /**
+     * Creates an empty packed board whose health field fits the starting
+     * health of every type in the active {@link CreatureRegistry}.
+     *
+     * @param filas    number of rows
+     * @param columnas number of columns
+     * @throws IllegalArgumentException if the dimensions are not positive
+     *         or the board is too large
+     */
+    public TableroCompacto(int filas, int columnas) {
+        this(filas, columnas, bitsPara(CreatureRegistry.getActivo()));
+    }
+
+    /**
+     * Creates an empty packed board with a given health field width.
+     *
+     * @param filas     number of rows
+     * @param columnas  number of columns
+     * @param bitsSalud bits of the packed health field (1-30); health values
+     *                  up to {@code 2^bitsSalud - 2} are stored inline
+     * @throws IllegalArgumentException if the dimensions are not positive,
+     *         the board is too large or bitsSalud is out of range
+     */
+    public TableroCompacto(int filas, int columnas, int bitsSalud) {
+        if (bitsSalud < 1 || bitsSalud > 30) {
+            throw new IllegalArgumentException(
+                String.format("Health field must be between 1 and 30 bits, got %d", bitsSalud));
+        }
+        long celdas = (long) filas * columnas;
+        if (filas <= 0 || columnas <= 0 || celdas > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format("A %dx%d board cannot be packed", filas, columnas));
+        }
+        this.filas = filas;
+        this.columnas = columnas;
+        this.area = (int) celdas;
+        this.bitsCelda = 2 + bitsSalud;
+        this.celdasPorPalabra = Long.SIZE / bitsCelda;
+        this.mascaraCelda = (1L << bitsCelda) - 1;
+        this.escape = (1 << bitsSalud) - 1;
+        this.palabras = new long[(area + celdasPorPalabra - 1) / celdasPorPalabra];
+        this.anchas = new TableroDisperso(filas, columnas);
+    }
+
+    /**
+     * Computes the health field width that stores every starting health of
+     * a registry inline.
+     *
+     * @param registro creature registry
+     * @return bits for the health field
+     */
+    public static int bitsPara(CreatureRegistry registro) {
+        int maxima = 0;
+        for (int codigo = 0; codigo < registro.getTamano(); codigo++) {
+            maxima = Math.max(maxima, registro.getSalud(codigo));
+        }
+        return Math.min(30, Integer.SIZE - Integer.numberOfLeadingZeros(maxima + 1));
+    }
+
+    @Override
+    public int getFilas() {
+        return filas;
+    }
+
+    @Override
+    public int getColumnas() {
+        return columnas;
+    }
+
+    /**
+     * Gets the number of bits each cell takes in the packed words.
+     *
+     * @return bits per cell
+     */
+    public int getBitsPorCelda() {
+        return bitsCelda;
+    }
+
+    /**
+     * Gets the number of cells whose health is currently stored outside the
+     * packed words.
+     *
+     * @return widened cells
+     */
+    public int getCeldasAnchas() {
+        return anchas.contarOcupadas();
+    }
+
+    @Override
+    public TipoBicho getTipo(int fila, int col) {
+        return POR_CODIGO[(int) leer(fila * columnas + col) & 3];
+    }
+
+    @Override
+    public int getSalud(int fila, int col) {
+        int indice = fila * columnas + col;
+        int salud = (int) (leer(indice) >>> 2);
+        return salud == escape ? anchas.getSalud(fila, col) : salud;
+    }
+
+    @Override
+    public void setCelda(int fila, int col, TipoBicho tipo, int salud) {
+        int indice = fila * columnas + col;
+        int valor = Math.max(0, salud);
+        long viejo = leer(indice);
+        int codigoViejo = (int) viejo & 3;
+        int saludVieja = (int) (viejo >>> 2);
+        if (saludVieja == escape) {
+            saludVieja = anchas.getSalud(fila, col);
+            if (valor < escape) {
+                anchas.setCelda(fila, col, TipoBicho.VACIO, 0);
+            }
+        }
+        int codigo = codigo(tipo);
+        int campo = valor;
+        if (valor >= escape) {
+            anchas.setCelda(fila, col, tipo, valor);
+            campo = escape;
+        }
+        escribir(indice, ((long) campo << 2) | codigo);
+
+        ocupadas += (codigo != VACIO || valor > 0 ? 1 : 0) - (codigoViejo != VACIO || saludVieja > 0 ? 1 : 0);
+        vivos += (valor > 0 ? 1 : 0) - (saludVieja > 0 ? 1 : 0);
+    }
+
+    @Override
+    public Bicho getBicho(int fila, int col) {
+        return new Bicho(getSalud(fila, col), getTipo(fila, col));
+    }
+
+    @Override
+    public void limpiar() {
+        Arrays.fill(palabras, 0L);
+        anchas.limpiar();
+        ocupadas = 0;
+        vivos = 0;
+    }
+
+    @Override
+    public int contarOcupadas() {
+        return ocupadas;
+    }
+
+    @Override
+    public int contarVivos() {
+        return vivos;
+    }
+
+    @Override
+    public int indiceMasDebil() {
+        int indice = -1;
+        int min = Integer.MAX_VALUE;
+        for (int p = 0; p < palabras.length; p++) {
+            long palabra = palabras[p];
+            if (palabra == 0L) {
+                continue;
+            }
+            int base = p * celdasPorPalabra;
+            int fin = Math.min(celdasPorPalabra, area - base);
+            for (int k = 0; k < fin; k++, palabra >>>= bitsCelda) {
+                int salud = (int) ((palabra & mascaraCelda) >>> 2);
+                if (salud == escape) {
+                    salud = anchas.getSalud((base + k) / columnas, (base + k) % columnas);
+                }
+                if (salud > 0 && salud < min) {
+                    min = salud;
+                    indice = base + k;
+                }
+            }
+        }
+        return indice;
+    }
+
+    @Override
+    public void recorrerOcupadas(VisitanteCelda visitante) {
+        for (int p = 0; p < palabras.length; p++) {
+            long palabra = palabras[p];
+            if (palabra == 0L) {
+                continue;
+            }
+            int base = p * celdasPorPalabra;
+            int fin = Math.min(celdasPorPalabra, area - base);
+            for (int k = 0; k < fin; k++, palabra >>>= bitsCelda) {
+                long celda = palabra & mascaraCelda;
+                if (celda != 0L) {
+                    int fila = (base + k) / columnas;
+                    int col = (base + k) % columnas;
+                    int salud = (int) (celda >>> 2);
+                    visitante.visitar(fila, col, POR_CODIGO[(int) celda & 3],
+                        salud == escape ? anchas.getSalud(fila, col) : salud);
+                }
+            }
+        }
+    }
+
+    private long leer(int indice) {
+        int p = indice / celdasPorPalabra;
+        int desplazamiento = (indice - p * celdasPorPalabra) * bitsCelda;
+        return (palabras[p] >>> desplazamiento) & mascaraCelda;
+    }
+
+    private void escribir(int indice, long celda) {
+        int p = indice / celdasPorPalabra;
+        int desplazamiento = (indice - p * celdasPorPalabra) * bitsCelda;
+        palabras[p] = (palabras[p] & ~(mascaraCelda << desplazamiento)) | (celda << desplazamiento);
+    }
+
+    private static int codigo(TipoBicho tipo) {
+        return switch (tipo) {
+            case NORMAL -> 1;
+            case ALIEN -> 2;
+            default -> VACIO;
+        };
+    }
+}
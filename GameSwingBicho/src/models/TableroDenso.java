@@ -0,0 +1,174 @@
+package models;
+
+/**
+ * Board backend storing one {@link Bicho} object per cell.
+ * <p>
+ * This is the classic {@code Bicho[][]} layout used by small boards. The
+ * backing array is shared with callers of {@link #getCampo()}, so direct
+ * modifications to it are visible to the game.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class TableroDenso implements Tablero {
+
+    private final Bicho[][] campo;
+    private final int filas;
+    private final int columnas;
+
+    /**
+     * Creates an empty dense board.
+     *
+     * @param filas    number of rows
+     * @param columnas number of columns
+     */
+    public TableroDenso(int filas, int columnas) {
+        this(new Bicho[filas][columnas]);
+        limpiar();
+    }
+
+    /**
+     * Wraps an existing board array without copying it.
+     *
+     * @param campo board array (rectangular, no null rows)
+     * @throws IllegalArgumentException if campo is null or empty
+     */
+    public TableroDenso(Bicho[][] campo) {
+        if (campo == null || campo.length == 0 || campo[0] == null) {
+            throw new IllegalArgumentException("Board array cannot be null or empty");
+        }
+        this.campo = campo;
+        this.filas = campo.length;
+        this.columnas = campo[0].length;
+    }
+
+    /**
+     * Creates a dense copy of any other board.
+     *
+     * @param origen board to copy
+     * @return a new dense board with the same cells
+     */
+    public static TableroDenso copiaDe(Tablero origen) {
+        TableroDenso copia = new TableroDenso(origen.getFilas(), origen.getColumnas());
+        origen.recorrerOcupadas(copia::setCelda);
+        return copia;
+    }
+
+    /**
+     * Gets the backing array.
+     *
+     * @return the live board array
+     */
+    public Bicho[][] getCampo() {
+        return campo;
+    }
+
+    @Override
+    public int getFilas() {
+        return filas;
+    }
+
+    @Override
+    public int getColumnas() {
+        return columnas;
+    }
+
+    @Override
+    public TipoBicho getTipo(int fila, int col) {
+        Bicho b = campo[fila][col];
+        return b == null ? TipoBicho.VACIO : b.getTipo();
+    }
+
+    @Override
+    public int getSalud(int fila, int col) {
+        Bicho b = campo[fila][col];
+        return b == null ? 0 : b.getSalud();
+    }
+
+    @Override
+    public void setCelda(int fila, int col, TipoBicho tipo, int salud) {
+        Bicho b = campo[fila][col];
+        if (b != null && b.getTipo() == tipo) {
+            b.setSalud(salud);
+        } else {
+            campo[fila][col] = new Bicho(salud, tipo);
+        }
+    }
+
+    @Override
+    public Bicho getBicho(int fila, int col) {
+        Bicho b = campo[fila][col];
+        if (b == null) {
+            b = new Bicho();
+            campo[fila][col] = b;
+        }
+        return b;
+    }
+
+    @Override
+    public void limpiar() {
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                campo[i][j] = new Bicho(0, TipoBicho.VACIO);
+            }
+        }
+    }
+
+    @Override
+    public int contarOcupadas() {
+        int ocupadas = 0;
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                Bicho b = campo[i][j];
+                if (b != null && (b.getTipo() != TipoBicho.VACIO || b.getSalud() > 0)) {
+                    ocupadas++;
+                }
+            }
+        }
+        return ocupadas;
+    }
+
+    @Override
+    public int contarVivos() {
+        int vivos = 0;
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                Bicho b = campo[i][j];
+                if (b != null && !b.estaMuerto()) {
+                    vivos++;
+                }
+            }
+        }
+        return vivos;
+    }
+
+    @Override
+    public int indiceMasDebil() {
+        int indice = -1;
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                Bicho b = campo[i][j];
+                if (b != null && !b.estaMuerto() && b.getSalud() < min) {
+                    min = b.getSalud();
+                    indice = i * columnas + j;
+                }
+            }
+        }
+        return indice;
+    }
+
+    @Override
+    public void recorrerOcupadas(VisitanteCelda visitante) {
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                Bicho b = campo[i][j];
+                if (b != null && (b.getTipo() != TipoBicho.VACIO || b.getSalud() > 0)) {
+                    visitante.visitar(i, j, b.getTipo(), b.getSalud());
+                }
+            }
+        }
+    }
+}
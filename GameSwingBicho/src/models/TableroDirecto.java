@@ -0,0 +1,361 @@
+package models;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Board backend that keeps its cells off the Java heap, in direct buffers.
+ * <p>
+ * Cells are stored in blocks of up to {@value #CELDAS_POR_BLOQUE} cells:
+ * one direct buffer of type codes (0 empty, 1 normal, 2 alien) and one of
+ * little-endian healths per block. The heap only holds the few block
+ * references, so garbage collection work does not grow with the board and
+ * arenas of a billion cells fit as long as the direct memory limit
+ * ({@code -XX:MaxDirectMemorySize}) allows.
+ * </p>
+ * <p>
+ * Save files written by {@link #escribir(WritableByteChannel)} hold a
+ * 32-byte header (MAGIC "BDIR", VERSION, filas, columnas, occupied and
+ * living counts) followed by every type block and every health block. The
+ * blocks are handed to the channel as they are, so a file channel writes
+ * them to disk without copying them through the heap, and
+ * {@link #cargar(Path)} reads them straight back into direct buffers.
+ * </p>
+ * <p>
+ * The board's lifetime is explicit: {@link #close()} drops the blocks, and
+ * using the board afterwards throws {@link IllegalStateException}. The
+ * memory itself is returned once the JVM collects the released buffers.
+ * Living and occupied counts are maintained on every write, which makes
+ * {@link #contarVivos()} and {@link #contarOcupadas()} constant time.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class TableroDirecto implements Tablero, AutoCloseable {
+
+    /** Maximum number of cells per direct buffer block. */
+    public static final int CELDAS_POR_BLOQUE = 1 << 24;
+
+    static final int MAGIC = 0x42444952;
+    static final int VERSION = 1;
+    private static final int CABECERA = 32;
+    private static final int BITS_BLOQUE = Integer.numberOfTrailingZeros(CELDAS_POR_BLOQUE);
+    private static final int MASCARA_BLOQUE = CELDAS_POR_BLOQUE - 1;
+    private static final byte VACIO = 0;
+    private static final TipoBicho[] POR_CODIGO = { TipoBicho.VACIO, TipoBicho.NORMAL, TipoBicho.ALIEN };
+
+    private final int filas;
+    private final int columnas;
+    private final int area;
+    private ByteBuffer[] tipos;
+    private ByteBuffer[] saludes;
+    private int ocupadas;
+    private int vivos;
+
+    /**
+     * Creates an empty off-heap board.
+     *
+     * @param filas    number of rows
+     * @param columnas number of columns
+     * @throws IllegalArgumentException if the dimensions are not positive
+     *         or the board has more than {@link Integer#MAX_VALUE} cells
+     * @throws OutOfMemoryError if the direct memory limit is exceeded
+     */
+    public TableroDirecto(int filas, int columnas) {
+        long celdas = (long) filas * columnas;
+        if (filas <= 0 || columnas <= 0 || celdas > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format("A %dx%d board cannot be stored off-heap", filas, columnas));
+        }
+        this.filas = filas;
+        this.columnas = columnas;
+        this.area = (int) celdas;
+        int bloques = (area + CELDAS_POR_BLOQUE - 1) >>> BITS_BLOQUE;
+        this.tipos = new ByteBuffer[bloques];
+        this.saludes = new ByteBuffer[bloques];
+        for (int b = 0; b < bloques; b++) {
+            int n = celdasBloque(b);
+            tipos[b] = ByteBuffer.allocateDirect(n);
+            saludes[b] = ByteBuffer.allocateDirect(n * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Reads a board saved by {@link #escribir(WritableByteChannel)}.
+     *
+     * @param archivo save file
+     * @return a new off-heap board with the saved cells
+     * @throws IOException if the file cannot be read or is not an off-heap save
+     */
+    public static TableroDirecto cargar(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecera = ByteBuffer.allocate(CABECERA);
+            leerCompleto(canal, cabecera);
+            int filas = cabecera.getInt(8);
+            int columnas = cabecera.getInt(12);
+            if (cabecera.getInt(0) != MAGIC || cabecera.getInt(4) != VERSION) {
+                throw new IOException("Not an off-heap board save: " + archivo);
+            }
+            if (filas <= 0 || columnas <= 0 || (long) filas * columnas > Integer.MAX_VALUE
+                    || canal.size() != CABECERA + (long) filas * columnas * (1 + Integer.BYTES)) {
+                throw new IOException("Corrupt off-heap board save: " + archivo);
+            }
+            TableroDirecto tablero = new TableroDirecto(filas, columnas);
+            for (ByteBuffer bloque : tablero.tipos) {
+                leerCompleto(canal, bloque.clear());
+            }
+            for (ByteBuffer bloque : tablero.saludes) {
+                leerCompleto(canal, bloque.clear());
+            }
+            if (!tablero.recontar() || tablero.ocupadas != cabecera.getInt(16)
+                    || tablero.vivos != cabecera.getInt(20)) {
+                throw new IOException("Corrupt off-heap board save: " + archivo);
+            }
+            return tablero;
+        }
+    }
+
+    /**
+     * Writes the board to a file, replacing it atomically.
+     *
+     * @param archivo destination file
+     * @throws IOException if the file cannot be written
+     * @throws IllegalStateException if the board is closed
+     */
+    public void guardar(Path archivo) throws IOException {
+        Path absoluto = archivo.toAbsolutePath();
+        Path temporal = Files.createTempFile(absoluto.getParent(), absoluto.getFileName().toString(), ".tmp");
+        try (FileChannel out = FileChannel.open(temporal, StandardOpenOption.WRITE)) {
+            escribir(out);
+            out.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporal);
+            throw e;
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes the header and then the cell blocks themselves to a channel.
+     *
+     * @param canal destination channel (not closed)
+     * @throws IOException if the channel cannot be written
+     * @throws IllegalStateException if the board is closed
+     */
+    public void escribir(WritableByteChannel canal) throws IOException {
+        ByteBuffer[] bloquesTipos = bloquesTipos();
+        ByteBuffer cabecera = ByteBuffer.allocate(CABECERA);
+        cabecera.putInt(MAGIC).putInt(VERSION).putInt(filas).putInt(columnas)
+            .putInt(ocupadas).putInt(vivos).putLong(0L).flip();
+        escribirCompleto(canal, cabecera);
+        for (ByteBuffer bloque : bloquesTipos) {
+            escribirCompleto(canal, bloque.duplicate().clear());
+        }
+        for (ByteBuffer bloque : saludes) {
+            escribirCompleto(canal, bloque.duplicate().clear());
+        }
+    }
+
+    private static void leerCompleto(ReadableByteChannel canal, ByteBuffer destino) throws IOException {
+        while (destino.hasRemaining()) {
+            if (canal.read(destino) < 0) {
+                throw new IOException("Unexpected end of off-heap board save");
+            }
+        }
+    }
+
+    private static void escribirCompleto(WritableByteChannel canal, ByteBuffer origen) throws IOException {
+        while (origen.hasRemaining()) {
+            canal.write(origen);
+        }
+    }
+
+    /**
+     * Releases the cell blocks. Further use of the board throws
+     * {@link IllegalStateException}; closing twice has no effect.
+     */
+    @Override
+    public void close() {
+        tipos = null;
+        saludes = null;
+    }
+
+    /**
+     * Checks whether {@link #close()} was called.
+     *
+     * @return true if the board is closed
+     */
+    public boolean estaCerrado() {
+        return tipos == null;
+    }
+
+    @Override
+    public int getFilas() {
+        return filas;
+    }
+
+    @Override
+    public int getColumnas() {
+        return columnas;
+    }
+
+    @Override
+    public TipoBicho getTipo(int fila, int col) {
+        int i = fila * columnas + col;
+        return POR_CODIGO[bloquesTipos()[i >>> BITS_BLOQUE].get(i & MASCARA_BLOQUE)];
+    }
+
+    @Override
+    public int getSalud(int fila, int col) {
+        int i = fila * columnas + col;
+        bloquesTipos();
+        return saludes[i >>> BITS_BLOQUE].getInt((i & MASCARA_BLOQUE) * Integer.BYTES);
+    }
+
+    @Override
+    public void setCelda(int fila, int col, TipoBicho tipo, int salud) {
+        int i = fila * columnas + col;
+        ByteBuffer bloqueTipos = bloquesTipos()[i >>> BITS_BLOQUE];
+        ByteBuffer bloqueSaludes = saludes[i >>> BITS_BLOQUE];
+        int posTipo = i & MASCARA_BLOQUE;
+        int posSalud = posTipo * Integer.BYTES;
+        int valor = Math.max(0, salud);
+        byte nuevo = codigo(tipo);
+        byte viejo = bloqueTipos.get(posTipo);
+        int saludVieja = bloqueSaludes.getInt(posSalud);
+
+        ocupadas += (nuevo != VACIO || valor > 0 ? 1 : 0) - (viejo != VACIO || saludVieja > 0 ? 1 : 0);
+        vivos += (valor > 0 ? 1 : 0) - (saludVieja > 0 ? 1 : 0);
+
+        bloqueTipos.put(posTipo, nuevo);
+        bloqueSaludes.putInt(posSalud, valor);
+    }
+
+    @Override
+    public Bicho getBicho(int fila, int col) {
+        return new Bicho(getSalud(fila, col), getTipo(fila, col));
+    }
+
+    @Override
+    public void limpiar() {
+        ByteBuffer[] bloquesTipos = bloquesTipos();
+        for (int b = 0; b < bloquesTipos.length; b++) {
+            ByteBuffer t = bloquesTipos[b];
+            ByteBuffer s = saludes[b];
+            for (int k = 0; k < t.capacity(); k++) {
+                t.put(k, VACIO);
+            }
+            for (int k = 0; k < s.capacity(); k += Integer.BYTES) {
+                s.putInt(k, 0);
+            }
+        }
+        ocupadas = 0;
+        vivos = 0;
+    }
+
+    @Override
+    public int contarOcupadas() {
+        bloquesTipos();
+        return ocupadas;
+    }
+
+    @Override
+    public int contarVivos() {
+        bloquesTipos();
+        return vivos;
+    }
+
+    @Override
+    public int indiceMasDebil() {
+        bloquesTipos();
+        int indice = -1;
+        int min = Integer.MAX_VALUE;
+        for (int b = 0; b < saludes.length; b++) {
+            ByteBuffer s = saludes[b];
+            int n = s.capacity() / Integer.BYTES;
+            for (int k = 0; k < n; k++) {
+                int salud = s.getInt(k * Integer.BYTES);
+                if (salud > 0 && salud < min) {
+                    min = salud;
+                    indice = (b << BITS_BLOQUE) + k;
+                }
+            }
+        }
+        return indice;
+    }
+
+    @Override
+    public void recorrerOcupadas(VisitanteCelda visitante) {
+        ByteBuffer[] bloquesTipos = bloquesTipos();
+        for (int b = 0; b < bloquesTipos.length; b++) {
+            ByteBuffer t = bloquesTipos[b];
+            ByteBuffer s = saludes[b];
+            for (int k = 0; k < t.capacity(); k++) {
+                byte codigo = t.get(k);
+                int salud = s.getInt(k * Integer.BYTES);
+                if (codigo != VACIO || salud > 0) {
+                    int i = (b << BITS_BLOQUE) + k;
+                    visitante.visitar(i / columnas, i % columnas, POR_CODIGO[codigo], salud);
+                }
+            }
+        }
+    }
+
+    private ByteBuffer[] bloquesTipos() {
+        ByteBuffer[] actuales = tipos;
+        if (actuales == null) {
+            throw new IllegalStateException("Off-heap board is closed");
+        }
+        return actuales;
+    }
+
+    private int celdasBloque(int b) {
+        return Math.min(CELDAS_POR_BLOQUE, area - (b << BITS_BLOQUE));
+    }
+
+    /**
+     * Recomputes the occupied and living counts from the blocks.
+     *
+     * @return false if a cell holds an unknown type code or a negative health
+     */
+    private boolean recontar() {
+        ocupadas = 0;
+        vivos = 0;
+        for (int b = 0; b < tipos.length; b++) {
+            ByteBuffer t = tipos[b];
+            ByteBuffer s = saludes[b];
+            for (int k = 0; k < t.capacity(); k++) {
+                byte codigo = t.get(k);
+                int salud = s.getInt(k * Integer.BYTES);
+                if (codigo < 0 || codigo >= POR_CODIGO.length || salud < 0) {
+                    return false;
+                }
+                if (codigo != VACIO || salud > 0) {
+                    ocupadas++;
+                }
+                if (salud > 0) {
+                    vivos++;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static byte codigo(TipoBicho tipo) {
+        return switch (tipo) {
+            case NORMAL -> 1;
+            case ALIEN -> 2;
+            default -> VACIO;
+        };
+    }
+}
@@ -0,0 +1,262 @@
+package models;
+
+import java.util.Arrays;
+
+/**
+ * Board backend that stores only occupied cells.
+ * <p>
+ * Cells live in an open-addressing hash map keyed by the packed cell index
+ * {@code fila * columnas + col}, with linear probing and backward-shift
+ * deletion. Keys, types and health values are kept in parallel primitive
+ * arrays, so memory grows with the number of bichos placed on the board
+ * instead of with its area. Empty cells are simply absent from the map.
+ * </p>
+ * <p>
+ * The number of living bichos is maintained on every write, which makes
+ * {@link #contarVivos()} constant time.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class TableroDisperso implements Tablero {
+
+    private static final int LIBRE = -1;
+    private static final int CAPACIDAD_INICIAL = 16;
+    private static final TipoBicho[] TIPOS = TipoBicho.values();
+
+    private final int filas;
+    private final int columnas;
+    private int[] claves;
+    private byte[] tipos;
+    private int[] saludes;
+    private int mascara;
+    private int tamanio;
+    private int vivos;
+
+    /**
+     * Creates an empty sparse board.
+     *
+     * @param filas    number of rows
+     * @param columnas number of columns
+     */
+    public TableroDisperso(int filas, int columnas) {
+        this(filas, columnas, CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Creates an empty sparse board sized for an expected number of bichos.
+     *
+     * @param filas      number of rows
+     * @param columnas   number of columns
+     * @param esperadas  expected number of occupied cells
+     */
+    public TableroDisperso(int filas, int columnas, int esperadas) {
+        this.filas = filas;
+        this.columnas = columnas;
+        asignar(capacidadPara(esperadas));
+    }
+
+    /**
+     * Creates a sparse copy of any other board.
+     *
+     * @param origen board to copy
+     * @return a new sparse board with the same cells
+     */
+    public static TableroDisperso copiaDe(Tablero origen) {
+        TableroDisperso copia = new TableroDisperso(
+            origen.getFilas(), origen.getColumnas(), origen.contarOcupadas());
+        origen.recorrerOcupadas(copia::setCelda);
+        return copia;
+    }
+
+    @Override
+    public int getFilas() {
+        return filas;
+    }
+
+    @Override
+    public int getColumnas() {
+        return columnas;
+    }
+
+    @Override
+    public TipoBicho getTipo(int fila, int col) {
+        int slot = buscar(fila * columnas + col);
+        return slot < 0 ? TipoBicho.VACIO : TIPOS[tipos[slot]];
+    }
+
+    @Override
+    public int getSalud(int fila, int col) {
+        int slot = buscar(fila * columnas + col);
+        return slot < 0 ? 0 : saludes[slot];
+    }
+
+    @Override
+    public void setCelda(int fila, int col, TipoBicho tipo, int salud) {
+        int clave = fila * columnas + col;
+        int valor = Math.max(0, salud);
+        if (tipo == TipoBicho.VACIO && valor == 0) {
+            eliminar(clave);
+            return;
+        }
+        int slot = buscar(clave);
+        if (slot >= 0) {
+            if (saludes[slot] > 0) {
+                vivos--;
+            }
+        } else {
+            if ((tamanio + 1) * 4 > claves.length * 3) {
+                asignarConservando(claves.length * 2);
+            }
+            slot = ~buscar(clave);
+            claves[slot] = clave;
+            tamanio++;
+        }
+        tipos[slot] = (byte) tipo.ordinal();
+        saludes[slot] = valor;
+        if (valor > 0) {
+            vivos++;
+        }
+    }
+
+    @Override
+    public Bicho getBicho(int fila, int col) {
+        return new Bicho(getSalud(fila, col), getTipo(fila, col));
+    }
+
+    @Override
+    public void limpiar() {
+        asignar(CAPACIDAD_INICIAL);
+    }
+
+    @Override
+    public int contarOcupadas() {
+        return tamanio;
+    }
+
+    @Override
+    public int contarVivos() {
+        return vivos;
+    }
+
+    @Override
+    public int indiceMasDebil() {
+        int indice = -1;
+        int min = Integer.MAX_VALUE;
+        for (int slot = 0; slot < claves.length; slot++) {
+            int clave = claves[slot];
+            int salud = saludes[slot];
+            if (clave != LIBRE && salud > 0
+                    && (salud < min || (salud == min && clave < indice))) {
+                min = salud;
+                indice = clave;
+            }
+        }
+        return indice;
+    }
+
+    @Override
+    public void recorrerOcupadas(VisitanteCelda visitante) {
+        for (int slot = 0; slot < claves.length; slot++) {
+            int clave = claves[slot];
+            if (clave != LIBRE) {
+                visitante.visitar(clave / columnas, clave % columnas, TIPOS[tipos[slot]], saludes[slot]);
+            }
+        }
+    }
+
+    /**
+     * Looks up the slot of a key.
+     *
+     * @param clave packed cell index
+     * @return the slot holding the key, or the bitwise complement of the
+     *         free slot where it would be inserted
+     */
+    private int buscar(int clave) {
+        int slot = dispersar(clave);
+        while (true) {
+            int actual = claves[slot];
+            if (actual == clave) {
+                return slot;
+            }
+            if (actual == LIBRE) {
+                return ~slot;
+            }
+            slot = (slot + 1) & mascara;
+        }
+    }
+
+    /**
+     * Removes a key, shifting back the following entries of its probe run.
+     *
+     * @param clave packed cell index
+     */
+    private void eliminar(int clave) {
+        int slot = buscar(clave);
+        if (slot < 0) {
+            return;
+        }
+        if (saludes[slot] > 0) {
+            vivos--;
+        }
+        tamanio--;
+        int hueco = slot;
+        int siguiente = (hueco + 1) & mascara;
+        while (claves[siguiente] != LIBRE) {
+            int ideal = dispersar(claves[siguiente]);
+            if (((siguiente - ideal) & mascara) >= ((siguiente - hueco) & mascara)) {
+                claves[hueco] = claves[siguiente];
+                tipos[hueco] = tipos[siguiente];
+                saludes[hueco] = saludes[siguiente];
+                hueco = siguiente;
+            }
+            siguiente = (siguiente + 1) & mascara;
+        }
+        claves[hueco] = LIBRE;
+        saludes[hueco] = 0;
+    }
+
+    private int dispersar(int clave) {
+        int h = clave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    private void asignar(int capacidad) {
+        claves = new int[capacidad];
+        Arrays.fill(claves, LIBRE);
+        tipos = new byte[capacidad];
+        saludes = new int[capacidad];
+        mascara = capacidad - 1;
+        tamanio = 0;
+        vivos = 0;
+    }
+
+    private void asignarConservando(int capacidad) {
+        int[] viejasClaves = claves;
+        byte[] viejosTipos = tipos;
+        int[] viejasSaludes = saludes;
+        int viejoTamanio = tamanio;
+        int viejosVivos = vivos;
+        asignar(capacidad);
+        for (int slot = 0; slot < viejasClaves.length; slot++) {
+            if (viejasClaves[slot] != LIBRE) {
+                int nuevo = ~buscar(viejasClaves[slot]);
+                claves[nuevo] = viejasClaves[slot];
+                tipos[nuevo] = viejosTipos[slot];
+                saludes[nuevo] = viejasSaludes[slot];
+            }
+        }
+        tamanio = viejoTamanio;
+        vivos = viejosVivos;
+    }
+
+    private static int capacidadPara(int esperadas) {
+        int capacidad = CAPACIDAD_INICIAL;
+        while ((long) capacidad * 3 < (long) Math.max(0, esperadas) * 4 && capacidad < (1 << 30)) {
+            capacidad <<= 1;
+        }
+        return capacidad;
+    }
+}
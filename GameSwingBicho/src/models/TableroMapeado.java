@@ -0,0 +1,303 @@
+package models;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Board backend stored in a memory-mapped file that other processes on the
+ * same host can watch live through {@link LectorTableroMapeado}.
+ * <p>
+ * File layout (host byte order):
+ * </p>
+ * <pre>
+ * offset  0  int   MAGIC ("BICH")
+ *         4  int   VERSION
+ *         8  long  sequence (odd while a turn is being written)
+ *        16  int   filas
+ *        20  int   columnas
+ *        24  int   offset of the health region
+ *        64  byte  type code per cell, row-major (0 empty, 1 normal, 2 alien)
+ *  aligned   int   health per cell, row-major
+ * </pre>
+ * <p>
+ * The sequence field is a seqlock: the writer makes it odd before changing
+ * any cell and even again once the turn is complete. A reader copies the
+ * cells between two reads of the sequence and retries if the value changed
+ * or was odd, so it always sees whole turns. {@code BichoManager} wraps each
+ * attack and mutation, together with the status effects, movement and
+ * sampling of the turn it ends, and each board generation or load in one
+ * {@link #iniciarTurno()} / {@link #finalizarTurno()} pair. Other writes,
+ * such as spawning, healing or setting a single cell, are published one by
+ * one.
+ * </p>
+ * <p>
+ * Only one writer (this object) may have the file open. Living and occupied
+ * counts are kept in memory, so {@link #contarVivos()} and
+ * {@link #contarOcupadas()} are constant time. {@link #close()} drops the
+ * mapping and leaves unmapping to the garbage collector, so a thread still
+ * inside a call on the closed board reads valid memory instead of crashing
+ * the JVM; the board cannot be used afterwards.
+ * </p>
+ * <pre>{@code
+ * BichoManager manager = new BichoManager(new TableroMapeado(path, 500, 500));
+ * // in another process:
+ * LectorTableroMapeado lector = LectorTableroMapeado.abrir(path);
+ * LectorTableroMapeado.Instantanea foto = lector.capturar();
+ * }</pre>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class TableroMapeado implements Tablero, AutoCloseable {
+
+    static final int MAGIC = 0x42494348;
+    static final int VERSION = 1;
+    static final int OFFSET_SECUENCIA = 8;
+    static final int OFFSET_FILAS = 16;
+    static final int OFFSET_COLUMNAS = 20;
+    static final int OFFSET_SALUDES = 24;
+    static final int CABECERA = 64;
+
+    /** Sequence field access with memory-ordering guarantees. */
+    static final VarHandle SECUENCIA =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private static final byte VACIO = 0;
+    private static final TipoBicho[] POR_CODIGO = { TipoBicho.VACIO, TipoBicho.NORMAL, TipoBicho.ALIEN };
+
+    private final int filas;
+    private final int columnas;
+    private final int area;
+    private final int inicioSaludes;
+    private MappedByteBuffer mapa;
+    private int profundidad;
+    private int ocupadas;
+    private int vivos;
+
+    /**
+     * Creates (or truncates) a mapped board file with every cell empty.
+     *
+     * @param archivo  file to create
+     * @param filas    number of rows
+     * @param columnas number of columns
+     * @throws IllegalArgumentException if the board does not fit in one mapping
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public TableroMapeado(Path archivo, int filas, int columnas) throws IOException {
+        long tamano = tamanoArchivo(filas, columnas);
+        if (filas <= 0 || columnas <= 0 || tamano > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format("A %dx%d board does not fit in a mapped file", filas, columnas));
+        }
+        this.filas = filas;
+        this.columnas = columnas;
+        this.area = filas * columnas;
+        this.inicioSaludes = inicioSaludes(area);
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamano);
+        }
+        mapa.order(ByteOrder.nativeOrder());
+        mapa.putInt(OFFSET_FILAS, filas);
+        mapa.putInt(OFFSET_COLUMNAS, columnas);
+        mapa.putInt(OFFSET_SALUDES, inicioSaludes);
+        mapa.putInt(4, VERSION);
+        SECUENCIA.setRelease(mapa, OFFSET_SECUENCIA, 0L);
+        mapa.putInt(0, MAGIC);
+    }
+
+    static int inicioSaludes(int area) {
+        return (CABECERA + area + 7) & ~7;
+    }
+
+    private static long tamanoArchivo(int filas, int columnas) {
+        long area = (long) filas * columnas;
+        return ((CABECERA + area + 7) & ~7L) + area * Integer.BYTES;
+    }
+
+    static TipoBicho tipoDeCodigo(byte codigo) {
+        return POR_CODIGO[codigo];
+    }
+
+    private static byte codigo(TipoBicho tipo) {
+        return switch (tipo) {
+            case NORMAL -> 1;
+            case ALIEN -> 2;
+            default -> VACIO;
+        };
+    }
+
+    @Override
+    public int getFilas() {
+        return filas;
+    }
+
+    @Override
+    public int getColumnas() {
+        return columnas;
+    }
+
+    @Override
+    public TipoBicho getTipo(int fila, int col) {
+        return POR_CODIGO[mapa().get(CABECERA + fila * columnas + col)];
+    }
+
+    @Override
+    public int getSalud(int fila, int col) {
+        return mapa().getInt(inicioSaludes + (fila * columnas + col) * Integer.BYTES);
+    }
+
+    @Override
+    public void setCelda(int fila, int col, TipoBicho tipo, int salud) {
+        MappedByteBuffer m = mapa();
+        int indice = fila * columnas + col;
+        int valor = Math.max(0, salud);
+        byte nuevo = codigo(tipo);
+        byte viejo = m.get(CABECERA + indice);
+        int posSalud = inicioSaludes + indice * Integer.BYTES;
+        int saludVieja = m.getInt(posSalud);
+
+        ocupadas += (nuevo != VACIO || valor > 0 ? 1 : 0) - (viejo != VACIO || saludVieja > 0 ? 1 : 0);
+        vivos += (valor > 0 ? 1 : 0) - (saludVieja > 0 ? 1 : 0);
+
+        iniciarTurno();
+        m.put(CABECERA + indice, nuevo);
+        m.putInt(posSalud, valor);
+        finalizarTurno();
+    }
+
+    @Override
+    public Bicho getBicho(int fila, int col) {
+        return new Bicho(getSalud(fila, col), getTipo(fila, col));
+    }
+
+    @Override
+    public void limpiar() {
+        MappedByteBuffer m = mapa();
+        iniciarTurno();
+        for (int i = 0; i < area; i++) {
+            m.put(CABECERA + i, VACIO);
+            m.putInt(inicioSaludes + i * Integer.BYTES, 0);
+        }
+        finalizarTurno();
+        ocupadas = 0;
+        vivos = 0;
+    }
+
+    @Override
+    public int contarOcupadas() {
+        return ocupadas;
+    }
+
+    @Override
+    public int contarVivos() {
+        return vivos;
+    }
+
+    @Override
+    public int indiceMasDebil() {
+        MappedByteBuffer m = mapa();
+        int indice = -1;
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < area; i++) {
+            int salud = m.getInt(inicioSaludes + i * Integer.BYTES);
+            if (salud > 0 && salud < min) {
+                min = salud;
+                indice = i;
+            }
+        }
+        return indice;
+    }
+
+    @Override
+    public void recorrerOcupadas(VisitanteCelda visitante) {
+        MappedByteBuffer m = mapa();
+        for (int i = 0; i < area; i++) {
+            byte codigo = m.get(CABECERA + i);
+            int salud = m.getInt(inicioSaludes + i * Integer.BYTES);
+            if (codigo != VACIO || salud > 0) {
+                visitante.visitar(i / columnas, i % columnas, POR_CODIGO[codigo], salud);
+            }
+        }
+    }
+
+    /**
+     * Opens a seqlock write window; readers retry until it is closed.
+     */
+    @Override
+    public void iniciarTurno() {
+        MappedByteBuffer m = mapa();
+        if (profundidad++ == 0) {
+            long s = (long) SECUENCIA.getOpaque(m, OFFSET_SECUENCIA);
+            SECUENCIA.setOpaque(m, OFFSET_SECUENCIA, s + 1);
+            VarHandle.storeStoreFence();
+        }
+    }
+
+    /**
+     * Closes the write window, publishing every cell written since the
+     * matching {@link #iniciarTurno()}.
+     */
+    @Override
+    public void finalizarTurno() {
+        if (profundidad > 0 && --profundidad == 0) {
+            MappedByteBuffer m = mapa();
+            long s = (long) SECUENCIA.getOpaque(m, OFFSET_SECUENCIA);
+            SECUENCIA.setRelease(m, OFFSET_SECUENCIA, s + 1);
+        }
+    }
+
+    /**
+     * Gets the current seqlock sequence.
+     *
+     * @return even sequence between turns, odd while a turn is being written
+     */
+    public long getSecuencia() {
+        return (long) SECUENCIA.getOpaque(mapa(), OFFSET_SECUENCIA);
+    }
+
+    /**
+     * Flushes the mapped cells to the storage device. Not needed for other
+     * processes to see the board, only for durability.
+     */
+    public void sincronizar() {
+        mapa().force();
+    }
+
+    /**
+     * Releases the mapping. The file stays mapped until the buffer is
+     * garbage collected, and cells not yet flushed with
+     * {@link #sincronizar()} are still written back by the operating system.
+     * Further use of the board throws {@link IllegalStateException}; closing
+     * twice has no effect. Readers keep their own mapping and are not
+     * affected.
+     */
+    @Override
+    public void close() {
+        mapa = null;
+    }
+
+    /**
+     * Checks whether {@link #close()} was called.
+     *
+     * @return true if the board is closed
+     */
+    public boolean estaCerrado() {
+        return mapa == null;
+    }
+
+    private MappedByteBuffer mapa() {
+        MappedByteBuffer m = mapa;
+        if (m == null) {
+            throw new IllegalStateException("Mapped board is closed");
+        }
+        return m;
+    }
+}
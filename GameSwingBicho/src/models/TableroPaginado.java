@@ -0,0 +1,663 @@
+package models;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Board backend that pages the tiles of a tiled save file in on first
+ * touch.
+ * <p>
+ * Tiled save files are written by {@link #escribir(Tablero, Path)}:
+ * </p>
+ * <pre>
+ * header  int MAGIC ("BTIL"), VERSION, filas, columnas, tile, tile count,
+ *         CRC32C of the index, reserved
+ * index   per tile, row-major: long offset, int length, int CRC32C,
+ *         int occupied, int living, int lowest living health,
+ *         long Zobrist hash of the tile's cells, reserved
+ * tiles   deflated cells of each tile: type ordinals, then big-endian healths
+ * </pre>
+ * <p>
+ * {@link #abrir(Path)} reads only the header and the index, so opening a
+ * saved arena of any size costs one small read. A tile is read, checked
+ * against its checksum and decoded the first time one of its cells is
+ * accessed; tiles with no occupied cells are never read at all. Occupied
+ * and living counts come from the index, and {@link #indiceMasDebil()} only
+ * pages in the tiles whose recorded minimum can win. The index also stores
+ * the {@link Zobrist} hash of every tile, so {@link #getHashZobrist()} is
+ * known without reading any tile and kept up to date on every write. A corrupt tile is
+ * reported when it is touched, as an {@link UncheckedIOException}, and
+ * {@link #verificar(int, int, int, int)} checks a region without decoding it.
+ * </p>
+ * <p>
+ * Saving a paged board with {@link #escribir(Tablero, Path)} copies the
+ * compressed bytes of tiles that were never modified, whether paged in or
+ * not, straight from the source file.
+ * </p>
+ * <p>
+ * The board holds the source file open until {@link #close()}, or until
+ * {@link #limpiar()} leaves no tile that still needs it.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class TableroPaginado implements Tablero, AutoCloseable {
+
+    /** Side of a tile in cells. */
+    public static final int TILE = 128;
+
+    static final int MAGIC = 0x4254494C;
+    static final int VERSION = 2;
+    private static final int CABECERA = 32;
+    private static final int ENTRADA = 40;
+    private static final TipoBicho[] TIPOS = TipoBicho.values();
+    private static final byte VACIO = (byte) TipoBicho.VACIO.ordinal();
+
+    private final FileChannel canal;
+    private final int filas;
+    private final int columnas;
+    private final int tile;
+    private final int tilesPorFila;
+    private final long[] offsets;
+    private final int[] longitudes;
+    private final int[] crcs;
+    private final int[] ocupadasTile;
+    private final int[] vivosTile;
+    private final int[] minimos;
+    private final long[] hashes;
+    private final boolean[] cargado;
+    private final boolean[] modificado;
+    private final byte[][] tipos;
+    private final int[][] saludes;
+    private final Inflater inflater = new Inflater();
+    private int ocupadas;
+    private int vivos;
+    private int cargados;
+
+    private TableroPaginado(FileChannel canal, ByteBuffer cabecera, ByteBuffer indice) {
+        this.canal = canal;
+        this.filas = cabecera.getInt(8);
+        this.columnas = cabecera.getInt(12);
+        this.tile = cabecera.getInt(16);
+        this.tilesPorFila = (columnas + tile - 1) / tile;
+        int n = cabecera.getInt(20);
+        offsets = new long[n];
+        longitudes = new int[n];
+        crcs = new int[n];
+        ocupadasTile = new int[n];
+        vivosTile = new int[n];
+        minimos = new int[n];
+        hashes = new long[n];
+        cargado = new boolean[n];
+        modificado = new boolean[n];
+        tipos = new byte[n][];
+        saludes = new int[n][];
+        for (int t = 0; t < n; t++) {
+            offsets[t] = indice.getLong();
+            longitudes[t] = indice.getInt();
+            crcs[t] = indice.getInt();
+            ocupadasTile[t] = indice.getInt();
+            vivosTile[t] = indice.getInt();
+            minimos[t] = indice.getInt();
+            hashes[t] = indice.getLong();
+            indice.getInt();
+            ocupadas += ocupadasTile[t];
+            vivos += vivosTile[t];
+            if (ocupadasTile[t] == 0) {
+                cargado[t] = true;
+                cargados++;
+            }
+        }
+    }
+
+    /**
+     * Opens a tiled save file, reading only its header and index.
+     *
+     * @param archivo file written by {@link #escribir(Tablero, Path)}
+     * @return a board paging its tiles in from the file
+     * @throws IOException if the file cannot be read, is not a tiled save
+     *         or its index is corrupt
+     */
+    public static TableroPaginado abrir(Path archivo) throws IOException {
+        FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ);
+        try {
+            ByteBuffer cabecera = ByteBuffer.allocate(CABECERA);
+            leerCompleto(canal, cabecera, 0);
+            int filas = cabecera.getInt(8);
+            int columnas = cabecera.getInt(12);
+            int tile = cabecera.getInt(16);
+            int n = cabecera.getInt(20);
+            if (cabecera.getInt(0) != MAGIC || cabecera.getInt(4) != VERSION) {
+                throw new IOException("Not a tiled save file: " + archivo);
+            }
+            if (filas <= 0 || columnas <= 0 || tile <= 0 || (long) filas * columnas > Integer.MAX_VALUE
+                    || n != numeroTiles(filas, columnas, tile)) {
+                throw new IOException("Corrupt tiled save header: " + archivo);
+            }
+            ByteBuffer indice = ByteBuffer.allocate(n * ENTRADA);
+            leerCompleto(canal, indice, CABECERA);
+            if (crc(indice.array(), 0, indice.capacity()) != cabecera.getInt(24)) {
+                throw new IOException("Corrupt tiled save index: " + archivo);
+            }
+            indice.flip();
+            return new TableroPaginado(canal, cabecera, indice);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes any board as a tiled save file, replacing the file atomically.
+     *
+     * @param origen  board to save
+     * @param archivo destination file
+     * @throws IOException if the file cannot be written, or a tile copied
+     *         from a paged source is corrupt
+     */
+    public static void escribir(Tablero origen, Path archivo) throws IOException {
+        int filas = origen.getFilas();
+        int columnas = origen.getColumnas();
+        int n = numeroTiles(filas, columnas, TILE);
+        TableroPaginado paginado = origen instanceof TableroPaginado p && p.tile == TILE ? p : null;
+        Path absoluto = archivo.toAbsolutePath();
+        Path temporal = Files.createTempFile(absoluto.getParent(), absoluto.getFileName().toString(), ".tmp");
+        Codificador codificador = new Codificador();
+        try (FileChannel out = FileChannel.open(temporal, StandardOpenOption.WRITE)) {
+            ByteBuffer indice = ByteBuffer.allocate(n * ENTRADA);
+            long posicion = CABECERA + (long) n * ENTRADA;
+            for (int t = 0; t < n; t++) {
+                ByteBuffer datos;
+                int crc;
+                int[] resumen;
+                long hashTile;
+                if (paginado != null && !paginado.modificado[t]) {
+                    datos = paginado.leerCrudo(t);
+                    crc = paginado.crcs[t];
+                    resumen = new int[] {paginado.ocupadasTile[t], paginado.vivosTile[t], paginado.minimos[t]};
+                    hashTile = paginado.hashes[t];
+                } else {
+                    int f0 = (t / ((columnas + TILE - 1) / TILE)) * TILE;
+                    int c0 = (t % ((columnas + TILE - 1) / TILE)) * TILE;
+                    resumen = new int[3];
+                    datos = codificador.codificar(origen, f0, c0, resumen);
+                    crc = crc(datos.array(), 0, datos.limit());
+                    hashTile = codificador.hash;
+                }
+                int longitud = datos.remaining();
+                escribirCompleto(out, datos, posicion);
+                indice.putLong(posicion).putInt(longitud).putInt(crc)
+                    .putInt(resumen[0]).putInt(resumen[1]).putInt(resumen[2]).putLong(hashTile).putInt(0);
+                posicion += longitud;
+            }
+            indice.flip();
+            ByteBuffer cabecera = ByteBuffer.allocate(CABECERA);
+            cabecera.putInt(MAGIC).putInt(VERSION).putInt(filas).putInt(columnas).putInt(TILE).putInt(n)
+                .putInt(crc(indice.array(), 0, indice.limit())).putInt(0).flip();
+            escribirCompleto(out, cabecera, 0);
+            escribirCompleto(out, indice, CABECERA);
+            out.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporal);
+            throw e;
+        } finally {
+            codificador.cerrar();
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int numeroTiles(int filas, int columnas, int tile) {
+        long n = (long) ((filas + tile - 1) / tile) * ((columnas + tile - 1) / tile);
+        return n > Integer.MAX_VALUE / ENTRADA ? -1 : (int) n;
+    }
+
+    private static int crc(byte[] datos, int desde, int longitud) {
+        CRC32C crc = new CRC32C();
+        crc.update(datos, desde, longitud);
+        return (int) crc.getValue();
+    }
+
+    private static void leerCompleto(FileChannel canal, ByteBuffer destino, long posicion) throws IOException {
+        while (destino.hasRemaining()) {
+            if (canal.read(destino, posicion + destino.position()) < 0) {
+                throw new IOException("Unexpected end of tiled save file");
+            }
+        }
+    }
+
+    private static void escribirCompleto(FileChannel canal, ByteBuffer origen, long posicion) throws IOException {
+        while (origen.hasRemaining()) {
+            canal.write(origen, posicion + origen.position());
+        }
+    }
+
+    @Override
+    public int getFilas() {
+        return filas;
+    }
+
+    @Override
+    public int getColumnas() {
+        return columnas;
+    }
+
+    @Override
+    public TipoBicho getTipo(int fila, int col) {
+        int t = tileDe(fila, col);
+        cargar(t);
+        byte[] celdas = tipos[t];
+        return celdas == null ? TipoBicho.VACIO : TIPOS[celdas[local(t, fila, col)]];
+    }
+
+    @Override
+    public int getSalud(int fila, int col) {
+        int t = tileDe(fila, col);
+        cargar(t);
+        int[] celdas = saludes[t];
+        return celdas == null ? 0 : celdas[local(t, fila, col)];
+    }
+
+    @Override
+    public void setCelda(int fila, int col, TipoBicho tipo, int salud) {
+        int t = tileDe(fila, col);
+        cargar(t);
+        if (tipos[t] == null) {
+            if (tipo == TipoBicho.VACIO && salud <= 0) {
+                return;
+            }
+            tipos[t] = new byte[anchoTile(t) * altoTile(t)];
+            Arrays.fill(tipos[t], VACIO);
+            saludes[t] = new int[tipos[t].length];
+        }
+        int i = local(t, fila, col);
+        int valor = Math.max(0, salud);
+        int antes = (tipos[t][i] != VACIO || saludes[t][i] > 0 ? 1 : 0);
+        int despues = (tipo != TipoBicho.VACIO || valor > 0 ? 1 : 0);
+        int vivoAntes = saludes[t][i] > 0 ? 1 : 0;
+        int vivoDespues = valor > 0 ? 1 : 0;
+        int indice = fila * columnas + col;
+        hashes[t] ^= Zobrist.clave(indice, TIPOS[tipos[t][i]], saludes[t][i]) ^ Zobrist.clave(indice, tipo, valor);
+        tipos[t][i] = (byte) tipo.ordinal();
+        saludes[t][i] = valor;
+        ocupadasTile[t] += despues - antes;
+        vivosTile[t] += vivoDespues - vivoAntes;
+        ocupadas += despues - antes;
+        vivos += vivoDespues - vivoAntes;
+        modificado[t] = true;
+    }
+
+    @Override
+    public Bicho getBicho(int fila, int col) {
+        return new Bicho(getSalud(fila, col), getTipo(fila, col));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * No tile needs the source file afterwards, so it is closed here.
+     * </p>
+     *
+     * @throws UncheckedIOException if the source file cannot be closed
+     */
+    @Override
+    public void limpiar() {
+        for (int t = 0; t < offsets.length; t++) {
+            tipos[t] = null;
+            saludes[t] = null;
+            ocupadasTile[t] = 0;
+            vivosTile[t] = 0;
+            hashes[t] = 0L;
+            cargado[t] = true;
+            modificado[t] = true;
+        }
+        cargados = offsets.length;
+        ocupadas = 0;
+        vivos = 0;
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int contarOcupadas() {
+        return ocupadas;
+    }
+
+    @Override
+    public int contarVivos() {
+        return vivos;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Tiles that were never paged in are ranked by the minimum recorded in
+     * the index; only tiles that hold the overall minimum are read.
+     * </p>
+     */
+    @Override
+    public int indiceMasDebil() {
+        int min = Integer.MAX_VALUE;
+        for (int t = 0; t < offsets.length; t++) {
+            if (vivosTile[t] > 0) {
+                min = Math.min(min, minimoTile(t));
+            }
+        }
+        if (min == Integer.MAX_VALUE) {
+            return -1;
+        }
+        int mejor = -1;
+        for (int t = 0; t < offsets.length; t++) {
+            if (vivosTile[t] > 0 && minimoTile(t) == min) {
+                cargar(t);
+                int ancho = anchoTile(t);
+                int[] celdas = saludes[t];
+                for (int i = 0; i < celdas.length; i++) {
+                    if (celdas[i] == min) {
+                        int indice = (filaInicio(t) + i / ancho) * columnas + colInicio(t) + i % ancho;
+                        if (mejor < 0 || indice < mejor) {
+                            mejor = indice;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Pages in every tile that has occupied cells; cells are visited tile
+     * by tile.
+     * </p>
+     */
+    @Override
+    public void recorrerOcupadas(VisitanteCelda visitante) {
+        for (int t = 0; t < offsets.length; t++) {
+            if (ocupadasTile[t] == 0) {
+                continue;
+            }
+            cargar(t);
+            int ancho = anchoTile(t);
+            byte[] tt = tipos[t];
+            int[] ss = saludes[t];
+            for (int i = 0; i < tt.length; i++) {
+                if (tt[i] != VACIO || ss[i] > 0) {
+                    visitante.visitar(filaInicio(t) + i / ancho, colInicio(t) + i % ancho, TIPOS[tt[i]], ss[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Pages in every tile overlapping a region, so later accesses to it do
+     * no I/O.
+     *
+     * @param fila     first row of the region
+     * @param col      first column of the region
+     * @param alto     number of rows
+     * @param ancho    number of columns
+     * @throws UncheckedIOException if a tile cannot be read or is corrupt
+     */
+    public void precargar(int fila, int col, int alto, int ancho) {
+        for (int t : tilesDeRegion(fila, col, alto, ancho)) {
+            cargar(t);
+        }
+    }
+
+    /**
+     * Checks the stored checksum of every tile overlapping a region, without
+     * decoding or paging them in. Tiles already in memory are skipped.
+     *
+     * @param fila     first row of the region
+     * @param col      first column of the region
+     * @param alto     number of rows
+     * @param ancho    number of columns
+     * @return row-major numbers of the corrupt tiles, empty if all are intact
+     * @throws IOException if the file cannot be read
+     */
+    public List<Integer> verificar(int fila, int col, int alto, int ancho) throws IOException {
+        List<Integer> corruptos = new ArrayList<>();
+        for (int t : tilesDeRegion(fila, col, alto, ancho)) {
+            if (!cargado[t]) {
+                ByteBuffer datos = ByteBuffer.allocate(longitudes[t]);
+                leerCompleto(canal, datos, offsets[t]);
+                if (crc(datos.array(), 0, datos.capacity()) != crcs[t]) {
+                    corruptos.add(t);
+                }
+            }
+        }
+        return corruptos;
+    }
+
+    /**
+     * Gets the number of tiles currently in memory, including tiles with no
+     * occupied cells, which never need to be read.
+     *
+     * @return tiles in memory
+     */
+    public int getTilesCargados() {
+        return cargados;
+    }
+
+    /**
+     * Gets the total number of tiles of the board.
+     *
+     * @return tile count
+     */
+    public int getTiles() {
+        return offsets.length;
+    }
+
+    /**
+     * Gets the {@link Zobrist} hash of the board from the tile hashes of the
+     * index, without paging in any tile.
+     *
+     * @return the same value as {@code Zobrist.calcular(this)}
+     */
+    public long getHashZobrist() {
+        long hash = Zobrist.semilla(filas, columnas);
+        for (long h : hashes) {
+            hash ^= h;
+        }
+        return hash;
+    }
+
+    /**
+     * Checks whether the source file is still open.
+     *
+     * @return true until {@link #close()} or {@link #limpiar()}
+     */
+    public boolean estaAbierto() {
+        return canal.isOpen();
+    }
+
+    /**
+     * Closes the source file. Tiles not yet paged in can no longer be read,
+     * and unmodified tiles can no longer be copied by
+     * {@link #escribir(Tablero, Path)}. Closing twice has no effect.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        canal.close();
+    }
+
+    private List<Integer> tilesDeRegion(int fila, int col, int alto, int ancho) {
+        if (fila < 0 || col < 0 || alto < 0 || ancho < 0 || fila + alto > filas || col + ancho > columnas) {
+            throw new IllegalArgumentException(
+                String.format("Region %dx%d at (%d,%d) is outside the board", alto, ancho, fila, col));
+        }
+        List<Integer> lista = new ArrayList<>();
+        if (alto == 0 || ancho == 0) {
+            return lista;
+        }
+        for (int tf = fila / tile; tf <= (fila + alto - 1) / tile; tf++) {
+            for (int tc = col / tile; tc <= (col + ancho - 1) / tile; tc++) {
+                lista.add(tf * tilesPorFila + tc);
+            }
+        }
+        return lista;
+    }
+
+    private int tileDe(int fila, int col) {
+        return (fila / tile) * tilesPorFila + col / tile;
+    }
+
+    private int filaInicio(int t) {
+        return (t / tilesPorFila) * tile;
+    }
+
+    private int colInicio(int t) {
+        return (t % tilesPorFila) * tile;
+    }
+
+    private int altoTile(int t) {
+        return Math.min(tile, filas - filaInicio(t));
+    }
+
+    private int anchoTile(int t) {
+        return Math.min(tile, columnas - colInicio(t));
+    }
+
+    private int local(int t, int fila, int col) {
+        return (fila - filaInicio(t)) * anchoTile(t) + col - colInicio(t);
+    }
+
+    private int minimoTile(int t) {
+        if (!cargado[t]) {
+            return minimos[t];
+        }
+        int min = Integer.MAX_VALUE;
+        for (int s : saludes[t]) {
+            if (s > 0 && s < min) {
+                min = s;
+            }
+        }
+        return min;
+    }
+
+    private ByteBuffer leerCrudo(int t) throws IOException {
+        ByteBuffer datos = ByteBuffer.allocate(longitudes[t]);
+        leerCompleto(canal, datos, offsets[t]);
+        if (crc(datos.array(), 0, datos.capacity()) != crcs[t]) {
+            throw new IOException(String.format("Tiled save tile %d is corrupt", t));
+        }
+        return datos.flip();
+    }
+
+    private void cargar(int t) {
+        if (cargado[t]) {
+            return;
+        }
+        try {
+            ByteBuffer datos = leerCrudo(t);
+            int celdas = anchoTile(t) * altoTile(t);
+            byte[] plano = new byte[celdas * (1 + Integer.BYTES)];
+            inflater.reset();
+            inflater.setInput(datos.array(), 0, datos.limit());
+            if (inflater.inflate(plano) != plano.length || !inflater.finished()) {
+                throw new IOException(String.format("Tiled save tile %d has the wrong size", t));
+            }
+            ByteBuffer leido = ByteBuffer.wrap(plano);
+            byte[] tt = new byte[celdas];
+            int[] ss = new int[celdas];
+            leido.get(tt);
+            leido.asIntBuffer().get(ss);
+            for (byte b : tt) {
+                if (b < 0 || b >= TIPOS.length) {
+                    throw new IOException(String.format("Tiled save tile %d has an invalid cell type", t));
+                }
+            }
+            tipos[t] = tt;
+            saludes[t] = ss;
+            cargado[t] = true;
+            cargados++;
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException(
+                new IOException(String.format("Tiled save tile %d cannot be decompressed", t), e));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes tiles of any board, reusing its buffers from tile to tile.
+     */
+    private static final class Codificador {
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final ByteBuffer plano = ByteBuffer.allocate(TILE * TILE * (1 + Integer.BYTES));
+        private byte[] salida = new byte[plano.capacity() + 64];
+        /** Zobrist hash of the cells of the last encoded tile. */
+        long hash;
+
+        ByteBuffer codificar(Tablero origen, int f0, int c0, int[] resumen) {
+            int alto = Math.min(TILE, origen.getFilas() - f0);
+            int ancho = Math.min(TILE, origen.getColumnas() - c0);
+            int celdas = alto * ancho;
+            int min = Integer.MAX_VALUE;
+            int columnas = origen.getColumnas();
+            hash = 0L;
+            plano.clear();
+            for (int f = f0; f < f0 + alto; f++) {
+                for (int c = c0; c < c0 + ancho; c++) {
+                    plano.put((byte) origen.getTipo(f, c).ordinal());
+                }
+            }
+            for (int f = f0; f < f0 + alto; f++) {
+                for (int c = c0; c < c0 + ancho; c++) {
+                    int salud = origen.getSalud(f, c);
+                    plano.putInt(salud);
+                    hash ^= Zobrist.clave(f * columnas + c, TIPOS[plano.get((f - f0) * ancho + c - c0)], salud);
+                    if (salud > 0) {
+                        resumen[1]++;
+                        min = Math.min(min, salud);
+                    }
+                }
+            }
+            byte[] datos = plano.array();
+            for (int i = 0; i < celdas; i++) {
+                if (datos[i] != VACIO || plano.getInt(celdas + i * Integer.BYTES) > 0) {
+                    resumen[0]++;
+                }
+            }
+            resumen[2] = min;
+            deflater.reset();
+            deflater.setInput(datos, 0, plano.position());
+            deflater.finish();
+            int total = 0;
+            while (!deflater.finished()) {
+                if (total == salida.length) {
+                    salida = Arrays.copyOf(salida, salida.length * 2);
+                }
+                total += deflater.deflate(salida, total, salida.length - total);
+            }
+            return ByteBuffer.wrap(Arrays.copyOf(salida, total));
+        }
+
+        void cerrar() {
+            deflater.end();
+        }
+    }
+}
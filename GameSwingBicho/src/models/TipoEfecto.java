@@ -0,0 +1,31 @@
+package models;
+
+/**
+ * Enumeration of status effects that can be attached to a bicho.
+ * <p>
+ * Effects act once per turn for a limited number of turns. Damage from
+ * effects can kill a bicho, which counts as a defeat.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public enum TipoEfecto {
+
+    /**
+     * Damage over time. Applying poison again adds to its intensity.
+     */
+    VENENO,
+
+    /**
+     * Damage over time. Applying a burn again keeps the stronger one.
+     */
+    QUEMADURA,
+
+    /**
+     * Healing over time, never above the starting health of the bicho's
+     * type. Applying it again keeps the stronger one.
+     */
+    REGENERACION
+}
@@ -0,0 +1,341 @@
+package models;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * Fixed-memory time series of per-turn game statistics.
+ * <p>
+ * Each sample holds the running totals at the end of one turn: turn
+ * number, shots fired, hits, bichos defeated, points and living bichos.
+ * Samples are kept in parallel primitive arrays used as a ring buffer, so
+ * the series never grows past its capacity and recording a sample only
+ * stores six ints; once full, the oldest samples are overwritten.
+ * </p>
+ * <p>
+ * Because samples are cumulative, windowed aggregates such as
+ * {@link #precisionMovil(int)} are the difference between the newest sample
+ * and the one a window back, computed in constant time without rescanning
+ * the window.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class TurnTimeSeries {
+
+    /** Header line of the CSV export. */
+    public static final String CSV_HEADER = "turn,shots,hits,kills,points,alive";
+
+    private static final int MAGIC = 0x54555253;
+    private static final int VERSION = 1;
+
+    private final int capacidad;
+    private final int[] turnos;
+    private final int[] disparos;
+    private final int[] aciertos;
+    private final int[] derrotados;
+    private final int[] puntos;
+    private final int[] vivos;
+    private long registradas;
+
+    /**
+     * Creates an empty series.
+     *
+     * @param capacidad maximum number of samples kept
+     * @throws IllegalArgumentException if capacidad is not positive
+     */
+    public TurnTimeSeries(int capacidad) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Capacity must be positive, got %d", capacidad));
+        }
+        this.capacidad = capacidad;
+        this.turnos = new int[capacidad];
+        this.disparos = new int[capacidad];
+        this.aciertos = new int[capacidad];
+        this.derrotados = new int[capacidad];
+        this.puntos = new int[capacidad];
+        this.vivos = new int[capacidad];
+    }
+
+    /**
+     * Records the current totals of a game as one sample.
+     *
+     * @param estadisticas statistics at the end of the turn
+     * @param vivosActuales living bichos on the board
+     */
+    public void registrar(GameStatistics estadisticas, int vivosActuales) {
+        registrar(estadisticas.getTurns(), estadisticas.getShotsFired(), estadisticas.getShotsHit(),
+            estadisticas.getBichosDefeated(), estadisticas.getTotalPoints(), vivosActuales);
+    }
+
+    /**
+     * Records one sample of running totals.
+     *
+     * @param turno      turn number
+     * @param shots      shots fired so far
+     * @param hits       hits so far
+     * @param kills      bichos defeated so far
+     * @param points     points so far
+     * @param alive      living bichos on the board
+     */
+    public void registrar(int turno, int shots, int hits, int kills, int points, int alive) {
+        int i = (int) (registradas % capacidad);
+        turnos[i] = turno;
+        disparos[i] = shots;
+        aciertos[i] = hits;
+        derrotados[i] = kills;
+        puntos[i] = points;
+        vivos[i] = alive;
+        registradas++;
+    }
+
+    /**
+     * Gets the maximum number of samples kept.
+     *
+     * @return capacity
+     */
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Gets the number of samples currently kept.
+     *
+     * @return samples available, at most the capacity
+     */
+    public int getTamano() {
+        return (int) Math.min(registradas, capacidad);
+    }
+
+    /**
+     * Gets the number of samples ever recorded, including overwritten ones.
+     *
+     * @return samples recorded
+     */
+    public long getRegistradas() {
+        return registradas;
+    }
+
+    /**
+     * Gets the turn number of a sample.
+     *
+     * @param i sample position, 0 being the oldest kept
+     * @return turn number
+     */
+    public int getTurno(int i) {
+        return turnos[posicion(i)];
+    }
+
+    /**
+     * Gets the shots fired up to a sample.
+     *
+     * @param i sample position, 0 being the oldest kept
+     * @return shots fired
+     */
+    public int getDisparos(int i) {
+        return disparos[posicion(i)];
+    }
+
+    /**
+     * Gets the hits up to a sample.
+     *
+     * @param i sample position, 0 being the oldest kept
+     * @return hits
+     */
+    public int getAciertos(int i) {
+        return aciertos[posicion(i)];
+    }
+
+    /**
+     * Gets the bichos defeated up to a sample.
+     *
+     * @param i sample position, 0 being the oldest kept
+     * @return bichos defeated
+     */
+    public int getDerrotados(int i) {
+        return derrotados[posicion(i)];
+    }
+
+    /**
+     * Gets the points up to a sample.
+     *
+     * @param i sample position, 0 being the oldest kept
+     * @return points
+     */
+    public int getPuntos(int i) {
+        return puntos[posicion(i)];
+    }
+
+    /**
+     * Gets the living bichos at a sample.
+     *
+     * @param i sample position, 0 being the oldest kept
+     * @return living bichos
+     */
+    public int getVivos(int i) {
+        return vivos[posicion(i)];
+    }
+
+    /**
+     * Computes the accuracy of the shots fired over the last samples.
+     * <p>
+     * When the window reaches past the oldest kept sample it starts at the
+     * beginning of the game if nothing was overwritten yet, or at the
+     * oldest kept sample otherwise. The same applies to every windowed
+     * aggregate.
+     * </p>
+     *
+     * @param ventana number of samples in the window
+     * @return accuracy as a percentage (0-100), or 0 if no shots were fired
+     */
+    public double precisionMovil(int ventana) {
+        int n = validarVentana(ventana);
+        if (registradas == 0) {
+            return 0.0;
+        }
+        long shots = disparos[ultima()] - base(disparos, n);
+        long hits = aciertos[ultima()] - base(aciertos, n);
+        return shots == 0 ? 0.0 : hits * 100.0 / shots;
+    }
+
+    /**
+     * Computes the kill rate over the last samples.
+     *
+     * @param ventana number of samples in the window
+     * @return bichos defeated per 100 turns, or 0 if no turn elapsed
+     */
+    public double bajasPor100Turnos(int ventana) {
+        int n = validarVentana(ventana);
+        if (registradas == 0) {
+            return 0.0;
+        }
+        long turns = turnos[ultima()] - base(turnos, n);
+        long kills = derrotados[ultima()] - base(derrotados, n);
+        return turns == 0 ? 0.0 : kills * 100.0 / turns;
+    }
+
+    /**
+     * Computes the points scored per turn over the last samples.
+     *
+     * @param ventana number of samples in the window
+     * @return average points per turn, or 0 if no turn elapsed
+     */
+    public double puntosPorTurno(int ventana) {
+        int n = validarVentana(ventana);
+        if (registradas == 0) {
+            return 0.0;
+        }
+        long turns = turnos[ultima()] - base(turnos, n);
+        long points = puntos[ultima()] - base(puntos, n);
+        return turns == 0 ? 0.0 : (double) points / turns;
+    }
+
+    /**
+     * Writes the kept samples as CSV, oldest first, one line per sample
+     * after a {@value #CSV_HEADER} header line.
+     *
+     * @param out destination writer (not closed)
+     * @throws IOException if the writer fails
+     */
+    public void exportarCsv(Writer out) throws IOException {
+        out.write(CSV_HEADER);
+        out.write('\n');
+        StringBuilder linea = new StringBuilder(48);
+        for (int i = 0; i < getTamano(); i++) {
+            int p = posicion(i);
+            linea.setLength(0);
+            linea.append(turnos[p]).append(',').append(disparos[p]).append(',').append(aciertos[p])
+                .append(',').append(derrotados[p]).append(',').append(puntos[p]).append(',')
+                .append(vivos[p]).append('\n');
+            out.append(linea);
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the kept samples in a compact binary form readable with
+     * {@link #leerBinario(InputStream)}: a header followed by six
+     * big-endian ints per sample, oldest first.
+     *
+     * @param out destination stream (not closed)
+     * @throws IOException if the stream fails
+     */
+    public void exportarBinario(OutputStream out) throws IOException {
+        DataOutputStream datos = new DataOutputStream(out);
+        datos.writeInt(MAGIC);
+        datos.writeInt(VERSION);
+        datos.writeInt(getTamano());
+        for (int i = 0; i < getTamano(); i++) {
+            int p = posicion(i);
+            datos.writeInt(turnos[p]);
+            datos.writeInt(disparos[p]);
+            datos.writeInt(aciertos[p]);
+            datos.writeInt(derrotados[p]);
+            datos.writeInt(puntos[p]);
+            datos.writeInt(vivos[p]);
+        }
+        datos.flush();
+    }
+
+    /**
+     * Reads a series written by {@link #exportarBinario(OutputStream)}.
+     *
+     * @param in source stream (not closed)
+     * @return a series sized to the samples read
+     * @throws IOException if the stream fails or does not hold a series
+     */
+    public static TurnTimeSeries leerBinario(InputStream in) throws IOException {
+        DataInputStream datos = new DataInputStream(in);
+        if (datos.readInt() != MAGIC || datos.readInt() != VERSION) {
+            throw new IOException("Not a turn time series");
+        }
+        int n = datos.readInt();
+        if (n < 0) {
+            throw new IOException("Corrupt turn time series");
+        }
+        TurnTimeSeries serie = new TurnTimeSeries(Math.max(1, n));
+        for (int i = 0; i < n; i++) {
+            serie.registrar(datos.readInt(), datos.readInt(), datos.readInt(),
+                datos.readInt(), datos.readInt(), datos.readInt());
+        }
+        return serie;
+    }
+
+    private int posicion(int i) {
+        if (i < 0 || i >= getTamano()) {
+            throw new IndexOutOfBoundsException(
+                String.format("Sample %d outside series of %d", i, getTamano()));
+        }
+        return (int) ((registradas - getTamano() + i) % capacidad);
+    }
+
+    private int ultima() {
+        return (int) ((registradas - 1) % capacidad);
+    }
+
+    private int validarVentana(int ventana) {
+        if (ventana <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Window must be positive, got %d", ventana));
+        }
+        return ventana;
+    }
+
+    /**
+     * Gets the running total just before a window of the newest samples.
+     */
+    private int base(int[] serie, int ventana) {
+        int tamano = getTamano();
+        if (ventana < tamano) {
+            return serie[posicion(tamano - 1 - ventana)];
+        }
+        return registradas <= capacidad ? 0 : serie[posicion(0)];
+    }
+}
@@ -0,0 +1,77 @@
+package models;
+
+/**
+ * Zobrist keys for hashing complete board states.
+ * <p>
+ * The hash of a board is the XOR of one pseudo-random 64-bit key per
+ * occupied cell, chosen by cell index, type and health. Changing one cell
+ * therefore updates the hash in constant time:
+ * {@code hash ^= clave(old) ^ clave(new)}. Empty cells contribute nothing,
+ * so sparse boards hash without visiting empty space.
+ * </p>
+ * <p>
+ * Keys are derived with a SplitMix64 finalizer instead of a lookup table,
+ * so every health value gets its own key and any board size is supported
+ * without extra memory. Keys are fixed across runs, which makes hashes
+ * usable as persistent cache and deduplication keys.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public final class Zobrist {
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private Zobrist() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Gets the hash of an empty board with the given dimensions.
+     *
+     * @param filas    number of rows
+     * @param columnas number of columns
+     * @return initial hash value for the board
+     */
+    public static long semilla(int filas, int columnas) {
+        return mezclar((((long) filas << 32) | (columnas & 0xFFFFFFFFL)) + GOLDEN);
+    }
+
+    /**
+     * Gets the key of one cell state.
+     *
+     * @param indice cell index ({@code fila * columnas + col})
+     * @param tipo   cell type
+     * @param salud  cell health
+     * @return the key to XOR into the board hash, 0 for empty cells
+     */
+    public static long clave(int indice, TipoBicho tipo, int salud) {
+        if (tipo == TipoBicho.VACIO && salud <= 0) {
+            return 0L;
+        }
+        long celda = mezclar((((long) indice << 2) | tipo.ordinal()) + GOLDEN);
+        return mezclar(celda + (Math.max(0, salud) + 1L) * GOLDEN);
+    }
+
+    /**
+     * Computes the hash of a whole board by visiting its occupied cells.
+     *
+     * @param tablero board to hash
+     * @return full board hash
+     */
+    public static long calcular(Tablero tablero) {
+        int columnas = tablero.getColumnas();
+        long[] hash = { semilla(tablero.getFilas(), columnas) };
+        tablero.recorrerOcupadas((fila, col, tipo, salud) ->
+            hash[0] ^= clave(fila * columnas + col, tipo, salud));
+        return hash[0];
+    }
+
+    private static long mezclar(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
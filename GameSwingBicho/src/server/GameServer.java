@@ -0,0 +1,524 @@
+package server;
+
+import models.GameStatistics;
+import models.TipoBicho;
+import service.BichoManager;
+import service.SessionRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * TCP server that hosts many {@link BichoManager} games in one JVM.
+ * <p>
+ * A single selector thread accepts connections, decodes the binary frames
+ * described in {@link Protocolo}, runs each request against its session and
+ * queues the response. Sessions live in a {@link SessionRegistry} and are not
+ * tied to connections: any client that knows a session id may play it, and a
+ * session survives its creator disconnecting until it is closed explicitly
+ * (or, with an evicting registry, is parked on disk while idle).
+ * </p>
+ * <p>
+ * Requests are cheap (a few array accesses), so one thread keeps thousands
+ * of connections busy; the only large response is FETCH_BOARD, bounded by
+ * {@value Protocolo#MAX_REMOTE_SIZE} per side. A session that would push the
+ * registry past its cell cap is refused with BAD_REQUEST.
+ * </p>
+ * <p>
+ * A connection stops being read while more than {@value #MAX_PENDING_OUTPUT}
+ * bytes of responses wait to be sent, so a client that pipelines requests
+ * without reading the answers cannot grow its output buffer without limit.
+ * Once the output is flushed the buffer shrinks back to its initial size,
+ * so a FETCH_BOARD response is only held until it has been sent. A request
+ * that fails unexpectedly closes its own connection and nothing else.
+ * </p>
+ * <p>
+ * A request for a session the registry evicted to disk is not run on the
+ * selector thread: the connection is paused, the session is reloaded in the
+ * background and the request runs once it is back in memory, so one slow
+ * disk read never stalls the other connections.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class GameServer implements AutoCloseable {
+
+    private static final int BACKLOG = 4096;
+    private static final int BUFFER_SIZE = 4096;
+    private static final int MAX_PENDING_OUTPUT = 16 * BUFFER_SIZE;
+
+    private final ServerSocketChannel servidor;
+    private final Selector selector;
+    private final SessionRegistry sesiones;
+    private final AtomicInteger conexiones = new AtomicInteger();
+    private final Queue<SelectionKey> recargadas = new ConcurrentLinkedQueue<>();
+    private Thread hilo;
+    private volatile boolean activo;
+
+    /**
+     * Opens the server socket on the loopback interface.
+     *
+     * @param puerto TCP port, or 0 to pick a free one
+     * @throws IOException if the socket cannot be bound
+     */
+    public GameServer(int puerto) throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto));
+    }
+
+    /**
+     * Opens the server socket on the given address, keeping every session
+     * in memory.
+     *
+     * @param direccion local address to bind
+     * @throws IOException if the socket cannot be bound
+     */
+    public GameServer(InetSocketAddress direccion) throws IOException {
+        this(direccion, new SessionRegistry());
+    }
+
+    /**
+     * Opens the server socket on the given address, serving the sessions of
+     * an existing registry.
+     *
+     * @param direccion local address to bind
+     * @param sesiones  registry holding the game sessions
+     * @throws IOException if the socket cannot be bound
+     */
+    public GameServer(InetSocketAddress direccion, SessionRegistry sesiones) throws IOException {
+        this.sesiones = sesiones;
+        selector = Selector.open();
+        servidor = ServerSocketChannel.open();
+        servidor.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        servidor.bind(direccion, BACKLOG);
+        servidor.configureBlocking(false);
+        servidor.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return local TCP port
+     * @throws IOException if the socket is closed
+     */
+    public int getPuerto() throws IOException {
+        return ((InetSocketAddress) servidor.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Gets the number of live game sessions.
+     *
+     * @return session count
+     */
+    public int getSesionesActivas() {
+        return sesiones.getSesiones();
+    }
+
+    /**
+     * Gets the number of open client connections.
+     *
+     * @return connection count
+     */
+    public int getConexiones() {
+        return conexiones.get();
+    }
+
+    /**
+     * Starts serving on a background thread.
+     *
+     * @throws IllegalStateException if the server was already started
+     */
+    public synchronized void start() {
+        if (hilo != null) {
+            throw new IllegalStateException("Server already started");
+        }
+        activo = true;
+        hilo = new Thread(this::bucle, "game-server");
+        hilo.setDaemon(true);
+        hilo.start();
+    }
+
+    /**
+     * Stops the server and closes every connection.
+     */
+    @Override
+    public void close() {
+        activo = false;
+        selector.wakeup();
+        Thread t;
+        synchronized (this) {
+            t = hilo;
+        }
+        if (t != null) {
+            try {
+                t.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+            servidor.close();
+        } catch (IOException | ClosedSelectorException e) {
+            // already closing down
+        }
+    }
+
+    private void bucle() {
+        try {
+            while (activo) {
+                selector.select();
+                reanudarRecargadas();
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    try {
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            aceptar();
+                            continue;
+                        }
+                        if (key.isReadable()) {
+                            leer(key);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            escribir(key);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        if (key.attachment() instanceof Conexion) {
+                            cerrar(key);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            activo = false;
+        }
+    }
+
+    /**
+     * Resumes the connections whose session finished reloading.
+     */
+    private void reanudarRecargadas() {
+        SelectionKey key;
+        while ((key = recargadas.poll()) != null) {
+            if (!key.isValid()) {
+                continue;
+            }
+            try {
+                ((Conexion) key.attachment()).recargando = false;
+                atender(key);
+            } catch (IOException | RuntimeException e) {
+                cerrar(key);
+            }
+        }
+    }
+
+    private void aceptar() throws IOException {
+        SocketChannel canal;
+        while ((canal = servidor.accept()) != null) {
+            canal.configureBlocking(false);
+            canal.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            canal.register(selector, SelectionKey.OP_READ, new Conexion());
+            conexiones.incrementAndGet();
+        }
+    }
+
+    private void cerrar(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+        conexiones.decrementAndGet();
+    }
+
+    private void leer(SelectionKey key) throws IOException {
+        Conexion con = (Conexion) key.attachment();
+        SocketChannel canal = (SocketChannel) key.channel();
+        if (canal.read(con.entrada) < 0) {
+            cerrar(key);
+            return;
+        }
+        atender(key);
+    }
+
+    /**
+     * Runs the buffered requests of a connection and flushes the responses.
+     * Requests are left in the input buffer while the output is backed up,
+     * and reading is paused until it drains.
+     */
+    private void atender(SelectionKey key) throws IOException {
+        Conexion con = (Conexion) key.attachment();
+        if (con.recargando) {
+            return;
+        }
+        while (true) {
+            con.entrada.flip();
+            while (con.salida.position() < MAX_PENDING_OUTPUT && con.entrada.remaining() >= Integer.BYTES) {
+                int longitud = con.entrada.getInt(con.entrada.position());
+                if (longitud < 1 || longitud > Protocolo.MAX_REQUEST) {
+                    cerrar(key);
+                    return;
+                }
+                if (con.entrada.remaining() < Integer.BYTES + longitud) {
+                    break;
+                }
+                int id = sesionDe(con.entrada, longitud);
+                if (id != 0 && id != con.recargada && sesiones.enDisco(id)) {
+                    recargar(key, con, id);
+                    break;
+                }
+                con.recargada = 0;
+                con.entrada.getInt();
+                int fin = con.entrada.position() + longitud;
+                procesar(con, con.entrada, longitud);
+                con.entrada.position(fin);
+            }
+            boolean quedan = !con.recargando && con.salida.position() >= MAX_PENDING_OUTPUT;
+            con.entrada.compact();
+            if (!vaciar(key) || !quedan) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the session a buffered request frame targets, or 0 if it does
+     * not use an existing session or does not need it loaded.
+     */
+    private static int sesionDe(ByteBuffer entrada, int longitud) {
+        int inicio = entrada.position() + Integer.BYTES;
+        return switch (entrada.get(inicio)) {
+            case Protocolo.BULLET, Protocolo.BOMB -> longitud == 9 ? entrada.getInt(inicio + 1) : 0;
+            case Protocolo.MUTATE, Protocolo.FETCH_BOARD, Protocolo.STATS ->
+                longitud == 5 ? entrada.getInt(inicio + 1) : 0;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Pauses a connection while its session is reloaded in the background.
+     * The request is then run whether or not the reload worked, so a failed
+     * reload is answered as usual.
+     */
+    private void recargar(SelectionKey key, Conexion con, int id) {
+        con.recargando = true;
+        con.recargada = id;
+        sesiones.recargarEnSegundoPlano(id).whenComplete((r, e) -> {
+            recargadas.add(key);
+            selector.wakeup();
+        });
+    }
+
+    private void escribir(SelectionKey key) throws IOException {
+        if (vaciar(key)) {
+            atender(key);
+        }
+    }
+
+    /**
+     * Writes as much pending output as the socket takes. While some is left
+     * only writability is watched; once all is sent the buffer is shrunk if
+     * it grew and reading resumes.
+     *
+     * @return true if the output was fully sent
+     */
+    private boolean vaciar(SelectionKey key) throws IOException {
+        Conexion con = (Conexion) key.attachment();
+        con.salida.flip();
+        ((SocketChannel) key.channel()).write(con.salida);
+        boolean pendiente = con.salida.hasRemaining();
+        con.salida.compact();
+        if (pendiente) {
+            key.interestOps(SelectionKey.OP_WRITE);
+            return false;
+        }
+        if (con.salida.capacity() > BUFFER_SIZE) {
+            con.salida = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+        key.interestOps(con.recargando ? 0 : SelectionKey.OP_READ);
+        return true;
+    }
+
+    /**
+     * Runs one request and appends its response to the connection output.
+     */
+    private void procesar(Conexion con, ByteBuffer in, int longitud) {
+        byte op = in.get();
+        switch (op) {
+            case Protocolo.CREATE_SESSION -> {
+                if (longitud != 6) {
+                    responder(con, op, Protocolo.BAD_REQUEST, 0);
+                    return;
+                }
+                crearSesion(con, in.getShort() & 0xFFFF, in.getShort() & 0xFFFF, in.get() != 0);
+            }
+            case Protocolo.BULLET, Protocolo.BOMB -> {
+                if (longitud != 9) {
+                    responder(con, op, Protocolo.BAD_REQUEST, 0);
+                    return;
+                }
+                int id = in.getInt();
+                int fila = in.getShort() & 0xFFFF;
+                int col = in.getShort() & 0xFFFF;
+                enSesion(con, op, id, manager -> {
+                    boolean hit = op == Protocolo.BULLET
+                        ? manager.atacarBala(fila, col)
+                        : manager.atacarBombaEn(fila, col);
+                    escribirFlags(con, op, hit, manager);
+                });
+            }
+            case Protocolo.MUTATE, Protocolo.FETCH_BOARD, Protocolo.STATS, Protocolo.CLOSE_SESSION -> {
+                if (longitud != 5) {
+                    responder(con, op, Protocolo.BAD_REQUEST, 0);
+                    return;
+                }
+                int id = in.getInt();
+                switch (op) {
+                    case Protocolo.MUTATE -> enSesion(con, op, id,
+                        manager -> escribirFlags(con, op, manager.mutarMasDebil(), manager));
+                    case Protocolo.FETCH_BOARD -> enSesion(con, op, id, manager -> escribirTablero(con, manager));
+                    case Protocolo.STATS -> enSesion(con, op, id,
+                        manager -> escribirEstadisticas(con, manager.getEstadisticas()));
+                    default -> responder(con, op,
+                        sesiones.eliminar(id) ? Protocolo.OK : Protocolo.UNKNOWN_SESSION, 0);
+                }
+            }
+            default -> responder(con, op, Protocolo.BAD_REQUEST, 0);
+        }
+    }
+
+    private void crearSesion(Conexion con, int filas, int columnas, boolean aleatorio) {
+        if (filas > Protocolo.MAX_REMOTE_SIZE || columnas > Protocolo.MAX_REMOTE_SIZE) {
+            responder(con, Protocolo.CREATE_SESSION, Protocolo.BAD_REQUEST, 0);
+            return;
+        }
+        int id;
+        try {
+            id = sesiones.crear(filas, columnas, aleatorio);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            responder(con, Protocolo.CREATE_SESSION, Protocolo.BAD_REQUEST, 0);
+            return;
+        }
+        responder(con, Protocolo.CREATE_SESSION, Protocolo.OK, Integer.BYTES).putInt(id);
+    }
+
+    /**
+     * Runs a request against a session, answering UNKNOWN_SESSION if it does
+     * not exist and BAD_REQUEST if it was evicted and cannot be reloaded.
+     * Any other failure propagates and closes the connection.
+     */
+    private void enSesion(Conexion con, byte op, int id, Consumer<BichoManager> accion) {
+        try {
+            sesiones.ejecutar(id, manager -> {
+                accion.accept(manager);
+                return null;
+            });
+        } catch (IllegalArgumentException e) {
+            responder(con, op, Protocolo.UNKNOWN_SESSION, 0);
+        } catch (UncheckedIOException e) {
+            responder(con, op, Protocolo.BAD_REQUEST, 0);
+        }
+    }
+
+    private void escribirFlags(Conexion con, byte op, boolean hit, BichoManager manager) {
+        int flags = (hit ? Protocolo.HIT : 0) | (manager.finDelJuego() ? Protocolo.GAME_OVER : 0);
+        responder(con, op, Protocolo.OK, 1).put((byte) flags);
+    }
+
+    private void escribirTablero(Conexion con, BichoManager manager) {
+        int filas = manager.getFilas();
+        int columnas = manager.getColumnas();
+        ByteBuffer out = responder(con, Protocolo.FETCH_BOARD, Protocolo.OK,
+            4 + filas * columnas * (1 + Integer.BYTES));
+        out.putShort((short) filas).putShort((short) columnas);
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                TipoBicho tipo = manager.getTipo(i, j);
+                out.put((byte) tipo.ordinal()).putInt(manager.getSalud(i, j));
+            }
+        }
+    }
+
+    private void escribirEstadisticas(Conexion con, GameStatistics stats) {
+        responder(con, Protocolo.STATS, Protocolo.OK, 7 * Integer.BYTES)
+            .putInt(stats.getTurns())
+            .putInt(stats.getShotsFired())
+            .putInt(stats.getShotsHit())
+            .putInt(stats.getBombsUsed())
+            .putInt(stats.getMutationsPerformed())
+            .putInt(stats.getBichosDefeated())
+            .putInt(stats.getTotalPoints());
+    }
+
+    /**
+     * Writes a response header and returns the output buffer, grown so that
+     * {@code carga} payload bytes fit after it.
+     */
+    private ByteBuffer responder(Conexion con, byte op, byte estado, int carga) {
+        int necesario = Integer.BYTES + 2 + carga;
+        if (con.salida.remaining() < necesario) {
+            ByteBuffer mayor = ByteBuffer.allocate(
+                Math.max(con.salida.capacity() * 2, con.salida.position() + necesario));
+            con.salida.flip();
+            mayor.put(con.salida);
+            con.salida = mayor;
+        }
+        return con.salida.putInt(2 + carga).put(op).put(estado);
+    }
+
+    /** Per-connection buffers, attached to the selection key. */
+    private static final class Conexion {
+        final ByteBuffer entrada = ByteBuffer.allocate(BUFFER_SIZE);
+        ByteBuffer salida = ByteBuffer.allocate(BUFFER_SIZE);
+        /** True while the session of the next request is being reloaded. */
+        boolean recargando;
+        /** Session just reloaded for the next request, or 0. */
+        int recargada;
+    }
+
+    /**
+     * Runs a server until the process is killed.
+     *
+     * @param args optional TCP port (default 7777), bound on the loopback
+     *             interface
+     * @throws IOException if the socket cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int puerto = args.length > 0 ? Integer.parseInt(args[0]) : 7777;
+        GameServer server = new GameServer(puerto);
+        server.start();
+        System.out.println("Game server listening on port " + server.getPuerto());
+        try {
+            server.hilo.join();
+        } catch (InterruptedException e) {
+            server.close();
+        }
+    }
+}
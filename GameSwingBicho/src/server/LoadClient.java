@@ -0,0 +1,322 @@
+package server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load generator for {@link GameServer}.
+ * <p>
+ * Opens many loopback connections from a single selector thread. Each
+ * connection creates its own session and then keeps exactly one request in
+ * flight: mostly bullets, with a bomb, a mutation, a stats query and a board
+ * fetch mixed in. Whenever a game ends its session is closed and a new one
+ * created, and every session still open is closed once the run time is
+ * over, so the server is left without sessions from the run. Latency is
+ * measured from sending a request to receiving its full response and
+ * recorded in a fixed-size histogram with microsecond resolution, so long
+ * runs need no extra memory.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class LoadClient {
+
+    private static final int MAX_MICROS = 1_000_000;
+    private static final int BOARD_SIZE = 10;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final InetSocketAddress servidor;
+    private final int conexiones;
+    private final long[] histograma = new long[MAX_MICROS + 1];
+    private final SplittableRandom random = new SplittableRandom(42);
+    private long peticiones;
+    private long errores;
+    private int enVuelo;
+
+    /**
+     * Creates a load client.
+     *
+     * @param servidor   address of the game server
+     * @param conexiones number of concurrent connections to open
+     * @throws IllegalArgumentException if conexiones is not positive
+     */
+    public LoadClient(InetSocketAddress servidor, int conexiones) {
+        if (conexiones <= 0) {
+            throw new IllegalArgumentException("Connection count must be positive");
+        }
+        this.servidor = servidor;
+        this.conexiones = conexiones;
+    }
+
+    /**
+     * Runs the load for a fixed time and reports the results.
+     * <p>
+     * Connections are opened first; the measurement window starts once all
+     * of them are connected. Requests still in flight when it ends, and
+     * the closing of the sessions left open, are waited for but not
+     * measured.
+     * </p>
+     *
+     * @param duracion run time in milliseconds
+     * @return throughput and latency summary
+     * @throws IOException if connections cannot be opened
+     */
+    public Resultado ejecutar(long duracion) throws IOException {
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < conexiones; i++) {
+                SocketChannel canal = SocketChannel.open(servidor);
+                canal.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                canal.configureBlocking(false);
+                canal.register(selector, SelectionKey.OP_READ, new Cliente());
+            }
+            long inicio = System.nanoTime();
+            long fin = inicio + TimeUnit.MILLISECONDS.toNanos(duracion);
+            for (SelectionKey key : selector.keys()) {
+                enviar(key, inicio, fin);
+            }
+            long limite = fin + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MILLIS);
+            long ahora = inicio;
+            while (ahora < fin || (enVuelo > 0 && ahora < limite)) {
+                long espera = (ahora < fin ? fin : limite) - ahora;
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(espera)));
+                ahora = System.nanoTime();
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    if (key.isValid() && key.isReadable()) {
+                        recibir(key, ahora, fin);
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        vaciar(key);
+                    }
+                }
+            }
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            return new Resultado(peticiones, errores, fin - inicio,
+                percentil(0.50), percentil(0.99));
+        }
+    }
+
+    private void recibir(SelectionKey key, long ahora, long fin) throws IOException {
+        Cliente cli = (Cliente) key.attachment();
+        if (((SocketChannel) key.channel()).read(cli.entrada) < 0) {
+            key.cancel();
+            errores++;
+            if (cli.esperando) {
+                cli.esperando = false;
+                enVuelo--;
+            }
+            return;
+        }
+        cli.entrada.flip();
+        while (cli.entrada.remaining() >= Integer.BYTES
+                && cli.entrada.remaining() >= Integer.BYTES + cli.entrada.getInt(cli.entrada.position())) {
+            int longitud = cli.entrada.getInt();
+            int siguiente = cli.entrada.position() + longitud;
+            byte op = cli.entrada.get();
+            byte estado = cli.entrada.get();
+            cli.esperando = false;
+            enVuelo--;
+            boolean medida = cli.enviado < fin;
+            if (medida) {
+                registrar(ahora - cli.enviado);
+            }
+            if (estado != Protocolo.OK) {
+                if (medida) {
+                    errores++;
+                }
+                cli.sesion = 0;
+            } else if (op == Protocolo.CREATE_SESSION) {
+                cli.sesion = cli.entrada.getInt();
+            } else if ((op == Protocolo.BULLET || op == Protocolo.BOMB || op == Protocolo.MUTATE)
+                    && (cli.entrada.get() & Protocolo.GAME_OVER) != 0) {
+                cli.cierre = cli.sesion;
+                cli.sesion = 0;
+            }
+            cli.entrada.position(siguiente);
+            enviar(key, ahora, fin);
+        }
+        cli.entrada.compact();
+        if (!cli.entrada.hasRemaining()) {
+            ByteBuffer mayor = ByteBuffer.allocate(cli.entrada.capacity() * 2);
+            cli.entrada.flip();
+            mayor.put(cli.entrada);
+            cli.entrada = mayor;
+        }
+    }
+
+    /**
+     * Sends the next request of a connection: the close of a finished
+     * session, a game action while the run lasts, and afterwards the close
+     * of the session still open, if any.
+     */
+    private void enviar(SelectionKey key, long ahora, long fin) throws IOException {
+        Cliente cli = (Cliente) key.attachment();
+        if (cli.cierre != 0) {
+            Protocolo.sesion(cli.salida, Protocolo.CLOSE_SESSION, cli.cierre);
+            cli.cierre = 0;
+        } else if (ahora >= fin) {
+            if (cli.sesion == 0) {
+                return;
+            }
+            Protocolo.sesion(cli.salida, Protocolo.CLOSE_SESSION, cli.sesion);
+            cli.sesion = 0;
+        } else if (cli.sesion == 0) {
+            Protocolo.crearSesion(cli.salida, BOARD_SIZE, BOARD_SIZE, true);
+        } else {
+            int tirada = random.nextInt(32);
+            int fila = random.nextInt(BOARD_SIZE);
+            int col = random.nextInt(BOARD_SIZE);
+            switch (tirada) {
+                case 0 -> Protocolo.ataque(cli.salida, Protocolo.BOMB, cli.sesion, fila, col);
+                case 1 -> Protocolo.sesion(cli.salida, Protocolo.MUTATE, cli.sesion);
+                case 2 -> Protocolo.sesion(cli.salida, Protocolo.STATS, cli.sesion);
+                case 3 -> Protocolo.sesion(cli.salida, Protocolo.FETCH_BOARD, cli.sesion);
+                default -> Protocolo.ataque(cli.salida, Protocolo.BULLET, cli.sesion, fila, col);
+            }
+        }
+        cli.enviado = ahora;
+        if (ahora < fin) {
+            peticiones++;
+        }
+        cli.esperando = true;
+        enVuelo++;
+        vaciar(key);
+    }
+
+    private void vaciar(SelectionKey key) throws IOException {
+        Cliente cli = (Cliente) key.attachment();
+        cli.salida.flip();
+        ((SocketChannel) key.channel()).write(cli.salida);
+        boolean pendiente = cli.salida.hasRemaining();
+        cli.salida.compact();
+        key.interestOps(pendiente ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+
+    private void registrar(long nanos) {
+        histograma[(int) Math.min(MAX_MICROS, nanos / 1000)]++;
+    }
+
+    private long percentil(double p) {
+        long total = 0;
+        for (long n : histograma) {
+            total += n;
+        }
+        long objetivo = (long) Math.ceil(total * p);
+        long acumulado = 0;
+        for (int i = 0; i < histograma.length; i++) {
+            acumulado += histograma[i];
+            if (acumulado >= objetivo && acumulado > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /** Per-connection state, attached to the selection key. */
+    private static final class Cliente {
+        ByteBuffer entrada = ByteBuffer.allocate(1024);
+        final ByteBuffer salida = ByteBuffer.allocate(64);
+        int sesion;
+        int cierre;
+        boolean esperando;
+        long enviado;
+    }
+
+    /**
+     * Summary of one load run.
+     */
+    public static final class Resultado {
+        private final long peticiones;
+        private final long errores;
+        private final long nanos;
+        private final long p50;
+        private final long p99;
+
+        Resultado(long peticiones, long errores, long nanos, long p50, long p99) {
+            this.peticiones = peticiones;
+            this.errores = errores;
+            this.nanos = nanos;
+            this.p50 = p50;
+            this.p99 = p99;
+        }
+
+        /** @return requests sent during the run */
+        public long getRequests() {
+            return peticiones;
+        }
+
+        /** @return responses with a non-OK status, plus dropped connections */
+        public long getErrors() {
+            return errores;
+        }
+
+        /** @return requests per second */
+        public double getThroughput() {
+            return nanos == 0 ? 0 : peticiones * 1e9 / nanos;
+        }
+
+        /** @return median latency in microseconds */
+        public long getP50Micros() {
+            return p50;
+        }
+
+        /** @return 99th percentile latency in microseconds */
+        public long getP99Micros() {
+            return p99;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests, %.0f req/s, p50 %d us, p99 %d us, %d errors",
+                peticiones, getThroughput(), p50, p99, errores);
+        }
+    }
+
+    /**
+     * Runs a load test against a server.
+     * <p>
+     * Arguments: {@code [port] [connections] [seconds]}. Without a port (or
+     * with port 0) an in-process server is started on a free port.
+     * </p>
+     *
+     * @param args command line arguments
+     * @throws IOException if the server or connections cannot be opened
+     */
+    public static void main(String[] args) throws IOException {
+        int puerto = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        int conexiones = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        GameServer local = null;
+        if (puerto == 0) {
+            local = new GameServer(0);
+            local.start();
+            puerto = local.getPuerto();
+        }
+        try {
+            LoadClient cliente = new LoadClient(new InetSocketAddress("127.0.0.1", puerto), conexiones);
+            System.out.println(cliente.ejecutar(segundos * 1000L));
+            if (local != null) {
+                System.out.println("Sessions left open: " + local.getSesionesActivas());
+            }
+        } finally {
+            if (local != null) {
+                local.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary wire protocol shared by {@link GameServer} and {@link LoadClient}.
+ * <p>
+ * Every message is a frame: a big-endian {@code int} with the length of the
+ * rest of the frame, followed by a one-byte operation code and its payload.
+ * Responses echo the operation code and add a status byte before their
+ * payload.
+ * </p>
+ * <pre>
+ * Request                       Payload
+ * CREATE_SESSION  filas:u16 columnas:u16 aleatorio:u8
+ * BULLET          sesion:i32 fila:u16 col:u16
+ * BOMB            sesion:i32 fila:u16 col:u16
+ * MUTATE          sesion:i32
+ * FETCH_BOARD     sesion:i32
+ * STATS           sesion:i32
+ * CLOSE_SESSION   sesion:i32
+ *
+ * Response (after status OK)
+ * CREATE_SESSION  sesion:i32
+ * BULLET, BOMB    flags:u8 (HIT, GAME_OVER)
+ * MUTATE          flags:u8 (HIT when a bicho mutated)
+ * FETCH_BOARD     filas:u16 columnas:u16 then per cell tipo:u8 salud:i32
+ * STATS           turns shots hits bombs mutations defeated points : 7 x i32
+ * CLOSE_SESSION   (empty)
+ * </pre>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public final class Protocolo {
+
+    private Protocolo() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /** Creates a new game session. */
+    public static final byte CREATE_SESSION = 1;
+    /** Fires a bullet at a cell. */
+    public static final byte BULLET = 2;
+    /** Drops a bomb on a cell. */
+    public static final byte BOMB = 3;
+    /** Mutates the weakest bicho. */
+    public static final byte MUTATE = 4;
+    /** Fetches the whole board. */
+    public static final byte FETCH_BOARD = 5;
+    /** Fetches the session statistics. */
+    public static final byte STATS = 6;
+    /** Discards a session. */
+    public static final byte CLOSE_SESSION = 7;
+
+    /** Request succeeded. */
+    public static final byte OK = 0;
+    /** The session id is unknown. */
+    public static final byte UNKNOWN_SESSION = 1;
+    /** The request was malformed or rejected. */
+    public static final byte BAD_REQUEST = 2;
+
+    /** Response flag: the attack hit a living bicho. */
+    public static final int HIT = 1;
+    /** Response flag: no living bicho remains. */
+    public static final int GAME_OVER = 2;
+
+    /** Largest request frame accepted by the server, length prefix excluded. */
+    public static final int MAX_REQUEST = 64;
+
+    /** Largest board side a remote session may ask for. */
+    public static final int MAX_REMOTE_SIZE = 1024;
+
+    /**
+     * Writes a CREATE_SESSION request.
+     *
+     * @param out       destination buffer
+     * @param filas     number of rows
+     * @param columnas  number of columns
+     * @param aleatorio true to fill the board with random bichos
+     */
+    public static void crearSesion(ByteBuffer out, int filas, int columnas, boolean aleatorio) {
+        out.putInt(6).put(CREATE_SESSION)
+            .putShort((short) filas).putShort((short) columnas).put((byte) (aleatorio ? 1 : 0));
+    }
+
+    /**
+     * Writes a BULLET or BOMB request.
+     *
+     * @param out    destination buffer
+     * @param op     {@link #BULLET} or {@link #BOMB}
+     * @param sesion session id
+     * @param fila   target row
+     * @param col    target column
+     */
+    public static void ataque(ByteBuffer out, byte op, int sesion, int fila, int col) {
+        out.putInt(9).put(op).putInt(sesion).putShort((short) fila).putShort((short) col);
+    }
+
+    /**
+     * Writes a request whose only payload is the session id
+     * (MUTATE, FETCH_BOARD, STATS, CLOSE_SESSION).
+     *
+     * @param out    destination buffer
+     * @param op     operation code
+     * @param sesion session id
+     */
+    public static void sesion(ByteBuffer out, byte op, int sesion) {
+        out.putInt(5).put(op).putInt(sesion);
+    }
+}
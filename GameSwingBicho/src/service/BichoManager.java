@@ -1,14 +1,24 @@
 package service;
 
-import com.google.gson.Gson;
 import models.Bicho;
+import models.CreatureRegistry;
 import models.GameConstants;
 import models.GameStatistics;
+import models.Tablero;
+import models.TableroDenso;
+import models.TableroDisperso;
+import models.TableroPaginado;
 import models.TipoBicho;
+import models.TurnTimeSeries;
+import models.Zobrist;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -23,6 +33,28 @@ import java.util.Random;
  *   <li>Persistence (save/load functionality)</li>
  * </ul>
  * </p>
+ * <p>
+ * Cells are stored through a {@link Tablero} backend. Boards created with
+ * the size-based constructors pick their backend automatically: small or
+ * crowded boards use the dense {@code Bicho[][]} layout, while large arenas
+ * whose occupancy falls below {@link GameConstants#SPARSE_DENSITY_THRESHOLD}
+ * switch to a {@link TableroDisperso} whose memory follows the number of
+ * bichos instead of the board area.
+ * </p>
+ * <p>
+ * Every write to the board goes through a single internal path that also
+ * keeps a 64-bit {@link Zobrist} hash of the whole board up to date in
+ * constant time, exposed through {@link #getHashCampo()}. The same path
+ * reports each change to the registered {@link GameListener}s.
+ * </p>
+ * <p>
+ * Once a board is set up, the turn loop ({@link #atacarBala(int, int)},
+ * {@link #atacarBombaEn(int, int)}, {@link #mutarMasDebil()},
+ * {@link #finDelJuego()} and the statistics they update) allocates no
+ * objects on the dense and sparse backends, including the status effects,
+ * threat map and time series run at the end of each turn. Keep new code on
+ * that path free of boxing, varargs, lambdas and string building.
+ * </p>
  *
  * <p><strong>Usage Example:</strong></p>
  * <pre>{@code
@@ -38,13 +70,31 @@ import java.util.Random;
  * @version 1.0.0
  * @since 2025-11-01
  */
-public class BichoManager {
+public class BichoManager implements AutoCloseable {
 
     private final int FILAS;
     private final int COLUMNAS;
-    private Bicho[][] campo;
+    private Tablero tablero;
+    private final boolean seleccionAutomatica;
     private final Random random;
     private final GameStatistics estadisticas;
+    private long hash;
+    private boolean campoExpuesto;
+    private long hashGuardado;
+    private long fechaGuardado = -1;
+    private Path rutaGuardado;
+    /** Types drawn by {@link #crearBichosAleatorios()}, one third each. */
+    private static final TipoBicho[] SORTEO = {TipoBicho.VACIO, TipoBicho.NORMAL, TipoBicho.ALIEN};
+
+    private volatile GameListener[] oyentes = new GameListener[0];
+    private TurnTimeSeries serieTurnos;
+    private StatusEffects efectos;
+    private BichoMovement movimiento;
+    private ThreatMap mapaAmenazas;
+    private RealTimeMode tiempoReal;
+    private final Tablero vista = new Vista();
+    /** Paged board opened by {@link #abrirPartidaTeselada(Path)}, closed by {@link #close()}. */
+    private TableroPaginado paginadoPropio;
 
     /**
      * Constructs a BichoManager with default 2x2 board size.
@@ -61,32 +111,93 @@ public class BichoManager {
      * @throws IllegalArgumentException if dimensions are out of valid range
      */
     public BichoManager(int filas, int columnas) {
-        validateBoardSize(filas, columnas);
+        this(filas, columnas, GameConstants.MAX_BOARD_SIZE);
+    }
+
+    /**
+     * Constructs a BichoManager on top of an existing board backend.
+     * <p>
+     * The backend is kept for the whole game; automatic dense/sparse
+     * selection is disabled. Dimensions may go up to
+     * {@value GameConstants#MAX_ARENA_SIZE}.
+     * </p>
+     *
+     * @param tablero board backend to play on (its current cells are kept)
+     * @throws IllegalArgumentException if tablero is null or its dimensions are invalid
+     */
+    public BichoManager(Tablero tablero) {
+        if (tablero == null) {
+            throw new IllegalArgumentException("Board cannot be null");
+        }
+        validateBoardSize(tablero.getFilas(), tablero.getColumnas(), GameConstants.MAX_ARENA_SIZE);
+        this.FILAS = tablero.getFilas();
+        this.COLUMNAS = tablero.getColumnas();
+        this.tablero = tablero;
+        this.seleccionAutomatica = false;
+        this.random = new Random();
+        this.estadisticas = new GameStatistics();
+        this.campoExpuesto = true;
+    }
+
+    private BichoManager(int filas, int columnas, int maximo) {
+        this(filas, columnas, maximo, new GameStatistics());
+    }
+
+    /**
+     * Constructs a manager with an empty board that continues an existing
+     * set of statistics, used when a session is restored from disk.
+     *
+     * @param filas        number of rows
+     * @param columnas     number of columns
+     * @param maximo       largest dimension allowed
+     * @param estadisticas statistics to keep accumulating into
+     * @throws IllegalArgumentException if dimensions are out of valid range
+     */
+    BichoManager(int filas, int columnas, int maximo, GameStatistics estadisticas) {
+        validateBoardSize(filas, columnas, maximo);
         this.FILAS = filas;
         this.COLUMNAS = columnas;
-        this.campo = new Bicho[FILAS][COLUMNAS];
+        this.seleccionAutomatica = true;
         this.random = new Random();
-        this.estadisticas = new GameStatistics();
+        this.estadisticas = estadisticas;
         inicializarCampo();
     }
 
+    /**
+     * Creates a manager for a large custom arena.
+     * <p>
+     * Unlike the regular constructors, dimensions may go up to
+     * {@value GameConstants#MAX_ARENA_SIZE}. The board backend is still
+     * selected automatically from its occupancy.
+     * </p>
+     *
+     * @param filas    number of rows
+     * @param columnas number of columns
+     * @return a manager with an empty arena
+     * @throws IllegalArgumentException if dimensions are out of valid range
+     */
+    public static BichoManager crearArena(int filas, int columnas) {
+        return new BichoManager(filas, columnas, GameConstants.MAX_ARENA_SIZE);
+    }
+
     /**
      * Validates board dimensions are within acceptable range.
      *
      * @param filas    number of rows
      * @param columnas number of columns
+     * @param maximo   largest dimension allowed
      * @throws IllegalArgumentException if dimensions are invalid
      */
-    private void validateBoardSize(int filas, int columnas) {
-        if (filas < GameConstants.MIN_BOARD_SIZE || filas > GameConstants.MAX_BOARD_SIZE) {
+    private void validateBoardSize(int filas, int columnas, int maximo) {
+        if (filas < GameConstants.MIN_BOARD_SIZE || filas > maximo) {
             throw new IllegalArgumentException(
                 String.format("Rows must be between %d and %d", 
-                    GameConstants.MIN_BOARD_SIZE, GameConstants.MAX_BOARD_SIZE));
+                    GameConstants.MIN_BOARD_SIZE, maximo));
         }
-        if (columnas < GameConstants.MIN_BOARD_SIZE || columnas > GameConstants.MAX_BOARD_SIZE) {
+        if (columnas < GameConstants.MIN_BOARD_SIZE || columnas > maximo) {
             throw new IllegalArgumentException(
                 String.format("Columns must be between %d and %d", 
-                    GameConstants.MIN_BOARD_SIZE, GameConstants.MAX_BOARD_SIZE));
+                    GameConstants.MIN_BOARD_SIZE, maximo));
         }
     }
 
@@ -95,11 +206,41 @@ public class BichoManager {
      * All cells are set to VACIO type with zero health.
      */
     public void inicializarCampo() {
-        for (int i = 0; i < FILAS; i++) {
-            for (int j = 0; j < COLUMNAS; j++) {
-                campo[i][j] = new Bicho(0, TipoBicho.VACIO);
+        prepararTablero(0.0);
+    }
+
+    /**
+     * Empties the board, first choosing the backend best suited to the
+     * expected occupancy when automatic selection is enabled.
+     *
+     * @param densidadEsperada expected ratio of occupied cells (0-1)
+     */
+    private void prepararTablero(double densidadEsperada) {
+        if (seleccionAutomatica) {
+            boolean disperso = usarDisperso(densidadEsperada);
+            if (tablero == null || disperso != (tablero instanceof TableroDisperso)) {
+                tablero = disperso
+                    ? new TableroDisperso(FILAS, COLUMNAS, (int) (densidadEsperada * FILAS * COLUMNAS))
+                    : new TableroDenso(FILAS, COLUMNAS);
+                hash = Zobrist.semilla(FILAS, COLUMNAS);
+                notificarReinicio();
+                return;
             }
         }
+        tablero.limpiar();
+        hash = Zobrist.semilla(FILAS, COLUMNAS);
+        notificarReinicio();
+    }
+
+    /**
+     * Decides whether a board with the given occupancy should be sparse.
+     *
+     * @param densidad ratio of occupied cells (0-1)
+     * @return true if the sparse backend should be used
+     */
+    private boolean usarDisperso(double densidad) {
+        return (long) FILAS * COLUMNAS >= GameConstants.SPARSE_MIN_AREA
+            && densidad < GameConstants.SPARSE_DENSITY_THRESHOLD;
     }
 
     /**
@@ -108,27 +249,119 @@ public class BichoManager {
      * Each cell has an equal 1/3 probability of being:
      * <ul>
      *   <li>VACIO (empty)</li>
-     *   <li>NORMAL (health: {@value GameConstants#NORMAL_HEALTH})</li>
-     *   <li>ALIEN (health: {@value GameConstants#ALIEN_HEALTH})</li>
+     *   <li>NORMAL</li>
+     *   <li>ALIEN</li>
      * </ul>
+     * with the starting health of its type in the active
+     * {@link CreatureRegistry}.
      * </p>
      */
     public void crearBichosAleatorios() {
-        for (int i = 0; i < FILAS; i++) {
-            for (int j = 0; j < COLUMNAS; j++) {
-                int n = random.nextInt(3);
-                switch (n) {
-                    case 1:
-                        campo[i][j] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
-                        break;
-                    case 2:
-                        campo[i][j] = new Bicho(GameConstants.ALIEN_HEALTH, TipoBicho.ALIEN);
-                        break;
-                    default:
-                        campo[i][j] = new Bicho(0, TipoBicho.VACIO);
-                        break;
+        CreatureRegistry registro = CreatureRegistry.getActivo();
+        Tablero turno = tablero;
+        turno.iniciarTurno();
+        try {
+            prepararTablero(2.0 / 3.0);
+            for (int i = 0; i < FILAS; i++) {
+                for (int j = 0; j < COLUMNAS; j++) {
+                    TipoBicho tipo = SORTEO[random.nextInt(SORTEO.length)];
+                    if (tipo != TipoBicho.VACIO) {
+                        escribirCelda(i, j, tipo, registro.getSalud(tipo));
+                    }
+                }
+            }
+        } finally {
+            turno.finalizarTurno();
+        }
+    }
+
+    /**
+     * Creates random bichos with a target occupancy.
+     * <p>
+     * Each cell holds a bicho with probability {@code densidad}, split evenly
+     * between NORMAL and ALIEN. Gaps between occupied cells are drawn from a
+     * geometric distribution, so generation cost follows the number of bichos
+     * placed rather than the board area, and low densities on large arenas
+     * land directly on the sparse backend.
+     * </p>
+     *
+     * @param densidad probability of a cell being occupied (0-1)
+     * @throws IllegalArgumentException if densidad is outside [0, 1]
+     */
+    public void crearBichosAleatorios(double densidad) {
+        if (!(densidad >= 0.0 && densidad <= 1.0)) {
+            throw new IllegalArgumentException("Density must be between 0 and 1");
+        }
+        CreatureRegistry registro = CreatureRegistry.getActivo();
+        Tablero turno = tablero;
+        turno.iniciarTurno();
+        try {
+            prepararTablero(densidad);
+            if (densidad == 0.0) {
+                return;
+            }
+            long area = (long) FILAS * COLUMNAS;
+            double logFallo = Math.log1p(-densidad);
+            long indice = -1;
+            while (true) {
+                long salto = densidad >= 1.0
+                    ? 1
+                    : 1 + (long) Math.floor(Math.log1p(-random.nextDouble()) / logFallo);
+                if (salto <= 0 || salto >= area - indice) {
+                    break;
                 }
+                indice += salto;
+                int fila = (int) (indice / COLUMNAS);
+                int col = (int) (indice % COLUMNAS);
+                TipoBicho tipo = random.nextBoolean() ? TipoBicho.NORMAL : TipoBicho.ALIEN;
+                escribirCelda(fila, col, tipo, registro.getSalud(tipo));
             }
+        } finally {
+            turno.finalizarTurno();
+        }
+    }
+
+    /**
+     * Fills the board with a procedurally generated layout.
+     * <p>
+     * The layout is generated in parallel by {@code generador} and then
+     * written cell by cell, so the same seed always yields the same board.
+     * NORMAL and ALIEN cells get their usual starting health.
+     * </p>
+     *
+     * @param generador generator describing the layout
+     * @param semilla   generation seed
+     * @throws IllegalArgumentException if generador is null
+     */
+    public void crearBichos(BoardGenerator generador, long semilla) {
+        if (generador == null) {
+            throw new IllegalArgumentException("Generator cannot be null");
+        }
+        byte[] celdas = generador.generar(FILAS, COLUMNAS, semilla);
+        byte normal = (byte) TipoBicho.NORMAL.ordinal();
+        byte alien = (byte) TipoBicho.ALIEN.ordinal();
+        CreatureRegistry registro = CreatureRegistry.getActivo();
+        int saludNormal = registro.getSalud(TipoBicho.NORMAL);
+        int saludAlien = registro.getSalud(TipoBicho.ALIEN);
+        int ocupadas = 0;
+        for (byte c : celdas) {
+            if (c == normal || c == alien) {
+                ocupadas++;
+            }
+        }
+        Tablero turno = tablero;
+        turno.iniciarTurno();
+        try {
+            prepararTablero((double) ocupadas / celdas.length);
+            for (int i = 0; i < celdas.length; i++) {
+                if (celdas[i] == normal) {
+                    escribirCelda(i / COLUMNAS, i % COLUMNAS, TipoBicho.NORMAL, saludNormal);
+                } else if (celdas[i] == alien) {
+                    escribirCelda(i / COLUMNAS, i % COLUMNAS, TipoBicho.ALIEN, saludAlien);
+                }
+            }
+        } finally {
+            turno.finalizarTurno();
         }
     }
 
@@ -144,23 +377,42 @@ public class BichoManager {
      * @return true if attack hit a living bicho, false otherwise
      */
     public boolean atacarBala(int fila, int col) {
+        Tablero turno = tablero;
+        turno.iniciarTurno();
+        try {
+            return resolverBala(fila, col);
+        } finally {
+            turno.finalizarTurno();
+        }
+    }
+
+    private boolean resolverBala(int fila, int col) {
         estadisticas.incrementTurns();
         
         if (!coordenadasValidas(fila, col)) {
             estadisticas.recordShot(false);
+            cerrarTurno();
             return false;
         }
         
-        Bicho b = campo[fila][col];
-        boolean wasAlive = !b.estaMuerto();
-        boolean hit = b.recibirBala();
+        int salud = tablero.getSalud(fila, col);
+        boolean hit = salud > 0;
         
         estadisticas.recordShot(hit);
         
-        if (wasAlive && b.estaMuerto()) {
-            estadisticas.recordDefeat(b.getTipo());
+        if (hit) {
+            TipoBicho tipo = tablero.getTipo(fila, col);
+            int restante = Bicho.saludTrasBala(salud, tipo);
+            actualizarSalud(fila, col, tipo, salud, restante);
+            if (restante == 0) {
+                estadisticas.recordDefeat(tipo);
+            }
+            notificarImpacto(fila, col, tipo, restante);
+        } else {
+            notificarFallo(fila, col);
         }
         
+        cerrarTurno();
         return hit;
     }
 
@@ -191,24 +443,319 @@ public class BichoManager {
      * @return true if bomb hit a living bicho, false otherwise
      */
     public boolean atacarBombaEn(int fila, int col) {
+        Tablero turno = tablero;
+        turno.iniciarTurno();
+        try {
+            return resolverBomba(fila, col);
+        } finally {
+            turno.finalizarTurno();
+        }
+    }
+
+    private boolean resolverBomba(int fila, int col) {
         estadisticas.incrementTurns();
         estadisticas.recordBomb();
         
         if (!coordenadasValidas(fila, col)) {
+            cerrarTurno();
             return false;
         }
         
-        Bicho b = campo[fila][col];
-        boolean wasAlive = !b.estaMuerto();
-        boolean hit = b.recibirBomba();
+        int salud = tablero.getSalud(fila, col);
+        boolean hit = salud > 0;
         
-        if (wasAlive && b.estaMuerto()) {
-            estadisticas.recordDefeat(b.getTipo());
+        if (hit) {
+            TipoBicho tipo = tablero.getTipo(fila, col);
+            actualizarSalud(fila, col, tipo, salud, 0);
+            estadisticas.recordDefeat(tipo);
+            notificarImpacto(fila, col, tipo, 0);
+        } else {
+            notificarFallo(fila, col);
         }
         
+        cerrarTurno();
         return hit;
     }
 
+    /**
+     * Ends a turn: applies status effects, if any were ever attached, runs
+     * the movement phase, if one is set, and records the turn in the
+     * per-turn time series, if one is set.
+     */
+    private void cerrarTurno() {
+        if (efectos != null) {
+            efectos.procesarTurno();
+        }
+        if (movimiento != null) {
+            movimiento.paso();
+        }
+        if (serieTurnos != null) {
+            serieTurnos.registrar(estadisticas, tablero.contarVivos());
+        }
+    }
+
+    /**
+     * Starts recording a per-turn sample of the statistics after every
+     * bullet and bomb.
+     *
+     * @param serie series receiving the samples, or null to stop recording
+     */
+    public void setSerieTurnos(TurnTimeSeries serie) {
+        this.serieTurnos = serie;
+    }
+
+    /**
+     * Gets the per-turn time series being recorded.
+     *
+     * @return the series, or null if none is set
+     */
+    public TurnTimeSeries getSerieTurnos() {
+        return serieTurnos;
+    }
+
+    /**
+     * Gets the status effects of this game, creating them on first use.
+     * Once created, effects are applied at the end of every bullet and
+     * bomb turn, and cleared whenever the board is replaced.
+     *
+     * @return the status effects of this game
+     */
+    public StatusEffects getEfectos() {
+        if (efectos == null) {
+            efectos = new StatusEffects(this);
+        }
+        return efectos;
+    }
+
+    /**
+     * Gets the threat map of this game, creating it on first use. Once
+     * created it follows every change to the board and answers best-target
+     * queries without scanning it.
+     *
+     * @return the threat map of this game
+     * @throws IllegalArgumentException if the board has more than
+     *         {@value GameConstants#MAX_THREAT_MAP_AREA} cells
+     */
+    public ThreatMap getMapaAmenazas() {
+        if (mapaAmenazas == null) {
+            mapaAmenazas = new ThreatMap(this);
+        }
+        return mapaAmenazas;
+    }
+
+    /**
+     * Runs a movement phase at the end of every bullet and bomb turn, after
+     * status effects are applied.
+     *
+     * @param movimiento movement phase created for this game, or null to stop moving
+     * @throws IllegalArgumentException if the phase belongs to another game
+     */
+    public void setMovimiento(BichoMovement movimiento) {
+        if (movimiento != null && movimiento.getManager() != this) {
+            throw new IllegalArgumentException("Movement phase belongs to another game");
+        }
+        this.movimiento = movimiento;
+    }
+
+    /**
+     * Registers the real-time mode driving this game, so its timers follow
+     * the bichos moved by {@link #moverCelda(int, int)}. The last mode
+     * created for a game wins.
+     *
+     * @param modo real-time mode created for this game
+     */
+    void setTiempoReal(RealTimeMode modo) {
+        this.tiempoReal = modo;
+    }
+
+    /**
+     * Moves the contents of a cell to an empty cell, together with its
+     * status effects and real-time timers.
+     *
+     * @param origen  packed index of the cell to move
+     * @param destino packed index of the empty destination
+     */
+    void moverCelda(int origen, int destino) {
+        int fo = origen / COLUMNAS;
+        int co = origen % COLUMNAS;
+        escribirCelda(destino / COLUMNAS, destino % COLUMNAS, tablero.getTipo(fo, co), tablero.getSalud(fo, co));
+        escribirCelda(fo, co, TipoBicho.VACIO, 0);
+        if (efectos != null) {
+            efectos.trasladar(origen, destino);
+        }
+        if (tiempoReal != null) {
+            tiempoReal.trasladar(origen, destino);
+        }
+    }
+
+    /**
+     * Deals status-effect damage to a living bicho, recording its defeat
+     * and telling listeners if it dies. Unlike attacks, no hit is reported.
+     *
+     * @param fila     row coordinate
+     * @param col      column coordinate
+     * @param cantidad damage to deal (positive)
+     * @return health left, 0 if the bicho died or was already dead
+     */
+    int danarPorEfecto(int fila, int col, int cantidad) {
+        int salud = tablero.getSalud(fila, col);
+        if (salud <= 0) {
+            return 0;
+        }
+        TipoBicho tipo = tablero.getTipo(fila, col);
+        int restante = Math.max(0, salud - cantidad);
+        actualizarSalud(fila, col, tipo, salud, restante);
+        if (restante == 0) {
+            estadisticas.recordDefeat(tipo);
+            notificarBaja(fila, col, tipo, oyentes);
+        }
+        return restante;
+    }
+
+    /**
+     * Writes a cell, keeping the board hash and listeners in sync.
+     *
+     * @param fila  row coordinate
+     * @param col   column coordinate
+     * @param tipo  new cell type
+     * @param salud new cell health
+     */
+    private void escribirCelda(int fila, int col, TipoBicho tipo, int salud) {
+        int indice = fila * COLUMNAS + col;
+        hash ^= Zobrist.clave(indice, tablero.getTipo(fila, col), tablero.getSalud(fila, col))
+            ^ Zobrist.clave(indice, tipo, salud);
+        tablero.setCelda(fila, col, tipo, salud);
+        for (GameListener oyente : oyentes) {
+            oyente.onCellChanged(fila, col, tipo, salud);
+        }
+    }
+
+    /**
+     * Changes the health of a cell whose current state is already known,
+     * keeping the board hash and listeners in sync without reading the
+     * cell again.
+     *
+     * @param fila           row coordinate
+     * @param col            column coordinate
+     * @param tipo           cell type (unchanged)
+     * @param saludAnterior  current cell health
+     * @param saludNueva     new cell health
+     */
+    private void actualizarSalud(int fila, int col, TipoBicho tipo, int saludAnterior, int saludNueva) {
+        int indice = fila * COLUMNAS + col;
+        hash ^= Zobrist.clave(indice, tipo, saludAnterior) ^ Zobrist.clave(indice, tipo, saludNueva);
+        tablero.setCelda(fila, col, tipo, saludNueva);
+        for (GameListener oyente : oyentes) {
+            oyente.onCellChanged(fila, col, tipo, saludNueva);
+        }
+    }
+
+    /**
+     * Tells listeners about a hit and, if it was lethal, the kill and a
+     * possible end of the game. The end check counts living bichos, so it
+     * only runs when someone listens. Also used by {@link MultiplayerEngine}
+     * for the hits it resolves, after writing the cell.
+     */
+    void notificarImpacto(int fila, int col, TipoBicho tipo, int restante) {
+        GameListener[] actuales = oyentes;
+        if (actuales.length == 0) {
+            return;
+        }
+        for (GameListener oyente : actuales) {
+            oyente.onHit(fila, col, tipo, restante);
+        }
+        if (restante == 0) {
+            notificarBaja(fila, col, tipo, actuales);
+        }
+    }
+
+    /**
+     * Tells listeners about a kill and a possible end of the game.
+     */
+    private void notificarBaja(int fila, int col, TipoBicho tipo, GameListener[] actuales) {
+        if (actuales.length == 0) {
+            return;
+        }
+        for (GameListener oyente : actuales) {
+            oyente.onKill(fila, col, tipo);
+        }
+        if (tablero.contarVivos() == 0) {
+            for (GameListener oyente : actuales) {
+                oyente.onGameOver(estadisticas);
+            }
+        }
+    }
+
+    /**
+     * Tells listeners an attack inside the board found no living bicho.
+     * Also used by {@link MultiplayerEngine} for the misses it resolves.
+     *
+     * @param fila row coordinate
+     * @param col  column coordinate
+     */
+    void notificarFallo(int fila, int col) {
+        for (GameListener oyente : oyentes) {
+            oyente.onMiss(fila, col);
+        }
+    }
+
+    /**
+     * Tells listeners the whole board was replaced, followed by one cell
+     * change per occupied cell of the new board.
+     */
+    private void notificarReinicio() {
+        if (efectos != null) {
+            efectos.limpiar();
+        }
+        GameListener[] actuales = oyentes;
+        if (actuales.length == 0) {
+            return;
+        }
+        for (GameListener oyente : actuales) {
+            oyente.onBoardReset();
+        }
+        tablero.recorrerOcupadas((fila, col, tipo, salud) -> {
+            for (GameListener oyente : actuales) {
+                oyente.onCellChanged(fila, col, tipo, salud);
+            }
+        });
+    }
+
+    /**
+     * Registers a listener for board changes.
+     *
+     * @param oyente listener to add
+     * @throws IllegalArgumentException if oyente is null
+     */
+    public synchronized void addListener(GameListener oyente) {
+        if (oyente == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        GameListener[] nuevos = Arrays.copyOf(oyentes, oyentes.length + 1);
+        nuevos[nuevos.length - 1] = oyente;
+        oyentes = nuevos;
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param oyente listener to remove
+     * @return true if the listener was registered
+     */
+    public synchronized boolean removeListener(GameListener oyente) {
+        GameListener[] actuales = oyentes;
+        for (int i = 0; i < actuales.length; i++) {
+            if (actuales[i] == oyente) {
+                GameListener[] nuevos = new GameListener[actuales.length - 1];
+                System.arraycopy(actuales, 0, nuevos, 0, i);
+                System.arraycopy(actuales, i + 1, nuevos, i, actuales.length - i - 1);
+                oyentes = nuevos;
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Validates that coordinates are within board bounds.
      *
@@ -230,15 +777,7 @@ public class BichoManager {
      * @return true if all bichos are dead, false otherwise
      */
     public boolean finDelJuego() {
-        int muertos = 0;
-        for (int i = 0; i < FILAS; i++) {
-            for (int j = 0; j < COLUMNAS; j++) {
-                if (campo[i][j].estaMuerto()) {
-                    muertos++;
-                }
-            }
-        }
-        return muertos == FILAS * COLUMNAS;
+        return tablero.contarVivos() == 0;
     }
 
     /**
@@ -252,39 +791,323 @@ public class BichoManager {
      * @return true if a mutation was performed, false if no living bichos exist
      */
     public boolean mutarMasDebil() {
-        Bicho masDebil = null;
-        int min = Integer.MAX_VALUE;
+        int indice = tablero.indiceMasDebil();
         
-        for (int i = 0; i < FILAS; i++) {
-            for (int j = 0; j < COLUMNAS; j++) {
-                Bicho b = campo[i][j];
-                if (!b.estaMuerto() && b.getSalud() < min) {
-                    min = b.getSalud();
-                    masDebil = b;
+        if (indice >= 0) {
+            int fila = indice / COLUMNAS;
+            int col = indice % COLUMNAS;
+            Tablero turno = tablero;
+            turno.iniciarTurno();
+            try {
+                int salud = tablero.getSalud(fila, col);
+                TipoBicho tipo = tablero.getTipo(fila, col);
+                int nueva = Bicho.saludTrasMutacion(salud, tipo);
+                actualizarSalud(fila, col, tipo, salud, nueva);
+                estadisticas.recordMutation();
+                for (GameListener oyente : oyentes) {
+                    oyente.onMutation(fila, col, tipo, nueva);
                 }
+            } finally {
+                turno.finalizarTurno();
             }
-        }
-        
-        if (masDebil != null) {
-            masDebil.mutar();
-            estadisticas.recordMutation();
             return true;
         }
-        
+
         return false;
     }
 
+    /**
+     * Mutates the bicho in a given cell, as {@link #mutarMasDebil()} does
+     * for the weakest one.
+     * <p>
+     * Meant for game-driven events such as timers, so the player's mutation
+     * count is not changed.
+     * </p>
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @return true if the cell held a living bicho
+     * @throws IndexOutOfBoundsException if coordinates are outside the board
+     */
+    public boolean mutarEn(int fila, int col) {
+        validarCelda(fila, col);
+        int salud = tablero.getSalud(fila, col);
+        if (salud <= 0) {
+            return false;
+        }
+        TipoBicho tipo = tablero.getTipo(fila, col);
+        int nueva = Bicho.saludTrasMutacion(salud, tipo);
+        actualizarSalud(fila, col, tipo, salud, nueva);
+        for (GameListener oyente : oyentes) {
+            oyente.onMutation(fila, col, tipo, nueva);
+        }
+        return true;
+    }
+
+    /**
+     * Heals a living bicho, up to the starting health of its type.
+     * <p>
+     * Bichos already above their starting health, for example after a
+     * mutation, keep their current health. Dead bichos stay dead.
+     * </p>
+     *
+     * @param fila     row coordinate (0-indexed)
+     * @param col      column coordinate (0-indexed)
+     * @param cantidad health to add
+     * @return true if the health changed
+     * @throws IndexOutOfBoundsException if coordinates are outside the board
+     */
+    public boolean regenerar(int fila, int col, int cantidad) {
+        validarCelda(fila, col);
+        int salud = tablero.getSalud(fila, col);
+        if (salud <= 0 || cantidad <= 0) {
+            return false;
+        }
+        TipoBicho tipo = tablero.getTipo(fila, col);
+        int tope = CreatureRegistry.getActivo().getSalud(tipo);
+        int nueva = (int) Math.min((long) salud + cantidad, Math.max(salud, tope));
+        if (nueva == salud) {
+            return false;
+        }
+        actualizarSalud(fila, col, tipo, salud, nueva);
+        return true;
+    }
+
+    /**
+     * Places a new bicho with its starting health on an empty cell.
+     * <p>
+     * Cells holding a bicho, living or dead, are left untouched.
+     * </p>
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @param tipo type of the new bicho, NORMAL or ALIEN
+     * @return true if the bicho was placed
+     * @throws IndexOutOfBoundsException if coordinates are outside the board
+     * @throws IllegalArgumentException if tipo is VACIO
+     */
+    public boolean aparecer(int fila, int col, TipoBicho tipo) {
+        if (tipo == TipoBicho.VACIO) {
+            throw new IllegalArgumentException("Cannot spawn an empty bicho");
+        }
+        validarCelda(fila, col);
+        if (tablero.getTipo(fila, col) != TipoBicho.VACIO) {
+            return false;
+        }
+        escribirCelda(fila, col, tipo, CreatureRegistry.getActivo().getSalud(tipo));
+        return true;
+    }
+
+    /**
+     * Runs a batch of writes as one turn of the board backend, so backends
+     * that publish whole turns see the batch at once.
+     *
+     * @param lote writes to run
+     */
+    public void ejecutarTurno(Runnable lote) {
+        Tablero turno = tablero;
+        turno.iniciarTurno();
+        try {
+            lote.run();
+        } finally {
+            turno.finalizarTurno();
+        }
+    }
+
     /**
      * Gets a reference to the game board.
      * <p>
      * <strong>Warning:</strong> This returns a direct reference to the internal
      * array. Modifications will affect the game state.
      * </p>
+     * <p>
+     * If the manager selected the backend itself and it is not array based,
+     * the board is first converted to the dense layout, which costs memory
+     * proportional to the board area. A backend supplied through
+     * {@link #BichoManager(Tablero)} is never replaced: unless it is a
+     * {@link TableroDenso}, the returned array is a detached copy and edits
+     * to it only take effect once passed back to {@link #setCampo(Bicho[][])}.
+     * Prefer {@link #getBicho(int, int)} or {@link #getTablero()} for read
+     * access on large arenas.
+     * </p>
      *
      * @return 2D array representing the game board
      */
     public Bicho[][] getCampo() {
-        return campo;
+        if (!(tablero instanceof TableroDenso)) {
+            if (!seleccionAutomatica) {
+                return TableroDenso.copiaDe(tablero).getCampo();
+            }
+            tablero = TableroDenso.copiaDe(tablero);
+        }
+        campoExpuesto = true;
+        return ((TableroDenso) tablero).getCampo();
+    }
+
+    /**
+     * Gets the board backend currently holding the cells.
+     * <p>
+     * The backend may be edited directly, so the next
+     * {@link #getHashCampo()} rescans the whole board. Use
+     * {@link #getVista()} when only reading.
+     * </p>
+     *
+     * @return the board backend
+     */
+    public Tablero getTablero() {
+        campoExpuesto = true;
+        return tablero;
+    }
+
+    /**
+     * Gets a read-only view of the board.
+     * <p>
+     * The view always reads the backend currently in use, even after the
+     * manager replaces it, and its write methods throw
+     * {@link UnsupportedOperationException}. Unlike {@link #getTablero()}
+     * and {@link #getCampo()} it keeps {@link #getHashCampo()} O(1).
+     * </p>
+     *
+     * @return read-only view of the board
+     */
+    public Tablero getVista() {
+        return vista;
+    }
+
+    /**
+     * Gets the bicho in a cell without converting the board backend.
+     * <p>
+     * Dense boards return the live instance; other backends return a
+     * detached copy.
+     * </p>
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @return the bicho in the cell
+     * @throws IndexOutOfBoundsException if coordinates are outside the board
+     */
+    public Bicho getBicho(int fila, int col) {
+        validarCelda(fila, col);
+        if (tablero instanceof TableroDenso) {
+            campoExpuesto = true;
+        }
+        return tablero.getBicho(fila, col);
+    }
+
+    /**
+     * Gets the health of a cell without exposing the board backend.
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @return the cell health
+     * @throws IndexOutOfBoundsException if coordinates are outside the board
+     */
+    public int getSalud(int fila, int col) {
+        validarCelda(fila, col);
+        return tablero.getSalud(fila, col);
+    }
+
+    /**
+     * Gets the type of a cell without exposing the board backend.
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @return the cell type
+     * @throws IndexOutOfBoundsException if coordinates are outside the board
+     */
+    public TipoBicho getTipo(int fila, int col) {
+        validarCelda(fila, col);
+        return tablero.getTipo(fila, col);
+    }
+
+    /**
+     * Sets the health of a cell, keeping its type.
+     * <p>
+     * Unlike the attack methods, no turn or statistic is recorded. This is
+     * meant for engines that resolve actions on behalf of other players and
+     * keep their own statistics; the board hash stays in sync.
+     * </p>
+     *
+     * @param fila  row coordinate (0-indexed)
+     * @param col   column coordinate (0-indexed)
+     * @param salud new health (negative values treated as 0)
+     * @throws IndexOutOfBoundsException if coordinates are outside the board
+     */
+    public void setSalud(int fila, int col, int salud) {
+        validarCelda(fila, col);
+        actualizarSalud(fila, col, tablero.getTipo(fila, col),
+            tablero.getSalud(fila, col), Math.max(0, salud));
+    }
+
+    /**
+     * Finds the living bicho with the lowest health, as chosen by
+     * {@link #mutarMasDebil()}.
+     *
+     * @return cell index ({@code fila * columnas + col}), or -1 if none is alive
+     */
+    public int indiceMasDebil() {
+        return tablero.indiceMasDebil();
+    }
+
+    /**
+     * Visits every occupied cell, in backend order, without exposing the
+     * board for direct edits.
+     *
+     * @param visitante callback receiving each occupied cell
+     */
+    public void recorrerOcupadas(Tablero.VisitanteCelda visitante) {
+        tablero.recorrerOcupadas(visitante);
+    }
+
+    private void validarCelda(int fila, int col) {
+        if (!coordenadasValidas(fila, col)) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cell [%d,%d] is outside the board", fila, col));
+        }
+    }
+
+    /**
+     * Gets the 64-bit Zobrist hash of the whole board.
+     * <p>
+     * The hash covers the type, health and position of every cell and is
+     * maintained incrementally by attacks, mutations and board generation,
+     * so this call is O(1). Two boards with the same dimensions and cells
+     * always share the same hash, across managers and runs, which makes it
+     * suitable as a cache or deduplication key.
+     * </p>
+     * <p>
+     * Changes made directly through {@link #getCampo()}, {@link #getTablero()}
+     * or a live bicho from {@link #getBicho(int, int)} are picked up by a
+     * full rescan on the next call, provided they were made after obtaining
+     * that reference. Obtain the reference again before further direct edits.
+     * Readers should use {@link #getVista()}, which never forces a rescan.
+     * </p>
+     *
+     * @return board hash
+     */
+    public long getHashCampo() {
+        if (campoExpuesto) {
+            campoExpuesto = false;
+            hash = Zobrist.calcular(tablero);
+        }
+        return hash;
+    }
+
+    /**
+     * Checks in O(1) whether another manager holds an identical board.
+     * <p>
+     * Compares dimensions and Zobrist hashes; with 64-bit keys a false
+     * positive is astronomically unlikely.
+     * </p>
+     *
+     * @param otro manager to compare with
+     * @return true if both boards have the same dimensions and cells
+     */
+    public boolean mismoCampo(BichoManager otro) {
+        return otro != null
+            && FILAS == otro.FILAS
+            && COLUMNAS == otro.COLUMNAS
+            && getHashCampo() == otro.getHashCampo();
     }
 
     /**
@@ -292,6 +1115,9 @@ public class BichoManager {
      * <p>
      * The new board must match the configured dimensions.
      * This method is primarily used for loading saved games.
+     * A backend supplied through {@link #BichoManager(Tablero)} is kept and
+     * the cells are copied into it; otherwise the array is adopted as is.
+     * {@code null} cells are treated as empty.
      * </p>
      *
      * @param nuevoCampo new game board
@@ -301,12 +1127,36 @@ public class BichoManager {
         if (nuevoCampo != null && 
             nuevoCampo.length == FILAS && 
             nuevoCampo[0].length == COLUMNAS) {
-            this.campo = nuevoCampo;
+            if (seleccionAutomatica) {
+                this.tablero = new TableroDenso(nuevoCampo);
+                this.campoExpuesto = true;
+            } else {
+                copiarCampo(nuevoCampo);
+                this.hash = Zobrist.calcular(tablero);
+            }
+            notificarReinicio();
             return true;
         }
         return false;
     }
 
+    private void copiarCampo(Bicho[][] origen) {
+        tablero.iniciarTurno();
+        try {
+            tablero.limpiar();
+            for (int i = 0; i < FILAS; i++) {
+                for (int j = 0; j < COLUMNAS; j++) {
+                    Bicho b = origen[i][j];
+                    if (b != null && (b.getTipo() != TipoBicho.VACIO || b.getSalud() > 0)) {
+                        tablero.setCelda(i, j, b.getTipo(), b.getSalud());
+                    }
+                }
+            }
+        } finally {
+            tablero.finalizarTurno();
+        }
+    }
+
     /**
      * Gets the current game statistics.
      *
@@ -338,15 +1188,41 @@ public class BichoManager {
      * Saves the current game state to a JSON file.
      * <p>
      * The game board is serialized to {@value GameConstants#SAVE_FILE}
-     * using Gson. Any existing save file is overwritten.
+     * using Gson. Any existing save file is overwritten, unless it is the
+     * file this manager last wrote, untouched since, and the board hash has
+     * not changed, in which case the redundant write is skipped. The hash
+     * compared is recomputed from the cells on every save, so edits made
+     * through an array from an earlier {@link #getCampo()} or a live bicho
+     * are never mistaken for an unchanged board.
      * </p>
      *
      * @throws IOException if file cannot be written
      */
     public void guardarPartida() throws IOException {
-        Gson gson = new Gson();
-        String json = gson.toJson(campo);
-        Files.writeString(Path.of(GameConstants.SAVE_FILE), json);
+        guardarPartida(Path.of(GameConstants.SAVE_FILE));
+    }
+
+    /**
+     * Saves the current game state to the given JSON file.
+     * <p>
+     * Same format and redundant-write check as {@link #guardarPartida()}.
+     * </p>
+     *
+     * @param p destination file
+     * @throws IOException if file cannot be written
+     */
+    public void guardarPartida(Path p) throws IOException {
+        long actual = Zobrist.calcular(tablero);
+        if (fechaGuardado >= 0 && actual == hashGuardado && p.equals(rutaGuardado)
+                && Files.exists(p) && Files.getLastModifiedTime(p).toMillis() == fechaGuardado) {
+            return;
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(p)) {
+            PartidaJson.escribir(tablero, out);
+        }
+        hashGuardado = actual;
+        rutaGuardado = p;
+        fechaGuardado = Files.getLastModifiedTime(p).toMillis();
     }
 
     /**
@@ -362,23 +1238,187 @@ public class BichoManager {
      * @throws IOException if file exists but cannot be read
      */
     public boolean cargarPartida() throws IOException {
-        Path p = Path.of(GameConstants.SAVE_FILE);
+        return cargarPartida(Path.of(GameConstants.SAVE_FILE));
+    }
+
+    /**
+     * Loads a previously saved game from the given JSON file.
+     * <p>
+     * Same rules as {@link #cargarPartida()}.
+     * </p>
+     *
+     * @param p file to read
+     * @return true if game was loaded successfully, false if the file does
+     *         not exist or its dimensions don't match
+     * @throws IOException if file exists but cannot be read
+     */
+    public boolean cargarPartida(Path p) throws IOException {
         if (!Files.exists(p)) {
             return false;
         }
         
-        String json = Files.readString(p);
-        Gson gson = new Gson();
-        Bicho[][] loaded = gson.fromJson(json, Bicho[][].class);
-
-        if (loaded != null && 
-            loaded.length == FILAS && 
-            loaded[0].length == COLUMNAS) {
-            this.campo = loaded;
-            return true;
+        TableroDisperso loaded = new TableroDisperso(FILAS, COLUMNAS);
+        try (BufferedReader in = Files.newBufferedReader(p)) {
+            if (!PartidaJson.leer(in, loaded)) {
+                return false;
+            }
+        }
+
+        adoptarTablero(loaded);
+        return true;
+    }
+
+    /**
+     * Saves the current board as a new snapshot in a slot of a
+     * {@link SnapshotStore}, keeping every earlier snapshot of the slot.
+     *
+     * @param almacen snapshot store
+     * @param slot    slot name
+     * @return id of the new snapshot
+     * @throws IOException if the store cannot be written
+     */
+    public long guardarPartida(SnapshotStore almacen, String slot) throws IOException {
+        return almacen.guardar(slot, tablero);
+    }
+
+    /**
+     * Loads a snapshot from a {@link SnapshotStore}.
+     *
+     * @param almacen snapshot store
+     * @param slot    slot name
+     * @param id      snapshot id, as returned by {@link #guardarPartida(SnapshotStore, String)}
+     * @return true if loaded, false if the snapshot does not exist or its
+     *         dimensions don't match
+     * @throws IOException if the snapshot cannot be read
+     */
+    public boolean cargarPartida(SnapshotStore almacen, String slot, long id) throws IOException {
+        TableroDisperso loaded = new TableroDisperso(FILAS, COLUMNAS);
+        if (!almacen.cargar(slot, id, loaded)) {
+            return false;
+        }
+        adoptarTablero(loaded);
+        return true;
+    }
+
+    /**
+     * Saves the current board as a tiled save file with a tile index and
+     * per-tile checksums (see {@link TableroPaginado}). When playing on a
+     * board opened with {@link #abrirPartidaTeselada(Path)}, tiles never
+     * touched are copied without being decoded.
+     *
+     * @param p destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void guardarPartidaTeselada(Path p) throws IOException {
+        TableroPaginado.escribir(tablero, p);
+    }
+
+    /**
+     * Opens a tiled save file as a new game whose tiles are paged in from
+     * the file as they are played. Only the header and tile index are read
+     * up front; the board hash comes from the tile hashes of the index, so
+     * {@link #getHashCampo()} pages nothing in. The manager owns the file:
+     * release it with {@link #close()}, although starting a new game with
+     * one of the {@code crearBichos} methods already does.
+     *
+     * @param p file written by {@link #guardarPartidaTeselada(Path)}
+     * @return a manager playing on the paged board
+     * @throws IOException if the file is missing, not a tiled save or has a
+     *         corrupt index
+     * @throws IllegalArgumentException if the saved dimensions are out of range
+     */
+    public static BichoManager abrirPartidaTeselada(Path p) throws IOException {
+        TableroPaginado paginado = TableroPaginado.abrir(p);
+        try {
+            BichoManager manager = new BichoManager(paginado);
+            manager.hash = paginado.getHashZobrist();
+            manager.campoExpuesto = false;
+            manager.paginadoPropio = paginado;
+            return manager;
+        } catch (IllegalArgumentException e) {
+            paginado.close();
+            throw e;
         }
-        
-        return false;
+    }
+
+    /**
+     * Closes the save file of a board opened with
+     * {@link #abrirPartidaTeselada(Path)}; tiles not yet paged in can no
+     * longer be read. Backends passed to {@link #BichoManager(Tablero)}
+     * belong to the caller and are left open, and other managers hold no
+     * resources, so for them this does nothing.
+     *
+     * @throws IOException if the save file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (paginadoPropio != null) {
+            paginadoPropio.close();
+        }
+    }
+
+    /**
+     * Pages in a region of a board opened with
+     * {@link #abrirPartidaTeselada(Path)}. Other backends already hold every
+     * cell in memory, so this does nothing for them.
+     *
+     * @param fila  first row of the region
+     * @param col   first column of the region
+     * @param alto  number of rows
+     * @param ancho number of columns
+     * @throws IllegalArgumentException if the region is outside a paged board
+     * @throws java.io.UncheckedIOException if a tile cannot be read or is corrupt
+     */
+    public void cargarRegion(int fila, int col, int alto, int ancho) {
+        if (tablero instanceof TableroPaginado paginado) {
+            paginado.precargar(fila, col, alto, ancho);
+        }
+    }
+
+    /**
+     * Checks the tile checksums of a region of a board opened with
+     * {@link #abrirPartidaTeselada(Path)} without loading it.
+     *
+     * @param fila  first row of the region
+     * @param col   first column of the region
+     * @param alto  number of rows
+     * @param ancho number of columns
+     * @return numbers of the corrupt tiles; always empty for in-memory backends
+     * @throws IllegalArgumentException if the region is outside a paged board
+     * @throws IOException if the save file cannot be read
+     */
+    public List<Integer> verificarRegion(int fila, int col, int alto, int ancho) throws IOException {
+        if (tablero instanceof TableroPaginado paginado) {
+            return paginado.verificar(fila, col, alto, ancho);
+        }
+        return List.of();
+    }
+
+    /**
+     * Replaces the board contents with those of a freshly loaded board.
+     * <p>
+     * With automatic selection the loaded board is kept as is when sparse
+     * enough, or converted to the dense layout otherwise. A caller-supplied
+     * backend is kept and refilled instead.
+     * </p>
+     *
+     * @param cargado board holding the loaded cells
+     */
+    private void adoptarTablero(TableroDisperso cargado) {
+        if (seleccionAutomatica) {
+            double densidad = (double) cargado.contarOcupadas() / ((long) FILAS * COLUMNAS);
+            tablero = usarDisperso(densidad) ? cargado : TableroDenso.copiaDe(cargado);
+        } else {
+            tablero.iniciarTurno();
+            try {
+                tablero.limpiar();
+                cargado.recorrerOcupadas(tablero::setCelda);
+            } finally {
+                tablero.finalizarTurno();
+            }
+        }
+        hash = Zobrist.calcular(tablero);
+        notificarReinicio();
     }
 
     /**
@@ -394,10 +1434,72 @@ public class BichoManager {
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < FILAS; i++) {
             for (int j = 0; j < COLUMNAS; j++) {
-                sb.append(String.format("[%d,%d]=%s  ", i, j, campo[i][j].toString()));
+                sb.append(String.format("[%d,%d]=%s  ", i, j, tablero.getBicho(i, j).toString()));
             }
             sb.append("\n");
         }
         return sb.toString();
     }
+
+    /**
+     * Read-only view over the current backend. Bichos are returned as
+     * detached copies so that no live cell escapes through the view.
+     */
+    private final class Vista implements Tablero {
+
+        @Override
+        public int getFilas() {
+            return FILAS;
+        }
+
+        @Override
+        public int getColumnas() {
+            return COLUMNAS;
+        }
+
+        @Override
+        public TipoBicho getTipo(int fila, int col) {
+            return tablero.getTipo(fila, col);
+        }
+
+        @Override
+        public int getSalud(int fila, int col) {
+            return tablero.getSalud(fila, col);
+        }
+
+        @Override
+        public void setCelda(int fila, int col, TipoBicho tipo, int salud) {
+            throw new UnsupportedOperationException("The board view is read-only");
+        }
+
+        @Override
+        public Bicho getBicho(int fila, int col) {
+            return new Bicho(tablero.getSalud(fila, col), tablero.getTipo(fila, col));
+        }
+
+        @Override
+        public void limpiar() {
+            throw new UnsupportedOperationException("The board view is read-only");
+        }
+
+        @Override
+        public int contarOcupadas() {
+            return tablero.contarOcupadas();
+        }
+
+        @Override
+        public int contarVivos() {
+            return tablero.contarVivos();
+        }
+
+        @Override
+        public int indiceMasDebil() {
+            return tablero.indiceMasDebil();
+        }
+
+        @Override
+        public void recorrerOcupadas(VisitanteCelda visitante) {
+            tablero.recorrerOcupadas(visitante);
+        }
+    }
 }
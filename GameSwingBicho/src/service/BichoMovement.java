@@ -0,0 +1,370 @@
+package service;
+
+import models.TipoBicho;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Movement phase that makes living bichos move one cell per step.
+ * <p>
+ * Each living bicho picks a direction with simple rules: it flees from
+ * hits landed nearby during the last few steps, otherwise it moves towards
+ * the side with the most living neighbours with probability
+ * {@link #setProbabilidadAgrupar(double)}, and otherwise wanders at random.
+ * Bichos only move into empty cells; when several want the same cell one of
+ * them wins, with a priority that rotates every step. Dead bichos stay put.
+ * </p>
+ * <p>
+ * The step is double buffered. A front buffer mirrors the board through a
+ * {@link GameListener}; the step reads only the front buffer, writes the
+ * new board into a back buffer and then swaps them. Whether a cell changes
+ * depends only on front-buffer cells at most two steps away, so the board
+ * is split into bands of {@value #FILAS_POR_BANDA} rows processed in
+ * parallel without locks, and the same seed gives the same moves whatever
+ * the number of cores. The moves found are then written to the game
+ * through {@link BichoManager}, keeping its hash, listeners and status
+ * effects in sync.
+ * </p>
+ * <p>
+ * Buffers cost about eleven bytes per cell of the board, whatever the
+ * backend of the game.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class BichoMovement implements GameListener {
+
+    /** Rows per band processed by one task. */
+    public static final int FILAS_POR_BANDA = 64;
+
+    private static final byte VACIO = (byte) TipoBicho.VACIO.ordinal();
+    private static final byte QUIETO = 0;
+    private static final byte NORTE = 1;
+    private static final byte SUR = 2;
+    private static final byte OESTE = 3;
+    private static final byte ESTE = 4;
+    private static final int IMPACTOS = 8;
+
+    private final BichoManager manager;
+    private final int filas;
+    private final int columnas;
+    private final long semilla;
+    private byte[] tipos;
+    private int[] saludes;
+    private byte[] tiposSiguientes;
+    private int[] saludesSiguientes;
+    private final byte[] deseos;
+    private final int[][] movimientos;
+    private final int[] numMovimientos;
+    private final int[] impactoFila = new int[IMPACTOS];
+    private final int[] impactoCol = new int[IMPACTOS];
+    private final long[] impactoPaso = new long[IMPACTOS];
+    private int numImpactos;
+    private int siguienteImpacto;
+    private int radioHuida = 3;
+    private int memoria = 3;
+    private double probabilidadAgrupar = 0.5;
+    private long paso;
+
+    /**
+     * Creates the movement phase of a game and starts mirroring its board.
+     *
+     * @param manager game whose bichos move
+     * @param semilla seed for the random choices
+     */
+    public BichoMovement(BichoManager manager, long semilla) {
+        this.manager = manager;
+        this.filas = manager.getFilas();
+        this.columnas = manager.getColumnas();
+        this.semilla = semilla;
+        int area = filas * columnas;
+        this.tipos = new byte[area];
+        this.saludes = new int[area];
+        this.tiposSiguientes = new byte[area];
+        this.saludesSiguientes = new int[area];
+        this.deseos = new byte[area];
+        int bandas = (filas + FILAS_POR_BANDA - 1) / FILAS_POR_BANDA;
+        this.movimientos = new int[bandas][16];
+        this.numMovimientos = new int[bandas];
+        onBoardReset();
+        manager.recorrerOcupadas(this::onCellChanged);
+        manager.addListener(this);
+    }
+
+    /**
+     * Sets how far bichos notice hits and for how many steps they remember
+     * them.
+     *
+     * @param radio   Chebyshev distance within which bichos flee
+     * @param pasos   steps a hit keeps scaring bichos
+     * @throws IllegalArgumentException if a value is negative
+     */
+    public void setHuida(int radio, int pasos) {
+        if (radio < 0 || pasos < 0) {
+            throw new IllegalArgumentException(
+                String.format("Flee radius and memory must not be negative, got %d / %d", radio, pasos));
+        }
+        this.radioHuida = radio;
+        this.memoria = pasos;
+    }
+
+    /**
+     * Sets the probability that a bicho not fleeing moves towards its
+     * neighbours instead of wandering.
+     *
+     * @param probabilidad probability between 0 and 1
+     * @throws IllegalArgumentException if probabilidad is outside [0, 1]
+     */
+    public void setProbabilidadAgrupar(double probabilidad) {
+        if (!(probabilidad >= 0.0 && probabilidad <= 1.0)) {
+            throw new IllegalArgumentException(
+                String.format("Probability must be between 0 and 1, got %s", probabilidad));
+        }
+        this.probabilidadAgrupar = probabilidad;
+    }
+
+    /**
+     * Moves every living bicho that can move by one cell.
+     *
+     * @return number of bichos moved
+     */
+    public int paso() {
+        paso++;
+        int bandas = numMovimientos.length;
+        IntStream.range(0, bandas).parallel().forEach(this::elegirDirecciones);
+        IntStream.range(0, bandas).parallel().forEach(this::resolverBanda);
+
+        byte[] t = tipos;
+        tipos = tiposSiguientes;
+        tiposSiguientes = t;
+        int[] s = saludes;
+        saludes = saludesSiguientes;
+        saludesSiguientes = s;
+
+        int total = 0;
+        for (int n : numMovimientos) {
+            total += n;
+        }
+        if (total > 0) {
+            manager.ejecutarTurno(this::publicarMovimientos);
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of steps run.
+     *
+     * @return steps run
+     */
+    public long getPasos() {
+        return paso;
+    }
+
+    /**
+     * Gets the game this phase moves.
+     *
+     * @return the game manager
+     */
+    public BichoManager getManager() {
+        return manager;
+    }
+
+    @Override
+    public void onCellChanged(int fila, int col, TipoBicho tipo, int salud) {
+        int i = fila * columnas + col;
+        tipos[i] = (byte) tipo.ordinal();
+        saludes[i] = salud;
+    }
+
+    @Override
+    public void onHit(int fila, int col, TipoBicho tipo, int saludRestante) {
+        int i = siguienteImpacto;
+        impactoFila[i] = fila;
+        impactoCol[i] = col;
+        impactoPaso[i] = paso;
+        siguienteImpacto = (i + 1) % IMPACTOS;
+        numImpactos = Math.min(numImpactos + 1, IMPACTOS);
+    }
+
+    @Override
+    public void onBoardReset() {
+        Arrays.fill(tipos, VACIO);
+        Arrays.fill(saludes, 0);
+        numImpactos = 0;
+        siguienteImpacto = 0;
+    }
+
+    private void publicarMovimientos() {
+        for (int b = 0; b < numMovimientos.length; b++) {
+            int[] lista = movimientos[b];
+            for (int m = 0; m < numMovimientos[b]; m += 2) {
+                manager.moverCelda(lista[m], lista[m + 1]);
+            }
+        }
+    }
+
+    /**
+     * Fills the desired direction of every cell in a band.
+     */
+    private void elegirDirecciones(int banda) {
+        int f0 = banda * FILAS_POR_BANDA;
+        int f1 = Math.min(filas, f0 + FILAS_POR_BANDA);
+        for (int f = f0; f < f1; f++) {
+            for (int c = 0; c < columnas; c++) {
+                int i = f * columnas + c;
+                deseos[i] = saludes[i] > 0 ? direccion(f, c, mezclar(semilla, paso, i)) : QUIETO;
+            }
+        }
+    }
+
+    private byte direccion(int f, int c, long azar) {
+        int cercano = -1;
+        int distancia = Integer.MAX_VALUE;
+        for (int h = 0; h < numImpactos; h++) {
+            if (paso - impactoPaso[h] > memoria) {
+                continue;
+            }
+            int d = Math.max(Math.abs(impactoFila[h] - f), Math.abs(impactoCol[h] - c));
+            if (d <= radioHuida && d < distancia) {
+                distancia = d;
+                cercano = h;
+            }
+        }
+        if (cercano >= 0 && distancia > 0) {
+            int df = f - impactoFila[cercano];
+            int dc = c - impactoCol[cercano];
+            if (Math.abs(df) >= Math.abs(dc)) {
+                return df > 0 ? SUR : NORTE;
+            }
+            return dc > 0 ? ESTE : OESTE;
+        }
+        if ((azar >>> 11) * 0x1.0p-53 < probabilidadAgrupar) {
+            byte hacia = haciaVecinos(f, c);
+            if (hacia != QUIETO) {
+                return hacia;
+            }
+        }
+        return (byte) ((azar & 0x7FFFFFFF) % 5);
+    }
+
+    /**
+     * Picks the side of the 5x5 window around a cell holding the most
+     * living bichos, or QUIETO if the bicho already has a living neighbour
+     * next to it or the window is empty.
+     */
+    private byte haciaVecinos(int f, int c) {
+        int norte = 0;
+        int sur = 0;
+        int oeste = 0;
+        int este = 0;
+        for (int df = -2; df <= 2; df++) {
+            int y = f + df;
+            if (y < 0 || y >= filas) {
+                continue;
+            }
+            for (int dc = -2; dc <= 2; dc++) {
+                int x = c + dc;
+                if (x < 0 || x >= columnas || (df == 0 && dc == 0) || saludes[y * columnas + x] <= 0) {
+                    continue;
+                }
+                if (Math.abs(df) + Math.abs(dc) == 1) {
+                    return QUIETO;
+                }
+                norte += df < 0 ? 1 : 0;
+                sur += df > 0 ? 1 : 0;
+                oeste += dc < 0 ? 1 : 0;
+                este += dc > 0 ? 1 : 0;
+            }
+        }
+        int mejor = Math.max(Math.max(norte, sur), Math.max(oeste, este));
+        if (mejor == 0) {
+            return QUIETO;
+        }
+        return mejor == norte ? NORTE : mejor == sur ? SUR : mejor == oeste ? OESTE : ESTE;
+    }
+
+    /**
+     * Writes the new state of every cell in a band to the back buffer and
+     * records the moves that end in the band.
+     */
+    private void resolverBanda(int banda) {
+        int f0 = banda * FILAS_POR_BANDA;
+        int f1 = Math.min(filas, f0 + FILAS_POR_BANDA);
+        int n = 0;
+        int[] lista = movimientos[banda];
+        for (int f = f0; f < f1; f++) {
+            for (int c = 0; c < columnas; c++) {
+                int i = f * columnas + c;
+                int origen = -1;
+                if (tipos[i] == VACIO) {
+                    origen = ganador(f, c);
+                } else if (deseos[i] != QUIETO && ganador(destinoFila(f, deseos[i]), destinoCol(c, deseos[i])) == i) {
+                    tiposSiguientes[i] = VACIO;
+                    saludesSiguientes[i] = 0;
+                    continue;
+                }
+                if (origen >= 0) {
+                    tiposSiguientes[i] = tipos[origen];
+                    saludesSiguientes[i] = saludes[origen];
+                    if (n + 2 > lista.length) {
+                        lista = Arrays.copyOf(lista, lista.length * 2);
+                        movimientos[banda] = lista;
+                    }
+                    lista[n++] = origen;
+                    lista[n++] = i;
+                } else {
+                    tiposSiguientes[i] = tipos[i];
+                    saludesSiguientes[i] = saludes[i];
+                }
+            }
+        }
+        numMovimientos[banda] = n;
+    }
+
+    /**
+     * Finds the bicho that moves into a cell, checking its neighbours in a
+     * priority order that rotates every step.
+     *
+     * @return index of the winning origin cell, or -1 if none moves in or
+     *         the cell is outside the board or not empty
+     */
+    private int ganador(int f, int c) {
+        if (f < 0 || f >= filas || c < 0 || c >= columnas || tipos[f * columnas + c] != VACIO) {
+            return -1;
+        }
+        for (int k = 0; k < 4; k++) {
+            int lado = (int) ((paso + k) & 3);
+            int y = f;
+            int x = c;
+            byte necesario;
+            switch (lado) {
+                case 0 -> { y--; necesario = SUR; }
+                case 1 -> { y++; necesario = NORTE; }
+                case 2 -> { x--; necesario = ESTE; }
+                default -> { x++; necesario = OESTE; }
+            }
+            if (y >= 0 && y < filas && x >= 0 && x < columnas && deseos[y * columnas + x] == necesario) {
+                return y * columnas + x;
+            }
+        }
+        return -1;
+    }
+
+    private static int destinoFila(int f, byte d) {
+        return d == NORTE ? f - 1 : d == SUR ? f + 1 : f;
+    }
+
+    private static int destinoCol(int c, byte d) {
+        return d == OESTE ? c - 1 : d == ESTE ? c + 1 : c;
+    }
+
+    private static long mezclar(long semilla, long paso, int celda) {
+        long z = semilla ^ paso * 0x9E3779B97F4A7C15L ^ celda * 0xC2B2AE3D27D4EB4FL;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,388 @@
+package service;
+
+import models.TipoBicho;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Procedural board generator with pluggable distributions.
+ * <p>
+ * The board is split into square tiles of {@value #TILE} cells per side.
+ * Each tile gets its own {@link SplittableRandom} stream, split from the
+ * seed in tile order before any work starts, and tiles are then filled in
+ * parallel. The tiling does not depend on the number of cores, so a given
+ * seed always produces the same board, on any machine.
+ * </p>
+ * <p>
+ * On top of a {@link Distribucion} a generator can apply a
+ * {@link Simetria} (only the fundamental region is generated and then
+ * mirrored) and an exact ALIEN count, applied last by converting randomly
+ * chosen cells. The exact count takes precedence, so it may break the
+ * symmetry of the few cells it changes.
+ * </p>
+ * <p>
+ * Generators are immutable; the {@code con...} methods return modified
+ * copies.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public final class BoardGenerator {
+
+    /** Side of the square tiles filled in parallel. */
+    public static final int TILE = 256;
+
+    private static final byte NORMAL = (byte) TipoBicho.NORMAL.ordinal();
+    private static final byte ALIEN = (byte) TipoBicho.ALIEN.ordinal();
+    private static final byte VACIO = (byte) TipoBicho.VACIO.ordinal();
+    /** Temporary marks used while adjusting counts: original code + MARCA. */
+    private static final byte MARCA = 3;
+
+    /**
+     * Chooses the content of one cell.
+     */
+    @FunctionalInterface
+    public interface Distribucion {
+        /**
+         * Picks the type of a cell.
+         *
+         * @param fila    row coordinate
+         * @param col     column coordinate
+         * @param semilla generation seed, for position-based noise
+         * @param rng     random stream of the tile being filled
+         * @return cell type
+         */
+        TipoBicho tipo(int fila, int col, long semilla, SplittableRandom rng);
+    }
+
+    /**
+     * Mirror symmetries for generated layouts.
+     */
+    public enum Simetria {
+        /** No symmetry. */
+        NONE,
+        /** Left half mirrored onto the right half. */
+        HORIZONTAL,
+        /** Top half mirrored onto the bottom half. */
+        VERTICAL,
+        /** Top-left quadrant mirrored onto the other three. */
+        BOTH,
+        /** 180 degree rotational symmetry around the board center. */
+        ROTATIONAL
+    }
+
+    private final Distribucion distribucion;
+    private final Simetria simetria;
+    private final int aliensExactos;
+
+    /**
+     * Creates a generator without symmetry or exact counts.
+     *
+     * @param distribucion cell distribution
+     * @throws IllegalArgumentException if distribucion is null
+     */
+    public BoardGenerator(Distribucion distribucion) {
+        this(distribucion, Simetria.NONE, -1);
+    }
+
+    private BoardGenerator(Distribucion distribucion, Simetria simetria, int aliensExactos) {
+        if (distribucion == null || simetria == null) {
+            throw new IllegalArgumentException("Distribution and symmetry cannot be null");
+        }
+        this.distribucion = distribucion;
+        this.simetria = simetria;
+        this.aliensExactos = aliensExactos;
+    }
+
+    /**
+     * Gets a copy of this generator producing symmetric layouts.
+     *
+     * @param simetria symmetry to apply
+     * @return a new generator
+     */
+    public BoardGenerator conSimetria(Simetria simetria) {
+        return new BoardGenerator(distribucion, simetria, aliensExactos);
+    }
+
+    /**
+     * Gets a copy of this generator that guarantees an exact ALIEN count.
+     * Missing aliens replace random non-alien cells; extra ones become
+     * NORMAL bichos.
+     *
+     * @param aliens exact number of ALIEN cells
+     * @return a new generator
+     * @throws IllegalArgumentException if aliens is negative
+     */
+    public BoardGenerator conAliensExactos(int aliens) {
+        if (aliens < 0) {
+            throw new IllegalArgumentException("Alien count cannot be negative");
+        }
+        return new BoardGenerator(distribucion, simetria, aliens);
+    }
+
+    /**
+     * Distribution where every cell is independently occupied.
+     * <p>
+     * {@code uniforme(2.0 / 3, 0.5)} matches the classic
+     * {@link BichoManager#crearBichosAleatorios()} odds.
+     * </p>
+     *
+     * @param densidad        probability that a cell is occupied (0-1)
+     * @param proporcionAlien probability that an occupied cell is an ALIEN (0-1)
+     * @return the distribution
+     * @throws IllegalArgumentException if a probability is outside [0, 1]
+     */
+    public static Distribucion uniforme(double densidad, double proporcionAlien) {
+        validarProbabilidad(densidad);
+        validarProbabilidad(proporcionAlien);
+        return (fila, col, semilla, rng) -> elegir(densidad, proporcionAlien, rng);
+    }
+
+    /**
+     * Distribution that groups bichos into colonies.
+     * <p>
+     * The occupation probability of each cell follows smooth value noise
+     * with features about {@code tamanoColonia} cells wide: a cell with
+     * noise {@code n} is occupied with probability {@code min(1, k * n^2)},
+     * where {@code k} is calibrated against a fixed sample of the noise so
+     * the expected density equals {@code densidad}. The noise depends only
+     * on the seed and the position, not on the fill order.
+     * </p>
+     *
+     * @param densidad        target average density (0-1)
+     * @param proporcionAlien probability that an occupied cell is an ALIEN (0-1)
+     * @param tamanoColonia   approximate colony diameter in cells
+     * @return the distribution
+     * @throws IllegalArgumentException if a probability is outside [0, 1]
+     *         or the colony size is not positive
+     */
+    public static Distribucion colonias(double densidad, double proporcionAlien, int tamanoColonia) {
+        validarProbabilidad(densidad);
+        validarProbabilidad(proporcionAlien);
+        if (tamanoColonia <= 0) {
+            throw new IllegalArgumentException("Colony size must be positive");
+        }
+        double escala = escalaColonias(densidad);
+        return (fila, col, semilla, rng) -> {
+            double n = ruido(fila / (double) tamanoColonia, col / (double) tamanoColonia, semilla);
+            return elegir(Math.min(1.0, escala * n * n), proporcionAlien, rng);
+        };
+    }
+
+    /**
+     * Finds by bisection the factor {@code k} for which the mean of
+     * {@code min(1, k * n^2)} over the noise sample equals the density.
+     */
+    static double escalaColonias(double densidad) {
+        if (densidad >= 1.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double[] cuadrados = MuestraRuido.CUADRADOS;
+        double bajo = 0.0;
+        double alto = 1.0;
+        while (densidadMedia(cuadrados, alto) < densidad) {
+            bajo = alto;
+            alto *= 2;
+        }
+        for (int i = 0; i < 60; i++) {
+            double medio = (bajo + alto) / 2;
+            if (densidadMedia(cuadrados, medio) < densidad) {
+                bajo = medio;
+            } else {
+                alto = medio;
+            }
+        }
+        return (bajo + alto) / 2;
+    }
+
+    private static double densidadMedia(double[] cuadrados, double escala) {
+        double suma = 0.0;
+        for (double cuadrado : cuadrados) {
+            suma += Math.min(1.0, escala * cuadrado);
+        }
+        return suma / cuadrados.length;
+    }
+
+    /**
+     * Squared noise values at a fixed 256x256 grid of off-lattice points,
+     * built on first use of {@link #colonias}.
+     */
+    private static final class MuestraRuido {
+        static final double[] CUADRADOS = new double[256 * 256];
+
+        static {
+            for (int i = 0; i < CUADRADOS.length; i++) {
+                double n = ruido((i >>> 8) * 0.37 + 0.13, (i & 255) * 0.37 + 0.29, 0x5EEDL);
+                CUADRADOS[i] = n * n;
+            }
+        }
+    }
+
+    /**
+     * Generates the cells of a board.
+     *
+     * @param filas    number of rows
+     * @param columnas number of columns
+     * @param semilla  generation seed
+     * @return row-major {@link TipoBicho} ordinals, one per cell
+     * @throws IllegalArgumentException if the board is empty or too large for one array
+     */
+    public byte[] generar(int filas, int columnas, long semilla) {
+        if (filas <= 0 || columnas <= 0 || (long) filas * columnas > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(
+                String.format("Cannot generate a %dx%d board", filas, columnas));
+        }
+        byte[] celdas = new byte[filas * columnas];
+        int filasRegion = simetria == Simetria.VERTICAL || simetria == Simetria.BOTH
+            || simetria == Simetria.ROTATIONAL ? (filas + 1) / 2 : filas;
+        int colsRegion = simetria == Simetria.HORIZONTAL || simetria == Simetria.BOTH
+            ? (columnas + 1) / 2 : columnas;
+
+        int tilesFila = (filasRegion + TILE - 1) / TILE;
+        int tilesCol = (colsRegion + TILE - 1) / TILE;
+        SplittableRandom raiz = new SplittableRandom(semilla);
+        SplittableRandom[] flujos = new SplittableRandom[tilesFila * tilesCol];
+        for (int i = 0; i < flujos.length; i++) {
+            flujos[i] = raiz.split();
+        }
+        IntStream.range(0, flujos.length).parallel().forEach(t -> {
+            int f0 = (t / tilesCol) * TILE;
+            int c0 = (t % tilesCol) * TILE;
+            int f1 = Math.min(filasRegion, f0 + TILE);
+            int c1 = Math.min(colsRegion, c0 + TILE);
+            SplittableRandom rng = flujos[t];
+            for (int f = f0; f < f1; f++) {
+                int base = f * columnas;
+                for (int c = c0; c < c1; c++) {
+                    celdas[base + c] = (byte) distribucion.tipo(f, c, semilla, rng).ordinal();
+                }
+            }
+        });
+
+        if (simetria != Simetria.NONE) {
+            reflejar(celdas, filas, columnas);
+        }
+        if (aliensExactos >= 0) {
+            ajustarAliens(celdas, raiz.split());
+        }
+        return celdas;
+    }
+
+    /**
+     * Copies every non-canonical cell from its canonical image. Canonical
+     * cells are never written, so rows can be processed in parallel.
+     */
+    private void reflejar(byte[] celdas, int filas, int columnas) {
+        int area = filas * columnas;
+        IntStream.range(0, filas).parallel().forEach(f -> {
+            for (int c = 0; c < columnas; c++) {
+                int origen = switch (simetria) {
+                    case HORIZONTAL -> f * columnas + Math.min(c, columnas - 1 - c);
+                    case VERTICAL -> Math.min(f, filas - 1 - f) * columnas + c;
+                    case BOTH -> Math.min(f, filas - 1 - f) * columnas + Math.min(c, columnas - 1 - c);
+                    default -> Math.min(f * columnas + c, area - 1 - (f * columnas + c));
+                };
+                celdas[f * columnas + c] = celdas[origen];
+            }
+        });
+    }
+
+    private void ajustarAliens(byte[] celdas, SplittableRandom rng) {
+        long aliens = IntStream.range(0, celdas.length).parallel().filter(i -> celdas[i] == ALIEN).count();
+        if (aliens < aliensExactos) {
+            if (aliensExactos > celdas.length) {
+                throw new IllegalArgumentException(
+                    String.format("Cannot place %d aliens on %d cells", aliensExactos, celdas.length));
+            }
+            convertir(celdas, false, (int) (aliensExactos - aliens), celdas.length - (int) aliens, ALIEN, rng);
+        } else if (aliens > aliensExactos) {
+            convertir(celdas, true, (int) (aliens - aliensExactos), (int) aliens, NORMAL, rng);
+        }
+    }
+
+    /**
+     * Turns {@code k} random candidate cells into {@code nuevo}. Candidates
+     * are the ALIEN cells (or the non-ALIEN cells). Uses rejection sampling
+     * over the whole board, which needs about {@code k * area / candidatos}
+     * draws on average, and at most twice that since at least half of the
+     * candidates remain; when more than half of the candidates must change,
+     * every candidate is marked and {@code candidatos - k} random marks are
+     * reverted instead.
+     */
+    private static void convertir(byte[] celdas, boolean desdeAlien, int k, int candidatos,
+                                  byte nuevo, SplittableRandom rng) {
+        if (k <= candidatos / 2) {
+            for (int hechos = 0; hechos < k; ) {
+                int i = rng.nextInt(celdas.length);
+                if ((celdas[i] == ALIEN) == desdeAlien) {
+                    celdas[i] = nuevo;
+                    hechos++;
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < celdas.length; i++) {
+            if ((celdas[i] == ALIEN) == desdeAlien) {
+                celdas[i] += MARCA;
+            }
+        }
+        for (int revertidos = 0; revertidos < candidatos - k; ) {
+            int i = rng.nextInt(celdas.length);
+            if (celdas[i] >= MARCA) {
+                celdas[i] -= MARCA;
+                revertidos++;
+            }
+        }
+        for (int i = 0; i < celdas.length; i++) {
+            if (celdas[i] >= MARCA) {
+                celdas[i] = nuevo;
+            }
+        }
+    }
+
+    private static TipoBicho elegir(double densidad, double proporcionAlien, SplittableRandom rng) {
+        if (rng.nextDouble() >= densidad) {
+            return TipoBicho.VACIO;
+        }
+        return rng.nextDouble() < proporcionAlien ? TipoBicho.ALIEN : TipoBicho.NORMAL;
+    }
+
+    private static void validarProbabilidad(double p) {
+        if (!(p >= 0.0 && p <= 1.0)) {
+            throw new IllegalArgumentException("Probabilities must be between 0 and 1");
+        }
+    }
+
+    /**
+     * Smooth value noise in [0, 1): random values on an integer lattice,
+     * blended with a smoothstep between the four surrounding points.
+     */
+    static double ruido(double y, double x, long semilla) {
+        long iy = (long) Math.floor(y);
+        long ix = (long) Math.floor(x);
+        double fy = suavizar(y - iy);
+        double fx = suavizar(x - ix);
+        double a = valorReticula(iy, ix, semilla);
+        double b = valorReticula(iy, ix + 1, semilla);
+        double c = valorReticula(iy + 1, ix, semilla);
+        double d = valorReticula(iy + 1, ix + 1, semilla);
+        double arriba = a + (b - a) * fx;
+        double abajo = c + (d - c) * fx;
+        return arriba + (abajo - arriba) * fy;
+    }
+
+    private static double suavizar(double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    private static double valorReticula(long y, long x, long semilla) {
+        long z = semilla + y * 0x9E3779B97F4A7C15L + x * 0xC2B2AE3D27D4EB4FL;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (z >>> 11) * 0x1.0p-53;
+    }
+}
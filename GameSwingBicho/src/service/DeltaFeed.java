@@ -0,0 +1,275 @@
+package service;
+
+import models.Tablero;
+import models.TipoBicho;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Change feed that lets remote boards catch up with a game by deltas.
+ * <p>
+ * The feed listens to a {@link BichoManager} and records every cell change
+ * (cell index, new type and health) in a fixed-size ring buffer. Each
+ * change gets the next sequence number. A board reset is recorded as a
+ * single CLEAR entry, because the manager reports the cells of the new
+ * board right after it.
+ * </p>
+ * <p>
+ * A client that has applied everything up to sequence {@code n} asks for
+ * {@link #codificarDesde(long) codificarDesde(n)} and gets back only the
+ * changes after {@code n}, as a compact byte message. If {@code n} has
+ * already left the ring, the message is a full snapshot of the occupied
+ * cells instead. Either way {@link #aplicar(byte[], Tablero, long)} brings the
+ * client's board up to date. Recording and encoding cost is proportional
+ * to the number of changed cells, not to the board size.
+ * </p>
+ * <p>
+ * Message layout, with every number an unsigned LEB128 varint:
+ * </p>
+ * <pre>
+ * DELTAS    0x00 desde hasta entry*
+ * SNAPSHOT  0x01 hasta filas columnas entry*
+ * entry     (zigzag(indice - indiceAnterior) &lt;&lt; 2 | tipo) [salud]
+ * </pre>
+ * <p>
+ * where {@code tipo} is the {@link TipoBicho} ordinal, or 3 for CLEAR (which
+ * has no health and does not move {@code indiceAnterior}).
+ * </p>
+ * <p>
+ * Recording and delta encoding are thread safe. Snapshots read the live
+ * board, so they must be taken on the thread that plays the game.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class DeltaFeed implements GameListener, AutoCloseable {
+
+    /** Message kind: changes since a known sequence. */
+    public static final byte DELTAS = 0;
+    /** Message kind: full board contents. */
+    public static final byte SNAPSHOT = 1;
+
+    private static final int CLEAR = 3;
+    private static final TipoBicho[] TIPOS = TipoBicho.values();
+
+    private final BichoManager manager;
+    private final int mascara;
+    private final int[] indices;
+    private final int[] saludes;
+    private final byte[] tipos;
+    private long secuencia;
+
+    /**
+     * Creates a feed and starts recording the manager's changes.
+     *
+     * @param manager   game to follow
+     * @param capacidad number of changes kept (rounded up to a power of two)
+     * @throws IllegalArgumentException if manager is null or capacity is not positive
+     */
+    public DeltaFeed(BichoManager manager, int capacidad) {
+        if (manager == null) {
+            throw new IllegalArgumentException("Manager cannot be null");
+        }
+        if (capacidad <= 0 || capacidad > 1 << 30) {
+            throw new IllegalArgumentException(
+                String.format("Capacity must be between 1 and %d", 1 << 30));
+        }
+        int tam = Integer.highestOneBit(capacidad);
+        if (tam < capacidad) {
+            tam <<= 1;
+        }
+        this.manager = manager;
+        this.mascara = tam - 1;
+        this.indices = new int[tam];
+        this.saludes = new int[tam];
+        this.tipos = new byte[tam];
+        manager.addListener(this);
+    }
+
+    @Override
+    public synchronized void onCellChanged(int fila, int col, TipoBicho tipo, int salud) {
+        int slot = (int) secuencia & mascara;
+        indices[slot] = fila * manager.getColumnas() + col;
+        tipos[slot] = (byte) tipo.ordinal();
+        saludes[slot] = salud;
+        secuencia++;
+    }
+
+    @Override
+    public synchronized void onBoardReset() {
+        int slot = (int) secuencia & mascara;
+        tipos[slot] = CLEAR;
+        secuencia++;
+    }
+
+    /**
+     * Gets the sequence number of the latest recorded change.
+     *
+     * @return number of changes recorded so far
+     */
+    public synchronized long getSecuencia() {
+        return secuencia;
+    }
+
+    /**
+     * Gets the oldest sequence a client may still catch up from by deltas.
+     *
+     * @return lowest sequence accepted without a snapshot
+     */
+    public synchronized long getSecuenciaMinima() {
+        return Math.max(0, secuencia - indices.length);
+    }
+
+    /**
+     * Encodes what a client at sequence {@code desde} needs to catch up.
+     *
+     * @param desde last sequence the client has applied
+     * @return a DELTAS message, or a SNAPSHOT if {@code desde} is too old
+     * @throws IllegalArgumentException if desde is negative or in the future
+     */
+    public synchronized byte[] codificarDesde(long desde) {
+        if (desde < 0 || desde > secuencia) {
+            throw new IllegalArgumentException(
+                String.format("Sequence %d is outside [0, %d]", desde, secuencia));
+        }
+        if (desde < getSecuenciaMinima()) {
+            return codificarSnapshot();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + (int) (secuencia - desde) * 4);
+        out.write(DELTAS);
+        escribirVarint(out, desde);
+        escribirVarint(out, secuencia);
+        int anterior = 0;
+        for (long s = desde; s < secuencia; s++) {
+            int slot = (int) s & mascara;
+            anterior = escribirEntrada(out, anterior, indices[slot], tipos[slot], saludes[slot]);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes every occupied cell of the current board.
+     *
+     * @return a SNAPSHOT message
+     */
+    public synchronized byte[] codificarSnapshot() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(SNAPSHOT);
+        escribirVarint(out, secuencia);
+        escribirVarint(out, manager.getFilas());
+        int columnas = manager.getColumnas();
+        escribirVarint(out, columnas);
+        int[] anterior = new int[1];
+        manager.recorrerOcupadas((fila, col, tipo, salud) ->
+            anterior[0] = escribirEntrada(out, anterior[0], fila * columnas + col,
+                (byte) tipo.ordinal(), salud));
+        return out.toByteArray();
+    }
+
+    /**
+     * Stops recording changes.
+     */
+    @Override
+    public void close() {
+        manager.removeListener(this);
+    }
+
+    /**
+     * Applies a message from {@link #codificarDesde(long)} or
+     * {@link #codificarSnapshot()} to a client board.
+     * <p>
+     * A snapshot clears the board first, whatever sequence it was at. A
+     * DELTAS message must start at the sequence the board is currently at;
+     * one that does not is rejected before touching the board, and the
+     * client should ask again with {@link #codificarDesde(long)} from its
+     * own sequence, or for a snapshot.
+     * </p>
+     *
+     * @param mensaje encoded message
+     * @param destino client board with the game's dimensions
+     * @param actual  sequence the client board is at
+     * @return the sequence the board is at after applying the message
+     * @throws IllegalArgumentException if the message is malformed, does
+     *         not match the board dimensions or starts at another sequence
+     */
+    public static long aplicar(byte[] mensaje, Tablero destino, long actual) {
+        ByteBuffer in = ByteBuffer.wrap(mensaje);
+        try {
+            byte tipoMensaje = in.get();
+            long hasta;
+            if (tipoMensaje == SNAPSHOT) {
+                hasta = leerVarint(in);
+                if (leerVarint(in) != destino.getFilas() || leerVarint(in) != destino.getColumnas()) {
+                    throw new IllegalArgumentException("Snapshot dimensions do not match the board");
+                }
+                destino.limpiar();
+            } else if (tipoMensaje == DELTAS) {
+                long desde = leerVarint(in);
+                if (desde != actual) {
+                    throw new IllegalArgumentException(String.format(
+                        "Delta starts at sequence %d but the board is at %d", desde, actual));
+                }
+                hasta = leerVarint(in);
+            } else {
+                throw new IllegalArgumentException("Unknown message kind " + tipoMensaje);
+            }
+            int columnas = destino.getColumnas();
+            long area = (long) destino.getFilas() * columnas;
+            int indice = 0;
+            while (in.hasRemaining()) {
+                long cabecera = leerVarint(in);
+                int tipo = (int) (cabecera & 3);
+                if (tipo == CLEAR) {
+                    destino.limpiar();
+                    continue;
+                }
+                long zigzag = cabecera >>> 2;
+                indice += (int) ((zigzag >>> 1) ^ -(zigzag & 1));
+                if (indice < 0 || indice >= area) {
+                    throw new IllegalArgumentException("Cell index " + indice + " is outside the board");
+                }
+                int salud = (int) leerVarint(in);
+                destino.setCelda(indice / columnas, indice % columnas, TIPOS[tipo], salud);
+            }
+            return hasta;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated delta message", e);
+        }
+    }
+
+    private static int escribirEntrada(ByteArrayOutputStream out, int anterior, int indice, byte tipo, int salud) {
+        if (tipo == CLEAR) {
+            escribirVarint(out, CLEAR);
+            return anterior;
+        }
+        long delta = (long) indice - anterior;
+        long zigzag = (delta << 1) ^ (delta >> 63);
+        escribirVarint(out, zigzag << 2 | tipo);
+        escribirVarint(out, salud & 0xFFFFFFFFL);
+        return indice;
+    }
+
+    private static void escribirVarint(ByteArrayOutputStream out, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            out.write((int) (valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        out.write((int) valor);
+    }
+
+    private static long leerVarint(ByteBuffer in) {
+        long valor = 0;
+        for (int desplazamiento = 0; desplazamiento < 64; desplazamiento += 7) {
+            byte b = in.get();
+            valor |= (long) (b & 0x7F) << desplazamiento;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -0,0 +1,118 @@
+package service;
+
+import models.TipoBicho;
+
+/**
+ * Immutable game event delivered by {@link GameEventPublisher}.
+ * <p>
+ * Fields that do not apply to an event kind are -1 (coordinates),
+ * {@link TipoBicho#VACIO} (type) or 0 (health and points).
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public final class GameEvent {
+
+    /**
+     * Kinds of game events.
+     */
+    public enum Tipo {
+        /** A bullet or bomb hit a living bicho; salud is the health left. */
+        HIT,
+        /** A bicho died; puntos are the points it was worth. */
+        KILL,
+        /** The weakest bicho mutated; salud is its new health. */
+        MUTATION,
+        /** The board was emptied or replaced. */
+        BOARD_RESET,
+        /** No living bicho remains; puntos is the final score. */
+        GAME_OVER
+    }
+
+    private final Tipo tipo;
+    private final int fila;
+    private final int col;
+    private final TipoBicho bicho;
+    private final int salud;
+    private final int puntos;
+
+    /**
+     * Creates an event.
+     *
+     * @param tipo   event kind
+     * @param fila   row coordinate, or -1
+     * @param col    column coordinate, or -1
+     * @param bicho  bicho type involved
+     * @param salud  health value
+     * @param puntos points value
+     */
+    public GameEvent(Tipo tipo, int fila, int col, TipoBicho bicho, int salud, int puntos) {
+        this.tipo = tipo;
+        this.fila = fila;
+        this.col = col;
+        this.bicho = bicho;
+        this.salud = salud;
+        this.puntos = puntos;
+    }
+
+    /**
+     * Gets the event kind.
+     *
+     * @return event kind
+     */
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Gets the row of the affected cell.
+     *
+     * @return row coordinate, or -1
+     */
+    public int getFila() {
+        return fila;
+    }
+
+    /**
+     * Gets the column of the affected cell.
+     *
+     * @return column coordinate, or -1
+     */
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * Gets the type of the bicho involved.
+     *
+     * @return bicho type
+     */
+    public TipoBicho getBicho() {
+        return bicho;
+    }
+
+    /**
+     * Gets the health value of the event.
+     *
+     * @return health after the event
+     */
+    public int getSalud() {
+        return salud;
+    }
+
+    /**
+     * Gets the points value of the event.
+     *
+     * @return points
+     */
+    public int getPuntos() {
+        return puntos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%d,%d] %s salud=%d puntos=%d", tipo, fila, col, bicho, salud, puntos);
+    }
+}
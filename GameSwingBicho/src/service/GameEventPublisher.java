@@ -0,0 +1,326 @@
+package service;
+
+import models.GameStatistics;
+import models.TipoBicho;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the events of a {@link BichoManager} as a
+ * {@link Flow.Publisher} stream of {@link GameEvent}s.
+ * <p>
+ * Each subscriber gets its own bounded ring buffer. The game thread only
+ * appends to those buffers and never waits: delivery happens on the
+ * publisher's executor and honours each subscriber's
+ * {@link Flow.Subscription#request(long) demand}. When a buffer is full the
+ * configured {@link OverflowPolicy} decides what is lost, so a slow disk
+ * journal or network spectator falls behind on its own without stalling the
+ * game loop or the other subscribers.
+ * </p>
+ * <p>
+ * Unlike {@link java.util.concurrent.SubmissionPublisher}, which can only
+ * block or drop the newest item, this publisher can also drop the oldest
+ * buffered events, which suits live spectators that only care about the
+ * latest state.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class GameEventPublisher implements Flow.Publisher<GameEvent>, GameListener, AutoCloseable {
+
+    /**
+     * What to do when an event arrives for a subscriber whose buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Discard the oldest buffered event to make room. */
+        DROP_OLDEST,
+        /** Discard the new event. */
+        DROP_NEWEST,
+        /** Cancel the subscription and signal an error to the subscriber. */
+        DISCONNECT
+    }
+
+    private final BichoManager manager;
+    private final int capacidad;
+    private final OverflowPolicy politica;
+    private final Executor executor;
+    private final AtomicLong descartados = new AtomicLong();
+    private volatile Suscripcion[] suscripciones = new Suscripcion[0];
+    private volatile boolean cerrado;
+
+    /**
+     * Creates a publisher delivering on the common fork-join pool.
+     *
+     * @param manager   game whose events are published
+     * @param capacidad events buffered per subscriber
+     * @param politica  overflow policy for full buffers
+     * @throws IllegalArgumentException if an argument is null or capacity is not positive
+     */
+    public GameEventPublisher(BichoManager manager, int capacidad, OverflowPolicy politica) {
+        this(manager, capacidad, politica, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a publisher.
+     *
+     * @param manager   game whose events are published
+     * @param capacidad events buffered per subscriber
+     * @param politica  overflow policy for full buffers
+     * @param executor  executor that delivers events to subscribers
+     * @throws IllegalArgumentException if an argument is null or capacity is not positive
+     */
+    public GameEventPublisher(BichoManager manager, int capacidad, OverflowPolicy politica, Executor executor) {
+        if (manager == null || politica == null || executor == null) {
+            throw new IllegalArgumentException("Manager, policy and executor cannot be null");
+        }
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        this.manager = manager;
+        this.capacidad = capacidad;
+        this.politica = politica;
+        this.executor = executor;
+        manager.addListener(this);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        Suscripcion s = new Suscripcion(subscriber);
+        subscriber.onSubscribe(s);
+        synchronized (this) {
+            if (!cerrado && !s.cancelada && s.error == null) {
+                Suscripcion[] nuevas = Arrays.copyOf(suscripciones, suscripciones.length + 1);
+                nuevas[nuevas.length - 1] = s;
+                suscripciones = nuevas;
+                return;
+            }
+        }
+        if (cerrado) {
+            s.completar();
+        }
+    }
+
+    /**
+     * Gets the number of events lost to full buffers across all subscribers.
+     *
+     * @return dropped event count
+     */
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    /**
+     * Gets the number of active subscribers.
+     *
+     * @return subscriber count
+     */
+    public int getSuscriptores() {
+        return suscripciones.length;
+    }
+
+    /**
+     * Stops publishing. Subscribers receive the events already buffered and
+     * then {@code onComplete}.
+     */
+    @Override
+    public void close() {
+        Suscripcion[] actuales;
+        synchronized (this) {
+            if (cerrado) {
+                return;
+            }
+            cerrado = true;
+            actuales = suscripciones;
+            suscripciones = new Suscripcion[0];
+        }
+        manager.removeListener(this);
+        for (Suscripcion s : actuales) {
+            s.completar();
+        }
+    }
+
+    @Override
+    public void onHit(int fila, int col, TipoBicho tipo, int saludRestante) {
+        publicar(GameEvent.Tipo.HIT, fila, col, tipo, saludRestante, 0);
+    }
+
+    @Override
+    public void onKill(int fila, int col, TipoBicho tipo) {
+        publicar(GameEvent.Tipo.KILL, fila, col, tipo, 0, GameStatistics.pointsFor(tipo));
+    }
+
+    @Override
+    public void onMutation(int fila, int col, TipoBicho tipo, int saludNueva) {
+        publicar(GameEvent.Tipo.MUTATION, fila, col, tipo, saludNueva, 0);
+    }
+
+    @Override
+    public void onGameOver(GameStatistics estadisticas) {
+        publicar(GameEvent.Tipo.GAME_OVER, -1, -1, TipoBicho.VACIO, 0, estadisticas.getTotalPoints());
+    }
+
+    @Override
+    public void onBoardReset() {
+        publicar(GameEvent.Tipo.BOARD_RESET, -1, -1, TipoBicho.VACIO, 0, 0);
+    }
+
+    private void publicar(GameEvent.Tipo tipo, int fila, int col, TipoBicho bicho, int salud, int puntos) {
+        Suscripcion[] actuales = suscripciones;
+        if (actuales.length == 0) {
+            return;
+        }
+        GameEvent evento = new GameEvent(tipo, fila, col, bicho, salud, puntos);
+        for (Suscripcion s : actuales) {
+            s.ofrecer(evento);
+        }
+    }
+
+    private synchronized void quitar(Suscripcion s) {
+        Suscripcion[] actuales = suscripciones;
+        for (int i = 0; i < actuales.length; i++) {
+            if (actuales[i] == s) {
+                Suscripcion[] nuevas = new Suscripcion[actuales.length - 1];
+                System.arraycopy(actuales, 0, nuevas, 0, i);
+                System.arraycopy(actuales, i + 1, nuevas, i, actuales.length - i - 1);
+                suscripciones = nuevas;
+                return;
+            }
+        }
+    }
+
+    /**
+     * One subscriber's buffer and demand. Delivery is serialized by a
+     * work-in-progress counter, so at most one drain runs at a time.
+     */
+    private final class Suscripcion implements Flow.Subscription {
+        private final Flow.Subscriber<? super GameEvent> subscriber;
+        private final GameEvent[] buffer = new GameEvent[capacidad];
+        private final AtomicLong demanda = new AtomicLong();
+        private final AtomicInteger pendiente = new AtomicInteger();
+        private int cabeza;
+        private int tamano;
+        private volatile boolean cancelada;
+        private volatile boolean completada;
+        private volatile Throwable error;
+
+        Suscripcion(Flow.Subscriber<? super GameEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void ofrecer(GameEvent evento) {
+            synchronized (this) {
+                if (tamano == buffer.length) {
+                    switch (politica) {
+                        case DROP_OLDEST -> {
+                            buffer[cabeza] = null;
+                            cabeza = (cabeza + 1) % buffer.length;
+                            tamano--;
+                            descartados.incrementAndGet();
+                        }
+                        case DROP_NEWEST -> {
+                            descartados.incrementAndGet();
+                            return;
+                        }
+                        default -> {
+                            descartados.incrementAndGet();
+                            error = new IllegalStateException("Subscriber buffer overflow");
+                            quitar(this);
+                            programar();
+                            return;
+                        }
+                    }
+                }
+                buffer[(cabeza + tamano) % buffer.length] = evento;
+                tamano++;
+            }
+            programar();
+        }
+
+        private synchronized GameEvent sacar() {
+            if (tamano == 0) {
+                return null;
+            }
+            GameEvent e = buffer[cabeza];
+            buffer[cabeza] = null;
+            cabeza = (cabeza + 1) % buffer.length;
+            tamano--;
+            return e;
+        }
+
+        private synchronized boolean vacia() {
+            return tamano == 0;
+        }
+
+        void completar() {
+            completada = true;
+            programar();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested " + n + " events, must be positive");
+                quitar(this);
+            } else {
+                demanda.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            programar();
+        }
+
+        @Override
+        public void cancel() {
+            cancelada = true;
+            quitar(this);
+        }
+
+        private void programar() {
+            if (pendiente.getAndIncrement() == 0) {
+                executor.execute(this::drenar);
+            }
+        }
+
+        private void drenar() {
+            int trabajo = 1;
+            do {
+                if (cancelada) {
+                    return;
+                }
+                Throwable e = error;
+                if (e != null) {
+                    cancelada = true;
+                    subscriber.onError(e);
+                    return;
+                }
+                long pedidos = demanda.get();
+                long enviados = 0;
+                while (enviados != pedidos && !cancelada) {
+                    GameEvent evento = sacar();
+                    if (evento == null) {
+                        break;
+                    }
+                    subscriber.onNext(evento);
+                    enviados++;
+                }
+                if (enviados > 0 && pedidos != Long.MAX_VALUE) {
+                    demanda.addAndGet(-enviados);
+                }
+                if (completada && !cancelada && vacia()) {
+                    cancelada = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                trabajo = pendiente.addAndGet(-trabajo);
+            } while (trabajo != 0);
+        }
+    }
+}
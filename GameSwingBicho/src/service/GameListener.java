@@ -0,0 +1,98 @@
+package service;
+
+import models.GameStatistics;
+import models.TipoBicho;
+
+/**
+ * Observer of changes made through a {@link BichoManager}.
+ * <p>
+ * Listeners are called synchronously on the thread that changes the game,
+ * right after the change is applied, so implementations must be quick and
+ * must not call back into the manager. Every method has an empty default,
+ * so listeners only override what they need.
+ * </p>
+ * <p>
+ * Changes made directly on the arrays or bichos returned by
+ * {@link BichoManager#getCampo()}, {@link BichoManager#getTablero()} or
+ * {@link BichoManager#getBicho(int, int)} bypass the manager and are not
+ * reported.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public interface GameListener {
+
+    /**
+     * Called after a cell changes type or health.
+     *
+     * @param fila  row coordinate
+     * @param col   column coordinate
+     * @param tipo  new cell type
+     * @param salud new cell health
+     */
+    default void onCellChanged(int fila, int col, TipoBicho tipo, int salud) {
+    }
+
+    /**
+     * Called after a bullet or bomb hits a living bicho.
+     *
+     * @param fila           row coordinate
+     * @param col            column coordinate
+     * @param tipo           type of the bicho hit
+     * @param saludRestante  health left after the hit (0 if it died)
+     */
+    default void onHit(int fila, int col, TipoBicho tipo, int saludRestante) {
+    }
+
+    /**
+     * Called after a bullet or bomb lands on a cell inside the board that
+     * holds no living bicho.
+     *
+     * @param fila row coordinate
+     * @param col  column coordinate
+     */
+    default void onMiss(int fila, int col) {
+    }
+
+    /**
+     * Called after a bicho dies, right after its {@link #onHit}.
+     *
+     * @param fila row coordinate
+     * @param col  column coordinate
+     * @param tipo type of the bicho killed
+     */
+    default void onKill(int fila, int col, TipoBicho tipo) {
+    }
+
+    /**
+     * Called after the weakest bicho mutates.
+     *
+     * @param fila       row coordinate
+     * @param col        column coordinate
+     * @param tipo       type of the mutated bicho
+     * @param saludNueva health after the mutation
+     */
+    default void onMutation(int fila, int col, TipoBicho tipo, int saludNueva) {
+    }
+
+    /**
+     * Called once when a kill leaves no living bicho on the board.
+     *
+     * @param estadisticas statistics of the finished game
+     */
+    default void onGameOver(GameStatistics estadisticas) {
+    }
+
+    /**
+     * Called after the whole board is replaced or emptied.
+     * <p>
+     * When the new board is not empty, one {@link #onCellChanged} call per
+     * occupied cell follows, so a listener that mirrors the board only has
+     * to clear its copy here.
+     * </p>
+     */
+    default void onBoardReset() {
+    }
+}
@@ -0,0 +1,594 @@
+package service;
+
+import models.CreatureRegistry;
+import models.GameStatistics;
+import models.Tablero;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optimal-play solver for the console rules of Guerra de Bichos.
+ * <p>
+ * The player may fire a bullet at any cell ({@link BichoManager#atacarBala})
+ * or drop a bomb on a uniformly random cell
+ * ({@link BichoManager#atacarBombaAleatoria}). The solver computes the
+ * minimum <em>expected</em> number of turns needed to clear the board and the
+ * action that achieves it, which doubles as a hint engine. Mutations only
+ * add health and are never part of an optimal plan. The maximum number of
+ * points is fixed by the bichos still alive, whatever the order of play.
+ * </p>
+ * <p>
+ * <strong>Search:</strong> positions are reduced to a canonical form, the
+ * number of living bichos needing exactly {@code b} more bullets for each
+ * {@code b}, since position and type do not affect the outcome. A depth-first
+ * expectimax search with lower-bound pruning walks this state space and
+ * stores results in a bounded, two-way, lock-free transposition table keyed
+ * by a Zobrist hash of the canonical state. The root is split across cores:
+ * the first plies are expanded into a frontier of distinct positions that
+ * worker threads solve in parallel, filling the shared table before the
+ * root is evaluated.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class GameSolver {
+
+    /**
+     * Default transposition table size, as a power of two of buckets.
+     */
+    public static final int DEFAULT_TABLE_BITS = 20;
+
+    /**
+     * Largest total number of bullets (search depth) the solver accepts.
+     */
+    public static final int MAX_TOTAL_BULLETS = 1024;
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+    private static final long PILA_BUSQUEDA = 16L * 1024 * 1024;
+
+    private final TablaTransposicion tabla;
+    private final int paralelismo;
+
+    /**
+     * Creates a solver with the default table size using every core.
+     */
+    public GameSolver() {
+        this(DEFAULT_TABLE_BITS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a solver with a custom table size and thread count.
+     * <p>
+     * Results stay exact with any table size, but a table much smaller than
+     * the reachable state space keeps re-searching evicted positions and
+     * can become very slow.
+     * </p>
+     *
+     * @param tableBits   log2 of the number of table buckets (1-26)
+     * @param paralelismo number of search threads (1 or more)
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public GameSolver(int tableBits, int paralelismo) {
+        if (tableBits < 1 || tableBits > 26) {
+            throw new IllegalArgumentException("Table bits must be between 1 and 26");
+        }
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.tabla = new TablaTransposicion(tableBits);
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Solves the current position of a game.
+     * <p>
+     * The transposition table is kept between calls, so hints for
+     * consecutive turns of the same game are mostly table hits.
+     * </p>
+     *
+     * @param manager game to analyse (not modified)
+     * @return the optimal value and action for the position
+     * @throws IllegalArgumentException if the board needs more than
+     *         {@value #MAX_TOTAL_BULLETS} bullets to clear
+     */
+    public Solution solve(BichoManager manager) {
+        long inicio = System.nanoTime();
+        Tablero tablero = manager.getVista();
+        int columnas = tablero.getColumnas();
+        int celdas = tablero.getFilas() * columnas;
+        CreatureRegistry registro = CreatureRegistry.getActivo();
+
+        int[] maximo = {0};
+        int[] puntos = {0};
+        long[] total = {0};
+        tablero.recorrerOcupadas((fila, col, tipo, salud) -> {
+            if (salud > 0) {
+                int b = balasParaMatar(salud, registro.getDanoBala(tipo.ordinal()));
+                maximo[0] = Math.max(maximo[0], b);
+                puntos[0] += GameStatistics.pointsFor(tipo);
+                total[0] += b;
+            }
+        });
+        if (total[0] > MAX_TOTAL_BULLETS) {
+            throw new IllegalArgumentException(
+                String.format("Board needs %d bullets, solver limit is %d", total[0], MAX_TOTAL_BULLETS));
+        }
+
+        int[] conteos = new int[maximo[0] + 1];
+        int[] celdaPorNivel = new int[maximo[0] + 1];
+        Arrays.fill(celdaPorNivel, Integer.MAX_VALUE);
+        tablero.recorrerOcupadas((fila, col, tipo, salud) -> {
+            if (salud > 0) {
+                int b = balasParaMatar(salud, registro.getDanoBala(tipo.ordinal()));
+                conteos[b]++;
+                celdaPorNivel[b] = Math.min(celdaPorNivel[b], fila * columnas + col);
+            }
+        });
+
+        LongAdder nodos = new LongAdder();
+        Estado raiz = new Estado(conteos, celdas);
+        dividirRaiz(raiz, nodos);
+        Busqueda busqueda = new Busqueda(raiz.copia(), nodos);
+        int mejorNivel = busqueda.mejorAccion();
+        double valor = busqueda.valor();
+        busqueda.volcar();
+
+        Accion accion;
+        int fila = -1;
+        int col = -1;
+        if (raiz.vivos == 0) {
+            accion = Accion.NONE;
+        } else if (mejorNivel > 0) {
+            accion = Accion.BULLET;
+            fila = celdaPorNivel[mejorNivel] / columnas;
+            col = celdaPorNivel[mejorNivel] % columnas;
+        } else {
+            accion = Accion.BOMB;
+        }
+        return new Solution(valor, puntos[0], accion, fila, col,
+            nodos.sum(), System.nanoTime() - inicio);
+    }
+
+    /**
+     * Empties the transposition table.
+     */
+    public void clear() {
+        tabla.limpiar();
+    }
+
+    /**
+     * Number of bullets needed to kill a bicho with the given health.
+     *
+     * @param salud current health (greater than zero)
+     * @param dano  damage each bullet deals to the bicho's type
+     * @return bullets needed
+     */
+    static int balasParaMatar(int salud, int dano) {
+        return (salud + dano - 1) / dano;
+    }
+
+    /**
+     * Expands the first plies into distinct positions and solves them in
+     * parallel so the root evaluation finds them in the table.
+     *
+     * @param raiz  root position
+     * @param nodos shared node counter
+     */
+    private void dividirRaiz(Estado raiz, LongAdder nodos) {
+        if (paralelismo == 1 || raiz.vivos == 0) {
+            return;
+        }
+        List<Estado> frontera = List.of(raiz);
+        for (int ply = 0; ply < 4 && frontera.size() < paralelismo * 4; ply++) {
+            List<Estado> siguiente = new ArrayList<>();
+            Set<Long> vistos = new HashSet<>();
+            for (Estado estado : frontera) {
+                for (Estado hijo : estado.hijos()) {
+                    if (hijo.vivos > 0 && vistos.add(hijo.clave)) {
+                        siguiente.add(hijo);
+                    }
+                }
+            }
+            if (siguiente.isEmpty()) {
+                break;
+            }
+            frontera = siguiente;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(paralelismo, r -> {
+            Thread t = new Thread(null, r, "game-solver", PILA_BUSQUEDA);
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (Estado estado : frontera) {
+                tareas.add(pool.submit(() -> {
+                    Busqueda busqueda = new Busqueda(estado, nodos);
+                    busqueda.valor();
+                    busqueda.volcar();
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Parallel search failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Zobrist key of a bullet level holding a given number of bichos.
+     */
+    private static long claveNivel(int nivel, int cantidad) {
+        if (cantidad == 0) {
+            return 0L;
+        }
+        long z = ((long) nivel << 32 | cantidad) + GOLDEN;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Canonical position: bichos alive per number of bullets still needed.
+     */
+    private static final class Estado {
+
+        final int[] conteos;
+        final int celdas;
+        int vivos;
+        long clave;
+
+        Estado(int[] conteos, int celdas) {
+            this.conteos = conteos;
+            this.celdas = celdas;
+            for (int nivel = 1; nivel < conteos.length; nivel++) {
+                vivos += conteos[nivel];
+                clave ^= claveNivel(nivel, conteos[nivel]);
+            }
+        }
+
+        Estado copia() {
+            return new Estado(conteos.clone(), celdas);
+        }
+
+        void mover(int nivel, int delta) {
+            clave ^= claveNivel(nivel, conteos[nivel]);
+            conteos[nivel] += delta;
+            clave ^= claveNivel(nivel, conteos[nivel]);
+        }
+
+        /** Removes one bicho from a level (bomb kill). */
+        void matar(int nivel) {
+            mover(nivel, -1);
+            vivos--;
+        }
+
+        void revivir(int nivel) {
+            mover(nivel, 1);
+            vivos++;
+        }
+
+        /** Fires one bullet at a bicho of the given level. */
+        void disparar(int nivel) {
+            if (nivel == 1) {
+                matar(1);
+            } else {
+                mover(nivel, -1);
+                mover(nivel - 1, 1);
+            }
+        }
+
+        void deshacerDisparo(int nivel) {
+            if (nivel == 1) {
+                revivir(1);
+            } else {
+                mover(nivel - 1, -1);
+                mover(nivel, 1);
+            }
+        }
+
+        List<Estado> hijos() {
+            List<Estado> hijos = new ArrayList<>();
+            for (int nivel = 1; nivel < conteos.length; nivel++) {
+                if (conteos[nivel] > 0) {
+                    Estado disparo = copia();
+                    disparo.disparar(nivel);
+                    hijos.add(disparo);
+                    if (nivel > 1) {
+                        Estado bomba = copia();
+                        bomba.matar(nivel);
+                        hijos.add(bomba);
+                    }
+                }
+            }
+            return hijos;
+        }
+    }
+
+    /**
+     * Single-threaded expectimax search over one position.
+     */
+    private final class Busqueda {
+
+        private final Estado estado;
+        private final LongAdder nodosGlobales;
+        private long nodos;
+
+        Busqueda(Estado estado, LongAdder nodosGlobales) {
+            this.estado = estado;
+            this.nodosGlobales = nodosGlobales;
+        }
+
+        double valor() {
+            return evaluar();
+        }
+
+        /**
+         * Finds the best root action, preferring bullets on ties.
+         *
+         * @return the bullet level to shoot, or 0 for a bomb
+         */
+        int mejorAccion() {
+            if (estado.vivos == 0) {
+                return 0;
+            }
+            int mejor = 0;
+            double mejorValor = Double.POSITIVE_INFINITY;
+            for (int nivel = 1; nivel < estado.conteos.length; nivel++) {
+                if (estado.conteos[nivel] > 0) {
+                    estado.disparar(nivel);
+                    double v = 1 + evaluar();
+                    estado.deshacerDisparo(nivel);
+                    if (v < mejorValor) {
+                        mejorValor = v;
+                        mejor = nivel;
+                    }
+                }
+            }
+            // Ties go to the bullet: same expectation, no randomness.
+            return valorBomba(mejorValor) < mejorValor - 1e-9 ? 0 : mejor;
+        }
+
+        void volcar() {
+            nodosGlobales.add(nodos);
+            nodos = 0;
+        }
+
+        private double evaluar() {
+            int vivos = estado.vivos;
+            if (vivos == 0) {
+                return 0.0;
+            }
+            double guardado = tabla.buscar(estado.clave);
+            if (!Double.isNaN(guardado)) {
+                return guardado;
+            }
+            nodos++;
+
+            // Every turn kills at most one bicho, so no line beats one turn per bicho.
+            double cota = vivos;
+            double mejor = Double.POSITIVE_INFINITY;
+            int[] conteos = estado.conteos;
+            for (int nivel = 1; nivel < conteos.length && mejor > cota; nivel++) {
+                if (conteos[nivel] > 0) {
+                    estado.disparar(nivel);
+                    mejor = Math.min(mejor, 1 + evaluar());
+                    estado.deshacerDisparo(nivel);
+                }
+            }
+            if (mejor > cota) {
+                mejor = Math.min(mejor, valorBomba(mejor));
+            }
+
+            tabla.guardar(estado.clave, mejor, vivos);
+            return mejor;
+        }
+
+        /**
+         * Expected turns when dropping a random bomb now.
+         * <p>
+         * A bomb hitting an empty or dead cell leaves the position unchanged,
+         * so with {@code k} living bichos among {@code N} cells the value
+         * solves {@code V = 1 + (N - k) / N * V + 1 / N * sum V(s - i)},
+         * i.e. {@code V = (N + sum V(s - i)) / k}.
+         * </p>
+         *
+         * @param limite value of the best alternative, used to skip hopeless bombs
+         * @return expected turns, or infinity if the bomb cannot beat the limit
+         */
+        private double valorBomba(double limite) {
+            int vivos = estado.vivos;
+            int celdas = estado.celdas;
+            double cotaInferior = (double) celdas / vivos + (vivos - 1);
+            if (cotaInferior >= limite) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double suma = 0.0;
+            int[] conteos = estado.conteos;
+            for (int nivel = 1; nivel < conteos.length; nivel++) {
+                int cantidad = conteos[nivel];
+                if (cantidad > 0) {
+                    estado.matar(nivel);
+                    suma += cantidad * evaluar();
+                    estado.revivir(nivel);
+                }
+            }
+            return (celdas + suma) / vivos;
+        }
+    }
+
+    /**
+     * Bounded lock-free transposition table.
+     * <p>
+     * Each bucket holds two entries: one kept by search weight (number of
+     * bichos alive, a proxy for the work the value saved) and one always
+     * replaced. Entries store {@code key ^ value} next to the value, so a
+     * torn write by a concurrent thread is detected and ignored
+     * (the classic lockless hashing scheme).
+     * </p>
+     */
+    private static final class TablaTransposicion {
+
+        private static final int LONGS_POR_ENTRADA = 3;
+        private static final int ENTRADAS_POR_BUCKET = 2;
+
+        private final AtomicLongArray datos;
+        private final int mascara;
+
+        TablaTransposicion(int bits) {
+            this.mascara = (1 << bits) - 1;
+            this.datos = new AtomicLongArray((mascara + 1) * ENTRADAS_POR_BUCKET * LONGS_POR_ENTRADA);
+        }
+
+        double buscar(long clave) {
+            int base = bucket(clave);
+            for (int e = 0; e < ENTRADAS_POR_BUCKET; e++) {
+                int i = base + e * LONGS_POR_ENTRADA;
+                long valor = datos.get(i + 1);
+                if ((datos.get(i) ^ valor) == clave && datos.get(i + 2) > 0) {
+                    return Double.longBitsToDouble(valor);
+                }
+            }
+            return Double.NaN;
+        }
+
+        void guardar(long clave, double valor, int peso) {
+            int base = bucket(clave);
+            int i = datos.get(base + 2) <= peso ? base : base + LONGS_POR_ENTRADA;
+            long bits = Double.doubleToLongBits(valor);
+            datos.set(i + 2, 0);
+            datos.set(i + 1, bits);
+            datos.set(i, clave ^ bits);
+            datos.set(i + 2, peso);
+        }
+
+        void limpiar() {
+            for (int i = 0; i < datos.length(); i++) {
+                datos.set(i, 0);
+            }
+        }
+
+        private int bucket(long clave) {
+            return ((int) (clave ^ (clave >>> 32)) & mascara)
+                * ENTRADAS_POR_BUCKET * LONGS_POR_ENTRADA;
+        }
+    }
+
+    /**
+     * Kind of action recommended by the solver.
+     */
+    public enum Accion {
+        /** Fire a bullet at the recommended cell. */
+        BULLET,
+        /** Drop a random bomb. */
+        BOMB,
+        /** The board is already clear. */
+        NONE
+    }
+
+    /**
+     * Result of solving one position.
+     */
+    public static final class Solution {
+
+        private final double expectedTurns;
+        private final int maxPoints;
+        private final Accion accion;
+        private final int fila;
+        private final int col;
+        private final long positions;
+        private final long nanos;
+
+        Solution(double expectedTurns, int maxPoints, Accion accion, int fila, int col,
+                 long positions, long nanos) {
+            this.expectedTurns = expectedTurns;
+            this.maxPoints = maxPoints;
+            this.accion = accion;
+            this.fila = fila;
+            this.col = col;
+            this.positions = positions;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Gets the minimum expected number of turns to clear the board.
+         *
+         * @return expected turns under optimal play
+         */
+        public double getExpectedTurns() {
+            return expectedTurns;
+        }
+
+        /**
+         * Gets the points still available on the board.
+         *
+         * @return points scored by clearing the board
+         */
+        public int getMaxPoints() {
+            return maxPoints;
+        }
+
+        /**
+         * Gets the recommended action.
+         *
+         * @return the optimal action for this turn
+         */
+        public Accion getAccion() {
+            return accion;
+        }
+
+        /**
+         * Gets the row to shoot when the action is {@link Accion#BULLET}.
+         *
+         * @return row coordinate, or -1 for other actions
+         */
+        public int getFila() {
+            return fila;
+        }
+
+        /**
+         * Gets the column to shoot when the action is {@link Accion#BULLET}.
+         *
+         * @return column coordinate, or -1 for other actions
+         */
+        public int getCol() {
+            return col;
+        }
+
+        /**
+         * Gets the number of positions expanded by the search.
+         *
+         * @return positions searched (table hits excluded)
+         */
+        public long getPositions() {
+            return positions;
+        }
+
+        /**
+         * Gets the search throughput.
+         *
+         * @return positions searched per second of wall-clock time
+         */
+        public double getPositionsPerSecond() {
+            return nanos == 0 ? 0.0 : positions * 1_000_000_000.0 / nanos;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package service;
+
+import models.TipoBicho;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Aggregated heatmap of attack outcomes across any number of games.
+ * <p>
+ * Boards of every size are projected onto a fixed
+ * {@code resolucion x resolucion} grid, so a hit in the top-left corner of
+ * a 3x3 board and of a 5000x5000 arena land in the same heatmap cell. Each
+ * heatmap cell counts hits, misses and kills, plus the sum of the turn
+ * numbers at which bichos died there, from which the mean survival time
+ * follows.
+ * </p>
+ * <p>
+ * Games feed the heatmap through the {@link GameListener} returned by
+ * {@link #oyente(BichoManager)}. Counters are striped: each thread adds to
+ * one of several {@link AtomicLongArray}s chosen by its id, so concurrent
+ * sessions on different threads rarely touch the same cache lines and a
+ * recorded attack costs one uncontended atomic add. Reading sums the
+ * stripes into an {@link Instantanea}; snapshots can be merged with
+ * snapshots from other processes and exported as CSV, on demand or
+ * periodically with {@link #exportarPeriodicamente(Path, long)}.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class HitHeatmap implements AutoCloseable {
+
+    /** Default side of the normalized grid. */
+    public static final int RESOLUCION = 64;
+
+    private static final int ACIERTOS = 0;
+    private static final int FALLOS = 1;
+    private static final int BAJAS = 2;
+    private static final int TURNOS_BAJA = 3;
+    private static final int CONTADORES = 4;
+
+    private final int resolucion;
+    private final AtomicLongArray[] franjas;
+    private final int mascara;
+    private ScheduledExecutorService exportador;
+
+    /**
+     * Creates an empty heatmap with the default resolution.
+     */
+    public HitHeatmap() {
+        this(RESOLUCION);
+    }
+
+    /**
+     * Creates an empty heatmap.
+     *
+     * @param resolucion side of the normalized grid
+     * @throws IllegalArgumentException if resolucion is not between 1 and 1024
+     */
+    public HitHeatmap(int resolucion) {
+        if (resolucion < 1 || resolucion > 1024) {
+            throw new IllegalArgumentException(
+                String.format("Resolution must be between 1 and 1024, got %d", resolucion));
+        }
+        this.resolucion = resolucion;
+        int n = Integer.highestOneBit(Math.min(64, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        this.franjas = new AtomicLongArray[n];
+        for (int i = 0; i < n; i++) {
+            franjas[i] = new AtomicLongArray(resolucion * resolucion * CONTADORES);
+        }
+        this.mascara = n - 1;
+    }
+
+    /**
+     * Creates a listener that records the attacks of one game. Register it
+     * with {@link BichoManager#addListener(GameListener)}.
+     *
+     * @param manager game to record
+     * @return listener bound to the board size of the game
+     */
+    public GameListener oyente(BichoManager manager) {
+        int filas = manager.getFilas();
+        int columnas = manager.getColumnas();
+        return new GameListener() {
+            @Override
+            public void onHit(int fila, int col, TipoBicho tipo, int saludRestante) {
+                sumar(celda(fila, col, filas, columnas), ACIERTOS, 1);
+            }
+
+            @Override
+            public void onKill(int fila, int col, TipoBicho tipo) {
+                int celda = celda(fila, col, filas, columnas);
+                AtomicLongArray franja = franja();
+                franja.getAndIncrement(celda + BAJAS);
+                franja.getAndAdd(celda + TURNOS_BAJA, manager.getEstadisticas().getTurns());
+            }
+
+            @Override
+            public void onMiss(int fila, int col) {
+                sumar(celda(fila, col, filas, columnas), FALLOS, 1);
+            }
+        };
+    }
+
+    /**
+     * Records one attack outcome directly, for games not run by a
+     * {@link BichoManager}.
+     *
+     * @param fila     row of the attacked cell
+     * @param col      column of the attacked cell
+     * @param filas    rows of the board
+     * @param columnas columns of the board
+     * @param acierto  whether a living bicho was hit
+     * @param turnoBaja turn number if the hit killed the bicho, or -1
+     */
+    public void registrar(int fila, int col, int filas, int columnas, boolean acierto, int turnoBaja) {
+        int celda = celda(fila, col, filas, columnas);
+        AtomicLongArray franja = franja();
+        franja.getAndIncrement(celda + (acierto ? ACIERTOS : FALLOS));
+        if (acierto && turnoBaja >= 0) {
+            franja.getAndIncrement(celda + BAJAS);
+            franja.getAndAdd(celda + TURNOS_BAJA, turnoBaja);
+        }
+    }
+
+    /**
+     * Gets the side of the normalized grid.
+     *
+     * @return resolution
+     */
+    public int getResolucion() {
+        return resolucion;
+    }
+
+    /**
+     * Sums every stripe into a snapshot. Attacks recorded concurrently may
+     * or may not be included.
+     *
+     * @return a new snapshot of the counters
+     */
+    public Instantanea instantanea() {
+        long[] total = new long[resolucion * resolucion * CONTADORES];
+        for (AtomicLongArray franja : franjas) {
+            for (int i = 0; i < total.length; i++) {
+                total[i] += franja.get(i);
+            }
+        }
+        return new Instantanea(resolucion, total);
+    }
+
+    /**
+     * Adds the counters of a snapshot, typically exported by another
+     * process, to this heatmap.
+     *
+     * @param otra snapshot to merge
+     * @throws IllegalArgumentException if the resolutions differ
+     */
+    public void fusionar(Instantanea otra) {
+        if (otra.resolucion != resolucion) {
+            throw new IllegalArgumentException("Heatmap resolutions do not match");
+        }
+        AtomicLongArray franja = franja();
+        for (int i = 0; i < otra.contadores.length; i++) {
+            if (otra.contadores[i] != 0) {
+                franja.getAndAdd(i, otra.contadores[i]);
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot to a CSV file every period until {@link #close()}.
+     * Each export replaces the file atomically.
+     *
+     * @param archivo       destination file
+     * @param periodoMillis time between exports
+     * @throws IllegalStateException if periodic export is already running
+     */
+    public synchronized void exportarPeriodicamente(Path archivo, long periodoMillis) {
+        if (exportador != null) {
+            throw new IllegalStateException("Periodic export already running");
+        }
+        exportador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "heatmap-export");
+            t.setDaemon(true);
+            return t;
+        });
+        exportador.scheduleWithFixedDelay(() -> {
+            try {
+                exportar(archivo);
+            } catch (IOException e) {
+                // keep the previous export; retried on the next period
+            }
+        }, periodoMillis, periodoMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes a snapshot to a CSV file, replacing it atomically.
+     *
+     * @param archivo destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void exportar(Path archivo) throws IOException {
+        Path absoluto = archivo.toAbsolutePath();
+        Path temporal = Files.createTempFile(absoluto.getParent(), absoluto.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(temporal)) {
+                instantanea().exportarCsv(out);
+            }
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    /**
+     * Stops the periodic export, if running.
+     */
+    @Override
+    public synchronized void close() {
+        if (exportador != null) {
+            exportador.shutdownNow();
+            exportador = null;
+        }
+    }
+
+    private int celda(int fila, int col, int filas, int columnas) {
+        int y = (int) ((long) fila * resolucion / filas);
+        int x = (int) ((long) col * resolucion / columnas);
+        return (y * resolucion + x) * CONTADORES;
+    }
+
+    private AtomicLongArray franja() {
+        return franjas[(int) (Thread.currentThread().getId() * 0x9E3779B9L >>> 16) & mascara];
+    }
+
+    private void sumar(int celda, int contador, long valor) {
+        franja().getAndAdd(celda + contador, valor);
+    }
+
+    /**
+     * Point-in-time totals of a heatmap.
+     */
+    public static final class Instantanea {
+        private final int resolucion;
+        private final long[] contadores;
+
+        private Instantanea(int resolucion, long[] contadores) {
+            this.resolucion = resolucion;
+            this.contadores = contadores;
+        }
+
+        /**
+         * Gets the side of the normalized grid.
+         *
+         * @return resolution
+         */
+        public int getResolucion() {
+            return resolucion;
+        }
+
+        /**
+         * Gets the hits recorded in a heatmap cell.
+         *
+         * @param y heatmap row
+         * @param x heatmap column
+         * @return hits
+         */
+        public long getAciertos(int y, int x) {
+            return contadores[(y * resolucion + x) * CONTADORES + ACIERTOS];
+        }
+
+        /**
+         * Gets the misses recorded in a heatmap cell.
+         *
+         * @param y heatmap row
+         * @param x heatmap column
+         * @return misses
+         */
+        public long getFallos(int y, int x) {
+            return contadores[(y * resolucion + x) * CONTADORES + FALLOS];
+        }
+
+        /**
+         * Gets the kills recorded in a heatmap cell.
+         *
+         * @param y heatmap row
+         * @param x heatmap column
+         * @return kills
+         */
+        public long getBajas(int y, int x) {
+            return contadores[(y * resolucion + x) * CONTADORES + BAJAS];
+        }
+
+        /**
+         * Gets the mean turn at which bichos in a heatmap cell were killed.
+         *
+         * @param y heatmap row
+         * @param x heatmap column
+         * @return mean survival in turns, or 0 if none was killed there
+         */
+        public double getSupervivenciaMedia(int y, int x) {
+            long bajas = getBajas(y, x);
+            return bajas == 0 ? 0.0
+                : (double) contadores[(y * resolucion + x) * CONTADORES + TURNOS_BAJA] / bajas;
+        }
+
+        /**
+         * Gets the total number of attacks recorded.
+         *
+         * @return hits plus misses over every cell
+         */
+        public long getAtaques() {
+            long total = 0;
+            for (int i = 0; i < contadores.length; i += CONTADORES) {
+                total += contadores[i + ACIERTOS] + contadores[i + FALLOS];
+            }
+            return total;
+        }
+
+        /**
+         * Writes the snapshot as CSV, one line per heatmap cell with
+         * {@code y,x,hits,misses,kills,kill_turns}.
+         *
+         * @param out destination writer (not closed)
+         * @throws IOException if the writer fails
+         */
+        public void exportarCsv(Writer out) throws IOException {
+            out.write("y,x,hits,misses,kills,kill_turns\n");
+            StringBuilder linea = new StringBuilder(64);
+            for (int y = 0; y < resolucion; y++) {
+                for (int x = 0; x < resolucion; x++) {
+                    int i = (y * resolucion + x) * CONTADORES;
+                    linea.setLength(0);
+                    linea.append(y).append(',').append(x).append(',').append(contadores[i + ACIERTOS])
+                        .append(',').append(contadores[i + FALLOS]).append(',').append(contadores[i + BAJAS])
+                        .append(',').append(contadores[i + TURNOS_BAJA]).append('\n');
+                    out.append(linea);
+                }
+            }
+            out.flush();
+        }
+
+        /**
+         * Reads a snapshot written by {@link #exportarCsv(Writer)}.
+         *
+         * @param in         source of the CSV text
+         * @param resolucion side of the grid the snapshot was exported with
+         * @return the snapshot
+         * @throws IOException if the text is not a heatmap export of that resolution
+         */
+        public static Instantanea leerCsv(BufferedReader in, int resolucion) throws IOException {
+            long[] contadores = new long[resolucion * resolucion * CONTADORES];
+            String linea = in.readLine();
+            if (linea == null || !linea.startsWith("y,x,")) {
+                throw new IOException("Not a heatmap export");
+            }
+            while ((linea = in.readLine()) != null) {
+                String[] campos = linea.split(",");
+                if (campos.length != 2 + CONTADORES) {
+                    throw new IOException("Malformed heatmap line: " + linea);
+                }
+                try {
+                    int y = Integer.parseInt(campos[0]);
+                    int x = Integer.parseInt(campos[1]);
+                    if (y < 0 || x < 0 || y >= resolucion || x >= resolucion) {
+                        throw new IOException("Heatmap export does not match resolution " + resolucion);
+                    }
+                    for (int k = 0; k < CONTADORES; k++) {
+                        contadores[(y * resolucion + x) * CONTADORES + k] = Long.parseLong(campos[2 + k]);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IOException("Malformed heatmap line: " + linea, e);
+                }
+            }
+            return new Instantanea(resolucion, contadores);
+        }
+    }
+}
@@ -0,0 +1,553 @@
+package service;
+
+import models.GameStatistics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persistent leaderboard of finished games, shared by every session that
+ * opens the same directory.
+ * <p>
+ * Final statistics are appended as fixed-size records to
+ * {@code partidas.log}, so a game is addressed by its record number. Each
+ * {@link Criterio} keeps an on-disk index made of:
+ * </p>
+ * <ul>
+ *   <li>a memory-mapped Fenwick tree counting games per metric value, which
+ *       answers rank and percentile queries in {@code O(log V)} for a
+ *       metric range of {@code V} values, and finds the value holding any
+ *       given rank just as fast</li>
+ *   <li>per value, the newest game with that value, and per game the next
+ *       older game with the same value, forming one chain per value</li>
+ * </ul>
+ * <p>
+ * A top-K query walks the Fenwick tree from the best value downwards and
+ * reads only the K records it returns, so neither the log nor the indexes
+ * are ever loaded whole; only the pages touched are mapped in. Ranking
+ * granularity is one point, one turn or 0.01% accuracy; values beyond the
+ * index range share its last slot. Ties are listed newest first.
+ * </p>
+ * <p>
+ * Each index records how many games it has absorbed and is brought up to
+ * date from the log when the leaderboard is opened; an index whose last
+ * update was interrupted is rebuilt from the log. Methods are synchronized;
+ * only one process should open the directory at a time.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class Leaderboard implements AutoCloseable {
+
+    /**
+     * Metric a leaderboard ranking is based on.
+     */
+    public enum Criterio {
+        /** Total points, higher is better. */
+        PUNTOS(1 << 20, true),
+        /** Shot accuracy in hundredths of a percent, higher is better; games without shots are not ranked. */
+        PRECISION(10_001, true),
+        /** Turns needed to win, lower is better; only victories are ranked. */
+        TURNOS(1 << 20, false);
+
+        private final int valores;
+        private final boolean mayorEsMejor;
+
+        Criterio(int valores, boolean mayorEsMejor) {
+            this.valores = valores;
+            this.mayorEsMejor = mayorEsMejor;
+        }
+
+        /**
+         * Gets the index key of a game for this criterion.
+         *
+         * @param e game record
+         * @return value in {@code [0, valores)}, or -1 if the game is not ranked
+         */
+        int clave(Entrada e) {
+            long v = switch (this) {
+                case PUNTOS -> e.puntos;
+                case PRECISION -> e.disparos == 0 ? -1 : Math.round(e.getPrecision() * 100);
+                case TURNOS -> e.victoria ? e.turnos : -1;
+            };
+            return v < 0 ? -1 : (int) Math.min(v, valores - 1);
+        }
+    }
+
+    private static final int MAGIC = 0x52414E4B;
+    private static final int VERSION = 1;
+    private static final int CABECERA_LOG = 16;
+    private static final int REGISTRO = 40;
+
+    private final FileChannel log;
+    private final Indice[] indices;
+    private long partidas;
+
+    /**
+     * Opens (or creates) a leaderboard in the given directory, bringing its
+     * indexes up to date with the log.
+     *
+     * @param directorio directory holding the log and index files
+     * @throws IOException if the files cannot be opened or are not leaderboard files
+     */
+    public Leaderboard(Path directorio) throws IOException {
+        Files.createDirectories(directorio);
+        log = FileChannel.open(directorio.resolve("partidas.log"),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        indices = new Indice[Criterio.values().length];
+        try {
+            if (log.size() == 0) {
+                escribir(log, ByteBuffer.allocate(CABECERA_LOG).putInt(0, MAGIC).putInt(4, VERSION), 0);
+            }
+            ByteBuffer cabecera = ByteBuffer.allocate(CABECERA_LOG);
+            leer(log, cabecera, 0);
+            if (cabecera.getInt(0) != MAGIC || cabecera.getInt(4) != VERSION) {
+                throw new IOException("Not a leaderboard log: " + directorio);
+            }
+            partidas = (log.size() - CABECERA_LOG) / REGISTRO;
+            log.truncate(CABECERA_LOG + partidas * REGISTRO);
+            for (Criterio c : Criterio.values()) {
+                indices[c.ordinal()] = new Indice(c, directorio);
+            }
+            for (Indice indice : indices) {
+                indice.ponerAlDia();
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Records the final statistics of a game.
+     *
+     * @param estadisticas statistics at the end of the game
+     * @param victoria     whether every bicho was eliminated
+     * @return id of the recorded game
+     * @throws IOException if the log or an index cannot be written
+     */
+    public synchronized long registrar(GameStatistics estadisticas, boolean victoria) throws IOException {
+        Entrada e = new Entrada(partidas, System.currentTimeMillis(), estadisticas.getTurns(),
+            estadisticas.getShotsFired(), estadisticas.getShotsHit(), estadisticas.getBombsUsed(),
+            estadisticas.getMutationsPerformed(), estadisticas.getTotalPoints(),
+            estadisticas.getBichosDefeated(), victoria);
+        escribir(log, e.codificar(), CABECERA_LOG + partidas * REGISTRO);
+        partidas++;
+        for (Indice indice : indices) {
+            indice.agregar(e);
+        }
+        return e.id;
+    }
+
+    /**
+     * Gets the number of recorded games.
+     *
+     * @return games in the log
+     */
+    public synchronized long getPartidas() {
+        return partidas;
+    }
+
+    /**
+     * Gets the number of games ranked by a criterion.
+     *
+     * @param criterio ranking criterion
+     * @return ranked games
+     */
+    public synchronized long getClasificadas(Criterio criterio) {
+        return indices[criterio.ordinal()].total();
+    }
+
+    /**
+     * Reads one recorded game.
+     *
+     * @param id game id returned by {@link #registrar(GameStatistics, boolean)}
+     * @return the game record
+     * @throws IllegalArgumentException if no game has that id
+     * @throws IOException if the log cannot be read
+     */
+    public synchronized Entrada leer(long id) throws IOException {
+        if (id < 0 || id >= partidas) {
+            throw new IllegalArgumentException(String.format("Unknown game %d", id));
+        }
+        ByteBuffer b = ByteBuffer.allocate(REGISTRO);
+        leer(log, b, CABECERA_LOG + id * REGISTRO);
+        return Entrada.decodificar(id, b);
+    }
+
+    /**
+     * Gets the best ranked games by a criterion.
+     *
+     * @param criterio ranking criterion
+     * @param k        maximum number of games to return
+     * @return up to {@code k} games, best first
+     * @throws IOException if the log or an index cannot be read
+     */
+    public synchronized List<Entrada> top(Criterio criterio, int k) throws IOException {
+        Indice indice = indices[criterio.ordinal()];
+        List<Entrada> mejores = new ArrayList<>(Math.min(k, 1024));
+        long total = indice.total();
+        long vistas = 0;
+        while (mejores.size() < k && vistas < total) {
+            int valor = indice.buscar(criterio.mayorEsMejor ? total - vistas : vistas + 1);
+            long enValor = indice.contar(valor);
+            for (int id = indice.primera(valor); id >= 0 && mejores.size() < k; id = indice.siguiente(id)) {
+                mejores.add(leer(id));
+            }
+            vistas += enValor;
+        }
+        return mejores;
+    }
+
+    /**
+     * Computes the percentile of a metric value among ranked games.
+     *
+     * @param criterio ranking criterion
+     * @param valor    metric value (points, turns, or accuracy percentage)
+     * @return share (0-100) of ranked games this value is at least as good
+     *         as, or 0 if no game is ranked
+     */
+    public synchronized double percentil(Criterio criterio, double valor) {
+        Indice indice = indices[criterio.ordinal()];
+        long total = indice.total();
+        if (total == 0) {
+            return 0.0;
+        }
+        long escalado = criterio == Criterio.PRECISION ? Math.round(valor * 100) : (long) valor;
+        int clave = (int) Math.max(-1, Math.min(escalado, criterio.valores - 1));
+        long superadas = criterio.mayorEsMejor
+            ? indice.prefijo(clave)
+            : total - indice.prefijo(clave - 1);
+        return superadas * 100.0 / total;
+    }
+
+    /**
+     * Finds the metric value at a percentile of the ranked games, counted
+     * from the worst.
+     *
+     * @param criterio ranking criterion
+     * @param p        percentile (0-100)
+     * @return metric value (points, turns, or accuracy percentage), or -1 if
+     *         no game is ranked
+     * @throws IllegalArgumentException if p is outside 0-100
+     */
+    public synchronized double valorEnPercentil(Criterio criterio, double p) {
+        if (p < 0 || p > 100) {
+            throw new IllegalArgumentException(String.format("Percentile must be between 0 and 100, got %s", p));
+        }
+        Indice indice = indices[criterio.ordinal()];
+        long total = indice.total();
+        if (total == 0) {
+            return -1;
+        }
+        long rango = Math.max(1, (long) Math.ceil(p / 100.0 * total));
+        int valor = indice.buscar(criterio.mayorEsMejor ? rango : total - rango + 1);
+        return criterio == Criterio.PRECISION ? valor / 100.0 : valor;
+    }
+
+    /**
+     * Closes the log and index files.
+     *
+     * @throws IOException if a file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        for (Indice indice : indices) {
+            if (indice != null) {
+                indice.cerrar();
+            }
+        }
+        log.close();
+    }
+
+    private static void leer(FileChannel canal, ByteBuffer destino, long posicion) throws IOException {
+        while (destino.hasRemaining()) {
+            if (canal.read(destino, posicion + destino.position()) < 0) {
+                throw new IOException("Unexpected end of leaderboard file");
+            }
+        }
+        destino.flip();
+    }
+
+    private static void escribir(FileChannel canal, ByteBuffer origen, long posicion) throws IOException {
+        while (origen.hasRemaining()) {
+            canal.write(origen, posicion + origen.position());
+        }
+    }
+
+    /**
+     * On-disk index of one criterion: a mapped Fenwick tree of counts per
+     * value plus the heads of the per-value chains, and a separate file with
+     * the chain link of every game.
+     */
+    private final class Indice {
+        private static final int CABECERA = 32;
+        private static final int OFFSET_INDEXADAS = 16;
+        private static final int OFFSET_PENDIENTE = 24;
+
+        private final Criterio criterio;
+        private final int valores;
+        private final FileChannel archivo;
+        private final MappedByteBuffer mapa;
+        private final FileChannel enlaces;
+        private final int inicioCabezas;
+        private final int paso;
+
+        Indice(Criterio criterio, Path directorio) throws IOException {
+            this.criterio = criterio;
+            this.valores = criterio.valores;
+            String nombre = criterio.name().toLowerCase();
+            this.inicioCabezas = CABECERA + (valores + 1) * Long.BYTES;
+            archivo = FileChannel.open(directorio.resolve(nombre + ".idx"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            enlaces = FileChannel.open(directorio.resolve(nombre + ".next"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean nuevo = archivo.size() == 0;
+            mapa = archivo.map(FileChannel.MapMode.READ_WRITE, 0, inicioCabezas + (long) valores * Integer.BYTES);
+            if (nuevo) {
+                mapa.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, valores);
+                mapa.putLong(OFFSET_PENDIENTE, -1);
+            } else if (mapa.getInt(0) != MAGIC || mapa.getInt(8) != valores) {
+                throw new IOException("Not a leaderboard index: " + nombre);
+            }
+            this.paso = Integer.highestOneBit(valores);
+        }
+
+        void ponerAlDia() throws IOException {
+            if (mapa.getLong(OFFSET_PENDIENTE) >= 0 || mapa.getLong(OFFSET_INDEXADAS) > partidas) {
+                for (int i = CABECERA; i < mapa.capacity(); i += Integer.BYTES) {
+                    mapa.putInt(i, 0);
+                }
+                mapa.putLong(OFFSET_INDEXADAS, 0);
+                mapa.putLong(OFFSET_PENDIENTE, -1);
+            }
+            ByteBuffer b = ByteBuffer.allocate(REGISTRO);
+            for (long id = mapa.getLong(OFFSET_INDEXADAS); id < partidas; id++) {
+                b.clear();
+                leer(log, b, CABECERA_LOG + id * REGISTRO);
+                agregar(Entrada.decodificar(id, b));
+            }
+        }
+
+        void agregar(Entrada e) throws IOException {
+            int clave = criterio.clave(e);
+            mapa.putLong(OFFSET_PENDIENTE, e.id);
+            if (clave >= 0) {
+                int cabeza = mapa.getInt(inicioCabezas + clave * Integer.BYTES);
+                escribir(enlaces, ByteBuffer.allocate(Integer.BYTES).putInt(0, cabeza), e.id * Integer.BYTES);
+                mapa.putInt(inicioCabezas + clave * Integer.BYTES, (int) e.id + 1);
+                for (int i = clave + 1; i <= valores; i += i & -i) {
+                    int pos = CABECERA + i * Long.BYTES;
+                    mapa.putLong(pos, mapa.getLong(pos) + 1);
+                }
+            }
+            mapa.putLong(OFFSET_INDEXADAS, e.id + 1);
+            mapa.putLong(OFFSET_PENDIENTE, -1);
+        }
+
+        /** Counts ranked games with a value up to {@code clave} (inclusive). */
+        long prefijo(int clave) {
+            long suma = 0;
+            for (int i = Math.min(clave, valores - 1) + 1; i > 0; i -= i & -i) {
+                suma += mapa.getLong(CABECERA + i * Long.BYTES);
+            }
+            return suma;
+        }
+
+        long total() {
+            return prefijo(valores - 1);
+        }
+
+        long contar(int clave) {
+            return prefijo(clave) - prefijo(clave - 1);
+        }
+
+        /** Finds the value holding the game of a 1-based ascending rank. */
+        int buscar(long rango) {
+            int pos = 0;
+            long restante = rango;
+            for (int salto = paso; salto > 0; salto >>= 1) {
+                int siguiente = pos + salto;
+                if (siguiente <= valores) {
+                    long c = mapa.getLong(CABECERA + siguiente * Long.BYTES);
+                    if (c < restante) {
+                        pos = siguiente;
+                        restante -= c;
+                    }
+                }
+            }
+            return pos;
+        }
+
+        int primera(int clave) {
+            return mapa.getInt(inicioCabezas + clave * Integer.BYTES) - 1;
+        }
+
+        int siguiente(int id) throws IOException {
+            ByteBuffer b = ByteBuffer.allocate(Integer.BYTES);
+            leer(enlaces, b, (long) id * Integer.BYTES);
+            return b.getInt(0) - 1;
+        }
+
+        void cerrar() throws IOException {
+            archivo.close();
+            enlaces.close();
+        }
+    }
+
+    /**
+     * Final statistics of one recorded game.
+     */
+    public static final class Entrada {
+        private final long id;
+        private final long fecha;
+        private final int turnos;
+        private final int disparos;
+        private final int aciertos;
+        private final int bombas;
+        private final int mutaciones;
+        private final int puntos;
+        private final int derrotados;
+        private final boolean victoria;
+
+        private Entrada(long id, long fecha, int turnos, int disparos, int aciertos, int bombas,
+                        int mutaciones, int puntos, int derrotados, boolean victoria) {
+            this.id = id;
+            this.fecha = fecha;
+            this.turnos = turnos;
+            this.disparos = disparos;
+            this.aciertos = aciertos;
+            this.bombas = bombas;
+            this.mutaciones = mutaciones;
+            this.puntos = puntos;
+            this.derrotados = derrotados;
+            this.victoria = victoria;
+        }
+
+        private ByteBuffer codificar() {
+            ByteBuffer b = ByteBuffer.allocate(REGISTRO);
+            b.putLong(fecha).putInt(turnos).putInt(disparos).putInt(aciertos).putInt(bombas)
+                .putInt(mutaciones).putInt(puntos).putInt(derrotados).put((byte) (victoria ? 1 : 0));
+            return b.clear();
+        }
+
+        private static Entrada decodificar(long id, ByteBuffer b) {
+            return new Entrada(id, b.getLong(0), b.getInt(8), b.getInt(12), b.getInt(16), b.getInt(20),
+                b.getInt(24), b.getInt(28), b.getInt(32), b.get(36) != 0);
+        }
+
+        /**
+         * Gets the game id.
+         *
+         * @return record number in the log
+         */
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * Gets when the game was recorded.
+         *
+         * @return epoch milliseconds
+         */
+        public long getFecha() {
+            return fecha;
+        }
+
+        /**
+         * Gets the turns played.
+         *
+         * @return turn count
+         */
+        public int getTurnos() {
+            return turnos;
+        }
+
+        /**
+         * Gets the shots fired.
+         *
+         * @return shot count
+         */
+        public int getDisparos() {
+            return disparos;
+        }
+
+        /**
+         * Gets the shots that hit.
+         *
+         * @return hit count
+         */
+        public int getAciertos() {
+            return aciertos;
+        }
+
+        /**
+         * Gets the bombs used.
+         *
+         * @return bomb count
+         */
+        public int getBombas() {
+            return bombas;
+        }
+
+        /**
+         * Gets the mutations performed.
+         *
+         * @return mutation count
+         */
+        public int getMutaciones() {
+            return mutaciones;
+        }
+
+        /**
+         * Gets the total points.
+         *
+         * @return points
+         */
+        public int getPuntos() {
+            return puntos;
+        }
+
+        /**
+         * Gets the bichos defeated.
+         *
+         * @return defeated count
+         */
+        public int getDerrotados() {
+            return derrotados;
+        }
+
+        /**
+         * Tells whether the game was won.
+         *
+         * @return true if every bicho was eliminated
+         */
+        public boolean isVictoria() {
+            return victoria;
+        }
+
+        /**
+         * Gets the shot accuracy.
+         *
+         * @return accuracy as a percentage (0-100), or 0 if no shots were fired
+         */
+        public double getPrecision() {
+            return disparos == 0 ? 0.0 : (aciertos * 100.0) / disparos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("#%d %d pts, %.1f%%, %d turns%s", id, puntos, getPrecision(), turnos,
+                victoria ? ", won" : "");
+        }
+    }
+}
@@ -0,0 +1,518 @@
+package service;
+
+import models.CreatureRegistry;
+import models.GameStatistics;
+import models.TipoBicho;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tick-based engine resolving actions of many players on one shared board.
+ * <p>
+ * Players queue bullets, bombs and mutations at any time and from any
+ * thread with {@link #submit}. Each call to {@link #tick()} resolves every
+ * queued action in a deterministic order and keeps a separate
+ * {@link GameStatistics} per player:
+ * <ol>
+ *   <li>Bullets and bombs are packed into {@code long} keys ordered by cell,
+ *       then player id, then the player's own submission order.</li>
+ *   <li>The sorted keys are split into contiguous row-major ranges (board
+ *       regions) that never share a cell; large ticks resolve the ranges in
+ *       parallel, reading the board but not writing it.</li>
+ *   <li>Hits on the same cell are merged in key order: each one is applied to
+ *       the health left by the previous one, the kill is credited to the
+ *       player whose hit brought it to zero, and later hits count as misses.</li>
+ *   <li>Changed cells and statistics are committed sequentially, in time
+ *       proportional to the number of actions, and every hit, kill and miss
+ *       is reported to the manager's {@link GameListener}s as a
+ *       single-player attack would be.</li>
+ *   <li>Mutations are applied last, in player order, since they target the
+ *       weakest bicho of the whole board. The weakest candidates for all of
+ *       them are found in one scan of the board.</li>
+ * </ol>
+ * The cost of a tick depends on the number of actions in it, not on the
+ * number of registered players. The board must not be used by anyone else
+ * while a tick runs.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class MultiplayerEngine implements AutoCloseable {
+
+    /**
+     * Maximum number of players an engine can register.
+     */
+    public static final int MAX_PLAYERS = 1 << 20;
+
+    /**
+     * Maximum number of actions one player can queue per tick.
+     */
+    public static final int MAX_ACTIONS_PER_TICK = 1 << 12;
+
+    /**
+     * Ticks with fewer attacks than this are resolved on the calling thread.
+     */
+    static final int PARALLEL_THRESHOLD = 2048;
+
+    private static final int BITS_SECUENCIA = 12;
+    private static final int BITS_JUGADOR = 20;
+    private static final int DESPLAZAMIENTO_JUGADOR = 1 + BITS_SECUENCIA;
+    private static final int DESPLAZAMIENTO_CELDA = DESPLAZAMIENTO_JUGADOR + BITS_JUGADOR;
+    private static final long MASCARA_JUGADOR = (1L << BITS_JUGADOR) - 1;
+
+    private static final byte FALLO = 0;
+    private static final byte IMPACTO = 1;
+    private static final byte MUERTE = 2;
+    private static final TipoBicho[] TIPOS = TipoBicho.values();
+
+    /**
+     * Actions a player can queue.
+     */
+    public enum Accion {
+        /** Bullet on a chosen cell. */
+        BULLET,
+        /** Bomb on a chosen cell. */
+        BOMB,
+        /** Mutation of the weakest bicho on the board. */
+        MUTATION
+    }
+
+    private final BichoManager manager;
+    private final int columnas;
+    private final int paralelismo;
+    private final ExecutorService pool;
+
+    private final Object cola = new Object();
+    private GameStatistics[] jugadores = new GameStatistics[16];
+    private int numJugadores;
+    private int[] secuencias = new int[16];
+    private long[] ataques = new long[64];
+    private int numAtaques;
+    private long[] mutaciones = new long[16];
+    private int numMutaciones;
+    private int[] invalidas = new int[16];
+    private int numInvalidas;
+
+    private long[] ataquesReserva = new long[64];
+    private long[] mutacionesReserva = new long[16];
+    private int[] invalidasReserva = new int[16];
+    private volatile long tick;
+
+    /**
+     * Creates an engine over a shared board using every core.
+     *
+     * @param manager shared game board
+     */
+    public MultiplayerEngine(BichoManager manager) {
+        this(manager, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an engine over a shared board.
+     *
+     * @param manager     shared game board
+     * @param paralelismo number of regions resolved in parallel (1 for sequential)
+     * @throws IllegalArgumentException if manager is null or paralelismo is below 1
+     */
+    public MultiplayerEngine(BichoManager manager, int paralelismo) {
+        if (manager == null) {
+            throw new IllegalArgumentException("Manager cannot be null");
+        }
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.manager = manager;
+        this.columnas = manager.getColumnas();
+        this.paralelismo = paralelismo;
+        this.pool = paralelismo == 1 ? null : Executors.newFixedThreadPool(paralelismo, r -> {
+            Thread t = new Thread(r, "multiplayer-tick");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Registers a new player.
+     *
+     * @return the player id (0, 1, 2, ...)
+     * @throws IllegalStateException if {@value #MAX_PLAYERS} players are registered
+     */
+    public int addPlayer() {
+        synchronized (cola) {
+            if (numJugadores >= MAX_PLAYERS) {
+                throw new IllegalStateException("Player limit reached");
+            }
+            if (numJugadores == jugadores.length) {
+                // Copy rather than grow in place: a running tick keeps reading its snapshot.
+                jugadores = Arrays.copyOf(jugadores, numJugadores * 2);
+                secuencias = Arrays.copyOf(secuencias, numJugadores * 2);
+            }
+            jugadores[numJugadores] = new GameStatistics();
+            return numJugadores++;
+        }
+    }
+
+    /**
+     * Gets the number of registered players.
+     *
+     * @return player count
+     */
+    public int getPlayerCount() {
+        synchronized (cola) {
+            return numJugadores;
+        }
+    }
+
+    /**
+     * Gets the statistics of one player.
+     * <p>
+     * Statistics are updated by {@link #tick()}; read them between ticks.
+     * </p>
+     *
+     * @param jugador player id
+     * @return the player's statistics
+     * @throws IndexOutOfBoundsException if the player does not exist
+     */
+    public GameStatistics getEstadisticas(int jugador) {
+        synchronized (cola) {
+            if (jugador < 0 || jugador >= numJugadores) {
+                throw new IndexOutOfBoundsException("Unknown player: " + jugador);
+            }
+            return jugadores[jugador];
+        }
+    }
+
+    /**
+     * Gets the number of ticks resolved so far.
+     *
+     * @return tick counter
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Queues an action for the next tick. Safe to call from any thread.
+     *
+     * @param jugador player id
+     * @param accion  action to perform
+     * @param fila    target row (ignored for mutations)
+     * @param col     target column (ignored for mutations)
+     * @return true if queued, false if the player already queued
+     *         {@value #MAX_ACTIONS_PER_TICK} actions this tick
+     * @throws IllegalArgumentException if the player does not exist or accion is null
+     */
+    public boolean submit(int jugador, Accion accion, int fila, int col) {
+        if (accion == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        synchronized (cola) {
+            if (jugador < 0 || jugador >= numJugadores) {
+                throw new IllegalArgumentException("Unknown player: " + jugador);
+            }
+            int secuencia = secuencias[jugador];
+            if (secuencia >= MAX_ACTIONS_PER_TICK) {
+                return false;
+            }
+            secuencias[jugador] = secuencia + 1;
+            long orden = ((long) jugador << DESPLAZAMIENTO_JUGADOR) | ((long) secuencia << 1);
+
+            if (accion == Accion.MUTATION) {
+                if (numMutaciones == mutaciones.length) {
+                    mutaciones = Arrays.copyOf(mutaciones, numMutaciones * 2);
+                }
+                mutaciones[numMutaciones++] = orden;
+            } else if (fila < 0 || fila >= manager.getFilas() || col < 0 || col >= columnas) {
+                // Resolved like BichoManager does with bad coordinates: a turn and a miss.
+                if (numInvalidas == invalidas.length) {
+                    invalidas = Arrays.copyOf(invalidas, numInvalidas * 2);
+                }
+                invalidas[numInvalidas++] = jugador << 1 | (accion == Accion.BOMB ? 1 : 0);
+            } else {
+                if (numAtaques == ataques.length) {
+                    ataques = Arrays.copyOf(ataques, numAtaques * 2);
+                }
+                long celda = (long) fila * columnas + col;
+                ataques[numAtaques++] = (celda << DESPLAZAMIENTO_CELDA) | orden
+                    | (accion == Accion.BOMB ? 1 : 0);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Resolves every action queued since the previous tick.
+     * <p>
+     * The queues are swapped with spare buffers under a short lock, so
+     * players keep submitting actions for the next tick while this one is
+     * being resolved. Ticks must not be run concurrently. All the board
+     * changes of a tick are written as one turn, so readers of a
+     * {@link models.TableroMapeado} see whole ticks.
+     * </p>
+     *
+     * @return number of actions resolved
+     */
+    public synchronized int tick() {
+        long[] claves;
+        long[] muts;
+        int[] fuera;
+        int n;
+        int m;
+        int f;
+        GameStatistics[] stats;
+        synchronized (cola) {
+            claves = ataques;
+            muts = mutaciones;
+            fuera = invalidas;
+            n = numAtaques;
+            m = numMutaciones;
+            f = numInvalidas;
+            ataques = ataquesReserva;
+            mutaciones = mutacionesReserva;
+            invalidas = invalidasReserva;
+            numAtaques = 0;
+            numMutaciones = 0;
+            numInvalidas = 0;
+            stats = jugadores;
+            reiniciarSecuencias(claves, n, muts, m, fuera, f);
+        }
+
+        for (int i = 0; i < f; i++) {
+            GameStatistics jugador = stats[fuera[i] >>> 1];
+            jugador.incrementTurns();
+            if ((fuera[i] & 1) == 1) {
+                jugador.recordBomb();
+            } else {
+                jugador.recordShot(false);
+            }
+        }
+        manager.ejecutarTurno(() -> {
+            resolverAtaques(claves, n, stats);
+            resolverMutaciones(muts, m, stats);
+        });
+
+        ataquesReserva = claves;
+        mutacionesReserva = muts;
+        invalidasReserva = fuera;
+        tick++;
+        return n + m + f;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Clears the per-tick sequence counters of the players that queued
+     * something, in time proportional to the actions rather than the players.
+     */
+    private void reiniciarSecuencias(long[] claves, int n, long[] muts, int m, int[] fuera, int f) {
+        for (int i = 0; i < n; i++) {
+            secuencias[(int) ((claves[i] >>> DESPLAZAMIENTO_JUGADOR) & MASCARA_JUGADOR)] = 0;
+        }
+        for (int i = 0; i < m; i++) {
+            secuencias[(int) ((muts[i] >>> DESPLAZAMIENTO_JUGADOR) & MASCARA_JUGADOR)] = 0;
+        }
+        for (int i = 0; i < f; i++) {
+            secuencias[fuera[i] >>> 1] = 0;
+        }
+    }
+
+    private void resolverAtaques(long[] claves, int n, GameStatistics[] stats) {
+        if (n == 0) {
+            return;
+        }
+        if (n > PARALLEL_THRESHOLD && pool != null) {
+            Arrays.parallelSort(claves, 0, n);
+        } else {
+            Arrays.sort(claves, 0, n);
+        }
+        byte[] resultados = new byte[n];
+        int[] restantes = new int[n];
+        int[] saludFinal = new int[n];
+
+        if (n <= PARALLEL_THRESHOLD || pool == null) {
+            resolverRegion(claves, 0, n, resultados, restantes, saludFinal);
+        } else {
+            paginarCeldas(claves, n);
+            resolverEnParalelo(claves, n, resultados, restantes, saludFinal);
+        }
+
+        for (int i = 0; i < n; i++) {
+            long clave = claves[i];
+            int celda = (int) (clave >>> DESPLAZAMIENTO_CELDA);
+            int fila = celda / columnas;
+            int col = celda % columnas;
+            if (i == 0 || celda != (int) (claves[i - 1] >>> DESPLAZAMIENTO_CELDA)) {
+                int salud = saludFinal[i];
+                if (salud >= 0) {
+                    manager.setSalud(fila, col, salud);
+                }
+            }
+            GameStatistics jugador = stats[(int) ((clave >>> DESPLAZAMIENTO_JUGADOR) & MASCARA_JUGADOR)];
+            byte resultado = resultados[i];
+            jugador.incrementTurns();
+            if ((clave & 1) == 1) {
+                jugador.recordBomb();
+            } else {
+                jugador.recordShot((resultado & 3) != FALLO);
+            }
+            if ((resultado & 3) == MUERTE) {
+                jugador.recordDefeat(TIPOS[resultado >>> 2]);
+            }
+            if ((resultado & 3) == FALLO) {
+                manager.notificarFallo(fila, col);
+            } else {
+                manager.notificarImpacto(fila, col, TIPOS[resultado >>> 2], restantes[i]);
+            }
+        }
+    }
+
+    /**
+     * Pages in the cells attacked this tick before the workers read them.
+     * A board opened with {@link BichoManager#abrirPartidaTeselada} loads
+     * tiles on first touch, which is not thread-safe; other backends are
+     * left untouched.
+     */
+    private void paginarCeldas(long[] claves, int n) {
+        int anterior = -1;
+        for (int i = 0; i < n; i++) {
+            int celda = (int) (claves[i] >>> DESPLAZAMIENTO_CELDA);
+            if (celda != anterior) {
+                manager.cargarRegion(celda / columnas, celda % columnas, 1, 1);
+                anterior = celda;
+            }
+        }
+    }
+
+    /**
+     * Splits the sorted keys into one range per worker, moving each cut to
+     * the next cell boundary so no cell is shared between regions.
+     */
+    private void resolverEnParalelo(long[] claves, int n, byte[] resultados, int[] restantes,
+            int[] saludFinal) {
+        List<Callable<Void>> regiones = new ArrayList<>(paralelismo);
+        int inicio = 0;
+        for (int r = 1; r <= paralelismo && inicio < n; r++) {
+            int fin = r == paralelismo ? n : Math.max(inicio, (int) ((long) n * r / paralelismo));
+            while (fin > inicio && fin < n
+                    && (claves[fin] >>> DESPLAZAMIENTO_CELDA) == (claves[fin - 1] >>> DESPLAZAMIENTO_CELDA)) {
+                fin++;
+            }
+            if (fin > inicio) {
+                int desde = inicio;
+                int hasta = fin;
+                regiones.add(() -> {
+                    resolverRegion(claves, desde, hasta, resultados, restantes, saludFinal);
+                    return null;
+                });
+                inicio = fin;
+            }
+        }
+        try {
+            for (Future<Void> region : pool.invokeAll(regiones)) {
+                region.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tick interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tick resolution failed", e.getCause());
+        }
+    }
+
+    /**
+     * Merges the hits of every cell in a key range.
+     * <p>
+     * Only reads the board. For each action stores the outcome (low two
+     * bits), the type of the bicho hit (remaining bits) and the health it
+     * left; for the first action of each cell stores the final health, or
+     * -1 if unchanged.
+     * </p>
+     */
+    private void resolverRegion(long[] claves, int desde, int hasta, byte[] resultados, int[] restantes,
+            int[] saludFinal) {
+        CreatureRegistry registro = CreatureRegistry.getActivo();
+        int i = desde;
+        while (i < hasta) {
+            int celda = (int) (claves[i] >>> DESPLAZAMIENTO_CELDA);
+            int fila = celda / columnas;
+            int col = celda % columnas;
+            int saludInicial = manager.getSalud(fila, col);
+            int salud = saludInicial;
+            int tipo = saludInicial > 0 ? manager.getTipo(fila, col).ordinal() : 0;
+            int dano = registro.getDanoBala(tipo);
+            int primero = i;
+            do {
+                if (salud == 0) {
+                    resultados[i] = FALLO;
+                } else {
+                    salud = (claves[i] & 1) == 1 ? 0 : Math.max(0, salud - dano);
+                    resultados[i] = (byte) ((salud == 0 ? MUERTE : IMPACTO) | tipo << 2);
+                }
+                restantes[i] = salud;
+                i++;
+            } while (i < hasta && (int) (claves[i] >>> DESPLAZAMIENTO_CELDA) == celda);
+            saludFinal[primero] = salud == saludInicial ? -1 : salud;
+        }
+    }
+
+    /**
+     * Applies the mutations of a tick. Each one targets the weakest living
+     * bicho, as {@link BichoManager#mutarMasDebil()} would. A mutation only
+     * raises health, so the {@code m} weakest bichos at the start of the
+     * tick, ordered by health and then cell index, are the only possible
+     * targets; they are found in a single scan and kept in a heap.
+     */
+    private void resolverMutaciones(long[] muts, int m, GameStatistics[] stats) {
+        if (m == 0) {
+            return;
+        }
+        Arrays.sort(muts, 0, m);
+        PriorityQueue<Long> candidatas = new PriorityQueue<>(m + 1, Comparator.reverseOrder());
+        manager.recorrerOcupadas((fila, col, tipo, salud) -> {
+            if (salud > 0) {
+                candidatas.add(claveMutacion(salud, fila * columnas + col));
+                if (candidatas.size() > m) {
+                    candidatas.poll();
+                }
+            }
+        });
+        PriorityQueue<Long> debiles = new PriorityQueue<>(m + 1);
+        debiles.addAll(candidatas);
+        for (int i = 0; i < m; i++) {
+            GameStatistics jugador = stats[(int) ((muts[i] >>> DESPLAZAMIENTO_JUGADOR) & MASCARA_JUGADOR)];
+            jugador.incrementTurns();
+            Long debil = debiles.poll();
+            if (debil != null) {
+                int indice = (int) (long) debil;
+                int fila = indice / columnas;
+                int col = indice % columnas;
+                manager.mutarEn(fila, col);
+                debiles.add(claveMutacion(manager.getSalud(fila, col), indice));
+                jugador.recordMutation();
+            }
+        }
+    }
+
+    private static long claveMutacion(int salud, int indice) {
+        return (long) salud << 32 | indice;
+    }
+}
@@ -0,0 +1,130 @@
+package service;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.Tablero;
+import models.TipoBicho;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Streaming JSON codec for saved games.
+ * <p>
+ * Reads and writes the same document Gson produces for a {@code Bicho[][]}
+ * ({@code [[{"salud":10,"tipo":"NORMAL"}, ...], ...]}), but cell by cell
+ * through a {@link models.Tablero}, so boards of any backend can be saved and
+ * loaded without materializing an object per cell.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+final class PartidaJson {
+
+    private PartidaJson() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Writes every cell of a board as a JSON matrix.
+     *
+     * @param tablero board to write
+     * @param out     destination writer (not closed)
+     * @throws IOException if the writer fails
+     */
+    static void escribir(Tablero tablero, Writer out) throws IOException {
+        JsonWriter json = new JsonWriter(out);
+        json.beginArray();
+        for (int i = 0; i < tablero.getFilas(); i++) {
+            json.beginArray();
+            for (int j = 0; j < tablero.getColumnas(); j++) {
+                json.beginObject();
+                json.name("salud").value(tablero.getSalud(i, j));
+                json.name("tipo").value(tablero.getTipo(i, j).name());
+                json.endObject();
+            }
+            json.endArray();
+        }
+        json.endArray();
+        json.flush();
+    }
+
+    /**
+     * Reads a JSON matrix into an empty board of the expected dimensions.
+     * <p>
+     * Reading stops as soon as the document does not match the dimensions of
+     * the destination board. {@code null} cells are treated as empty.
+     * </p>
+     *
+     * @param in      source reader (not closed)
+     * @param destino empty board receiving the occupied cells
+     * @return true if the document matched the board dimensions exactly
+     * @throws IOException if the reader fails or the document is malformed
+     */
+    static boolean leer(Reader in, Tablero destino) throws IOException {
+        JsonReader json = new JsonReader(in);
+        if (json.peek() != JsonToken.BEGIN_ARRAY) {
+            return false;
+        }
+        int filas = destino.getFilas();
+        int columnas = destino.getColumnas();
+        int fila = 0;
+        json.beginArray();
+        while (json.hasNext()) {
+            if (fila >= filas || json.peek() != JsonToken.BEGIN_ARRAY) {
+                return false;
+            }
+            int col = 0;
+            json.beginArray();
+            while (json.hasNext()) {
+                if (col >= columnas) {
+                    return false;
+                }
+                leerCelda(json, destino, fila, col);
+                col++;
+            }
+            json.endArray();
+            if (col != columnas) {
+                return false;
+            }
+            fila++;
+        }
+        json.endArray();
+        return fila == filas;
+    }
+
+    private static void leerCelda(JsonReader json, Tablero destino, int fila, int col)
+            throws IOException {
+        if (json.peek() == JsonToken.NULL) {
+            json.nextNull();
+            return;
+        }
+        int salud = 0;
+        TipoBicho tipo = TipoBicho.VACIO;
+        json.beginObject();
+        while (json.hasNext()) {
+            String campo = json.nextName();
+            if ("salud".equals(campo)) {
+                salud = json.nextInt();
+            } else if ("tipo".equals(campo) && json.peek() == JsonToken.STRING) {
+                String nombre = json.nextString();
+                try {
+                    tipo = TipoBicho.valueOf(nombre);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(String.format(
+                        "Unknown bicho type %s at [%d,%d]", nombre, fila, col), e);
+                }
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+        if (tipo != TipoBicho.VACIO || salud > 0) {
+            destino.setCelda(fila, col, tipo, salud);
+        }
+    }
+}
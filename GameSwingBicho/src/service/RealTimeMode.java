@@ -0,0 +1,431 @@
+package service;
+
+import models.CreatureRegistry;
+import models.TipoBicho;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Real-time game mode where bichos regenerate, mutate and spawn on timers.
+ * <p>
+ * Every living bicho owns a regeneration timer and a mutation timer, and a
+ * spawn timer periodically drops new bichos on empty cells. All timers live
+ * in one {@link TimingWheel}, so arenas with millions of bichos only pay for
+ * the timers due in each tick. First delays are spread at random over a
+ * whole period, which keeps the work per tick even instead of firing every
+ * bicho at once.
+ * </p>
+ * <p>
+ * The caller drives time by calling {@link #tick()} from its game loop.
+ * Each tick fires its due timers as one batch inside
+ * {@link BichoManager#ejecutarTurno(Runnable)}. Timers of bichos killed in
+ * the meantime are not cancelled; they are dropped when they fire and find
+ * the cell dead, or when a new bicho spawns on the cell. The handles of
+ * each cell's timers are kept in a small open-addressing map, so timers
+ * follow bichos moved by {@link BichoMovement}. Replacing the board, for
+ * example by loading a game, makes the next tick reschedule every timer
+ * from the new board. Like
+ * {@link BichoManager}, this class is not thread-safe.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class RealTimeMode {
+
+    private static final int REGENERAR = 0;
+    private static final int MUTAR = 1;
+    private static final int APARECER = 2;
+
+    private final BichoManager manager;
+    private final TimingWheel rueda;
+    private final SplittableRandom random;
+    private final int columnas;
+    private final TimingWheel.Disparador disparador = this::disparar;
+    private final Handles handles = new Handles();
+    private final Runnable lote;
+    private int periodoRegeneracion = 20;
+    private int cantidadRegeneracion = 1;
+    private int periodoMutacion = 200;
+    private int periodoAparicion = 10;
+    private boolean iniciado;
+    private boolean reiniciado;
+    private int disparados;
+    private long regeneraciones;
+    private long mutaciones;
+    private long apariciones;
+
+    /**
+     * Creates a real-time mode for a game. Timers start on the first tick.
+     *
+     * @param manager game whose bichos are driven
+     * @param semilla seed for timer jitter and spawn positions
+     */
+    public RealTimeMode(BichoManager manager, long semilla) {
+        this.manager = manager;
+        this.columnas = manager.getColumnas();
+        this.random = new SplittableRandom(semilla);
+        this.rueda = new TimingWheel(1024, 1024);
+        this.lote = () -> disparados = rueda.avanzar(disparador);
+        manager.addListener(new GameListener() {
+            @Override
+            public void onBoardReset() {
+                reiniciado = true;
+            }
+        });
+        manager.setTiempoReal(this);
+    }
+
+    /**
+     * Sets how often living bichos heal and by how much.
+     * Applies to timers scheduled afterwards.
+     *
+     * @param periodo  ticks between regenerations, or 0 to disable
+     * @param cantidad health healed each time
+     * @throws IllegalArgumentException if a value is negative
+     */
+    public void setRegeneracion(int periodo, int cantidad) {
+        validarPeriodo(periodo);
+        if (cantidad < 0) {
+            throw new IllegalArgumentException(
+                String.format("Regeneration amount must not be negative, got %d", cantidad));
+        }
+        this.periodoRegeneracion = periodo;
+        this.cantidadRegeneracion = cantidad;
+    }
+
+    /**
+     * Sets how often living bichos try to mutate. A bicho only mutates
+     * while its health is at or below the starting health of its type, so
+     * timers never grow health without bound.
+     * Applies to timers scheduled afterwards.
+     *
+     * @param periodo ticks between mutation attempts, or 0 to disable
+     * @throws IllegalArgumentException if periodo is negative
+     */
+    public void setMutacion(int periodo) {
+        validarPeriodo(periodo);
+        this.periodoMutacion = periodo;
+    }
+
+    /**
+     * Sets how often a new bicho tries to spawn on a random cell. Spawns
+     * landing on an occupied cell are skipped.
+     * Applies to timers scheduled afterwards.
+     *
+     * @param periodo ticks between spawn attempts, or 0 to disable
+     * @throws IllegalArgumentException if periodo is negative
+     */
+    public void setAparicion(int periodo) {
+        validarPeriodo(periodo);
+        this.periodoAparicion = periodo;
+    }
+
+    /**
+     * Advances the game by one tick, firing every timer due in it as a
+     * single batch.
+     *
+     * @return number of timers fired
+     */
+    public int tick() {
+        if (!iniciado || reiniciado) {
+            programarTodo();
+        }
+        manager.ejecutarTurno(lote);
+        return disparados;
+    }
+
+    /**
+     * Advances the game by several ticks.
+     *
+     * @param ticks number of ticks
+     * @return number of timers fired
+     */
+    public long avanzar(int ticks) {
+        long total = 0;
+        for (int i = 0; i < ticks; i++) {
+            total += tick();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of ticks elapsed.
+     *
+     * @return current tick
+     */
+    public long getTick() {
+        return rueda.getTick();
+    }
+
+    /**
+     * Gets the number of pending timers.
+     *
+     * @return timers waiting to fire
+     */
+    public int getPendientes() {
+        return rueda.getPendientes();
+    }
+
+    /**
+     * Gets the number of regenerations that healed a bicho.
+     *
+     * @return regenerations applied
+     */
+    public long getRegeneraciones() {
+        return regeneraciones;
+    }
+
+    /**
+     * Gets the number of timed mutations applied.
+     *
+     * @return mutations applied
+     */
+    public long getMutaciones() {
+        return mutaciones;
+    }
+
+    /**
+     * Gets the number of bichos spawned.
+     *
+     * @return bichos spawned
+     */
+    public long getApariciones() {
+        return apariciones;
+    }
+
+    /**
+     * Moves the timers of a cell to the empty cell its bicho moved to.
+     * Timers still pending on the destination belonged to a dead bicho and
+     * are cancelled.
+     *
+     * @param origen  packed index the bicho left
+     * @param destino packed index the bicho moved to
+     */
+    void trasladar(int origen, int destino) {
+        cancelarTimers(destino);
+        for (int accion = REGENERAR; accion <= MUTAR; accion++) {
+            long handle = handles.obtener(origen, accion);
+            if (handle != Handles.NINGUNO) {
+                rueda.reasignar(handle, destino);
+                handles.quitar(origen, accion);
+                handles.poner(destino, accion, handle);
+            }
+        }
+    }
+
+    private void cancelarTimers(int indice) {
+        for (int accion = REGENERAR; accion <= MUTAR; accion++) {
+            long handle = handles.obtener(indice, accion);
+            if (handle != Handles.NINGUNO) {
+                rueda.cancelar(handle);
+                handles.quitar(indice, accion);
+            }
+        }
+    }
+
+    private void programarTodo() {
+        rueda.limpiar();
+        handles.limpiar();
+        manager.recorrerOcupadas((fila, col, tipo, salud) -> {
+            if (salud > 0) {
+                programarBicho(fila * columnas + col, true);
+            }
+        });
+        if (periodoAparicion > 0) {
+            rueda.programar(1 + random.nextInt(periodoAparicion), 0, APARECER);
+        }
+        iniciado = true;
+        reiniciado = false;
+    }
+
+    private void programarBicho(int indice, boolean escalonar) {
+        cancelarTimers(indice);
+        if (periodoRegeneracion > 0) {
+            programar(escalonar ? 1 + random.nextInt(periodoRegeneracion) : periodoRegeneracion,
+                indice, REGENERAR);
+        }
+        if (periodoMutacion > 0) {
+            programar(escalonar ? 1 + random.nextInt(periodoMutacion) : periodoMutacion,
+                indice, MUTAR);
+        }
+    }
+
+    private void programar(int retraso, int indice, int accion) {
+        handles.poner(indice, accion, rueda.programar(retraso, indice, accion));
+    }
+
+    private void disparar(int indice, int accion) {
+        if (accion != APARECER) {
+            handles.quitar(indice, accion);
+        }
+        switch (accion) {
+            case REGENERAR -> {
+                int fila = indice / columnas;
+                int col = indice % columnas;
+                if (manager.getSalud(fila, col) > 0) {
+                    if (manager.regenerar(fila, col, cantidadRegeneracion)) {
+                        regeneraciones++;
+                    }
+                    if (periodoRegeneracion > 0) {
+                        programar(periodoRegeneracion, indice, REGENERAR);
+                    }
+                }
+            }
+            case MUTAR -> {
+                int fila = indice / columnas;
+                int col = indice % columnas;
+                int salud = manager.getSalud(fila, col);
+                if (salud > 0) {
+                    int saludInicial = CreatureRegistry.getActivo().getSalud(manager.getTipo(fila, col));
+                    if (salud <= saludInicial && manager.mutarEn(fila, col)) {
+                        mutaciones++;
+                    }
+                    if (periodoMutacion > 0) {
+                        programar(periodoMutacion, indice, MUTAR);
+                    }
+                }
+            }
+            case APARECER -> {
+                int fila = random.nextInt(manager.getFilas());
+                int col = random.nextInt(columnas);
+                TipoBicho tipo = random.nextInt(3) == 0 ? TipoBicho.ALIEN : TipoBicho.NORMAL;
+                if (manager.aparecer(fila, col, tipo)) {
+                    apariciones++;
+                    programarBicho(fila * columnas + col, false);
+                }
+                if (periodoAparicion > 0) {
+                    rueda.programar(periodoAparicion, 0, APARECER);
+                }
+            }
+            default -> throw new IllegalStateException("Unknown timer action " + accion);
+        }
+    }
+
+    private static void validarPeriodo(int periodo) {
+        if (periodo < 0) {
+            throw new IllegalArgumentException(
+                String.format("Period must not be negative, got %d", periodo));
+        }
+    }
+
+    /**
+     * Open-addressing map from a packed cell index to the handles of its
+     * regeneration and mutation timers. Cells leave the map once both
+     * handles are gone.
+     */
+    private static final class Handles {
+        static final long NINGUNO = -1L;
+        private static final int LIBRE = -1;
+
+        private int[] claves;
+        private long[] valores;
+        private int mascara;
+        private int tamano;
+
+        Handles() {
+            asignar(64);
+        }
+
+        long obtener(int celda, int accion) {
+            int i = buscar(celda);
+            return i < 0 ? NINGUNO : valores[2 * i + accion];
+        }
+
+        void poner(int celda, int accion, long handle) {
+            int i = buscar(celda);
+            if (i < 0) {
+                if ((tamano + 1) * 4 > claves.length * 3) {
+                    reconstruir(claves.length * 2);
+                }
+                i = dispersar(celda);
+                while (claves[i] != LIBRE) {
+                    i = (i + 1) & mascara;
+                }
+                claves[i] = celda;
+                valores[2 * i] = NINGUNO;
+                valores[2 * i + 1] = NINGUNO;
+                tamano++;
+            }
+            valores[2 * i + accion] = handle;
+        }
+
+        void quitar(int celda, int accion) {
+            int i = buscar(celda);
+            if (i < 0) {
+                return;
+            }
+            valores[2 * i + accion] = NINGUNO;
+            if (valores[2 * i] == NINGUNO && valores[2 * i + 1] == NINGUNO) {
+                eliminar(i);
+            }
+        }
+
+        void limpiar() {
+            Arrays.fill(claves, LIBRE);
+            tamano = 0;
+        }
+
+        private int buscar(int celda) {
+            int i = dispersar(celda);
+            while (claves[i] != LIBRE) {
+                if (claves[i] == celda) {
+                    return i;
+                }
+                i = (i + 1) & mascara;
+            }
+            return -1;
+        }
+
+        /**
+         * Frees a position, shifting back the following entries of its
+         * probe run.
+         */
+        private void eliminar(int hueco) {
+            int siguiente = (hueco + 1) & mascara;
+            while (claves[siguiente] != LIBRE) {
+                int ideal = dispersar(claves[siguiente]);
+                if (((siguiente - ideal) & mascara) >= ((siguiente - hueco) & mascara)) {
+                    claves[hueco] = claves[siguiente];
+                    valores[2 * hueco] = valores[2 * siguiente];
+                    valores[2 * hueco + 1] = valores[2 * siguiente + 1];
+                    hueco = siguiente;
+                }
+                siguiente = (siguiente + 1) & mascara;
+            }
+            claves[hueco] = LIBRE;
+            tamano--;
+        }
+
+        private int dispersar(int clave) {
+            int h = clave * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mascara;
+        }
+
+        private void asignar(int capacidad) {
+            claves = new int[capacidad];
+            Arrays.fill(claves, LIBRE);
+            valores = new long[capacidad * 2];
+            mascara = capacidad - 1;
+        }
+
+        private void reconstruir(int capacidad) {
+            int[] viejasClaves = claves;
+            long[] viejosValores = valores;
+            asignar(capacidad);
+            for (int i = 0; i < viejasClaves.length; i++) {
+                if (viejasClaves[i] != LIBRE) {
+                    int j = dispersar(viejasClaves[i]);
+                    while (claves[j] != LIBRE) {
+                        j = (j + 1) & mascara;
+                    }
+                    claves[j] = viejasClaves[i];
+                    valores[2 * j] = viejosValores[2 * i];
+                    valores[2 * j + 1] = viejosValores[2 * i + 1];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,609 @@
+package service;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import models.GameConstants;
+import models.GameStatistics;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Hosts many independent {@link BichoManager} sessions in one JVM.
+ * <p>
+ * Sessions live in a fixed number of lock stripes, each a plain
+ * {@link HashMap} guarded by its own monitor, so lookups from different
+ * threads rarely contend and never wait on disk I/O: a stripe is only held
+ * to find or insert an entry. Each session is then used under its own
+ * entry lock, which makes a single session safe to share between threads.
+ * </p>
+ * <p>
+ * Sessions not used for longer than the idle timeout are evicted: their
+ * board is written with {@link BichoManager#guardarPartida(Path)} to one
+ * file per session, their dimensions and statistics to a small metadata
+ * file next to it, and the manager is dropped, leaving a stub. The next
+ * access reloads the board through {@link BichoManager#cargarPartida(Path)}.
+ * Resident memory therefore follows the active players, not the total
+ * player population.
+ * </p>
+ * <p>
+ * Only the board and the statistics survive eviction. Listeners, status
+ * effects, the movement phase, the threat map and the per-turn time series
+ * attached to a manager are dropped with it, so callers that need them
+ * must attach them again inside {@link #ejecutar} after a reload, or use a
+ * registry that never evicts.
+ * </p>
+ * <p>
+ * A registry opened on a directory that already holds evicted sessions,
+ * for instance after a restart, serves them again under their old ids,
+ * and new ids continue after the highest one found. Reloading reads a
+ * file, so a caller that must not block, such as a selector thread, can
+ * check {@link #enDisco(int)} and reload the session in the background
+ * with {@link #recargarEnSegundoPlano(int)} first.
+ * </p>
+ * <p>
+ * The registry caps the total number of board cells across its sessions,
+ * resident or evicted, so no stream of creation requests can exhaust the
+ * heap or the disk; a session created past the cap is refused until others
+ * are removed.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class SessionRegistry implements AutoCloseable {
+
+    /** Number of lock stripes (a power of two). */
+    public static final int STRIPES = 64;
+
+    /** Default cap on the total cells of all sessions. */
+    public static final long MAX_CELLS = 1L << 26;
+
+    private static final String PREFIJO = "session-";
+    private static final String EXTENSION_TABLERO = ".json";
+    private static final String EXTENSION_METADATOS = ".meta.json";
+    private static final Gson GSON = new Gson();
+
+    private final List<Map<Integer, Sesion>> franjas = new ArrayList<>(STRIPES);
+    private final Path directorio;
+    private final long inactividad;
+    private final LongSupplier reloj;
+    private final ScheduledExecutorService limpieza;
+    private final ExecutorService cargador;
+    private final AtomicInteger siguienteId = new AtomicInteger(1);
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger residentes = new AtomicInteger();
+    private final AtomicLong celdas = new AtomicLong();
+    private final long maxCeldas;
+
+    /**
+     * Creates an in-memory registry that never evicts sessions.
+     */
+    public SessionRegistry() {
+        this(MAX_CELLS);
+    }
+
+    /**
+     * Creates an in-memory registry that never evicts sessions and holds at
+     * most the given number of board cells.
+     *
+     * @param maxCeldas cap on the total cells of all sessions
+     * @throws IllegalArgumentException if the cap is not positive
+     */
+    public SessionRegistry(long maxCeldas) {
+        this(null, 0, System::nanoTime, false, maxCeldas);
+    }
+
+    /**
+     * Creates a registry that evicts idle sessions to disk.
+     * <p>
+     * A daemon thread checks for idle sessions every half timeout.
+     * </p>
+     *
+     * @param directorio        directory holding evicted sessions (created if
+     *                          missing); sessions already in it are served again
+     * @param inactividadMillis idle time before a session is evicted
+     * @throws IllegalArgumentException if the timeout is not positive
+     * @throws IOException if the directory cannot be created
+     * @throws UncheckedIOException if the sessions in the directory cannot be read
+     */
+    public SessionRegistry(Path directorio, long inactividadMillis) throws IOException {
+        this(crearDirectorio(directorio), TimeUnit.MILLISECONDS.toNanos(inactividadMillis),
+            System::nanoTime, true);
+    }
+
+    /**
+     * Creates a registry with an explicit clock and no background thread.
+     *
+     * @param directorio  directory holding evicted sessions, or null to never evict
+     * @param inactividad idle time in clock units
+     * @param reloj       monotonic clock
+     * @param programar   true to run eviction periodically in the background
+     * @throws UncheckedIOException if the sessions in the directory cannot be read
+     */
+    SessionRegistry(Path directorio, long inactividad, LongSupplier reloj, boolean programar) {
+        this(directorio, inactividad, reloj, programar, MAX_CELLS);
+    }
+
+    /**
+     * Creates a registry with an explicit clock and cell cap.
+     *
+     * @param directorio  directory holding evicted sessions, or null to never evict
+     * @param inactividad idle time in clock units
+     * @param reloj       monotonic clock
+     * @param programar   true to run eviction periodically in the background
+     * @param maxCeldas   cap on the total cells of all sessions
+     * @throws UncheckedIOException if the sessions in the directory cannot be read
+     */
+    SessionRegistry(Path directorio, long inactividad, LongSupplier reloj, boolean programar, long maxCeldas) {
+        if (directorio != null && inactividad <= 0) {
+            throw new IllegalArgumentException("Idle timeout must be positive");
+        }
+        if (maxCeldas <= 0) {
+            throw new IllegalArgumentException(String.format("Cell cap must be positive: %d", maxCeldas));
+        }
+        this.maxCeldas = maxCeldas;
+        for (int i = 0; i < STRIPES; i++) {
+            franjas.add(new HashMap<>());
+        }
+        this.directorio = directorio;
+        this.inactividad = inactividad;
+        this.reloj = reloj;
+        if (programar && directorio != null) {
+            limpieza = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "session-eviction");
+                t.setDaemon(true);
+                return t;
+            });
+            long periodo = Math.max(1, TimeUnit.NANOSECONDS.toMillis(inactividad) / 2);
+            limpieza.scheduleWithFixedDelay(this::expirarInactivas, periodo, periodo, TimeUnit.MILLISECONDS);
+        } else {
+            limpieza = null;
+        }
+        if (directorio != null) {
+            cargador = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "session-loader");
+                t.setDaemon(true);
+                return t;
+            });
+            restaurar();
+        } else {
+            cargador = null;
+        }
+    }
+
+    /**
+     * Registers the sessions evicted to the directory by an earlier registry
+     * as evicted stubs, and moves the id counter past every session file
+     * found, so no old file is ever overwritten by a new session.
+     */
+    private void restaurar() {
+        int maximo = 0;
+        long ahora = reloj.getAsLong();
+        try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio, PREFIJO + "*")) {
+            for (Path p : archivos) {
+                String nombre = p.getFileName().toString();
+                if (!nombre.endsWith(EXTENSION_METADATOS)) {
+                    maximo = Math.max(maximo, idDe(nombre));
+                    continue;
+                }
+                int id = idDe(nombre);
+                if (id <= 0 || !Files.exists(archivo(id))) {
+                    continue;
+                }
+                Metadatos meta = leerMetadatos(p);
+                if (meta == null) {
+                    continue;
+                }
+                Sesion sesion = new Sesion(null, ahora);
+                sesion.filas = meta.filas;
+                sesion.columnas = meta.columnas;
+                sesion.estadisticas = meta.estadisticas;
+                franja(id).put(id, sesion);
+                total.incrementAndGet();
+                celdas.addAndGet((long) meta.filas * meta.columnas);
+                maximo = Math.max(maximo, id);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        siguienteId.set(maximo + 1);
+    }
+
+    private static int idDe(String nombre) {
+        int fin = nombre.indexOf('.', PREFIJO.length());
+        try {
+            return Integer.parseInt(nombre.substring(PREFIJO.length(), fin < 0 ? nombre.length() : fin));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Metadatos leerMetadatos(Path p) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(p)) {
+            Metadatos meta = GSON.fromJson(in, Metadatos.class);
+            return meta != null && meta.filas > 0 && meta.columnas > 0 && meta.estadisticas != null
+                ? meta : null;
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    private static Path crearDirectorio(Path directorio) throws IOException {
+        if (directorio == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        return Files.createDirectories(directorio);
+    }
+
+    /**
+     * Creates a new session.
+     * <p>
+     * Boards up to {@value GameConstants#MAX_BOARD_SIZE} per side are
+     * regular games; larger ones are arenas.
+     * </p>
+     *
+     * @param filas     number of rows
+     * @param columnas  number of columns
+     * @param aleatorio true to fill the board with random bichos
+     * @return id of the new session
+     * @throws IllegalArgumentException if dimensions are out of valid range
+     * @throws IllegalStateException if the session would exceed the cell cap
+     */
+    public int crear(int filas, int columnas, boolean aleatorio) {
+        long tam = (long) Math.max(filas, 0) * Math.max(columnas, 0);
+        reservar(tam);
+        BichoManager manager;
+        try {
+            manager = filas <= GameConstants.MAX_BOARD_SIZE && columnas <= GameConstants.MAX_BOARD_SIZE
+                ? new BichoManager(filas, columnas)
+                : BichoManager.crearArena(filas, columnas);
+        } catch (RuntimeException e) {
+            celdas.addAndGet(-tam);
+            throw e;
+        }
+        if (aleatorio) {
+            manager.crearBichosAleatorios();
+        }
+        int id = siguienteId.getAndIncrement();
+        Sesion sesion = new Sesion(manager, reloj.getAsLong());
+        Map<Integer, Sesion> franja = franja(id);
+        synchronized (franja) {
+            franja.put(id, sesion);
+        }
+        total.incrementAndGet();
+        residentes.incrementAndGet();
+        return id;
+    }
+
+    private void reservar(long tam) {
+        long actual;
+        do {
+            actual = celdas.get();
+            if (tam > maxCeldas - actual) {
+                throw new IllegalStateException(String.format(
+                    "Session of %d cells exceeds the cap of %d (%d in use)", tam, maxCeldas, actual));
+            }
+        } while (!celdas.compareAndSet(actual, actual + tam));
+    }
+
+    /**
+     * Checks whether a session exists, resident or evicted.
+     *
+     * @param id session id
+     * @return true if the session exists
+     */
+    public boolean existe(int id) {
+        return buscar(id) != null;
+    }
+
+    /**
+     * Runs an action on a session, reloading it from disk if it was evicted.
+     * <p>
+     * The action holds the session lock, so concurrent calls for the same
+     * session run one at a time and the session cannot be evicted while in
+     * use. The manager must not be kept after the action returns.
+     * </p>
+     *
+     * @param <T>    action result type
+     * @param id     session id
+     * @param accion action to run on the session manager
+     * @return the action result
+     * @throws IllegalArgumentException if the session does not exist
+     * @throws UncheckedIOException if an evicted session cannot be reloaded
+     */
+    public <T> T ejecutar(int id, Function<BichoManager, T> accion) {
+        Sesion sesion = buscar(id);
+        if (sesion == null) {
+            throw desconocida(id);
+        }
+        synchronized (sesion) {
+            if (sesion.eliminada) {
+                throw desconocida(id);
+            }
+            if (sesion.manager == null) {
+                recargar(id, sesion);
+            }
+            sesion.ultimoAcceso = reloj.getAsLong();
+            return accion.apply(sesion.manager);
+        }
+    }
+
+    /**
+     * Checks whether a session exists and is currently evicted to disk, so
+     * that the next {@link #ejecutar} would read it back.
+     *
+     * @param id session id
+     * @return true if the session exists and is not resident
+     */
+    public boolean enDisco(int id) {
+        Sesion sesion = buscar(id);
+        if (sesion == null) {
+            return false;
+        }
+        synchronized (sesion) {
+            return !sesion.eliminada && sesion.manager == null;
+        }
+    }
+
+    /**
+     * Reloads an evicted session on a background thread. Does nothing for
+     * resident, unknown or in-memory sessions.
+     *
+     * @param id session id
+     * @return future completed once the session is resident, or
+     *         exceptionally with {@link UncheckedIOException} if it cannot be
+     *         reloaded
+     */
+    public CompletableFuture<Void> recargarEnSegundoPlano(int id) {
+        Sesion sesion = buscar(id);
+        if (sesion == null || cargador == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {
+            synchronized (sesion) {
+                if (!sesion.eliminada && sesion.manager == null) {
+                    recargar(id, sesion);
+                }
+            }
+        }, cargador);
+    }
+
+    /**
+     * Removes a session and its evicted copy, if any.
+     *
+     * @param id session id
+     * @return true if the session existed
+     */
+    public boolean eliminar(int id) {
+        Map<Integer, Sesion> franja = franja(id);
+        Sesion sesion;
+        synchronized (franja) {
+            sesion = franja.remove(id);
+        }
+        if (sesion == null) {
+            return false;
+        }
+        synchronized (sesion) {
+            sesion.eliminada = true;
+            if (sesion.manager != null) {
+                celdas.addAndGet(-(long) sesion.manager.getFilas() * sesion.manager.getColumnas());
+                sesion.manager = null;
+                residentes.decrementAndGet();
+            } else {
+                celdas.addAndGet(-(long) sesion.filas * sesion.columnas);
+                try {
+                    Files.deleteIfExists(metadatos(id));
+                    Files.deleteIfExists(archivo(id));
+                } catch (IOException e) {
+                    // without its metadata a stale board is never restored
+                }
+            }
+        }
+        total.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Evicts every session idle for longer than the timeout.
+     * <p>
+     * A session whose board cannot be written stays resident and is retried
+     * on the next pass.
+     * </p>
+     *
+     * @return number of sessions evicted
+     */
+    public int expirarInactivas() {
+        if (directorio == null) {
+            return 0;
+        }
+        long ahora = reloj.getAsLong();
+        List<Integer> ids = new ArrayList<>();
+        List<Sesion> candidatas = new ArrayList<>();
+        int expulsadas = 0;
+        for (Map<Integer, Sesion> franja : franjas) {
+            ids.clear();
+            candidatas.clear();
+            synchronized (franja) {
+                for (Map.Entry<Integer, Sesion> e : franja.entrySet()) {
+                    Sesion s = e.getValue();
+                    if (s.manager != null && ahora - s.ultimoAcceso > inactividad) {
+                        ids.add(e.getKey());
+                        candidatas.add(s);
+                    }
+                }
+            }
+            for (int i = 0; i < candidatas.size(); i++) {
+                if (expulsar(ids.get(i), candidatas.get(i), ahora)) {
+                    expulsadas++;
+                }
+            }
+        }
+        return expulsadas;
+    }
+
+    private boolean expulsar(int id, Sesion sesion, long ahora) {
+        synchronized (sesion) {
+            if (sesion.eliminada || sesion.manager == null || ahora - sesion.ultimoAcceso <= inactividad) {
+                return false;
+            }
+            Metadatos meta = new Metadatos();
+            meta.filas = sesion.manager.getFilas();
+            meta.columnas = sesion.manager.getColumnas();
+            meta.estadisticas = sesion.manager.getEstadisticas();
+            try {
+                sesion.manager.guardarPartida(archivo(id));
+                escribirMetadatos(id, meta);
+            } catch (IOException e) {
+                return false;
+            }
+            sesion.filas = meta.filas;
+            sesion.columnas = meta.columnas;
+            sesion.estadisticas = meta.estadisticas;
+            sesion.manager = null;
+            residentes.decrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * Writes the metadata of an evicted session through a temporary file,
+     * so a crash never leaves a half-written file behind.
+     */
+    private void escribirMetadatos(int id, Metadatos meta) throws IOException {
+        Path destino = metadatos(id);
+        Path temporal = destino.resolveSibling(destino.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temporal)) {
+            GSON.toJson(meta, out);
+        }
+        Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void recargar(int id, Sesion sesion) {
+        Path p = archivo(id);
+        BichoManager manager = new BichoManager(sesion.filas, sesion.columnas,
+            GameConstants.MAX_ARENA_SIZE, sesion.estadisticas);
+        try {
+            if (!manager.cargarPartida(p)) {
+                throw new IOException(String.format("Saved session %d is missing or corrupt", id));
+            }
+            Files.deleteIfExists(metadatos(id));
+            Files.delete(p);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        sesion.manager = manager;
+        sesion.estadisticas = null;
+        residentes.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of sessions, resident or evicted.
+     *
+     * @return session count
+     */
+    public int getSesiones() {
+        return total.get();
+    }
+
+    /**
+     * Gets the number of sessions currently held in memory.
+     *
+     * @return resident session count
+     */
+    public int getResidentes() {
+        return residentes.get();
+    }
+
+    /**
+     * Gets the total cells of all sessions, resident or evicted.
+     *
+     * @return cells counted against the cap
+     */
+    public long getCeldas() {
+        return celdas.get();
+    }
+
+    /**
+     * Stops background eviction and reloading. Sessions already on disk are
+     * kept and served again by the next registry opened on the directory.
+     */
+    @Override
+    public void close() {
+        if (limpieza != null) {
+            limpieza.shutdownNow();
+        }
+        if (cargador != null) {
+            cargador.shutdownNow();
+        }
+    }
+
+    private Sesion buscar(int id) {
+        Map<Integer, Sesion> franja = franja(id);
+        synchronized (franja) {
+            return franja.get(id);
+        }
+    }
+
+    private Map<Integer, Sesion> franja(int id) {
+        int h = id * 0x9E3779B9;
+        return franjas.get((h ^ (h >>> 16)) & (STRIPES - 1));
+    }
+
+    private Path archivo(int id) {
+        return directorio.resolve(PREFIJO + id + EXTENSION_TABLERO);
+    }
+
+    private Path metadatos(int id) {
+        return directorio.resolve(PREFIJO + id + EXTENSION_METADATOS);
+    }
+
+    private static IllegalArgumentException desconocida(int id) {
+        return new IllegalArgumentException(String.format("Unknown session %d", id));
+    }
+
+    /**
+     * One session: either resident (manager set) or evicted to disk (stub
+     * fields set). Guarded by its own monitor.
+     */
+    private static final class Sesion {
+        BichoManager manager;
+        long ultimoAcceso;
+        boolean eliminada;
+        int filas;
+        int columnas;
+        GameStatistics estadisticas;
+
+        Sesion(BichoManager manager, long ultimoAcceso) {
+            this.manager = manager;
+            this.ultimoAcceso = ultimoAcceso;
+        }
+    }
+
+    /** Contents of the metadata file of an evicted session. */
+    private static final class Metadatos {
+        int filas;
+        int columnas;
+        GameStatistics estadisticas;
+    }
+}
@@ -0,0 +1,428 @@
+package service;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.Tablero;
+import models.TipoBicho;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Local store of board snapshots, kept as content-addressed tiles so that
+ * history is cheap.
+ * <p>
+ * A snapshot is cut into {@value #TILE}x{@value #TILE} tiles. Each tile is
+ * serialized (one type byte and one health int per cell), named by its
+ * SHA-256 and written compressed under {@code chunks/} only if no tile with
+ * that content exists yet. A small JSON manifest per snapshot lists the
+ * tile hashes in row-major tile order. Consecutive snapshots of the same
+ * game, and empty regions of any board, therefore share almost all their
+ * chunks, and loading a snapshot reads only the chunks its manifest names.
+ * </p>
+ * <pre>
+ * dir/chunks/3f/3fa2...e1        deflated tile contents
+ * dir/manifests/&lt;slot&gt;/&lt;id&gt;.json  {"filas":..,"columnas":..,"tile":..,"chunks":[..]}
+ * </pre>
+ * <p>
+ * Snapshots are grouped into named slots with increasing ids. Chunk and
+ * manifest files are written to a temporary name and moved into place, so
+ * readers never see partial files and concurrent saves are safe. Chunks
+ * are only removed by {@link #recolectar()}, which runs exclusively.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class SnapshotStore {
+
+    /** Side of a tile in cells. */
+    public static final int TILE = 64;
+
+    private static final Pattern NOMBRE_SLOT = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String EXTENSION = ".json";
+    private static final TipoBicho[] TIPOS = TipoBicho.values();
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path chunks;
+    private final Path manifiestos;
+    private final ReadWriteLock recoleccion = new ReentrantReadWriteLock();
+    private final AtomicLong escritos = new AtomicLong();
+    private final AtomicLong reutilizados = new AtomicLong();
+
+    /**
+     * Opens (or creates) a store in the given directory.
+     *
+     * @param directorio root directory of the store
+     * @throws IOException if the directory cannot be created
+     */
+    public SnapshotStore(Path directorio) throws IOException {
+        this.chunks = Files.createDirectories(directorio.resolve("chunks"));
+        this.manifiestos = Files.createDirectories(directorio.resolve("manifests"));
+    }
+
+    /**
+     * Stores a snapshot of a board in a slot.
+     *
+     * @param slot    slot name (letters, digits, {@code _} and {@code -})
+     * @param tablero board to store
+     * @return id of the new snapshot, greater than any previous id in the slot
+     * @throws IllegalArgumentException if the slot name is invalid
+     * @throws IOException if the store cannot be written
+     */
+    public long guardar(String slot, Tablero tablero) throws IOException {
+        Path carpeta = Files.createDirectories(carpeta(slot));
+        int filas = tablero.getFilas();
+        int columnas = tablero.getColumnas();
+        List<String> hashes = new ArrayList<>();
+        MessageDigest sha = sha256();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(TILE * TILE * 5);
+
+        recoleccion.readLock().lock();
+        try {
+            for (int f0 = 0; f0 < filas; f0 += TILE) {
+                for (int c0 = 0; c0 < columnas; c0 += TILE) {
+                    buffer.reset();
+                    serializarTile(tablero, f0, c0, new DataOutputStream(buffer));
+                    byte[] contenido = buffer.toByteArray();
+                    String hash = HEX.formatHex(sha.digest(contenido));
+                    escribirChunk(hash, contenido);
+                    hashes.add(hash);
+                }
+            }
+            return escribirManifiesto(carpeta, filas, columnas, hashes);
+        } finally {
+            recoleccion.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads a snapshot into an empty board of the same dimensions.
+     *
+     * @param slot    slot name
+     * @param id      snapshot id
+     * @param destino empty board receiving the occupied cells
+     * @return true if loaded, false if the snapshot does not exist or its
+     *         dimensions differ from the board
+     * @throws IllegalArgumentException if the slot name is invalid
+     * @throws IOException if a file cannot be read or a chunk is corrupt
+     */
+    public boolean cargar(String slot, long id, Tablero destino) throws IOException {
+        Path manifiesto = carpeta(slot).resolve(id + EXTENSION);
+        recoleccion.readLock().lock();
+        try {
+            Manifiesto m;
+            try {
+                m = leerManifiesto(manifiesto);
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+            if (m.filas != destino.getFilas() || m.columnas != destino.getColumnas()) {
+                return false;
+            }
+            int i = 0;
+            for (int f0 = 0; f0 < m.filas; f0 += m.tile) {
+                for (int c0 = 0; c0 < m.columnas; c0 += m.tile) {
+                    leerTile(m.chunks.get(i++), destino, f0, c0, m.tile);
+                }
+            }
+            return true;
+        } finally {
+            recoleccion.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lists the snapshot ids of a slot.
+     *
+     * @param slot slot name
+     * @return ids in increasing order, empty if the slot does not exist
+     * @throws IllegalArgumentException if the slot name is invalid
+     * @throws IOException if the slot cannot be listed
+     */
+    public List<Long> listar(String slot) throws IOException {
+        Path carpeta = carpeta(slot);
+        List<Long> ids = new ArrayList<>();
+        if (!Files.isDirectory(carpeta)) {
+            return ids;
+        }
+        try (DirectoryStream<Path> archivos = Files.newDirectoryStream(carpeta, "*" + EXTENSION)) {
+            for (Path p : archivos) {
+                String nombre = p.getFileName().toString();
+                try {
+                    ids.add(Long.parseLong(nombre.substring(0, nombre.length() - EXTENSION.length())));
+                } catch (NumberFormatException e) {
+                    // not a manifest
+                }
+            }
+        }
+        Collections.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Gets the id of the newest snapshot of a slot.
+     *
+     * @param slot slot name
+     * @return newest id, or -1 if the slot is empty
+     * @throws IllegalArgumentException if the slot name is invalid
+     * @throws IOException if the slot cannot be listed
+     */
+    public long ultima(String slot) throws IOException {
+        List<Long> ids = listar(slot);
+        return ids.isEmpty() ? -1 : ids.get(ids.size() - 1);
+    }
+
+    /**
+     * Deletes a snapshot manifest. Its chunks stay until
+     * {@link #recolectar()} finds them unreferenced.
+     *
+     * @param slot slot name
+     * @param id   snapshot id
+     * @return true if the snapshot existed
+     * @throws IllegalArgumentException if the slot name is invalid
+     * @throws IOException if the manifest cannot be deleted
+     */
+    public boolean eliminar(String slot, long id) throws IOException {
+        return Files.deleteIfExists(carpeta(slot).resolve(id + EXTENSION));
+    }
+
+    /**
+     * Deletes every chunk that no manifest references. Saves and loads wait
+     * while it runs.
+     *
+     * @return number of chunks deleted
+     * @throws IOException if the store cannot be scanned
+     */
+    public int recolectar() throws IOException {
+        recoleccion.writeLock().lock();
+        try {
+            Set<String> vivos = new HashSet<>();
+            try (DirectoryStream<Path> slots = Files.newDirectoryStream(manifiestos, Files::isDirectory)) {
+                for (Path slot : slots) {
+                    try (DirectoryStream<Path> archivos = Files.newDirectoryStream(slot, "*" + EXTENSION)) {
+                        for (Path p : archivos) {
+                            vivos.addAll(leerManifiesto(p).chunks);
+                        }
+                    }
+                }
+            }
+            int borrados = 0;
+            try (DirectoryStream<Path> prefijos = Files.newDirectoryStream(chunks, Files::isDirectory)) {
+                for (Path prefijo : prefijos) {
+                    try (DirectoryStream<Path> archivos = Files.newDirectoryStream(prefijo)) {
+                        for (Path p : archivos) {
+                            if (!vivos.contains(p.getFileName().toString())) {
+                                Files.delete(p);
+                                borrados++;
+                            }
+                        }
+                    }
+                }
+            }
+            return borrados;
+        } finally {
+            recoleccion.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of chunks written because their content was new.
+     *
+     * @return chunks written since the store was opened
+     */
+    public long getChunksEscritos() {
+        return escritos.get();
+    }
+
+    /**
+     * Gets the number of tiles that were already stored and not written again.
+     *
+     * @return chunks reused since the store was opened
+     */
+    public long getChunksReutilizados() {
+        return reutilizados.get();
+    }
+
+    private Path carpeta(String slot) {
+        if (slot == null || !NOMBRE_SLOT.matcher(slot).matches()) {
+            throw new IllegalArgumentException(String.format("Invalid snapshot slot name: %s", slot));
+        }
+        return manifiestos.resolve(slot);
+    }
+
+    private Path chunk(String hash) {
+        return chunks.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void serializarTile(Tablero tablero, int f0, int c0, DataOutputStream out)
+            throws IOException {
+        int filas = Math.min(TILE, tablero.getFilas() - f0);
+        int columnas = Math.min(TILE, tablero.getColumnas() - c0);
+        for (int f = f0; f < f0 + filas; f++) {
+            for (int c = c0; c < c0 + columnas; c++) {
+                out.writeByte(tablero.getTipo(f, c).ordinal());
+                out.writeInt(tablero.getSalud(f, c));
+            }
+        }
+    }
+
+    private void escribirChunk(String hash, byte[] contenido) throws IOException {
+        Path destino = chunk(hash);
+        if (Files.exists(destino)) {
+            reutilizados.incrementAndGet();
+            return;
+        }
+        Path carpeta = Files.createDirectories(destino.getParent());
+        Path temporal = Files.createTempFile(carpeta, hash, ".tmp");
+        try {
+            try (OutputStream out = new DeflaterOutputStream(Files.newOutputStream(temporal))) {
+                out.write(contenido);
+            }
+            mover(temporal, destino);
+            escritos.incrementAndGet();
+        } catch (FileAlreadyExistsException e) {
+            reutilizados.incrementAndGet();
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    private void leerTile(String hash, Tablero destino, int f0, int c0, int tile) throws IOException {
+        int filas = Math.min(tile, destino.getFilas() - f0);
+        int columnas = Math.min(tile, destino.getColumnas() - c0);
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(Files.newInputStream(chunk(hash)), new Inflater(), 8192))) {
+            for (int f = f0; f < f0 + filas; f++) {
+                for (int c = c0; c < c0 + columnas; c++) {
+                    int tipo = in.readUnsignedByte();
+                    int salud = in.readInt();
+                    if (tipo >= TIPOS.length) {
+                        throw new IOException(String.format("Corrupt snapshot chunk %s", hash));
+                    }
+                    if (tipo != TipoBicho.VACIO.ordinal() || salud > 0) {
+                        destino.setCelda(f, c, TIPOS[tipo], salud);
+                    }
+                }
+            }
+        }
+    }
+
+    private long escribirManifiesto(Path carpeta, int filas, int columnas, List<String> hashes)
+            throws IOException {
+        Path temporal = Files.createTempFile(carpeta, "manifest", ".tmp");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(temporal)) {
+                JsonWriter json = new JsonWriter(out);
+                json.beginObject();
+                json.name("filas").value(filas);
+                json.name("columnas").value(columnas);
+                json.name("tile").value(TILE);
+                json.name("chunks").beginArray();
+                for (String h : hashes) {
+                    json.value(h);
+                }
+                json.endArray();
+                json.endObject();
+                json.flush();
+            }
+            long id = ultima(carpeta.getFileName().toString()) + 1;
+            while (true) {
+                try {
+                    mover(temporal, carpeta.resolve(id + EXTENSION));
+                    return id;
+                } catch (FileAlreadyExistsException e) {
+                    id++;
+                }
+            }
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    /**
+     * Publishes a finished temporary file under its final name, failing with
+     * {@link FileAlreadyExistsException} instead of replacing another file.
+     * A hard link does this atomically; file systems without links fall back
+     * to a plain move.
+     */
+    private static void mover(Path temporal, Path destino) throws IOException {
+        try {
+            Files.createLink(destino, temporal);
+        } catch (UnsupportedOperationException e) {
+            Files.move(temporal, destino);
+        }
+    }
+
+    private static Manifiesto leerManifiesto(Path p) throws IOException {
+        Manifiesto m = new Manifiesto();
+        try (BufferedReader in = Files.newBufferedReader(p)) {
+            JsonReader json = new JsonReader(in);
+            json.beginObject();
+            while (json.hasNext()) {
+                switch (json.nextName()) {
+                    case "filas" -> m.filas = json.nextInt();
+                    case "columnas" -> m.columnas = json.nextInt();
+                    case "tile" -> m.tile = json.nextInt();
+                    case "chunks" -> {
+                        json.beginArray();
+                        while (json.peek() == JsonToken.STRING) {
+                            m.chunks.add(json.nextString());
+                        }
+                        json.endArray();
+                    }
+                    default -> json.skipValue();
+                }
+            }
+            json.endObject();
+        }
+        long esperados = m.tile <= 0 ? -1
+            : (long) ((m.filas + m.tile - 1) / m.tile) * ((m.columnas + m.tile - 1) / m.tile);
+        if (m.filas <= 0 || m.columnas <= 0 || esperados != m.chunks.size()) {
+            throw new IOException(String.format("Corrupt snapshot manifest %s", p));
+        }
+        return m;
+    }
+
+    private static final class Manifiesto {
+        private int filas;
+        private int columnas;
+        private int tile;
+        private final List<String> chunks = new ArrayList<>();
+    }
+}
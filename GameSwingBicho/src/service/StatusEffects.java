@@ -0,0 +1,416 @@
+package service;
+
+import models.TipoEfecto;
+
+import java.util.Arrays;
+
+/**
+ * Status effects (poison, burn, regeneration) attached to the bichos of one
+ * game and applied once per turn.
+ * <p>
+ * Each affected cell owns a slot in a set of primitive columns: the cell
+ * index and, per effect, its intensity and remaining turns. A bitset marks
+ * the slots in use and an open-addressing map finds the slot of a cell.
+ * Every turn first runs one branch-free sweep over the columns that
+ * computes the net health change of each slot and counts down durations, a
+ * loop the JIT can vectorize; a second pass then visits only the set bits
+ * of the bitset and writes the changes to the board. The cost per turn
+ * therefore follows the number of affected bichos, not the board size.
+ * </p>
+ * <p>
+ * Damage goes through {@link BichoManager}, so effect kills are recorded as
+ * defeats in the game statistics and reported to listeners. Healing never
+ * goes above the starting health of the bicho's type. Effects are dropped
+ * when they run out, when their bicho dies and when the board is replaced.
+ * Instances are obtained from {@link BichoManager#getEfectos()}.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class StatusEffects {
+
+    private static final int LIBRE = -1;
+    private static final int CAPACIDAD_INICIAL = 64;
+
+    private final BichoManager manager;
+    private final int columnas;
+    private int[] celdas;
+    private int[] veneno;
+    private int[] turnosVeneno;
+    private int[] quemadura;
+    private int[] turnosQuemadura;
+    private int[] regeneracion;
+    private int[] turnosRegeneracion;
+    private int[] deltas;
+    private long[] ocupados;
+    private int[] huecos;
+    private int numHuecos;
+    private int alto;
+    private int activos;
+    private int[] claves;
+    private int[] valores;
+    private int mascara;
+    private long bajas;
+    private int muertesTurno;
+    private final Runnable barrido = this::aplicarDeltas;
+
+    /**
+     * Creates an empty set of effects for a game.
+     *
+     * @param manager game whose bichos receive the effects
+     */
+    StatusEffects(BichoManager manager) {
+        this.manager = manager;
+        this.columnas = manager.getColumnas();
+        asignarColumnas(CAPACIDAD_INICIAL);
+        asignarMapa(CAPACIDAD_INICIAL * 2);
+    }
+
+    /**
+     * Attaches an effect to a living bicho.
+     * <p>
+     * Poison applied again adds its intensity to the current one; burns and
+     * regeneration keep the stronger intensity. In every case the effect
+     * lasts for the longer of the remaining and the new duration.
+     * </p>
+     *
+     * @param fila       row coordinate (0-indexed)
+     * @param col        column coordinate (0-indexed)
+     * @param efecto     effect to attach
+     * @param intensidad health lost or healed each turn
+     * @param turnos     number of turns the effect lasts
+     * @return true if the cell held a living bicho
+     * @throws IllegalArgumentException if intensidad or turnos is not positive
+     * @throws IndexOutOfBoundsException if coordinates are outside the board
+     */
+    public boolean aplicar(int fila, int col, TipoEfecto efecto, int intensidad, int turnos) {
+        if (intensidad <= 0 || turnos <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Effect intensity and turns must be positive, got %d / %d", intensidad, turnos));
+        }
+        if (manager.getSalud(fila, col) <= 0) {
+            return false;
+        }
+        int celda = fila * columnas + col;
+        int slot = buscar(celda);
+        if (slot < 0) {
+            slot = ocupar(celda);
+        }
+        switch (efecto) {
+            case VENENO -> {
+                long acumulado = turnosVeneno[slot] > 0 ? veneno[slot] : 0;
+                veneno[slot] = (int) Math.min(Integer.MAX_VALUE, acumulado + intensidad);
+                turnosVeneno[slot] = Math.max(turnosVeneno[slot], turnos);
+            }
+            case QUEMADURA -> {
+                quemadura[slot] = Math.max(turnosQuemadura[slot] > 0 ? quemadura[slot] : 0, intensidad);
+                turnosQuemadura[slot] = Math.max(turnosQuemadura[slot], turnos);
+            }
+            case REGENERACION -> {
+                regeneracion[slot] = Math.max(turnosRegeneracion[slot] > 0 ? regeneracion[slot] : 0, intensidad);
+                turnosRegeneracion[slot] = Math.max(turnosRegeneracion[slot], turnos);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes every effect from a cell.
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @return true if the cell had effects
+     */
+    public boolean quitar(int fila, int col) {
+        int slot = buscar(fila * columnas + col);
+        if (slot < 0) {
+            return false;
+        }
+        liberar(slot);
+        return true;
+    }
+
+    /**
+     * Moves the effects of a cell to another cell without effects, used when
+     * a bicho moves.
+     *
+     * @param origen  packed index of the cell the bicho left
+     * @param destino packed index of the cell it moved to
+     */
+    void trasladar(int origen, int destino) {
+        int slot = buscar(origen);
+        if (slot < 0) {
+            return;
+        }
+        eliminar(origen);
+        celdas[slot] = destino;
+        insertar(destino, slot);
+    }
+
+    /**
+     * Gets the remaining turns of an effect on a cell.
+     *
+     * @param fila   row coordinate (0-indexed)
+     * @param col    column coordinate (0-indexed)
+     * @param efecto effect to look up
+     * @return remaining turns, 0 if the effect is not active
+     */
+    public int getTurnosRestantes(int fila, int col, TipoEfecto efecto) {
+        int slot = buscar(fila * columnas + col);
+        if (slot < 0) {
+            return 0;
+        }
+        return switch (efecto) {
+            case VENENO -> turnosVeneno[slot];
+            case QUEMADURA -> turnosQuemadura[slot];
+            case REGENERACION -> turnosRegeneracion[slot];
+        };
+    }
+
+    /**
+     * Gets the number of bichos with at least one active effect.
+     *
+     * @return affected bichos
+     */
+    public int getAfectados() {
+        return activos;
+    }
+
+    /**
+     * Gets the number of bichos killed by effects.
+     *
+     * @return kills caused by effects
+     */
+    public long getBajas() {
+        return bajas;
+    }
+
+    /**
+     * Applies one turn of every effect. Called by {@link BichoManager} at
+     * the end of each bullet and bomb turn.
+     *
+     * @return number of bichos killed this turn
+     */
+    public int procesarTurno() {
+        if (activos == 0) {
+            return 0;
+        }
+        int n = alto;
+        int[] v = veneno;
+        int[] tv = turnosVeneno;
+        int[] q = quemadura;
+        int[] tq = turnosQuemadura;
+        int[] r = regeneracion;
+        int[] tr = turnosRegeneracion;
+        int[] d = deltas;
+        for (int i = 0; i < n; i++) {
+            d[i] = (tv[i] > 0 ? v[i] : 0) + (tq[i] > 0 ? q[i] : 0) - (tr[i] > 0 ? r[i] : 0);
+            tv[i] = Math.max(0, tv[i] - 1);
+            tq[i] = Math.max(0, tq[i] - 1);
+            tr[i] = Math.max(0, tr[i] - 1);
+            if (tv[i] == 0) {
+                v[i] = 0;
+            }
+            if (tq[i] == 0) {
+                q[i] = 0;
+            }
+            if (tr[i] == 0) {
+                r[i] = 0;
+            }
+        }
+
+        muertesTurno = 0;
+        manager.ejecutarTurno(barrido);
+        bajas += muertesTurno;
+        return muertesTurno;
+    }
+
+    /**
+     * Visits the slots in use and writes their changes to the board.
+     */
+    private void aplicarDeltas() {
+        for (int w = 0; w < ocupados.length; w++) {
+            long bits = ocupados[w];
+            while (bits != 0) {
+                int slot = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (aplicarDelta(slot)) {
+                    muertesTurno++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every effect.
+     */
+    public void limpiar() {
+        Arrays.fill(ocupados, 0L);
+        Arrays.fill(claves, LIBRE);
+        Arrays.fill(turnosVeneno, 0, alto, 0);
+        Arrays.fill(turnosQuemadura, 0, alto, 0);
+        Arrays.fill(turnosRegeneracion, 0, alto, 0);
+        alto = 0;
+        numHuecos = 0;
+        activos = 0;
+    }
+
+    /**
+     * Writes the change computed for a slot to its bicho and frees the slot
+     * once the bicho is dead or no effect is left.
+     *
+     * @return true if the bicho was killed by this change
+     */
+    private boolean aplicarDelta(int slot) {
+        int fila = celdas[slot] / columnas;
+        int col = celdas[slot] % columnas;
+        if (manager.getSalud(fila, col) <= 0) {
+            liberar(slot);
+            return false;
+        }
+        int delta = deltas[slot];
+        boolean muerto = false;
+        if (delta > 0) {
+            muerto = manager.danarPorEfecto(fila, col, delta) == 0;
+        } else if (delta < 0) {
+            manager.regenerar(fila, col, -delta);
+        }
+        if (muerto || (turnosVeneno[slot] | turnosQuemadura[slot] | turnosRegeneracion[slot]) == 0) {
+            liberar(slot);
+        }
+        return muerto;
+    }
+
+    private int ocupar(int celda) {
+        int slot;
+        if (numHuecos > 0) {
+            slot = huecos[--numHuecos];
+        } else {
+            if (alto == celdas.length) {
+                crecerColumnas(celdas.length * 2);
+            }
+            slot = alto++;
+        }
+        celdas[slot] = celda;
+        veneno[slot] = 0;
+        quemadura[slot] = 0;
+        regeneracion[slot] = 0;
+        ocupados[slot >>> 6] |= 1L << slot;
+        activos++;
+        if ((activos + 1) * 4 > claves.length * 3) {
+            reconstruirMapa(claves.length * 2);
+        }
+        insertar(celda, slot);
+        return slot;
+    }
+
+    private void liberar(int slot) {
+        eliminar(celdas[slot]);
+        ocupados[slot >>> 6] &= ~(1L << slot);
+        turnosVeneno[slot] = 0;
+        turnosQuemadura[slot] = 0;
+        turnosRegeneracion[slot] = 0;
+        deltas[slot] = 0;
+        huecos[numHuecos++] = slot;
+        activos--;
+    }
+
+    private void asignarColumnas(int capacidad) {
+        celdas = new int[capacidad];
+        veneno = new int[capacidad];
+        turnosVeneno = new int[capacidad];
+        quemadura = new int[capacidad];
+        turnosQuemadura = new int[capacidad];
+        regeneracion = new int[capacidad];
+        turnosRegeneracion = new int[capacidad];
+        deltas = new int[capacidad];
+        huecos = new int[capacidad];
+        ocupados = new long[(capacidad + 63) >>> 6];
+    }
+
+    private void crecerColumnas(int capacidad) {
+        celdas = Arrays.copyOf(celdas, capacidad);
+        veneno = Arrays.copyOf(veneno, capacidad);
+        turnosVeneno = Arrays.copyOf(turnosVeneno, capacidad);
+        quemadura = Arrays.copyOf(quemadura, capacidad);
+        turnosQuemadura = Arrays.copyOf(turnosQuemadura, capacidad);
+        regeneracion = Arrays.copyOf(regeneracion, capacidad);
+        turnosRegeneracion = Arrays.copyOf(turnosRegeneracion, capacidad);
+        deltas = Arrays.copyOf(deltas, capacidad);
+        huecos = Arrays.copyOf(huecos, capacidad);
+        ocupados = Arrays.copyOf(ocupados, (capacidad + 63) >>> 6);
+    }
+
+    /**
+     * Finds the slot of a cell.
+     *
+     * @param celda packed cell index
+     * @return the slot, or -1 if the cell has no effects
+     */
+    private int buscar(int celda) {
+        int i = dispersar(celda);
+        while (claves[i] != LIBRE) {
+            if (claves[i] == celda) {
+                return valores[i];
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    private void insertar(int celda, int slot) {
+        int i = dispersar(celda);
+        while (claves[i] != LIBRE) {
+            i = (i + 1) & mascara;
+        }
+        claves[i] = celda;
+        valores[i] = slot;
+    }
+
+    /**
+     * Removes a cell from the map, shifting back the following entries of
+     * its probe run.
+     */
+    private void eliminar(int celda) {
+        int hueco = dispersar(celda);
+        while (claves[hueco] != celda) {
+            hueco = (hueco + 1) & mascara;
+        }
+        int siguiente = (hueco + 1) & mascara;
+        while (claves[siguiente] != LIBRE) {
+            int ideal = dispersar(claves[siguiente]);
+            if (((siguiente - ideal) & mascara) >= ((siguiente - hueco) & mascara)) {
+                claves[hueco] = claves[siguiente];
+                valores[hueco] = valores[siguiente];
+                hueco = siguiente;
+            }
+            siguiente = (siguiente + 1) & mascara;
+        }
+        claves[hueco] = LIBRE;
+    }
+
+    private int dispersar(int clave) {
+        int h = clave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    private void asignarMapa(int capacidad) {
+        claves = new int[capacidad];
+        Arrays.fill(claves, LIBRE);
+        valores = new int[capacidad];
+        mascara = capacidad - 1;
+    }
+
+    private void reconstruirMapa(int capacidad) {
+        int[] viejasClaves = claves;
+        int[] viejosValores = valores;
+        asignarMapa(capacidad);
+        for (int i = 0; i < viejasClaves.length; i++) {
+            if (viejasClaves[i] != LIBRE) {
+                insertar(viejasClaves[i], viejosValores[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package service;
+
+import models.CreatureRegistry;
+import models.GameConstants;
+import models.TipoBicho;
+
+import java.util.Arrays;
+
+/**
+ * Per-cell target scores with incrementally maintained best targets.
+ * <p>
+ * Every living bicho gets two scores. The bullet score is the expected
+ * points per bullet: the points of its type divided by the bullets still
+ * needed to kill it. The bomb score is the points of its type, ties going
+ * to the healthier bicho, where a bomb saves the most bullets. Each score
+ * feeds a tournament (winner) tree whose leaves are the cells and whose
+ * inner nodes hold the better of their two children, so the root is always
+ * the best target.
+ * </p>
+ * <p>
+ * The map listens to its game: a cell change rescores one leaf and replays
+ * the matches on its path to the root, O(log n). A board reset only clears
+ * the scores; the cell changes that follow fill the leaves and the trees
+ * are rebuilt once, in linear time, on the next query. Queries are O(1)
+ * after that. Scores use the {@link CreatureRegistry} active when each
+ * cell was last scored. Scores and trees take up to 64 bytes per board cell,
+ * so boards larger than {@value GameConstants#MAX_THREAT_MAP_AREA} cells are
+ * refused. Instances are obtained from {@link BichoManager#getMapaAmenazas()}.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class ThreatMap implements GameListener {
+
+    private final int columnas;
+    private final int hojas;
+    private final double[] puntuacionBala;
+    private final long[] puntuacionBomba;
+    private final int[] arbolBala;
+    private final int[] arbolBomba;
+    private boolean pendiente;
+
+    /**
+     * Creates the map of a game and scores its current board.
+     *
+     * @param manager game to follow
+     * @throws IllegalArgumentException if the board has more than
+     *         {@value GameConstants#MAX_THREAT_MAP_AREA} cells
+     */
+    ThreatMap(BichoManager manager) {
+        this.columnas = manager.getColumnas();
+        long celdas = (long) manager.getFilas() * columnas;
+        if (celdas > GameConstants.MAX_THREAT_MAP_AREA) {
+            throw new IllegalArgumentException(String.format(
+                "A %dx%d board is too large for a threat map (at most %d cells)",
+                manager.getFilas(), columnas, GameConstants.MAX_THREAT_MAP_AREA));
+        }
+        int area = (int) celdas;
+        this.hojas = Integer.highestOneBit(Math.max(1, area * 2 - 1));
+        this.puntuacionBala = new double[hojas];
+        this.puntuacionBomba = new long[hojas];
+        this.arbolBala = new int[hojas * 2];
+        this.arbolBomba = new int[hojas * 2];
+        manager.recorrerOcupadas(this::puntuar);
+        reconstruir();
+        manager.addListener(this);
+    }
+
+    /**
+     * Finds the cell where a bullet is expected to earn the most points.
+     *
+     * @return cell index ({@code fila * columnas + col}), or -1 if none is alive
+     */
+    public int mejorObjetivoBala() {
+        actualizar();
+        int mejor = arbolBala[1];
+        return puntuacionBala[mejor] > 0 ? mejor : -1;
+    }
+
+    /**
+     * Finds the cell where a targeted bomb earns the most points.
+     *
+     * @return cell index ({@code fila * columnas + col}), or -1 if none is alive
+     */
+    public int mejorObjetivoBomba() {
+        actualizar();
+        int mejor = arbolBomba[1];
+        return puntuacionBomba[mejor] > 0 ? mejor : -1;
+    }
+
+    /**
+     * Gets the expected points per bullet for a cell.
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @return expected points per bullet, 0 if the cell holds no living bicho
+     */
+    public double getPuntuacionBala(int fila, int col) {
+        return puntuacionBala[fila * columnas + col];
+    }
+
+    /**
+     * Gets the points a targeted bomb earns on a cell.
+     *
+     * @param fila row coordinate (0-indexed)
+     * @param col  column coordinate (0-indexed)
+     * @return points, 0 if the cell holds no living bicho
+     */
+    public int getPuntosBomba(int fila, int col) {
+        return (int) (puntuacionBomba[fila * columnas + col] >>> 32);
+    }
+
+    @Override
+    public void onCellChanged(int fila, int col, TipoBicho tipo, int salud) {
+        int celda = puntuar(fila, col, tipo, salud);
+        if (!pendiente) {
+            subir(celda);
+        }
+    }
+
+    @Override
+    public void onBoardReset() {
+        Arrays.fill(puntuacionBala, 0.0);
+        Arrays.fill(puntuacionBomba, 0L);
+        pendiente = true;
+    }
+
+    private int puntuar(int fila, int col, TipoBicho tipo, int salud) {
+        int celda = fila * columnas + col;
+        if (salud > 0 && tipo != TipoBicho.VACIO) {
+            CreatureRegistry registro = CreatureRegistry.getActivo();
+            int codigo = tipo.ordinal();
+            int puntos = registro.getPuntos(codigo);
+            int dano = registro.getDanoBala(codigo);
+            puntuacionBala[celda] = (double) puntos / ((salud + (long) dano - 1) / dano);
+            puntuacionBomba[celda] = (long) puntos << 32 | salud;
+        } else {
+            puntuacionBala[celda] = 0.0;
+            puntuacionBomba[celda] = 0L;
+        }
+        return celda;
+    }
+
+    private void actualizar() {
+        if (pendiente) {
+            reconstruir();
+        }
+    }
+
+    private void reconstruir() {
+        for (int i = 0; i < hojas; i++) {
+            arbolBala[hojas + i] = i;
+            arbolBomba[hojas + i] = i;
+        }
+        for (int n = hojas - 1; n >= 1; n--) {
+            arbolBala[n] = ganadorBala(arbolBala[2 * n], arbolBala[2 * n + 1]);
+            arbolBomba[n] = ganadorBomba(arbolBomba[2 * n], arbolBomba[2 * n + 1]);
+        }
+        pendiente = false;
+    }
+
+    /**
+     * Replays the matches on the path from a leaf to the root.
+     */
+    private void subir(int celda) {
+        for (int n = (hojas + celda) >>> 1; n >= 1; n >>>= 1) {
+            arbolBala[n] = ganadorBala(arbolBala[2 * n], arbolBala[2 * n + 1]);
+            arbolBomba[n] = ganadorBomba(arbolBomba[2 * n], arbolBomba[2 * n + 1]);
+        }
+    }
+
+    private int ganadorBala(int a, int b) {
+        return puntuacionBala[b] > puntuacionBala[a] ? b : a;
+    }
+
+    private int ganadorBomba(int a, int b) {
+        return puntuacionBomba[b] > puntuacionBomba[a] ? b : a;
+    }
+}
@@ -0,0 +1,269 @@
+package service;
+
+import java.util.Arrays;
+
+/**
+ * Hashed timing wheel holding millions of pending timers in primitive
+ * arrays.
+ * <p>
+ * Time advances in discrete ticks. The wheel has a power-of-two number of
+ * slots; a timer due in {@code d} ticks goes into slot
+ * {@code (tick + d) mod slots} with {@code (d - 1) / slots} remaining
+ * rounds, so scheduling and cancelling are O(1) whatever the delay, and
+ * each tick only walks one slot. Slots are doubly linked lists threaded
+ * through parallel arrays of entries; freed entries are recycled through a
+ * free list, so steady-state scheduling allocates nothing.
+ * </p>
+ * <p>
+ * Each timer carries two ints chosen by the caller, typically a cell index
+ * and an action code. {@link #avanzar(Disparador)} first unlinks every
+ * timer due in the tick and then fires them as one batch, so callbacks may
+ * freely schedule or cancel timers. Handles are invalidated when a timer
+ * fires or is cancelled. The wheel is not thread-safe.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class TimingWheel {
+
+    private static final int NADA = -1;
+
+    private final int mascara;
+    private final int[] cabezas;
+    private int[] siguiente;
+    private int[] anterior;
+    private int[] ranura;
+    private long[] rondas;
+    private int[] datos;
+    private int[] tipos;
+    private int[] generaciones;
+    private int libre = NADA;
+    private int usadas;
+    private int pendientes;
+    private long tick;
+    private int[] loteDatos = new int[64];
+    private int[] loteTipos = new int[64];
+
+    /**
+     * Callback receiving the timers due in a tick.
+     */
+    @FunctionalInterface
+    public interface Disparador {
+
+        /**
+         * Handles one due timer.
+         *
+         * @param dato first value given when the timer was scheduled
+         * @param tipo second value given when the timer was scheduled
+         */
+        void disparar(int dato, int tipo);
+    }
+
+    /**
+     * Creates an empty wheel.
+     *
+     * @param ranuras          number of slots, rounded up to a power of two
+     * @param capacidadInicial timers that fit before the entry arrays grow
+     * @throws IllegalArgumentException if either value is not positive
+     */
+    public TimingWheel(int ranuras, int capacidadInicial) {
+        if (ranuras <= 0 || ranuras > (1 << 30) || capacidadInicial <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Invalid timing wheel size %d / %d", ranuras, capacidadInicial));
+        }
+        int n = Integer.highestOneBit(ranuras * 2 - 1);
+        this.mascara = n - 1;
+        this.cabezas = new int[n];
+        Arrays.fill(cabezas, NADA);
+        siguiente = new int[capacidadInicial];
+        anterior = new int[capacidadInicial];
+        ranura = new int[capacidadInicial];
+        rondas = new long[capacidadInicial];
+        datos = new int[capacidadInicial];
+        tipos = new int[capacidadInicial];
+        generaciones = new int[capacidadInicial];
+    }
+
+    /**
+     * Schedules a timer.
+     *
+     * @param retraso ticks until the timer fires; values below 1 mean the next tick
+     * @param dato    first value passed back when it fires
+     * @param tipo    second value passed back when it fires
+     * @return handle for {@link #cancelar(long)}
+     */
+    public long programar(long retraso, int dato, int tipo) {
+        long d = Math.max(1, retraso);
+        int e = reservar();
+        int s = (int) ((tick + d) & mascara);
+        ranura[e] = s;
+        rondas[e] = (d - 1) / cabezas.length;
+        datos[e] = dato;
+        tipos[e] = tipo;
+        enlazar(e, s);
+        pendientes++;
+        return ((long) generaciones[e] << 32) | e;
+    }
+
+    /**
+     * Cancels a pending timer.
+     *
+     * @param handle handle returned by {@link #programar(long, int, int)}
+     * @return true if the timer was pending, false if it already fired or was cancelled
+     */
+    public boolean cancelar(long handle) {
+        int e = (int) handle;
+        if (e < 0 || e >= usadas || generaciones[e] != (int) (handle >>> 32) || ranura[e] == NADA) {
+            return false;
+        }
+        desenlazar(e);
+        liberar(e);
+        pendientes--;
+        return true;
+    }
+
+    /**
+     * Changes the first value a pending timer will pass back when it fires,
+     * keeping its due tick.
+     *
+     * @param handle handle returned by {@link #programar(long, int, int)}
+     * @param dato   new first value
+     * @return true if the timer was pending, false if it already fired or was cancelled
+     */
+    public boolean reasignar(long handle, int dato) {
+        int e = (int) handle;
+        if (e < 0 || e >= usadas || generaciones[e] != (int) (handle >>> 32) || ranura[e] == NADA) {
+            return false;
+        }
+        datos[e] = dato;
+        return true;
+    }
+
+    /**
+     * Advances the wheel by one tick and fires every timer due in it.
+     *
+     * @param disparador callback for each due timer, called after all due
+     *                   timers have been removed from the wheel
+     * @return number of timers fired
+     */
+    public int avanzar(Disparador disparador) {
+        tick++;
+        int s = (int) (tick & mascara);
+        int n = 0;
+        int e = cabezas[s];
+        while (e != NADA) {
+            int sig = siguiente[e];
+            if (rondas[e] > 0) {
+                rondas[e]--;
+            } else {
+                if (n == loteDatos.length) {
+                    loteDatos = Arrays.copyOf(loteDatos, n * 2);
+                    loteTipos = Arrays.copyOf(loteTipos, n * 2);
+                }
+                loteDatos[n] = datos[e];
+                loteTipos[n] = tipos[e];
+                n++;
+                desenlazar(e);
+                liberar(e);
+            }
+            e = sig;
+        }
+        pendientes -= n;
+        for (int i = 0; i < n; i++) {
+            disparador.disparar(loteDatos[i], loteTipos[i]);
+        }
+        return n;
+    }
+
+    /**
+     * Cancels every pending timer.
+     */
+    public void limpiar() {
+        Arrays.fill(cabezas, NADA);
+        for (int e = 0; e < usadas; e++) {
+            generaciones[e]++;
+            ranura[e] = NADA;
+            siguiente[e] = e + 1 < usadas ? e + 1 : NADA;
+        }
+        libre = usadas > 0 ? 0 : NADA;
+        pendientes = 0;
+    }
+
+    /**
+     * Gets the number of ticks elapsed.
+     *
+     * @return current tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the number of pending timers.
+     *
+     * @return timers scheduled and not yet fired or cancelled
+     */
+    public int getPendientes() {
+        return pendientes;
+    }
+
+    /**
+     * Gets the number of slots of the wheel.
+     *
+     * @return slot count
+     */
+    public int getRanuras() {
+        return cabezas.length;
+    }
+
+    private int reservar() {
+        if (libre != NADA) {
+            int e = libre;
+            libre = siguiente[e];
+            return e;
+        }
+        if (usadas == siguiente.length) {
+            int n = siguiente.length * 2;
+            siguiente = Arrays.copyOf(siguiente, n);
+            anterior = Arrays.copyOf(anterior, n);
+            ranura = Arrays.copyOf(ranura, n);
+            rondas = Arrays.copyOf(rondas, n);
+            datos = Arrays.copyOf(datos, n);
+            tipos = Arrays.copyOf(tipos, n);
+            generaciones = Arrays.copyOf(generaciones, n);
+        }
+        return usadas++;
+    }
+
+    private void liberar(int e) {
+        generaciones[e]++;
+        ranura[e] = NADA;
+        siguiente[e] = libre;
+        libre = e;
+    }
+
+    private void enlazar(int e, int s) {
+        int cabeza = cabezas[s];
+        siguiente[e] = cabeza;
+        anterior[e] = NADA;
+        if (cabeza != NADA) {
+            anterior[cabeza] = e;
+        }
+        cabezas[s] = e;
+    }
+
+    private void desenlazar(int e) {
+        int sig = siguiente[e];
+        int ant = anterior[e];
+        if (ant == NADA) {
+            cabezas[ranura[e]] = sig;
+        } else {
+            siguiente[ant] = sig;
+        }
+        if (sig != NADA) {
+            anterior[sig] = ant;
+        }
+    }
+}
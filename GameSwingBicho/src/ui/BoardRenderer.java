@@ -0,0 +1,229 @@
+package ui;
+
+import models.CreatureRegistry;
+import models.Tablero;
+import models.TableroPaginado;
+import models.TipoBicho;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+/**
+ * Java2D rasterizer for game boards.
+ * <p>
+ * Each cell is drawn from a sprite chosen by its type and state (healthy,
+ * wounded, mutated or dead). Sprites are painted once into
+ * {@link BufferedImage}s and cached, so drawing a cell is a single pixel
+ * copy. Cells of one pixel use a flat color per sprite instead.
+ * </p>
+ * <p>
+ * {@link #exportarPng(Tablero, Path)} rasterizes a whole board headlessly
+ * into one image, split into square tiles of {@value #TILE} cells rendered
+ * in parallel straight into the image raster, and then encodes it as PNG.
+ * Renderers are immutable and safe to share between threads.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class BoardRenderer {
+
+    /** Side, in cells, of the tiles rasterized in parallel by the export. */
+    public static final int TILE = 128;
+
+    private static final int SANO = 0;
+    private static final int HERIDO = 1;
+    private static final int MUTADO = 2;
+    private static final int MUERTO = 3;
+    private static final int ESTADOS = 4;
+    private static final Color FONDO = new Color(0x20, 0x24, 0x2B);
+    private static final Color[] COLORES = {
+        new Color(0x4C, 0xAF, 0x50),
+        new Color(0x9C, 0x27, 0xB0),
+        FONDO
+    };
+
+    private final int celda;
+    private final int[][] sprites;
+
+    /**
+     * Creates a renderer drawing cells of the given size.
+     *
+     * @param celda side of a cell in pixels
+     * @throws IllegalArgumentException if celda is not between 1 and 256
+     */
+    public BoardRenderer(int celda) {
+        if (celda < 1 || celda > 256) {
+            throw new IllegalArgumentException(
+                String.format("Cell size must be between 1 and 256 pixels, got %d", celda));
+        }
+        this.celda = celda;
+        TipoBicho[] tipos = TipoBicho.values();
+        this.sprites = new int[tipos.length * ESTADOS][];
+        for (TipoBicho tipo : tipos) {
+            for (int estado = 0; estado < ESTADOS; estado++) {
+                sprites[tipo.ordinal() * ESTADOS + estado] = pintarSprite(tipo, estado);
+            }
+        }
+    }
+
+    /**
+     * Gets the side of a cell in pixels.
+     *
+     * @return cell size
+     */
+    public int getCelda() {
+        return celda;
+    }
+
+    /**
+     * Draws one cell into an image of the board.
+     *
+     * @param destino {@code TYPE_INT_RGB} image covering the board at this
+     *                renderer's cell size
+     * @param fila    row coordinate
+     * @param col     column coordinate
+     * @param tipo    cell type
+     * @param salud   cell health
+     */
+    public void dibujarCelda(BufferedImage destino, int fila, int col, TipoBicho tipo, int salud) {
+        copiar(sprite(tipo, salud), pixeles(destino), destino.getWidth(), fila * celda, col * celda);
+    }
+
+    /**
+     * Draws every cell of a board into a new image.
+     *
+     * @param tablero board to draw; it must not change while being drawn
+     * @return an image of {@code columnas * celda} by {@code filas * celda} pixels
+     * @throws IllegalArgumentException if the image would exceed the size of a Java array
+     */
+    public BufferedImage rasterizar(Tablero tablero) {
+        long ancho = (long) tablero.getColumnas() * celda;
+        long alto = (long) tablero.getFilas() * celda;
+        if (ancho * alto > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(String.format(
+                "A %dx%d board is too large to render at %d pixels per cell",
+                tablero.getFilas(), tablero.getColumnas(), celda));
+        }
+        if (tablero instanceof TableroPaginado paginado) {
+            paginado.precargar(0, 0, tablero.getFilas(), tablero.getColumnas());
+        }
+        BufferedImage imagen = new BufferedImage((int) ancho, (int) alto, BufferedImage.TYPE_INT_RGB);
+        int[] destino = pixeles(imagen);
+        int tilesFila = (tablero.getFilas() + TILE - 1) / TILE;
+        int tilesCol = (tablero.getColumnas() + TILE - 1) / TILE;
+        IntStream.range(0, tilesFila * tilesCol).parallel().forEach(t -> {
+            int f0 = (t / tilesCol) * TILE;
+            int c0 = (t % tilesCol) * TILE;
+            int f1 = Math.min(tablero.getFilas(), f0 + TILE);
+            int c1 = Math.min(tablero.getColumnas(), c0 + TILE);
+            for (int f = f0; f < f1; f++) {
+                for (int c = c0; c < c1; c++) {
+                    copiar(sprite(tablero.getTipo(f, c), tablero.getSalud(f, c)),
+                        destino, (int) ancho, f * celda, c * celda);
+                }
+            }
+        });
+        return imagen;
+    }
+
+    /**
+     * Rasterizes a board and writes it as a PNG file.
+     *
+     * @param tablero board to export; it must not change while being drawn
+     * @param destino PNG file to write
+     * @throws IOException if the file cannot be written
+     * @throws UncheckedIOException if a paged board cannot load its tiles
+     * @throws IllegalArgumentException if the image would exceed the size of a Java array
+     */
+    public void exportarPng(Tablero tablero, Path destino) throws IOException {
+        BufferedImage imagen = rasterizar(tablero);
+        try (OutputStream out = Files.newOutputStream(destino)) {
+            if (!ImageIO.write(imagen, "png", out)) {
+                throw new IOException("No PNG writer available");
+            }
+        }
+    }
+
+    /**
+     * Gets the pixels of the sprite for a cell, shared and not to be modified.
+     */
+    private int[] sprite(TipoBicho tipo, int salud) {
+        int estado;
+        if (salud <= 0) {
+            estado = MUERTO;
+        } else {
+            int inicial = CreatureRegistry.getActivo().getSalud(tipo);
+            estado = salud > inicial ? MUTADO : salud < inicial ? HERIDO : SANO;
+        }
+        return sprites[tipo.ordinal() * ESTADOS + estado];
+    }
+
+    private void copiar(int[] sprite, int[] destino, int ancho, int y, int x) {
+        for (int fila = 0; fila < celda; fila++) {
+            System.arraycopy(sprite, fila * celda, destino, (y + fila) * ancho + x, celda);
+        }
+    }
+
+    private static int[] pixeles(BufferedImage imagen) {
+        if (imagen.getType() != BufferedImage.TYPE_INT_RGB) {
+            throw new IllegalArgumentException("Images must be of type TYPE_INT_RGB");
+        }
+        return ((DataBufferInt) imagen.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Paints the sprite of a type and state.
+     */
+    private int[] pintarSprite(TipoBicho tipo, int estado) {
+        Color base = COLORES[tipo.ordinal()];
+        if (estado == HERIDO) {
+            base = base.darker();
+        } else if (estado == MUERTO && tipo != TipoBicho.VACIO) {
+            base = new Color(0x55, 0x55, 0x55);
+        }
+        BufferedImage sprite = new BufferedImage(celda, celda, BufferedImage.TYPE_INT_RGB);
+        if (celda == 1) {
+            sprite.setRGB(0, 0, base.getRGB());
+            return pixeles(sprite);
+        }
+        Graphics2D g = sprite.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(FONDO);
+            g.fillRect(0, 0, celda, celda);
+            g.setColor(FONDO.brighter());
+            g.drawRect(0, 0, celda - 1, celda - 1);
+            if (tipo != TipoBicho.VACIO) {
+                int margen = Math.max(1, celda / 6);
+                g.setColor(base);
+                g.fillOval(margen, margen, celda - 2 * margen, celda - 2 * margen);
+                if (estado == MUTADO) {
+                    g.setColor(Color.YELLOW);
+                    g.setStroke(new BasicStroke(Math.max(1, celda / 12f)));
+                    g.drawOval(margen, margen, celda - 2 * margen - 1, celda - 2 * margen - 1);
+                } else if (estado == MUERTO) {
+                    g.setColor(Color.RED);
+                    g.setStroke(new BasicStroke(Math.max(1, celda / 12f)));
+                    g.drawLine(margen, margen, celda - margen, celda - margen);
+                    g.drawLine(celda - margen, margen, margen, celda - margen);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        return pixeles(sprite);
+    }
+}
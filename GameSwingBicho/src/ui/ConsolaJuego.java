@@ -1,11 +1,17 @@
 package ui;
 
 import models.Bicho;
+import models.CreatureRegistry;
 import models.GameConstants;
+import models.GameStatistics;
+import models.Tablero;
 import service.BichoManager;
+import service.GameSolver;
+import service.Leaderboard;
 
 import java.io.IOException;
-import java.util.Scanner;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Console-based user interface for Guerra de Bichos.
@@ -28,6 +34,8 @@ public class ConsolaJuego {
     private static final String MAGENTA = "\u001B[35m";
     private static final String BOLD = "\u001B[1m";
 
+    private static GameSolver solver;
+
     /**
      * Main entry point for the console game.
      *
@@ -35,8 +43,9 @@ public class ConsolaJuego {
      */
     public static void main(String[] args) {
         mostrarBienvenida();
+        cargarCriaturas();
         
-        Scanner sc = new Scanner(System.in);
+        LectorConsola sc = new LectorConsola(System.in);
         BichoManager manager = configurarJuego(sc);
         
         int opcion;
@@ -102,11 +111,14 @@ public class ConsolaJuego {
                 case 8 -> mostrarEstadisticas(manager);
                 case 9 -> {
                     System.out.println(MAGENTA + "\n¿Crear un nuevo juego? (Se perderá el progreso actual)" + RESET);
+                    registrarEnRanking(manager, false);
                     manager = configurarJuego(sc);
                     System.out.println(GREEN + "✨ Nuevo juego iniciado." + RESET);
                 }
+                case 10 -> mostrarPista(manager);
                 case 0 -> {
                     mostrarEstadisticas(manager);
+                    registrarEnRanking(manager, false);
                     System.out.println(BOLD + CYAN + "\n👋 ¡Gracias por jugar Guerra de Bichos!" + RESET);
                     System.out.println(YELLOW + "   Desarrollado como proyecto de portafolio" + RESET);
                 }
@@ -117,6 +129,7 @@ public class ConsolaJuego {
                 System.out.println(BOLD + RED + "\n🏆 ¡VICTORIA! Todos los bichos han sido eliminados." + RESET);
                 mostrarCampoMejorado(manager);
                 mostrarEstadisticas(manager);
+                registrarEnRanking(manager, true);
                 break;
             }
 
@@ -145,10 +158,10 @@ public class ConsolaJuego {
     /**
      * Configures initial game settings (board size).
      *
-     * @param sc scanner for user input
+     * @param sc reader for user input
      * @return configured BichoManager instance
      */
-    private static BichoManager configurarJuego(Scanner sc) {
+    private static BichoManager configurarJuego(LectorConsola sc) {
         System.out.println(BOLD + "\n⚙️  CONFIGURACIÓN DEL JUEGO" + RESET);
         System.out.println("\nSelecciona el tamaño del tablero:");
         System.out.println("1) 2x2 (Fácil)");
@@ -181,12 +194,12 @@ public class ConsolaJuego {
     /**
      * Reads an integer within a specified range.
      *
-     * @param sc  scanner for input
+     * @param sc  reader for input
      * @param min minimum valid value
      * @param max maximum valid value
      * @return validated integer
      */
-    private static int leerEntero(Scanner sc, int min, int max) {
+    private static int leerEntero(LectorConsola sc, int min, int max) {
         while (true) {
             if (sc.hasNextInt()) {
                 int valor = sc.nextInt();
@@ -216,6 +229,7 @@ public class ConsolaJuego {
         System.out.println("7) 📂 Cargar partida");
         System.out.println("8) 📊 Ver estadísticas");
         System.out.println("9) 🔄 Nuevo juego");
+        System.out.println("10) 💡 Pista (jugada óptima)");
         System.out.println("0) 🚪 Salir");
         System.out.print(BOLD + "\nSelecciona: " + RESET);
     }
@@ -223,10 +237,10 @@ public class ConsolaJuego {
     /**
      * Handles bullet shooting interaction.
      *
-     * @param sc      scanner for user input
+     * @param sc      reader for user input
      * @param manager game manager
      */
-    private static void dispararBala(Scanner sc, BichoManager manager) {
+    private static void dispararBala(LectorConsola sc, BichoManager manager) {
         System.out.print("Fila (0-" + (manager.getFilas() - 1) + "): ");
         int f = leerEntero(sc, 0, manager.getFilas() - 1);
         System.out.print("Columna (0-" + (manager.getColumnas() - 1) + "): ");
@@ -247,18 +261,18 @@ public class ConsolaJuego {
      * @param manager game manager
      */
     private static void mostrarCampoMejorado(BichoManager manager) {
-        Bicho[][] campo = manager.getCampo();
-        int filas = campo.length;
-        int cols = campo[0].length;
+        Tablero campo = manager.getVista();
+        int filas = campo.getFilas();
+        int cols = campo.getColumnas();
         
         System.out.println(BOLD + "\n┌─── CAMPO DE BATALLA ───┐" + RESET);
         
         for (int i = 0; i < filas; i++) {
             System.out.print("  ");
             for (int j = 0; j < cols; j++) {
-                Bicho b = campo[i][j];
+                Bicho b = campo.getBicho(i, j);
                 String icono = obtenerIcono(b);
-                String out = String.format("[%d,%d]%s%-12s", i, j, icono, b.toString());
+                String out = celdaTexto(i, j, icono, b.toString());
                 
                 if (b.estaMuerto()) {
                     System.out.print(RED + out + RESET + "  ");
@@ -273,6 +287,26 @@ public class ConsolaJuego {
         System.out.println(GREEN + "🟢 = Vivo  " + RED + "🔴 = Muerto" + RESET);
     }
 
+    /**
+     * Formats a board cell as {@code [fila,col]} followed by its icon and
+     * its text padded to 12 characters. Built by hand so showing the board
+     * does not load {@link java.util.Formatter}.
+     *
+     * @param fila  row coordinate
+     * @param col   column coordinate
+     * @param icono cell icon
+     * @param texto cell text
+     * @return formatted cell
+     */
+    private static String celdaTexto(int fila, int col, String icono, String texto) {
+        StringBuilder sb = new StringBuilder(24);
+        sb.append('[').append(fila).append(',').append(col).append(']').append(icono).append(texto);
+        for (int i = texto.length(); i < 12; i++) {
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+
     /**
      * Gets emoji icon for a bicho.
      *
@@ -290,6 +324,86 @@ public class ConsolaJuego {
         }
     }
 
+    /**
+     * Displays the optimal next move computed by the solver.
+     * <p>
+     * The solver is created on first use and keeps its transposition table
+     * between hints.
+     * </p>
+     *
+     * @param manager game manager
+     */
+    private static void mostrarPista(BichoManager manager) {
+        if (solver == null) {
+            solver = new GameSolver();
+        }
+        GameSolver.Solution pista;
+        try {
+            pista = solver.solve(manager);
+        } catch (IllegalArgumentException e) {
+            int objetivo = manager.getMapaAmenazas().mejorObjetivoBala();
+            if (objetivo < 0) {
+                System.out.println(MAGENTA + "💡 No quedan bichos vivos." + RESET);
+            } else {
+                System.out.println(YELLOW + "⚠ Tablero demasiado grande para la jugada óptima." + RESET);
+                System.out.println(MAGENTA + "💡 Objetivo más rentable para una bala: [" +
+                    objetivo / manager.getColumnas() + "," + objetivo % manager.getColumnas() + "]." + RESET);
+            }
+            return;
+        }
+        switch (pista.getAccion()) {
+            case BULLET -> System.out.println(MAGENTA + "💡 Dispara una bala en [" +
+                pista.getFila() + "," + pista.getCol() + "]." + RESET);
+            case BOMB -> System.out.println(MAGENTA + "💡 Lanza una bomba aleatoria." + RESET);
+            default -> System.out.println(MAGENTA + "💡 No quedan bichos vivos." + RESET);
+        }
+        System.out.println(CYAN + String.format("   Turnos esperados con juego óptimo: %.2f (%d puntos en juego)",
+            pista.getExpectedTurns(), pista.getMaxPoints()) + RESET);
+    }
+
+    /**
+     * Loads the creature types from {@value GameConstants#CREATURES_FILE}
+     * when the file exists, keeping the defaults otherwise.
+     */
+    private static void cargarCriaturas() {
+        Path archivo = Path.of(GameConstants.CREATURES_FILE);
+        if (!Files.exists(archivo)) {
+            return;
+        }
+        try {
+            CreatureRegistry.setActivo(CreatureRegistry.cargar(archivo));
+        } catch (IOException e) {
+            System.out.println(RED + "❌ Error cargando criaturas: " + e.getMessage() + RESET);
+        }
+    }
+
+    /**
+     * Records a finished or abandoned game in the persistent leaderboard and
+     * shows where it ranks among the games recorded before it. Games without
+     * a single bullet or bomb, such as a board that started empty, are not
+     * recorded.
+     *
+     * @param manager  game manager
+     * @param victoria whether every bicho was eliminated
+     */
+    private static void registrarEnRanking(BichoManager manager, boolean victoria) {
+        GameStatistics stats = manager.getEstadisticas();
+        if (stats.getTurns() == 0) {
+            return;
+        }
+        try (Leaderboard ranking = new Leaderboard(Path.of(GameConstants.LEADERBOARD_DIR))) {
+            long anteriores = ranking.getClasificadas(Leaderboard.Criterio.PUNTOS);
+            double percentil = ranking.percentil(Leaderboard.Criterio.PUNTOS, stats.getTotalPoints());
+            ranking.registrar(stats, victoria);
+            if (anteriores > 0) {
+                System.out.println(MAGENTA + String.format("📊 Ranking: mejor que el %.1f%% de %d partidas.",
+                    percentil, anteriores) + RESET);
+            }
+        } catch (IOException e) {
+            System.out.println(RED + "❌ Error guardando ranking: " + e.getMessage() + RESET);
+        }
+    }
+
     /**
      * Displays current game statistics.
      *
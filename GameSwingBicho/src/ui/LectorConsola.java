@@ -0,0 +1,131 @@
+package ui;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * Minimal whitespace-separated token reader for the console game.
+ * <p>
+ * It covers the part of {@link java.util.Scanner} the console uses. Unlike
+ * {@code Scanner}, creating it loads no regular expressions, number formats
+ * or locale data, which otherwise make up a large share of the time before
+ * the first menu appears. Integers are plain decimal with an optional sign,
+ * without grouping separators.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+final class LectorConsola implements Closeable {
+
+    private final BufferedReader in;
+    private String siguiente;
+
+    /**
+     * Creates a reader over a stream, decoded with the default charset.
+     *
+     * @param in source of the tokens
+     */
+    LectorConsola(InputStream in) {
+        this.in = new BufferedReader(new InputStreamReader(in));
+    }
+
+    /**
+     * Checks whether the next token is an int, waiting for input if needed.
+     *
+     * @return true if there is a next token and it is an int
+     * @throws UncheckedIOException if the input cannot be read
+     */
+    boolean hasNextInt() {
+        String token = mirar();
+        return token != null && esEntero(token);
+    }
+
+    /**
+     * Reads the next token as an int.
+     *
+     * @return the value read
+     * @throws InputMismatchException if the next token is not an int (it is not consumed)
+     * @throws NoSuchElementException if the input is exhausted
+     * @throws UncheckedIOException if the input cannot be read
+     */
+    int nextInt() {
+        String token = mirar();
+        if (token == null) {
+            throw new NoSuchElementException();
+        }
+        if (!esEntero(token)) {
+            throw new InputMismatchException(token);
+        }
+        siguiente = null;
+        return Integer.parseInt(token);
+    }
+
+    /**
+     * Reads the next token.
+     *
+     * @return the token read
+     * @throws NoSuchElementException if the input is exhausted
+     * @throws UncheckedIOException if the input cannot be read
+     */
+    String next() {
+        String token = mirar();
+        if (token == null) {
+            throw new NoSuchElementException();
+        }
+        siguiente = null;
+        return token;
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String mirar() {
+        if (siguiente == null) {
+            siguiente = leerToken();
+        }
+        return siguiente;
+    }
+
+    private String leerToken() {
+        try {
+            int c = in.read();
+            while (c != -1 && Character.isWhitespace(c)) {
+                c = in.read();
+            }
+            if (c == -1) {
+                return null;
+            }
+            StringBuilder token = new StringBuilder();
+            while (c != -1 && !Character.isWhitespace(c)) {
+                token.append((char) c);
+                c = in.read();
+            }
+            return token.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean esEntero(String token) {
+        try {
+            Integer.parseInt(token);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
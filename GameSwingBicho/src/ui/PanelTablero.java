@@ -0,0 +1,162 @@
+package ui;
+
+import models.TipoBicho;
+import service.BichoManager;
+import service.GameListener;
+
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+/**
+ * Swing view of a game board that repaints only the cells that change.
+ * <p>
+ * The panel keeps an off-screen image of the whole board drawn with a
+ * {@link BoardRenderer}. It listens to its game: each cell change redraws
+ * that cell into the image and asks Swing to repaint just its rectangle,
+ * so the cost of an update follows the number of cells changed. A board
+ * reset redraws the image once. Painting copies only the clipped part of
+ * the image to the screen.
+ * </p>
+ * <p>
+ * Game events may arrive on any thread; the image is guarded by its own
+ * lock and repaint requests are thread-safe. The panel starts listening
+ * before it draws the board, under that lock, so no change made while the
+ * first image is drawn is lost. The game and the image are not serialized
+ * with the panel.
+ * </p>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public class PanelTablero extends JPanel implements GameListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient BichoManager manager;
+    private final transient BoardRenderer renderer;
+    private final transient Object cerrojo = new Object();
+    private final transient BufferedImage lienzo;
+    private final int celda;
+    private long celdasRedibujadas;
+
+    /**
+     * Creates a view of a game and starts following its changes.
+     *
+     * @param manager game to show
+     * @param celda   side of a cell in pixels
+     * @throws IllegalArgumentException if the board image would be too large
+     */
+    public PanelTablero(BichoManager manager, int celda) {
+        this.manager = manager;
+        this.renderer = new BoardRenderer(celda);
+        this.celda = celda;
+        manager.cargarRegion(0, 0, manager.getFilas(), manager.getColumnas());
+        synchronized (cerrojo) {
+            manager.addListener(this);
+            try {
+                this.lienzo = renderer.rasterizar(manager.getVista());
+            } catch (RuntimeException e) {
+                manager.removeListener(this);
+                throw e;
+            }
+        }
+        setPreferredSize(new Dimension(lienzo.getWidth(), lienzo.getHeight()));
+        setDoubleBuffered(true);
+    }
+
+    /**
+     * Opens a window showing a game.
+     *
+     * @param manager game to show
+     * @param celda   side of a cell in pixels
+     * @return the panel shown in the window
+     */
+    public static PanelTablero abrirVentana(BichoManager manager, int celda) {
+        PanelTablero panel = new PanelTablero(manager, celda);
+        SwingUtilities.invokeLater(() -> {
+            JFrame ventana = new JFrame("Guerra de Bichos");
+            ventana.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+            ventana.add(new JScrollPane(panel));
+            ventana.pack();
+            ventana.setLocationRelativeTo(null);
+            ventana.setVisible(true);
+        });
+        return panel;
+    }
+
+    /**
+     * Stops following the game.
+     */
+    public void desconectar() {
+        manager.removeListener(this);
+    }
+
+    /**
+     * Gets the number of cells redrawn because they changed.
+     *
+     * @return cells redrawn since the panel was created
+     */
+    public long getCeldasRedibujadas() {
+        synchronized (cerrojo) {
+            return celdasRedibujadas;
+        }
+    }
+
+    /**
+     * Gets a copy of the current board image.
+     *
+     * @return the board as drawn by the panel
+     */
+    public BufferedImage getImagen() {
+        synchronized (cerrojo) {
+            BufferedImage copia = new BufferedImage(lienzo.getWidth(), lienzo.getHeight(), lienzo.getType());
+            lienzo.copyData(copia.getRaster());
+            return copia;
+        }
+    }
+
+    @Override
+    public void onCellChanged(int fila, int col, TipoBicho tipo, int salud) {
+        synchronized (cerrojo) {
+            renderer.dibujarCelda(lienzo, fila, col, tipo, salud);
+            celdasRedibujadas++;
+        }
+        repaint(col * celda, fila * celda, celda, celda);
+    }
+
+    @Override
+    public void onBoardReset() {
+        synchronized (cerrojo) {
+            for (int f = 0; f < manager.getFilas(); f++) {
+                for (int c = 0; c < manager.getColumnas(); c++) {
+                    renderer.dibujarCelda(lienzo, f, c, TipoBicho.VACIO, 0);
+                }
+            }
+        }
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Rectangle r = g.getClipBounds();
+        if (r == null) {
+            r = new Rectangle(0, 0, lienzo.getWidth(), lienzo.getHeight());
+        }
+        int x1 = Math.min(r.x + r.width, lienzo.getWidth());
+        int y1 = Math.min(r.y + r.height, lienzo.getHeight());
+        if (x1 <= r.x || y1 <= r.y) {
+            return;
+        }
+        synchronized (cerrojo) {
+            g.drawImage(lienzo, r.x, r.y, x1, y1, r.x, r.y, x1, y1, null);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package ui;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cold-start benchmark for {@link ConsolaJuego}.
+ * <p>
+ * Each run launches a fresh JVM playing a scripted game fed through its
+ * standard input, and measures from process launch until the main menu is
+ * first printed (time to first menu) and until the result of the first
+ * bullet is printed (time to first turn). Runs use an empty temporary
+ * working directory, so saves and the leaderboard never touch the caller's
+ * files.
+ * </p>
+ * <p>
+ * The same script is used as the training run for the class-data-sharing
+ * archive built by the {@code fast-start} Maven profile:
+ * </p>
+ * <pre>{@code
+ * java -cp target/classes:gson.jar ui.StartupBenchmark --entrenar target/bichos.jsa
+ * java -cp target/classes:gson.jar ui.StartupBenchmark 20 target/bichos.jsa
+ * }</pre>
+ *
+ * @author Portfolio Project
+ * @version 1.0.0
+ * @since 2025-11-01
+ */
+public final class StartupBenchmark {
+
+    /**
+     * Scripted game: a 5x5 board, random bichos, board display, a bullet on
+     * [0,0], a bomb, a mutation, save, load, statistics, a hint and exit.
+     */
+    public static final String GUION = "4\n1\n2\n3\n0\n0\n4\n5\n6\n7\n8\n10\n0\n";
+
+    private static final String MARCA_MENU = "PRINCIPAL";
+    private static final String MARCA_TURNO = "Disparo ";
+
+    /**
+     * Startup times of one run.
+     *
+     * @param menuNanos  nanoseconds from launch to the first menu
+     * @param turnoNanos nanoseconds from launch to the first turn's result
+     */
+    public record Medicion(long menuNanos, long turnoNanos) {
+    }
+
+    private StartupBenchmark() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Launches the console game once and times its startup.
+     *
+     * @param opcionesJvm extra options for the child JVM
+     * @return times to first menu and first turn
+     * @throws IOException if the process cannot be run or never reaches its first turn
+     * @throws InterruptedException if interrupted while waiting for the process
+     */
+    public static Medicion medir(List<String> opcionesJvm) throws IOException, InterruptedException {
+        Path directorio = Files.createTempDirectory("bichos-arranque");
+        try {
+            long inicio = System.nanoTime();
+            Process proceso = lanzar(opcionesJvm, directorio);
+            long menu = -1;
+            long turno = -1;
+            StringBuilder salida = new StringBuilder();
+            try (InputStream in = proceso.getInputStream()) {
+                byte[] buffer = new byte[8192];
+                int leidos;
+                while ((leidos = in.read(buffer)) != -1) {
+                    long ahora = System.nanoTime();
+                    salida.append(new String(buffer, 0, leidos, StandardCharsets.ISO_8859_1));
+                    if (menu < 0 && salida.indexOf(MARCA_MENU) >= 0) {
+                        menu = ahora - inicio;
+                    }
+                    if (turno < 0 && salida.indexOf(MARCA_TURNO) >= 0) {
+                        turno = ahora - inicio;
+                    }
+                }
+            }
+            int codigo = proceso.waitFor();
+            if (menu < 0 || turno < 0) {
+                throw new IOException(String.format(
+                    "Game exited with code %d before its first turn", codigo));
+            }
+            return new Medicion(menu, turno);
+        } finally {
+            borrar(directorio);
+        }
+    }
+
+    /**
+     * Plays the scripted game once in a JVM that dumps every class it loaded
+     * into a dynamic class-data-sharing archive on exit.
+     *
+     * @param archivo archive to create
+     * @throws IOException if the training run fails
+     * @throws InterruptedException if interrupted while waiting for the run
+     */
+    public static void entrenar(Path archivo) throws IOException, InterruptedException {
+        Path destino = archivo.toAbsolutePath();
+        Files.deleteIfExists(destino);
+        medir(List.of("-XX:ArchiveClassesAtExit=" + destino));
+        if (!Files.exists(destino)) {
+            throw new IOException("The JVM did not create the archive " + destino);
+        }
+    }
+
+    private static Process lanzar(List<String> opcionesJvm, Path directorio) throws IOException {
+        List<String> comando = new ArrayList<>();
+        comando.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        comando.addAll(opcionesJvm);
+        comando.add("-cp");
+        comando.add(Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+            .map(p -> Path.of(p).toAbsolutePath().toString())
+            .collect(Collectors.joining(File.pathSeparator)));
+        comando.add(ConsolaJuego.class.getName());
+        Process proceso = new ProcessBuilder(comando)
+            .directory(directorio.toFile())
+            .redirectErrorStream(true)
+            .start();
+        try (OutputStream out = proceso.getOutputStream()) {
+            out.write(GUION.getBytes(StandardCharsets.US_ASCII));
+        }
+        return proceso;
+    }
+
+    private static void borrar(Path directorio) throws IOException {
+        try (Stream<Path> rutas = Files.walk(directorio)) {
+            rutas.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.delete(p);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static long mediana(long[] valores) {
+        long[] ordenados = valores.clone();
+        Arrays.sort(ordenados);
+        return ordenados[ordenados.length / 2];
+    }
+
+    /**
+     * Runs the benchmark, or the archive training run.
+     * <p>
+     * Usage: {@code [ejecuciones] [archivo.jsa]} times the given number of
+     * runs (default 10), once without class-data sharing for the
+     * application and, if an archive is given, once more using it.
+     * {@code --entrenar archivo.jsa} creates the archive instead.
+     * </p>
+     *
+     * @param args command line arguments
+     * @throws IOException if a run fails
+     * @throws InterruptedException if interrupted while waiting for a run
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 2 && args[0].equals("--entrenar")) {
+            entrenar(Path.of(args[1]));
+            System.out.println("Archive written to " + args[1]);
+            return;
+        }
+        int ejecuciones = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        if (ejecuciones <= 0) {
+            throw new IllegalArgumentException("Run count must be positive");
+        }
+        informar("default", List.of(), ejecuciones);
+        if (args.length > 1) {
+            String archivo = Path.of(args[1]).toAbsolutePath().toString();
+            informar("AppCDS", List.of("-XX:SharedArchiveFile=" + archivo), ejecuciones);
+        }
+    }
+
+    private static void informar(String nombre, List<String> opciones, int ejecuciones)
+            throws IOException, InterruptedException {
+        medir(opciones);
+        long[] menus = new long[ejecuciones];
+        long[] turnos = new long[ejecuciones];
+        for (int i = 0; i < ejecuciones; i++) {
+            Medicion m = medir(opciones);
+            menus[i] = m.menuNanos();
+            turnos[i] = m.turnoNanos();
+        }
+        System.out.printf("%-8s first menu %6.1f ms, first turn %6.1f ms (median of %d runs)%n",
+            nombre, mediana(menus) / 1e6, mediana(turnos) / 1e6, ejecuciones);
+    }
+}
@@ -0,0 +1,73 @@
+package models;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import service.BichoManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CreatureRegistry class.
+ */
+class CreatureRegistryTest {
+
+    @AfterEach
+    void restaurar() {
+        CreatureRegistry.setActivo(CreatureRegistry.predeterminado());
+    }
+
+    @Test
+    void testDefaultsMatchConstants() {
+        CreatureRegistry registro = CreatureRegistry.predeterminado();
+        assertEquals(TipoBicho.values().length, registro.getTamano());
+        assertEquals(GameConstants.NORMAL_HEALTH, registro.getSalud(TipoBicho.NORMAL));
+        assertEquals(GameConstants.ALIEN_HEALTH, registro.getSalud(TipoBicho.ALIEN));
+        assertEquals(GameConstants.POINTS_ALIEN, registro.getPuntos(TipoBicho.ALIEN.ordinal()));
+        assertEquals(0, registro.getPuntos(TipoBicho.VACIO.ordinal()));
+        assertEquals(GameConstants.BULLET_DAMAGE, registro.getDanoBala(TipoBicho.NORMAL.ordinal()));
+        assertEquals(TipoBicho.ALIEN.ordinal(), registro.codigo("ALIEN"));
+    }
+
+    @Test
+    void testLoadedTypesDriveTheRules() throws IOException {
+        CreatureRegistry registro = CreatureRegistry.leer(new StringReader("""
+            [
+              {"nombre": "ALIEN", "salud": 12, "resistencia": 2, "mutacion": 3, "puntos": 40},
+              {"nombre": "NORMAL", "resistencia": 9, "color": "gris"}
+            ]
+            """));
+        assertEquals(TipoBicho.values().length, registro.getTamano());
+        assertEquals(1, registro.getDanoBala(TipoBicho.NORMAL.ordinal()), "Bullets always deal at least 1");
+        assertEquals(GameConstants.NORMAL_HEALTH, registro.getSalud(TipoBicho.NORMAL), "Missing fields keep defaults");
+        assertEquals(GameConstants.POINTS_NORMAL, registro.getPuntos(TipoBicho.NORMAL.ordinal()));
+
+        CreatureRegistry.setActivo(registro);
+        BichoManager manager = new BichoManager(2, 2);
+        manager.aparecer(0, 0, TipoBicho.ALIEN);
+        manager.atacarBala(0, 0);
+        assertEquals(9, manager.getSalud(0, 0));
+        manager.mutarMasDebil();
+        assertEquals(27, manager.getSalud(0, 0));
+        manager.atacarBombaEn(0, 0);
+        assertEquals(40, manager.getEstadisticas().getTotalPoints());
+    }
+
+    @Test
+    void testInvalidConfigurations() {
+        assertThrows(IOException.class, () -> CreatureRegistry.leer(new StringReader(
+            "[{\"nombre\": \"NORMAL\"}, {\"nombre\": \"NORMAL\"}]")));
+        assertThrows(IOException.class, () -> CreatureRegistry.leer(new StringReader(
+            "[{\"nombre\": \"VACIO\", \"salud\": 5}]")));
+        assertThrows(IOException.class, () -> CreatureRegistry.leer(new StringReader(
+            "[{\"nombre\": \"ALIEN\", \"mutacion\": 0}]")));
+        assertThrows(IOException.class, () -> CreatureRegistry.leer(new StringReader(
+            "[{\"nombre\": \"NORMAL\", \"resistencia\": -1}]")));
+        assertThrows(IOException.class, () -> CreatureRegistry.leer(new StringReader(
+            "[{\"nombre\": \"BLINDADO\", \"salud\": 30}]")), "Only built-in types can be placed on a board");
+        assertThrows(IOException.class, () -> CreatureRegistry.leer(new StringReader("{}")));
+        assertThrows(IllegalArgumentException.class, () -> CreatureRegistry.setActivo(null));
+    }
+}
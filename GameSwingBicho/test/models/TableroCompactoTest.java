@@ -0,0 +1,93 @@
+package models;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TableroCompacto class.
+ */
+class TableroCompactoTest {
+
+    private TableroCompacto tablero;
+
+    @BeforeEach
+    void setUp() {
+        tablero = new TableroCompacto(100, 100);
+    }
+
+    @Test
+    void testDefaultPackingAndEmptyBoard() {
+        assertEquals(7, tablero.getBitsPorCelda(), "2 type bits and 5 health bits for healths up to 20");
+        assertEquals(0, tablero.contarOcupadas());
+        assertEquals(TipoBicho.VACIO, tablero.getTipo(99, 99));
+        assertEquals(-1, tablero.indiceMasDebil());
+
+        tablero.setCelda(3, 7, TipoBicho.ALIEN, GameConstants.ALIEN_HEALTH);
+        tablero.setCelda(3, 8, TipoBicho.NORMAL, 0);
+        assertEquals(TipoBicho.ALIEN, tablero.getTipo(3, 7));
+        assertEquals(GameConstants.ALIEN_HEALTH, tablero.getSalud(3, 7));
+        assertEquals("NORMAL-X", tablero.getBicho(3, 8).toString());
+        assertEquals(2, tablero.contarOcupadas());
+        assertEquals(1, tablero.contarVivos());
+        assertEquals(0, tablero.getCeldasAnchas());
+    }
+
+    @Test
+    void testMutationWidensAndBulletsNarrow() {
+        tablero.setCelda(0, 0, TipoBicho.NORMAL, GameConstants.NORMAL_HEALTH);
+        int salud = GameConstants.NORMAL_HEALTH;
+        for (int i = 0; i < 20; i++) {
+            salud = Bicho.saludTrasMutacion(salud, TipoBicho.NORMAL);
+            tablero.setCelda(0, 0, TipoBicho.NORMAL, salud);
+            assertEquals(salud, tablero.getSalud(0, 0));
+        }
+        assertEquals(1, tablero.getCeldasAnchas());
+        assertEquals(TipoBicho.NORMAL, tablero.getTipo(0, 0));
+        assertEquals(0, tablero.getSalud(0, 1), "Neighbours are untouched");
+
+        tablero.setCelda(0, 0, TipoBicho.NORMAL, 30);
+        assertEquals(30, tablero.getSalud(0, 0));
+        assertEquals(0, tablero.getCeldasAnchas());
+        tablero.setCelda(0, 0, TipoBicho.VACIO, 0);
+        assertEquals(0, tablero.contarOcupadas());
+    }
+
+    @Test
+    void testMatchesDenseBoard() {
+        TableroCompacto compacto = new TableroCompacto(37, 41, 3);
+        TableroDenso denso = new TableroDenso(37, 41);
+        TipoBicho[] tipos = TipoBicho.values();
+        Random random = new Random(11);
+        for (int i = 0; i < 20_000; i++) {
+            int f = random.nextInt(37);
+            int c = random.nextInt(41);
+            TipoBicho tipo = tipos[random.nextInt(tipos.length)];
+            int salud = random.nextInt(4) == 0 ? 0 : random.nextInt(random.nextBoolean() ? 10 : 5000);
+            compacto.setCelda(f, c, tipo, salud);
+            denso.setCelda(f, c, tipo, salud);
+        }
+
+        assertEquals(denso.contarOcupadas(), compacto.contarOcupadas());
+        assertEquals(denso.contarVivos(), compacto.contarVivos());
+        assertEquals(denso.indiceMasDebil(), compacto.indiceMasDebil());
+        assertTrue(compacto.getCeldasAnchas() > 0);
+        StringBuilder esperado = new StringBuilder();
+        denso.recorrerOcupadas((f, c, t, s) ->
+            esperado.append(f).append(',').append(c).append(t).append(s).append(';'));
+        StringBuilder obtenido = new StringBuilder();
+        compacto.recorrerOcupadas((f, c, t, s) ->
+            obtenido.append(f).append(',').append(c).append(t).append(s).append(';'));
+        assertEquals(esperado.toString(), obtenido.toString());
+    }
+
+    @Test
+    void testRejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new TableroCompacto(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new TableroCompacto(5, 5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TableroCompacto(5, 5, 31));
+    }
+}
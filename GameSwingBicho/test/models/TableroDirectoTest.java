@@ -0,0 +1,94 @@
+package models;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TableroDirecto class.
+ */
+class TableroDirectoTest {
+
+    @Test
+    void testMatchesDenseBoard() {
+        try (TableroDirecto directo = new TableroDirecto(53, 29)) {
+            TableroDenso denso = new TableroDenso(53, 29);
+            TipoBicho[] tipos = TipoBicho.values();
+            Random random = new Random(5);
+            for (int i = 0; i < 10_000; i++) {
+                int f = random.nextInt(53);
+                int c = random.nextInt(29);
+                TipoBicho tipo = tipos[random.nextInt(tipos.length)];
+                int salud = random.nextInt(3) == 0 ? 0 : random.nextInt(100);
+                directo.setCelda(f, c, tipo, salud);
+                denso.setCelda(f, c, tipo, salud);
+            }
+
+            assertEquals(denso.contarOcupadas(), directo.contarOcupadas());
+            assertEquals(denso.contarVivos(), directo.contarVivos());
+            assertEquals(denso.indiceMasDebil(), directo.indiceMasDebil());
+            StringBuilder esperado = new StringBuilder();
+            denso.recorrerOcupadas((f, c, t, s) ->
+                esperado.append(f).append(',').append(c).append(t).append(s).append(';'));
+            StringBuilder obtenido = new StringBuilder();
+            directo.recorrerOcupadas((f, c, t, s) ->
+                obtenido.append(f).append(',').append(c).append(t).append(s).append(';'));
+            assertEquals(esperado.toString(), obtenido.toString());
+
+            directo.limpiar();
+            assertEquals(0, directo.contarOcupadas());
+            assertEquals(-1, directo.indiceMasDebil());
+        }
+    }
+
+    @Test
+    void testSaveAndLoadRoundTrip(@TempDir Path dir) throws IOException {
+        Path archivo = dir.resolve("arena.bdir");
+        try (TableroDirecto tablero = new TableroDirecto(300, 200)) {
+            tablero.setCelda(0, 0, TipoBicho.NORMAL, GameConstants.NORMAL_HEALTH);
+            tablero.setCelda(299, 199, TipoBicho.ALIEN, Integer.MAX_VALUE);
+            tablero.setCelda(150, 7, TipoBicho.NORMAL, 0);
+            tablero.guardar(archivo);
+
+            try (TableroDirecto leido = TableroDirecto.cargar(archivo)) {
+                assertEquals(300, leido.getFilas());
+                assertEquals(200, leido.getColumnas());
+                assertEquals(3, leido.contarOcupadas());
+                assertEquals(2, leido.contarVivos());
+                assertEquals(TipoBicho.ALIEN, leido.getTipo(299, 199));
+                assertEquals(Integer.MAX_VALUE, leido.getSalud(299, 199));
+                assertEquals("NORMAL-X", leido.getBicho(150, 7).toString());
+                assertEquals(Zobrist.calcular(tablero), Zobrist.calcular(leido));
+            }
+        }
+
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[] { 9 }), 32);
+        }
+        assertThrows(IOException.class, () -> TableroDirecto.cargar(archivo));
+        Files.writeString(archivo, "not a board");
+        assertThrows(IOException.class, () -> TableroDirecto.cargar(archivo));
+    }
+
+    @Test
+    void testClosedBoardRejectsAccess() {
+        TableroDirecto tablero = new TableroDirecto(4, 4);
+        tablero.setCelda(1, 1, TipoBicho.NORMAL, 10);
+        tablero.close();
+        tablero.close();
+
+        assertTrue(tablero.estaCerrado());
+        assertThrows(IllegalStateException.class, () -> tablero.getSalud(1, 1));
+        assertThrows(IllegalStateException.class, () -> tablero.setCelda(0, 0, TipoBicho.ALIEN, 20));
+        assertThrows(IllegalArgumentException.class, () -> new TableroDirecto(0, 3));
+    }
+}
@@ -0,0 +1,93 @@
+package models;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TableroDisperso class.
+ */
+class TableroDispersoTest {
+
+    private TableroDisperso tablero;
+
+    @BeforeEach
+    void setUp() {
+        tablero = new TableroDisperso(100, 100);
+    }
+
+    @Test
+    void testEmptyBoard() {
+        assertEquals(0, tablero.contarOcupadas());
+        assertEquals(0, tablero.contarVivos());
+        assertEquals(TipoBicho.VACIO, tablero.getTipo(50, 50));
+        assertEquals(-1, tablero.indiceMasDebil());
+    }
+
+    @Test
+    void testSetAndGet() {
+        tablero.setCelda(3, 7, TipoBicho.ALIEN, GameConstants.ALIEN_HEALTH);
+        assertEquals(TipoBicho.ALIEN, tablero.getTipo(3, 7));
+        assertEquals(GameConstants.ALIEN_HEALTH, tablero.getSalud(3, 7));
+        assertEquals(1, tablero.contarOcupadas());
+        assertEquals(1, tablero.contarVivos());
+    }
+
+    @Test
+    void testDeadBichoStaysOccupied() {
+        tablero.setCelda(0, 0, TipoBicho.NORMAL, GameConstants.NORMAL_HEALTH);
+        tablero.setCelda(0, 0, TipoBicho.NORMAL, 0);
+        assertEquals(1, tablero.contarOcupadas());
+        assertEquals(0, tablero.contarVivos());
+        assertEquals("NORMAL-X", tablero.getBicho(0, 0).toString());
+    }
+
+    @Test
+    void testSettingVacioRemovesCell() {
+        tablero.setCelda(1, 1, TipoBicho.NORMAL, GameConstants.NORMAL_HEALTH);
+        tablero.setCelda(1, 1, TipoBicho.VACIO, 0);
+        assertEquals(0, tablero.contarOcupadas());
+        assertEquals(0, tablero.contarVivos());
+    }
+
+    @Test
+    void testGrowAndRemoveKeepsAllCells() {
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 100; j += 3) {
+                tablero.setCelda(i, j, TipoBicho.NORMAL, i + j + 1);
+            }
+        }
+        for (int i = 0; i < 100; i += 2) {
+            for (int j = 0; j < 100; j += 3) {
+                tablero.setCelda(i, j, TipoBicho.VACIO, 0);
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 100; j += 3) {
+                int esperado = i % 2 == 0 ? 0 : i + j + 1;
+                assertEquals(esperado, tablero.getSalud(i, j));
+            }
+        }
+        assertEquals(50 * 34, tablero.contarOcupadas());
+    }
+
+    @Test
+    void testIndiceMasDebilMatchesRowMajorTieBreak() {
+        tablero.setCelda(9, 9, TipoBicho.NORMAL, 5);
+        tablero.setCelda(2, 4, TipoBicho.ALIEN, 5);
+        tablero.setCelda(0, 0, TipoBicho.ALIEN, 20);
+        assertEquals(2 * 100 + 4, tablero.indiceMasDebil());
+    }
+
+    @Test
+    void testCopiesAreEquivalent() {
+        tablero.setCelda(4, 2, TipoBicho.ALIEN, 15);
+        tablero.setCelda(8, 1, TipoBicho.NORMAL, 0);
+        TableroDenso denso = TableroDenso.copiaDe(tablero);
+        TableroDisperso vuelta = TableroDisperso.copiaDe(denso);
+
+        assertEquals(new Bicho(15, TipoBicho.ALIEN), denso.getCampo()[4][2]);
+        assertEquals(2, vuelta.contarOcupadas());
+        assertEquals(TipoBicho.NORMAL, vuelta.getTipo(8, 1));
+    }
+}
@@ -0,0 +1,135 @@
+package models;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import service.BichoManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TableroMapeado class.
+ */
+class TableroMapeadoTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testCellsAndCounters() throws IOException {
+        TableroMapeado t = new TableroMapeado(dir.resolve("b.bin"), 3, 4);
+
+        assertEquals(TipoBicho.VACIO, t.getTipo(2, 3));
+        t.setCelda(1, 2, TipoBicho.ALIEN, 20);
+        t.setCelda(0, 0, TipoBicho.NORMAL, 0);
+        t.setCelda(2, 3, TipoBicho.NORMAL, 5);
+
+        assertEquals(TipoBicho.ALIEN, t.getTipo(1, 2));
+        assertEquals(20, t.getSalud(1, 2));
+        assertEquals(3, t.contarOcupadas());
+        assertEquals(2, t.contarVivos());
+        assertEquals(2 * 4 + 3, t.indiceMasDebil());
+
+        t.setCelda(1, 2, TipoBicho.VACIO, 0);
+        assertEquals(2, t.contarOcupadas());
+        t.limpiar();
+        assertEquals(0, t.contarOcupadas());
+        assertEquals(0, t.getSecuencia() % 2);
+    }
+
+    @Test
+    void testReaderSeesManagerGame() throws IOException {
+        Path archivo = dir.resolve("game.bin");
+        BichoManager manager = new BichoManager(new TableroMapeado(archivo, 8, 8));
+        manager.crearBichosAleatorios();
+        manager.atacarBala(0, 0);
+        manager.mutarMasDebil();
+
+        LectorTableroMapeado lector = LectorTableroMapeado.abrir(archivo);
+        assertEquals(8, lector.getFilas());
+        LectorTableroMapeado.Instantanea foto = lector.capturar();
+        TableroDenso copia = new TableroDenso(8, 8);
+        foto.copiarEn(copia);
+
+        assertEquals(manager.getHashCampo(), Zobrist.calcular(copia));
+        assertEquals(manager.getSalud(3, 4), lector.getSalud(3, 4));
+        assertEquals(0, foto.getSecuencia() % 2);
+    }
+
+    @Test
+    void testEachActionIsOneTurn() throws IOException {
+        TableroMapeado t = new TableroMapeado(dir.resolve("turnos.bin"), 4, 4);
+        BichoManager manager = new BichoManager(t);
+        manager.aparecer(0, 0, TipoBicho.NORMAL);
+        manager.aparecer(0, 1, TipoBicho.ALIEN);
+        manager.getEfectos().aplicar(0, 1, TipoEfecto.VENENO, 1, 3);
+
+        long antes = t.getSecuencia();
+        manager.atacarBala(0, 0);
+        assertEquals(antes + 2, t.getSecuencia(), "Hit and poison tick publish together");
+        manager.atacarBombaEn(0, 0);
+        manager.mutarMasDebil();
+        assertEquals(antes + 6, t.getSecuencia());
+    }
+
+    @Test
+    void testCloseReleasesBoard() throws IOException {
+        Path archivo = dir.resolve("cerrado.bin");
+        TableroMapeado t = new TableroMapeado(archivo, 2, 2);
+        t.setCelda(1, 1, TipoBicho.ALIEN, 20);
+        t.close();
+        t.close();
+
+        assertTrue(t.estaCerrado());
+        assertThrows(IllegalStateException.class, () -> t.getSalud(1, 1));
+        assertEquals(20, LectorTableroMapeado.abrir(archivo).getSalud(1, 1));
+    }
+
+    @Test
+    void testSnapshotsNeverShowHalfATurn() throws Exception {
+        Path archivo = dir.resolve("live.bin");
+        TableroMapeado t = new TableroMapeado(archivo, 4, 64);
+        LectorTableroMapeado lector = LectorTableroMapeado.abrir(archivo);
+        AtomicBoolean fin = new AtomicBoolean();
+        AtomicReference<String> fallo = new AtomicReference<>();
+
+        Thread espectador = new Thread(() -> {
+            LectorTableroMapeado.Instantanea foto = new LectorTableroMapeado.Instantanea(4, 64);
+            while (!fin.get()) {
+                lector.capturar(foto);
+                int primera = foto.getSalud(0, 0);
+                for (int c = 1; c < 64; c++) {
+                    if (foto.getSalud(0, c) != primera) {
+                        fallo.set("Torn snapshot at sequence " + foto.getSecuencia());
+                        return;
+                    }
+                }
+            }
+        });
+        espectador.start();
+        long limite = System.nanoTime() + 200_000_000L;
+        for (int turno = 1; System.nanoTime() < limite; turno++) {
+            t.iniciarTurno();
+            for (int c = 0; c < 64; c++) {
+                t.setCelda(0, c, TipoBicho.NORMAL, turno);
+            }
+            t.finalizarTurno();
+        }
+        fin.set(true);
+        espectador.join();
+
+        assertNull(fallo.get());
+    }
+
+    @Test
+    void testRejectsForeignFile() throws IOException {
+        Path archivo = dir.resolve("other.bin");
+        Files.write(archivo, new byte[128]);
+        assertThrows(IOException.class, () -> LectorTableroMapeado.abrir(archivo));
+    }
+}
@@ -0,0 +1,156 @@
+package models;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import service.BichoManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TableroPaginado class.
+ */
+class TableroPaginadoTest {
+
+    @TempDir
+    Path dir;
+
+    private static TableroDenso aleatorio(int filas, int columnas, long semilla) {
+        TableroDenso t = new TableroDenso(filas, columnas);
+        Random r = new Random(semilla);
+        for (int i = 0; i < filas * columnas / 3; i++) {
+            t.setCelda(r.nextInt(filas), r.nextInt(columnas),
+                r.nextBoolean() ? TipoBicho.NORMAL : TipoBicho.ALIEN, r.nextInt(25));
+        }
+        return t;
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        TableroDenso original = aleatorio(300, 200, 1);
+        Path archivo = dir.resolve("a.tiles");
+        TableroPaginado.escribir(original, archivo);
+
+        try (TableroPaginado t = TableroPaginado.abrir(archivo)) {
+            assertEquals(300, t.getFilas());
+            assertEquals(200, t.getColumnas());
+            assertEquals(original.contarOcupadas(), t.contarOcupadas());
+            assertEquals(original.contarVivos(), t.contarVivos());
+            assertEquals(0, t.getTilesCargados(), "Counts come from the index");
+            assertEquals(original.indiceMasDebil(), t.indiceMasDebil());
+            assertEquals(Zobrist.calcular(original), t.getHashZobrist());
+            t.setCelda(150, 150, TipoBicho.ALIEN, 7);
+            original.setCelda(150, 150, TipoBicho.ALIEN, 7);
+            assertEquals(Zobrist.calcular(original), t.getHashZobrist());
+            assertEquals(Zobrist.calcular(original), Zobrist.calcular(t));
+            assertEquals(t.getTiles(), t.getTilesCargados());
+        }
+    }
+
+    @Test
+    void testTilesArePagedInOnFirstTouch() throws IOException {
+        TableroDisperso arena = new TableroDisperso(4000, 4000);
+        arena.setCelda(10, 10, TipoBicho.NORMAL, 5);
+        arena.setCelda(3000, 3500, TipoBicho.ALIEN, 2);
+        arena.setCelda(3999, 0, TipoBicho.NORMAL, 0);
+        Path archivo = dir.resolve("arena.tiles");
+        TableroPaginado.escribir(arena, archivo);
+
+        try (TableroPaginado t = TableroPaginado.abrir(archivo)) {
+            int vacios = t.getTiles() - 3;
+            assertEquals(vacios, t.getTilesCargados(), "Empty tiles are never read");
+            assertEquals(TipoBicho.VACIO, t.getTipo(2000, 2000));
+            assertEquals(5, t.getSalud(10, 10));
+            assertEquals(vacios + 1, t.getTilesCargados());
+            assertEquals(2, t.contarVivos());
+            assertEquals(3000 * 4000 + 3500, t.indiceMasDebil());
+            assertEquals(vacios + 2, t.getTilesCargados(), "Only the tile with the minimum is read");
+        }
+    }
+
+    @Test
+    void testCorruptTileIsDetected() throws IOException {
+        Path archivo = dir.resolve("c.tiles");
+        TableroPaginado.escribir(aleatorio(256, 256, 2), archivo);
+        long offset;
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer entrada = ByteBuffer.allocate(8);
+            canal.read(entrada, 32 + 3 * 40);
+            offset = entrada.getLong(0);
+            ByteBuffer b = ByteBuffer.allocate(1);
+            canal.read(b, offset + 5);
+            b.put(0, (byte) ~b.get(0)).rewind();
+            canal.write(b, offset + 5);
+        }
+
+        try (TableroPaginado t = TableroPaginado.abrir(archivo)) {
+            assertEquals(List.of(3), t.verificar(0, 0, 256, 256));
+            assertEquals(List.of(), t.verificar(0, 0, 128, 128));
+            assertNotNull(t.getTipo(0, 0));
+            assertThrows(UncheckedIOException.class, () -> t.getTipo(200, 200));
+        }
+    }
+
+    @Test
+    void testRejectsForeignFile() throws IOException {
+        Path archivo = dir.resolve("x.tiles");
+        Files.write(archivo, new byte[64]);
+        assertThrows(IOException.class, () -> TableroPaginado.abrir(archivo));
+    }
+
+    @Test
+    void testManagerPlaysOnPagedSave() throws IOException {
+        BichoManager original = BichoManager.crearArena(1000, 1000);
+        original.crearBichosAleatorios(0.001);
+        Path archivo = dir.resolve("game.tiles");
+        original.guardarPartidaTeselada(archivo);
+
+        BichoManager abierta = BichoManager.abrirPartidaTeselada(archivo);
+        assertEquals(original.getHashCampo(), abierta.getHashCampo());
+        abierta.cargarRegion(0, 0, 10, 10);
+        assertTrue(abierta.verificarRegion(0, 0, 1000, 1000).isEmpty());
+        abierta.mutarMasDebil();
+        original.mutarMasDebil();
+        abierta.guardarPartidaTeselada(archivo);
+
+        BichoManager reabierta = BichoManager.abrirPartidaTeselada(archivo);
+        assertEquals(original.getHashCampo(), reabierta.getHashCampo());
+        assertTrue(original.mismoCampo(reabierta));
+    }
+
+    @Test
+    void testManagerHashesWithoutPagingAndCloses() throws IOException {
+        BichoManager original = BichoManager.crearArena(1000, 1000);
+        original.crearBichosAleatorios(0.01);
+        Path archivo = dir.resolve("hash.tiles");
+        original.guardarPartidaTeselada(archivo);
+
+        BichoManager abierta = BichoManager.abrirPartidaTeselada(archivo);
+        assertEquals(original.getHashCampo(), abierta.getHashCampo());
+        abierta.close();
+        assertThrows(UncheckedIOException.class, () -> abierta.getVista().getSalud(500, 500),
+            "Hashing read no tile and close released the file");
+    }
+
+    @Test
+    void testClearingReleasesFile() throws IOException {
+        Path archivo = dir.resolve("clear.tiles");
+        TableroPaginado.escribir(aleatorio(200, 200, 3), archivo);
+        TableroPaginado t = TableroPaginado.abrir(archivo);
+        BichoManager manager = new BichoManager(t);
+
+        manager.crearBichosAleatorios(0.5);
+        assertFalse(t.estaAbierto());
+        assertEquals(Zobrist.calcular(t), t.getHashZobrist());
+        assertEquals(manager.getHashCampo(), t.getHashZobrist());
+    }
+}
@@ -0,0 +1,92 @@
+package models;
+
+import org.junit.jupiter.api.Test;
+import service.BichoManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TurnTimeSeries class.
+ */
+class TurnTimeSeriesTest {
+
+    @Test
+    void testRingKeepsNewestSamples() {
+        TurnTimeSeries serie = new TurnTimeSeries(4);
+        for (int t = 1; t <= 10; t++) {
+            serie.registrar(t, t, t / 2, t / 3, t * 10, 100 - t);
+        }
+
+        assertEquals(4, serie.getTamano());
+        assertEquals(10, serie.getRegistradas());
+        assertEquals(7, serie.getTurno(0));
+        assertEquals(10, serie.getTurno(3));
+        assertEquals(90, serie.getVivos(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> serie.getTurno(4));
+    }
+
+    @Test
+    void testWindowedAggregates() {
+        TurnTimeSeries serie = new TurnTimeSeries(100);
+        assertEquals(0.0, serie.precisionMovil(10));
+        for (int t = 1; t <= 50; t++) {
+            serie.registrar(t, t, t <= 25 ? 0 : t - 25, t / 10, t, 0);
+        }
+
+        assertEquals(100.0, serie.precisionMovil(10), 1e-9);
+        assertEquals(50.0, serie.precisionMovil(50), 1e-9);
+        assertEquals(10.0, serie.bajasPor100Turnos(50), 1e-9);
+        assertEquals(1.0, serie.puntosPorTurno(20), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> serie.precisionMovil(0));
+    }
+
+    @Test
+    void testWindowClampedAfterOverwrite() {
+        TurnTimeSeries serie = new TurnTimeSeries(5);
+        for (int t = 1; t <= 20; t++) {
+            serie.registrar(t, t, t / 2, 0, 0, 0);
+        }
+        assertEquals(50.0, serie.precisionMovil(100), 1e-9);
+    }
+
+    @Test
+    void testExports() throws IOException {
+        TurnTimeSeries serie = new TurnTimeSeries(3);
+        serie.registrar(1, 1, 1, 0, 0, 4);
+        serie.registrar(2, 2, 1, 1, 10, 3);
+
+        StringWriter csv = new StringWriter();
+        serie.exportarCsv(csv);
+        assertEquals(TurnTimeSeries.CSV_HEADER + "\n1,1,1,0,0,4\n2,2,1,1,10,3\n", csv.toString());
+
+        ByteArrayOutputStream bin = new ByteArrayOutputStream();
+        serie.exportarBinario(bin);
+        TurnTimeSeries copia = TurnTimeSeries.leerBinario(new ByteArrayInputStream(bin.toByteArray()));
+        assertEquals(2, copia.getTamano());
+        assertEquals(10, copia.getPuntos(1));
+        assertThrows(IOException.class, () -> TurnTimeSeries.leerBinario(new ByteArrayInputStream(new byte[12])));
+    }
+
+    @Test
+    void testManagerRecordsEveryTurn() {
+        BichoManager manager = new BichoManager(3, 3);
+        manager.crearBichosAleatorios();
+        TurnTimeSeries serie = new TurnTimeSeries(16);
+        manager.setSerieTurnos(serie);
+
+        manager.atacarBala(0, 0);
+        manager.atacarBala(-1, 0);
+        manager.atacarBombaEn(1, 1);
+        manager.mutarMasDebil();
+
+        assertEquals(3, serie.getTamano());
+        assertEquals(3, serie.getTurno(2));
+        assertEquals(2, serie.getDisparos(2));
+        assertEquals(manager.getTablero().contarVivos(), serie.getVivos(2));
+    }
+}
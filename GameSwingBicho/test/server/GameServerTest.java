@@ -0,0 +1,202 @@
+package server;
+
+import models.TipoBicho;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import service.SessionRegistry;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameServer class.
+ */
+class GameServerTest {
+
+    private GameServer server;
+    private Socket socket;
+    private DataInputStream in;
+    private OutputStream out;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(0);
+        server.start();
+        socket = new Socket("127.0.0.1", server.getPuerto());
+        in = new DataInputStream(socket.getInputStream());
+        out = socket.getOutputStream();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        socket.close();
+        server.close();
+    }
+
+    private ByteBuffer enviar(ByteBuffer peticion, byte op, byte estadoEsperado) throws IOException {
+        out.write(peticion.array(), 0, peticion.position());
+        out.flush();
+        int longitud = in.readInt();
+        byte[] cuerpo = new byte[longitud];
+        in.readFully(cuerpo);
+        ByteBuffer respuesta = ByteBuffer.wrap(cuerpo);
+        assertEquals(op, respuesta.get());
+        assertEquals(estadoEsperado, respuesta.get());
+        return respuesta;
+    }
+
+    private int crearSesion(int filas, int columnas) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(16);
+        Protocolo.crearSesion(b, filas, columnas, false);
+        return enviar(b, Protocolo.CREATE_SESSION, Protocolo.OK).getInt();
+    }
+
+    private ByteBuffer sesion(byte op, int id, byte estado) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(16);
+        Protocolo.sesion(b, op, id);
+        return enviar(b, op, estado);
+    }
+
+    @Test
+    void testCreateSessionAndFetchEmptyBoard() throws IOException {
+        int id = crearSesion(3, 4);
+        assertEquals(1, server.getSesionesActivas());
+
+        ByteBuffer tablero = sesion(Protocolo.FETCH_BOARD, id, Protocolo.OK);
+        assertEquals(3, tablero.getShort());
+        assertEquals(4, tablero.getShort());
+        for (int i = 0; i < 12; i++) {
+            assertEquals(TipoBicho.VACIO.ordinal(), tablero.get());
+            assertEquals(0, tablero.getInt());
+        }
+        assertFalse(tablero.hasRemaining());
+    }
+
+    @Test
+    void testPipelinedRequestsAreAnsweredWhileOutputIsBackedUp() throws IOException {
+        int id = crearSesion(64, 64);
+        int peticiones = 200;
+        ByteBuffer b = ByteBuffer.allocate(peticiones * 16);
+        for (int i = 0; i < peticiones; i++) {
+            Protocolo.sesion(b, Protocolo.FETCH_BOARD, id);
+        }
+        out.write(b.array(), 0, b.position());
+        out.flush();
+
+        for (int i = 0; i < peticiones; i++) {
+            int longitud = in.readInt();
+            assertEquals(2 + 4 + 64 * 64 * 5, longitud);
+            assertEquals(Protocolo.FETCH_BOARD, in.readByte());
+            assertEquals(Protocolo.OK, in.readByte());
+            in.skipNBytes(longitud - 2);
+        }
+        sesion(Protocolo.STATS, id, Protocolo.OK);
+        assertEquals(1, server.getConexiones());
+    }
+
+    @Test
+    void testAttacksUpdateStats() throws IOException {
+        int id = crearSesion(2, 2);
+        ByteBuffer b = ByteBuffer.allocate(16);
+        Protocolo.ataque(b, Protocolo.BULLET, id, 0, 0);
+        int flags = enviar(b, Protocolo.BULLET, Protocolo.OK).get();
+        assertEquals(Protocolo.GAME_OVER, flags, "Empty board misses and is already over");
+
+        b.clear();
+        Protocolo.ataque(b, Protocolo.BOMB, id, 1, 1);
+        enviar(b, Protocolo.BOMB, Protocolo.OK);
+
+        ByteBuffer stats = sesion(Protocolo.STATS, id, Protocolo.OK);
+        assertEquals(2, stats.getInt(), "turns");
+        assertEquals(1, stats.getInt(), "shots");
+        assertEquals(0, stats.getInt(), "hits");
+        assertEquals(1, stats.getInt(), "bombs");
+    }
+
+    @Test
+    void testEvictedSessionIsReloadedInBackground(@TempDir Path dir) throws Exception {
+        socket.close();
+        server.close();
+        try (SessionRegistry registro = new SessionRegistry(dir, 20)) {
+            server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), registro);
+            server.start();
+            socket = new Socket(InetAddress.getLoopbackAddress(), server.getPuerto());
+            in = new DataInputStream(socket.getInputStream());
+            out = socket.getOutputStream();
+
+            int id = crearSesion(3, 3);
+            ByteBuffer b = ByteBuffer.allocate(16);
+            Protocolo.ataque(b, Protocolo.BULLET, id, 0, 0);
+            enviar(b, Protocolo.BULLET, Protocolo.OK);
+            long limite = System.nanoTime() + 5_000_000_000L;
+            while (!registro.enDisco(id) && System.nanoTime() < limite) {
+                Thread.sleep(10);
+            }
+            assertTrue(registro.enDisco(id));
+
+            ByteBuffer stats = sesion(Protocolo.STATS, id, Protocolo.OK);
+            assertEquals(1, stats.getInt(), "turns");
+            assertFalse(registro.enDisco(id));
+        }
+    }
+
+    @Test
+    void testUnknownAndClosedSessions() throws IOException {
+        sesion(Protocolo.STATS, 999, Protocolo.UNKNOWN_SESSION);
+
+        int id = crearSesion(2, 2);
+        sesion(Protocolo.CLOSE_SESSION, id, Protocolo.OK);
+        sesion(Protocolo.MUTATE, id, Protocolo.UNKNOWN_SESSION);
+        assertEquals(0, server.getSesionesActivas());
+    }
+
+    @Test
+    void testRejectsOversizedBoard() throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(16);
+        Protocolo.crearSesion(b, Protocolo.MAX_REMOTE_SIZE + 1, 2, false);
+        enviar(b, Protocolo.CREATE_SESSION, Protocolo.BAD_REQUEST);
+    }
+
+    @Test
+    void testRejectsSessionsPastCellCap() throws IOException {
+        socket.close();
+        server.close();
+        server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+            new SessionRegistry(100));
+        server.start();
+        socket = new Socket(InetAddress.getLoopbackAddress(), server.getPuerto());
+        in = new DataInputStream(socket.getInputStream());
+        out = socket.getOutputStream();
+
+        int id = crearSesion(8, 8);
+        ByteBuffer b = ByteBuffer.allocate(16);
+        Protocolo.crearSesion(b, 7, 7, false);
+        enviar(b, Protocolo.CREATE_SESSION, Protocolo.BAD_REQUEST);
+        assertEquals(1, server.getSesionesActivas());
+
+        sesion(Protocolo.CLOSE_SESSION, id, Protocolo.OK);
+        crearSesion(7, 7);
+    }
+
+    @Test
+    void testLoadClientServesManyConnections() throws IOException {
+        LoadClient cliente = new LoadClient(
+            new InetSocketAddress("127.0.0.1", server.getPuerto()), 50);
+        LoadClient.Resultado r = cliente.ejecutar(300);
+
+        assertTrue(r.getRequests() > 50, r.toString());
+        assertEquals(0, r.getErrors(), r.toString());
+        assertTrue(r.getP99Micros() >= r.getP50Micros());
+        assertEquals(0, server.getSesionesActivas());
+    }
+}
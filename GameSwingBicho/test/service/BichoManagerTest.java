@@ -1,9 +1,16 @@
 package service;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import models.Bicho;
 import models.GameConstants;
+import models.TableroCompacto;
+import models.TableroDenso;
+import models.TableroDisperso;
 import models.TipoBicho;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -133,4 +140,168 @@ class BichoManagerTest {
         assertNotNull(str);
         assertTrue(str.contains("[0,0]"));
     }
+
+    @Test
+    void testArenaAllowsLargeBoards() {
+        BichoManager arena = BichoManager.crearArena(500, 400);
+        assertEquals(500, arena.getFilas());
+        assertInstanceOf(TableroDisperso.class, arena.getTablero());
+        assertThrows(IllegalArgumentException.class,
+            () -> BichoManager.crearArena(2, GameConstants.MAX_ARENA_SIZE + 1));
+    }
+
+    @Test
+    void testArenaSelectsBackendByDensity() {
+        BichoManager arena = BichoManager.crearArena(200, 200);
+        arena.crearBichosAleatorios(0.01);
+        assertInstanceOf(TableroDisperso.class, arena.getTablero());
+        assertTrue(arena.getTablero().contarOcupadas() > 0);
+
+        arena.crearBichosAleatorios();
+        assertInstanceOf(TableroDenso.class, arena.getTablero());
+    }
+
+    @Test
+    void testSparseArenaPlaysToVictory() {
+        BichoManager arena = BichoManager.crearArena(300, 300);
+        arena.getTablero().setCelda(10, 20, TipoBicho.NORMAL, GameConstants.NORMAL_HEALTH);
+        arena.getTablero().setCelda(250, 5, TipoBicho.ALIEN, GameConstants.ALIEN_HEALTH);
+        assertFalse(arena.finDelJuego());
+
+        assertTrue(arena.mutarMasDebil());
+        assertEquals(20, arena.getBicho(10, 20).getSalud());
+        assertTrue(arena.atacarBombaEn(10, 20));
+        while (arena.atacarBala(250, 5)) {
+            // keep shooting until the alien dies
+        }
+
+        assertTrue(arena.finDelJuego());
+        assertEquals(GameConstants.POINTS_NORMAL + GameConstants.POINTS_ALIEN,
+            arena.getEstadisticas().getTotalPoints());
+        assertInstanceOf(TableroDisperso.class, arena.getTablero());
+    }
+
+    @Test
+    void testHashMatchesFullRescanAfterActions() {
+        BichoManager arena = BichoManager.crearArena(50, 50);
+        arena.crearBichosAleatorios();
+        for (int i = 0; i < 200; i++) {
+            arena.atacarBala(i % 50, (i * 7) % 50);
+            arena.atacarBombaAleatoria();
+            arena.mutarMasDebil();
+        }
+        long incremental = arena.getHashCampo();
+
+        assertEquals(models.Zobrist.calcular(arena.getTablero()), incremental);
+    }
+
+    @Test
+    void testPackedBoardPlaysLikeDenseBoard() {
+        BichoManager compacto = new BichoManager(new TableroCompacto(40, 40));
+        BichoManager denso = new BichoManager(new TableroDenso(40, 40));
+        for (int i = 0; i < 1600; i += 3) {
+            TipoBicho tipo = i % 2 == 0 ? TipoBicho.NORMAL : TipoBicho.ALIEN;
+            compacto.aparecer(i / 40, i % 40, tipo);
+            denso.aparecer(i / 40, i % 40, tipo);
+        }
+        for (int i = 0; i < 500; i++) {
+            for (BichoManager m : new BichoManager[] { compacto, denso }) {
+                m.mutarMasDebil();
+                m.atacarBala(i % 40, (i * 7) % 40);
+                if (i % 5 == 0) {
+                    m.atacarBombaEn((i * 3) % 40, i % 40);
+                }
+            }
+            assertEquals(denso.finDelJuego(), compacto.finDelJuego());
+        }
+
+        assertTrue(compacto.mismoCampo(denso));
+        assertEquals(denso.getEstadisticas().getTotalPoints(), compacto.getEstadisticas().getTotalPoints());
+        assertEquals(models.Zobrist.calcular(compacto.getTablero()), compacto.getHashCampo());
+    }
+
+    @Test
+    void testEqualBoardsShareHash() {
+        BichoManager otro = new BichoManager();
+        manager.getCampo()[0][0] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+        otro.getCampo()[0][0] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+        assertTrue(manager.mismoCampo(otro));
+
+        manager.atacarBala(0, 0);
+        assertFalse(manager.mismoCampo(otro));
+
+        manager.atacarBala(0, 0);
+        otro.atacarBombaEn(0, 0);
+        assertTrue(manager.mismoCampo(otro));
+    }
+
+    @Test
+    void testHashDependsOnPositionAndDimensions() {
+        BichoManager otro = new BichoManager();
+        manager.getCampo()[0][0] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+        otro.getCampo()[1][1] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+        assertNotEquals(manager.getHashCampo(), otro.getHashCampo());
+
+        assertNotEquals(new BichoManager(2, 3).getHashCampo(), new BichoManager(3, 2).getHashCampo());
+    }
+
+    @Test
+    void testCallerBackendIsKeptByGetCampoAndSetCampo() {
+        TableroCompacto compacto = new TableroCompacto(4, 4);
+        BichoManager propio = new BichoManager(compacto);
+        propio.aparecer(1, 1, TipoBicho.ALIEN);
+
+        Bicho[][] campo = propio.getCampo();
+        assertSame(compacto, propio.getTablero());
+        campo[2][3] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+        assertEquals(TipoBicho.VACIO, compacto.getTipo(2, 3));
+
+        assertTrue(propio.setCampo(campo));
+        assertSame(compacto, propio.getTablero());
+        assertEquals(TipoBicho.NORMAL, compacto.getTipo(2, 3));
+        assertEquals(GameConstants.ALIEN_HEALTH, compacto.getSalud(1, 1));
+        assertEquals(models.Zobrist.calcular(compacto), propio.getHashCampo());
+    }
+
+    @Test
+    void testUnknownSavedTypeIsReportedAsIOException(@TempDir Path dir) throws IOException {
+        Path p = dir.resolve("partida.json");
+        Files.writeString(p, "[[{\"salud\":5,\"tipo\":\"DRAGON\"},null],[null,null]]");
+        assertThrows(IOException.class, () -> manager.cargarPartida(p));
+    }
+
+    @Test
+    void testEditsThroughEarlierArrayAreSaved(@TempDir Path dir) throws IOException {
+        Path p = dir.resolve("partida.json");
+        Bicho[][] campo = manager.getCampo();
+        campo[0][0] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+        manager.guardarPartida(p);
+
+        campo[0][0].setSalud(3);
+        campo[1][1] = new Bicho(GameConstants.ALIEN_HEALTH, TipoBicho.ALIEN);
+        manager.guardarPartida(p);
+
+        BichoManager cargado = new BichoManager();
+        assertTrue(cargado.cargarPartida(p));
+        assertEquals(3, cargado.getSalud(0, 0));
+        assertEquals(TipoBicho.ALIEN, cargado.getTipo(1, 1));
+        assertEquals(GameConstants.ALIEN_HEALTH, cargado.getSalud(1, 1));
+    }
+
+    @Test
+    void testViewIsReadOnlyAndKeepsHashIncremental() {
+        BichoManager arena = BichoManager.crearArena(100, 100);
+        arena.aparecer(3, 4, TipoBicho.ALIEN);
+        arena.getHashCampo();
+
+        models.Tablero vista = arena.getVista();
+        assertEquals(TipoBicho.ALIEN, vista.getTipo(3, 4));
+        assertThrows(UnsupportedOperationException.class,
+            () -> vista.setCelda(0, 0, TipoBicho.NORMAL, GameConstants.NORMAL_HEALTH));
+        vista.getBicho(3, 4).setSalud(1);
+        assertEquals(GameConstants.ALIEN_HEALTH, arena.getSalud(3, 4));
+
+        arena.crearBichosAleatorios();
+        assertEquals(arena.getTablero().contarOcupadas(), vista.contarOcupadas());
+    }
 }
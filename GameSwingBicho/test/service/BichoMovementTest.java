@@ -0,0 +1,93 @@
+package service;
+
+import models.TipoBicho;
+import models.TipoEfecto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BichoMovement class.
+ */
+class BichoMovementTest {
+
+    private static BichoManager tableroLleno(int lado) {
+        BichoManager manager = BichoManager.crearArena(lado, lado);
+        manager.crearBichos(new BoardGenerator(BoardGenerator.uniforme(0.2, 0.3)), 11);
+        return manager;
+    }
+
+    @Test
+    void testStepKeepsBichosAndHashInSync() {
+        BichoManager manager = tableroLleno(200);
+        manager.atacarBombaEn(0, 0);
+        manager.atacarBombaEn(5, 5);
+        int vivos = manager.getTablero().contarVivos();
+        int ocupadas = manager.getTablero().contarOcupadas();
+        BichoMovement movimiento = new BichoMovement(manager, 3);
+        manager.getHashCampo();
+
+        int movidos = 0;
+        for (int i = 0; i < 10; i++) {
+            movidos += movimiento.paso();
+        }
+        assertTrue(movidos > 0);
+        long incremental = manager.getHashCampo();
+        assertEquals(vivos, manager.getTablero().contarVivos());
+        assertEquals(ocupadas, manager.getTablero().contarOcupadas());
+        assertEquals(new BichoManager(manager.getTablero()).getHashCampo(), incremental);
+    }
+
+    @Test
+    void testSameSeedSameMoves() {
+        BichoManager a = tableroLleno(300);
+        BichoManager b = tableroLleno(300);
+        BichoMovement ma = new BichoMovement(a, 99);
+        BichoMovement mb = new BichoMovement(b, 99);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(ma.paso(), mb.paso());
+        }
+        assertTrue(a.mismoCampo(b));
+    }
+
+    @Test
+    void testDeadStayAndLivingFleeHits() {
+        BichoManager manager = new BichoManager(5, 5);
+        manager.aparecer(2, 2, TipoBicho.NORMAL);
+        manager.aparecer(2, 3, TipoBicho.NORMAL);
+        manager.aparecer(0, 0, TipoBicho.NORMAL);
+        manager.atacarBombaEn(0, 0);
+        BichoMovement movimiento = new BichoMovement(manager, 5);
+        movimiento.setProbabilidadAgrupar(0.0);
+        manager.setMovimiento(movimiento);
+
+        manager.atacarBala(2, 2);
+        assertEquals(TipoBicho.NORMAL, manager.getTipo(0, 0), "Dead bichos do not move");
+        assertEquals(TipoBicho.NORMAL, manager.getTipo(2, 4), "The neighbour flees away from the hit");
+        assertEquals(TipoBicho.VACIO, manager.getTipo(2, 3));
+        assertEquals(1, movimiento.getPasos());
+        assertThrows(IllegalArgumentException.class,
+            () -> new BichoManager(2, 2).setMovimiento(movimiento));
+        assertThrows(IllegalArgumentException.class, () -> movimiento.setProbabilidadAgrupar(2));
+    }
+
+    @Test
+    void testEffectsFollowTheirBicho() {
+        BichoManager manager = new BichoManager(3, 3);
+        manager.aparecer(1, 1, TipoBicho.ALIEN);
+        manager.getEfectos().aplicar(1, 1, TipoEfecto.VENENO, 1, 10);
+        BichoMovement movimiento = new BichoMovement(manager, 1);
+
+        for (int i = 0; i < 50 && manager.getTipo(1, 1) == TipoBicho.ALIEN; i++) {
+            movimiento.paso();
+        }
+        assertEquals(TipoBicho.VACIO, manager.getTipo(1, 1));
+        assertEquals(0, manager.getEfectos().getTurnosRestantes(1, 1, TipoEfecto.VENENO));
+        int[] encontrados = new int[1];
+        manager.recorrerOcupadas((fila, col, tipo, salud) -> {
+            assertEquals(10, manager.getEfectos().getTurnosRestantes(fila, col, TipoEfecto.VENENO));
+            encontrados[0]++;
+        });
+        assertEquals(1, encontrados[0]);
+    }
+}
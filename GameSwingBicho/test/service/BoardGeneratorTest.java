@@ -0,0 +1,136 @@
+package service;
+
+import models.GameConstants;
+import models.TipoBicho;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoardGenerator class.
+ */
+class BoardGeneratorTest {
+
+    private static final byte ALIEN = (byte) TipoBicho.ALIEN.ordinal();
+    private static final byte VACIO = (byte) TipoBicho.VACIO.ordinal();
+
+    private static int contar(byte[] celdas, byte codigo) {
+        int n = 0;
+        for (byte c : celdas) {
+            if (c == codigo) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Test
+    void testSameSeedSameBoard() {
+        BoardGenerator g = new BoardGenerator(BoardGenerator.colonias(0.4, 0.3, 16));
+        byte[] a = g.generar(700, 900, 42);
+        byte[] b = g.generar(700, 900, 42);
+        byte[] c = g.generar(700, 900, 43);
+
+        assertArrayEquals(a, b);
+        assertFalse(Arrays.equals(a, c));
+    }
+
+    @Test
+    void testUniformDensity() {
+        byte[] celdas = new BoardGenerator(BoardGenerator.uniforme(0.25, 1.0)).generar(500, 500, 7);
+        double densidad = 1.0 - contar(celdas, VACIO) / (double) celdas.length;
+
+        assertEquals(0.25, densidad, 0.01);
+        assertEquals(celdas.length - contar(celdas, VACIO), contar(celdas, ALIEN), "All occupied are aliens");
+    }
+
+    @Test
+    void testColoniesAreClustered() {
+        int lado = 400;
+        byte[] uniforme = new BoardGenerator(BoardGenerator.uniforme(0.3, 0.5)).generar(lado, lado, 1);
+        byte[] colonias = new BoardGenerator(BoardGenerator.colonias(0.3, 0.5, 24)).generar(lado, lado, 1);
+
+        assertTrue(vecinosOcupados(colonias, lado) > vecinosOcupados(uniforme, lado) + 0.1,
+            "Occupied cells should have more occupied neighbours in colonies");
+    }
+
+    @Test
+    void testColonyDensityMatchesTarget() {
+        for (double objetivo : new double[] {0.2, 0.5, 0.8}) {
+            byte[] celdas = new BoardGenerator(BoardGenerator.colonias(objetivo, 0.5, 8)).generar(1000, 1000, 3);
+            double densidad = 1.0 - contar(celdas, VACIO) / (double) celdas.length;
+
+            assertEquals(objetivo, densidad, 0.03, "Density for target " + objetivo);
+        }
+    }
+
+    private static double vecinosOcupados(byte[] celdas, int lado) {
+        long ocupadas = 0;
+        long vecinos = 0;
+        for (int f = 0; f < lado; f++) {
+            for (int c = 0; c + 1 < lado; c++) {
+                if (celdas[f * lado + c] != VACIO) {
+                    ocupadas++;
+                    if (celdas[f * lado + c + 1] != VACIO) {
+                        vecinos++;
+                    }
+                }
+            }
+        }
+        return (double) vecinos / ocupadas;
+    }
+
+    @Test
+    void testSymmetries() {
+        BoardGenerator base = new BoardGenerator(BoardGenerator.uniforme(0.5, 0.5));
+        int filas = 301;
+        int cols = 517;
+        for (BoardGenerator.Simetria s : BoardGenerator.Simetria.values()) {
+            byte[] c = base.conSimetria(s).generar(filas, cols, 3);
+            for (int f = 0; f < filas; f++) {
+                for (int k = 0; k < cols; k++) {
+                    byte v = c[f * cols + k];
+                    switch (s) {
+                        case HORIZONTAL -> assertEquals(v, c[f * cols + cols - 1 - k]);
+                        case VERTICAL -> assertEquals(v, c[(filas - 1 - f) * cols + k]);
+                        case BOTH -> assertEquals(v, c[(filas - 1 - f) * cols + cols - 1 - k]);
+                        case ROTATIONAL -> assertEquals(v, c[c.length - 1 - (f * cols + k)]);
+                        default -> { }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testExactAlienCount() {
+        BoardGenerator g = new BoardGenerator(BoardGenerator.uniforme(0.5, 0.5));
+        assertEquals(17, contar(g.conAliensExactos(17).generar(100, 100, 5), ALIEN));
+        assertEquals(9000, contar(g.conAliensExactos(9000).generar(100, 100, 5), ALIEN));
+        assertEquals(0, contar(g.conAliensExactos(0).generar(100, 100, 5), ALIEN));
+        assertThrows(IllegalArgumentException.class, () -> g.conAliensExactos(10_001).generar(100, 100, 5));
+    }
+
+    @Test
+    void testManagerUsesGenerator() {
+        BichoManager a = BichoManager.crearArena(200, 200);
+        BichoManager b = BichoManager.crearArena(200, 200);
+        BoardGenerator g = new BoardGenerator(BoardGenerator.uniforme(0.1, 0.5)).conAliensExactos(300);
+        a.crearBichos(g, 99);
+        b.crearBichos(g, 99);
+
+        assertTrue(a.mismoCampo(b));
+        int aliens = 0;
+        for (int f = 0; f < 200; f++) {
+            for (int c = 0; c < 200; c++) {
+                if (a.getTipo(f, c) == TipoBicho.ALIEN) {
+                    aliens++;
+                    assertEquals(GameConstants.ALIEN_HEALTH, a.getSalud(f, c));
+                }
+            }
+        }
+        assertEquals(300, aliens);
+    }
+}
@@ -0,0 +1,137 @@
+package service;
+
+import models.TableroDenso;
+import models.TableroDisperso;
+import models.Tablero;
+import models.TipoBicho;
+import models.Zobrist;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DeltaFeed class.
+ */
+class DeltaFeedTest {
+
+    private static void jugar(BichoManager manager, int turnos) {
+        for (int t = 0; t < turnos; t++) {
+            manager.atacarBala(t % manager.getFilas(), (t * 3) % manager.getColumnas());
+            if (t % 7 == 0) {
+                manager.mutarMasDebil();
+            }
+        }
+    }
+
+    @Test
+    void testClientCatchesUpWithDeltas() {
+        BichoManager manager = new BichoManager(6, 6);
+        DeltaFeed feed = new DeltaFeed(manager, 1024);
+        Tablero cliente = new TableroDenso(6, 6);
+
+        manager.crearBichosAleatorios();
+        long seq = DeltaFeed.aplicar(feed.codificarDesde(0), cliente, 0);
+        assertEquals(manager.getHashCampo(), Zobrist.calcular(cliente));
+
+        jugar(manager, 20);
+        byte[] delta = feed.codificarDesde(seq);
+        assertEquals(DeltaFeed.DELTAS, delta[0]);
+        seq = DeltaFeed.aplicar(delta, cliente, seq);
+
+        assertEquals(feed.getSecuencia(), seq);
+        assertEquals(manager.getHashCampo(), Zobrist.calcular(cliente));
+    }
+
+    @Test
+    void testLaggingClientGetsSnapshot() {
+        BichoManager manager = new BichoManager(5, 5);
+        for (int i = 0; i < 25; i++) {
+            manager.aparecer(i / 5, i % 5, TipoBicho.NORMAL);
+        }
+        DeltaFeed feed = new DeltaFeed(manager, 8);
+        jugar(manager, 40);
+
+        assertTrue(feed.getSecuenciaMinima() > 0);
+        byte[] mensaje = feed.codificarDesde(0);
+        assertEquals(DeltaFeed.SNAPSHOT, mensaje[0]);
+
+        Tablero cliente = new TableroDenso(5, 5);
+        cliente.setCelda(0, 0, TipoBicho.ALIEN, 99);
+        assertEquals(feed.getSecuencia(), DeltaFeed.aplicar(mensaje, cliente, 0));
+        assertEquals(manager.getHashCampo(), Zobrist.calcular(cliente));
+    }
+
+    @Test
+    void testDeltaAfterGapIsRejected() {
+        BichoManager manager = new BichoManager(5, 5);
+        manager.crearBichosAleatorios();
+        DeltaFeed feed = new DeltaFeed(manager, 256);
+        Tablero cliente = new TableroDenso(5, 5);
+        long seq = DeltaFeed.aplicar(feed.codificarSnapshot(), cliente, 0);
+
+        jugar(manager, 5);
+        long intermedia = feed.getSecuencia();
+        jugar(manager, 5);
+        byte[] tarde = feed.codificarDesde(intermedia);
+        long hashCliente = Zobrist.calcular(cliente);
+
+        assertThrows(IllegalArgumentException.class, () -> DeltaFeed.aplicar(tarde, cliente, seq));
+        assertEquals(hashCliente, Zobrist.calcular(cliente), "A rejected delta leaves the board untouched");
+
+        assertEquals(feed.getSecuencia(), DeltaFeed.aplicar(feed.codificarDesde(seq), cliente, seq));
+        assertEquals(manager.getHashCampo(), Zobrist.calcular(cliente));
+    }
+
+    @Test
+    void testResetAndLoadAreReplayed() {
+        BichoManager manager = new BichoManager(4, 4);
+        manager.crearBichosAleatorios();
+        DeltaFeed feed = new DeltaFeed(manager, 256);
+        Tablero cliente = new TableroDenso(4, 4);
+        long seq = DeltaFeed.aplicar(feed.codificarSnapshot(), cliente, 0);
+
+        manager.inicializarCampo();
+        manager.crearBichosAleatorios();
+        seq = DeltaFeed.aplicar(feed.codificarDesde(seq), cliente, seq);
+        assertEquals(manager.getHashCampo(), Zobrist.calcular(cliente));
+
+        BichoManager otro = new BichoManager(4, 4);
+        otro.crearBichosAleatorios();
+        manager.setCampo(otro.getCampo());
+        DeltaFeed.aplicar(feed.codificarDesde(seq), cliente, seq);
+        assertEquals(otro.getHashCampo(), Zobrist.calcular(cliente));
+    }
+
+    @Test
+    void testDeltaSizeFollowsChangesNotBoardSize() {
+        BichoManager arena = BichoManager.crearArena(2000, 2000);
+        arena.crearBichosAleatorios(0.01);
+        DeltaFeed feed = new DeltaFeed(arena, 64);
+        long seq = feed.getSecuencia();
+        int indice = arena.indiceMasDebil();
+
+        arena.atacarBala(indice / 2000, indice % 2000);
+        byte[] delta = feed.codificarDesde(seq);
+
+        assertTrue(delta.length < 16, "One change should encode in a few bytes");
+        Tablero cliente = new TableroDisperso(2000, 2000);
+        DeltaFeed.aplicar(feed.codificarSnapshot(), cliente, 0);
+        assertEquals(arena.getHashCampo(), Zobrist.calcular(cliente));
+    }
+
+    @Test
+    void testRejectsInvalidInput() {
+        BichoManager manager = new BichoManager(3, 3);
+        DeltaFeed feed = new DeltaFeed(manager, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> feed.codificarDesde(5));
+        assertThrows(IllegalArgumentException.class,
+            () -> DeltaFeed.aplicar(feed.codificarSnapshot(), new TableroDenso(4, 3), 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> DeltaFeed.aplicar(new byte[] {DeltaFeed.DELTAS, (byte) 0x80}, new TableroDenso(3, 3), 0));
+
+        feed.close();
+        manager.setSalud(0, 0, 5);
+        assertEquals(0, feed.getSecuencia());
+    }
+}
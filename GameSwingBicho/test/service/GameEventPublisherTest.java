@@ -0,0 +1,194 @@
+package service;
+
+import models.Bicho;
+import models.TipoBicho;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameEventPublisher class.
+ */
+class GameEventPublisherTest {
+
+    /** Subscriber recording every signal, requesting a fixed amount up front. */
+    private static final class Registro implements Flow.Subscriber<GameEvent> {
+        final List<GameEvent> eventos = new ArrayList<>();
+        final long pedido;
+        Flow.Subscription suscripcion;
+        Throwable error;
+        boolean completo;
+
+        Registro(long pedido) {
+            this.pedido = pedido;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            suscripcion = s;
+            s.request(pedido);
+        }
+
+        @Override
+        public void onNext(GameEvent e) {
+            eventos.add(e);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completo = true;
+        }
+    }
+
+    /** Executor that only runs tasks when asked to, like a stalled consumer. */
+    private static final class Manual implements Executor {
+        final Queue<Runnable> tareas = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable r) {
+            tareas.add(r);
+        }
+
+        void ejecutarTodo() {
+            Runnable r;
+            while ((r = tareas.poll()) != null) {
+                r.run();
+            }
+        }
+    }
+
+    private static BichoManager tableroUnico(int salud) {
+        BichoManager manager = new BichoManager(2, 2);
+        manager.setSalud(0, 0, salud);
+        return manager;
+    }
+
+    @Test
+    void testPublishesTypedEventsInOrder() {
+        BichoManager manager = new BichoManager(2, 2);
+        Bicho[][] campo = manager.getCampo();
+        campo[0][0] = new Bicho(10, TipoBicho.NORMAL);
+        manager.setCampo(campo);
+
+        GameEventPublisher pub = new GameEventPublisher(manager, 16,
+            GameEventPublisher.OverflowPolicy.DROP_NEWEST, Runnable::run);
+        Registro r = new Registro(Long.MAX_VALUE);
+        pub.subscribe(r);
+
+        manager.atacarBala(0, 0);
+        manager.mutarMasDebil();
+        manager.atacarBombaEn(0, 0);
+        manager.inicializarCampo();
+
+        List<GameEvent.Tipo> tipos = new ArrayList<>();
+        r.eventos.forEach(e -> tipos.add(e.getTipo()));
+        assertEquals(List.of(GameEvent.Tipo.HIT, GameEvent.Tipo.MUTATION, GameEvent.Tipo.HIT,
+            GameEvent.Tipo.KILL, GameEvent.Tipo.GAME_OVER, GameEvent.Tipo.BOARD_RESET), tipos);
+        assertEquals(5, r.eventos.get(0).getSalud());
+        assertEquals(10, r.eventos.get(1).getSalud());
+        assertEquals(TipoBicho.NORMAL, r.eventos.get(3).getBicho());
+        assertEquals(manager.getEstadisticas().getTotalPoints(), r.eventos.get(4).getPuntos());
+    }
+
+    @Test
+    void testDemandIsHonoured() {
+        BichoManager manager = tableroUnico(1000);
+        GameEventPublisher pub = new GameEventPublisher(manager, 64,
+            GameEventPublisher.OverflowPolicy.DROP_NEWEST, Runnable::run);
+        Registro r = new Registro(2);
+        pub.subscribe(r);
+
+        for (int i = 0; i < 5; i++) {
+            manager.atacarBala(0, 0);
+        }
+        assertEquals(2, r.eventos.size());
+        r.suscripcion.request(10);
+        assertEquals(5, r.eventos.size());
+        assertEquals(0, pub.getDescartados());
+    }
+
+    @Test
+    void testSlowSubscriberDropsOldestWithoutBlockingGame() {
+        BichoManager manager = tableroUnico(10_000);
+        Manual executor = new Manual();
+        GameEventPublisher pub = new GameEventPublisher(manager, 4,
+            GameEventPublisher.OverflowPolicy.DROP_OLDEST, executor);
+        Registro r = new Registro(Long.MAX_VALUE);
+        pub.subscribe(r);
+        executor.ejecutarTodo();
+
+        for (int i = 0; i < 10; i++) {
+            manager.atacarBala(0, 0);
+        }
+        executor.ejecutarTodo();
+
+        assertEquals(6, pub.getDescartados());
+        assertEquals(4, r.eventos.size());
+        assertEquals(10_000 - 10 * 5, r.eventos.get(3).getSalud(), "Latest event is kept");
+    }
+
+    @Test
+    void testDisconnectPolicySignalsError() {
+        BichoManager manager = tableroUnico(10_000);
+        GameEventPublisher pub = new GameEventPublisher(manager, 2,
+            GameEventPublisher.OverflowPolicy.DISCONNECT, Runnable::run);
+        Registro lento = new Registro(1);
+        Registro rapido = new Registro(Long.MAX_VALUE);
+        pub.subscribe(lento);
+        pub.subscribe(rapido);
+
+        for (int i = 0; i < 5; i++) {
+            manager.atacarBala(0, 0);
+        }
+
+        assertInstanceOf(IllegalStateException.class, lento.error);
+        assertEquals(1, pub.getSuscriptores());
+        assertEquals(5, rapido.eventos.size());
+        assertNull(rapido.error);
+    }
+
+    @Test
+    void testCloseCompletesAfterBufferedEvents() {
+        BichoManager manager = tableroUnico(100);
+        Manual executor = new Manual();
+        GameEventPublisher pub = new GameEventPublisher(manager, 8,
+            GameEventPublisher.OverflowPolicy.DROP_NEWEST, executor);
+        Registro r = new Registro(Long.MAX_VALUE);
+        pub.subscribe(r);
+        manager.atacarBala(0, 0);
+        pub.close();
+        manager.atacarBala(0, 0);
+        executor.ejecutarTodo();
+
+        assertEquals(1, r.eventos.size());
+        assertTrue(r.completo);
+
+        Registro tarde = new Registro(1);
+        pub.subscribe(tarde);
+        executor.ejecutarTodo();
+        assertTrue(tarde.completo);
+    }
+
+    @Test
+    void testInvalidRequestCancels() {
+        GameEventPublisher pub = new GameEventPublisher(tableroUnico(10), 4,
+            GameEventPublisher.OverflowPolicy.DROP_NEWEST, Runnable::run);
+        Registro r = new Registro(0);
+        pub.subscribe(r);
+
+        assertInstanceOf(IllegalArgumentException.class, r.error);
+        assertEquals(0, pub.getSuscriptores());
+    }
+}
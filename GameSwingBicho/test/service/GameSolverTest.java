@@ -0,0 +1,111 @@
+package service;
+
+import models.GameConstants;
+import models.TipoBicho;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameSolver class.
+ */
+class GameSolverTest {
+
+    @Test
+    void testEmptyBoardIsSolved() {
+        GameSolver.Solution s = new GameSolver(8, 1).solve(new BichoManager());
+        assertEquals(GameSolver.Accion.NONE, s.getAccion());
+        assertEquals(0.0, s.getExpectedTurns());
+        assertEquals(0, s.getMaxPoints());
+    }
+
+    @Test
+    void testSingleBichoIsShot() {
+        BichoManager manager = new BichoManager();
+        manager.getCampo()[1][0] = new models.Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+
+        GameSolver.Solution s = new GameSolver(8, 1).solve(manager);
+
+        assertEquals(GameSolver.Accion.BULLET, s.getAccion());
+        assertEquals(1, s.getFila());
+        assertEquals(0, s.getCol());
+        assertEquals(GameConstants.NORMAL_HEALTH / GameConstants.BULLET_DAMAGE, s.getExpectedTurns(), 1e-9);
+        assertEquals(GameConstants.POINTS_NORMAL, s.getMaxPoints());
+    }
+
+    @Test
+    void testFullBoardOfAliensPrefersBomb() {
+        BichoManager manager = new BichoManager();
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 2; j++) {
+                manager.getCampo()[i][j] = new models.Bicho(GameConstants.ALIEN_HEALTH, TipoBicho.ALIEN);
+            }
+        }
+
+        GameSolver.Solution s = new GameSolver(8, 1).solve(manager);
+
+        assertEquals(GameSolver.Accion.BOMB, s.getAccion());
+        assertTrue(s.getExpectedTurns() >= 4);
+        assertTrue(s.getExpectedTurns() < 16);
+    }
+
+    @Test
+    void testParallelAndSequentialAgree() {
+        BichoManager manager = tableroMixto(4, 4);
+        manager.atacarBala(0, 1);
+        manager.mutarMasDebil();
+
+        GameSolver.Solution secuencial = new GameSolver(16, 1).solve(manager);
+        GameSolver.Solution paralelo = new GameSolver(16, 4).solve(manager);
+
+        assertEquals(secuencial.getExpectedTurns(), paralelo.getExpectedTurns(), 1e-9);
+        assertEquals(secuencial.getAccion(), paralelo.getAccion());
+        assertTrue(secuencial.getPositions() > 0);
+    }
+
+    @Test
+    void testSmallTableStillExact() {
+        BichoManager manager = tableroMixto(3, 3);
+
+        double conTabla = new GameSolver(16, 1).solve(manager).getExpectedTurns();
+        double conDesalojos = new GameSolver(4, 1).solve(manager).getExpectedTurns();
+
+        assertEquals(conTabla, conDesalojos, 1e-9);
+    }
+
+    @Test
+    void testNeverWorseThanOnlyBullets() {
+        BichoManager manager = tableroMixto(4, 4);
+        int balas = 0;
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                balas += manager.getCampo()[i][j].getSalud() / GameConstants.BULLET_DAMAGE;
+            }
+        }
+
+        GameSolver.Solution s = new GameSolver(16, 1).solve(manager);
+
+        assertTrue(s.getExpectedTurns() <= balas);
+        assertTrue(s.getExpectedTurns() >= manager.getTablero().contarVivos());
+    }
+
+    @Test
+    void testRejectsHugeBoards() {
+        BichoManager arena = BichoManager.crearArena(100, 100);
+        arena.crearBichosAleatorios();
+        assertThrows(IllegalArgumentException.class, () -> new GameSolver(8, 1).solve(arena));
+    }
+
+    private static BichoManager tableroMixto(int filas, int columnas) {
+        BichoManager manager = new BichoManager(filas, columnas);
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                switch ((i + 2 * j) % 3) {
+                    case 1 -> manager.getCampo()[i][j] = new models.Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+                    case 2 -> manager.getCampo()[i][j] = new models.Bicho(GameConstants.ALIEN_HEALTH, TipoBicho.ALIEN);
+                    default -> { }
+                }
+            }
+        }
+        return manager;
+    }
+}
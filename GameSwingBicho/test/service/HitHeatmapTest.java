@@ -0,0 +1,113 @@
+package service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HitHeatmap class.
+ */
+class HitHeatmapTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testBoardsOfAnySizeAreNormalized() {
+        HitHeatmap mapa = new HitHeatmap(4);
+        BichoManager chico = new BichoManager(4, 4);
+        BichoManager grande = BichoManager.crearArena(400, 400);
+        chico.addListener(mapa.oyente(chico));
+        grande.addListener(mapa.oyente(grande));
+
+        chico.setSalud(0, 0, 5);
+        grande.setSalud(399, 399, 10);
+        chico.atacarBala(0, 0);
+        chico.atacarBala(3, 3);
+        grande.atacarBala(399, 399);
+        grande.atacarBala(99, 99);
+        grande.atacarBala(-1, 0);
+
+        HitHeatmap.Instantanea foto = mapa.instantanea();
+        assertEquals(1, foto.getAciertos(0, 0));
+        assertEquals(1, foto.getBajas(0, 0));
+        assertEquals(1.0, foto.getSupervivenciaMedia(0, 0), 1e-9);
+        assertEquals(1, foto.getAciertos(3, 3));
+        assertEquals(1, foto.getFallos(3, 3));
+        assertEquals(1, foto.getFallos(0, 0));
+        assertEquals(4, foto.getAtaques(), "Attacks outside the board are not recorded");
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        HitHeatmap mapa = new HitHeatmap(8);
+        Thread[] hilos = new Thread[4];
+        for (int h = 0; h < hilos.length; h++) {
+            hilos[h] = new Thread(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    mapa.registrar(i % 100, i % 50, 100, 50, i % 3 == 0, i % 6 == 0 ? 2 : -1);
+                }
+            });
+            hilos[h].start();
+        }
+        for (Thread t : hilos) {
+            t.join();
+        }
+
+        HitHeatmap.Instantanea foto = mapa.instantanea();
+        assertEquals(200_000, foto.getAtaques());
+        long bajas = 0;
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                bajas += foto.getBajas(y, x);
+            }
+        }
+        assertEquals(4 * (50_000 / 6 + 1), bajas);
+    }
+
+    @Test
+    void testMergeAndExport() throws IOException {
+        HitHeatmap a = new HitHeatmap(2);
+        a.registrar(0, 0, 2, 2, true, 7);
+        a.registrar(1, 1, 2, 2, false, -1);
+
+        StringWriter csv = new StringWriter();
+        a.instantanea().exportarCsv(csv);
+        HitHeatmap.Instantanea leida = HitHeatmap.Instantanea.leerCsv(
+            new BufferedReader(new StringReader(csv.toString())), 2);
+
+        HitHeatmap b = new HitHeatmap(2);
+        b.fusionar(leida);
+        b.fusionar(leida);
+        HitHeatmap.Instantanea foto = b.instantanea();
+        assertEquals(2, foto.getAciertos(0, 0));
+        assertEquals(7.0, foto.getSupervivenciaMedia(0, 0), 1e-9);
+        assertEquals(2, foto.getFallos(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new HitHeatmap(3).fusionar(leida));
+        assertThrows(IOException.class, () -> HitHeatmap.Instantanea.leerCsv(
+            new BufferedReader(new StringReader(csv.toString())), 1));
+    }
+
+    @Test
+    void testPeriodicExport() throws Exception {
+        Path archivo = dir.resolve("heatmap.csv");
+        try (HitHeatmap mapa = new HitHeatmap(2)) {
+            mapa.registrar(0, 0, 1, 1, true, -1);
+            mapa.exportarPeriodicamente(archivo, 10);
+            assertThrows(IllegalStateException.class, () -> mapa.exportarPeriodicamente(archivo, 10));
+            long limite = System.nanoTime() + 5_000_000_000L;
+            while (!Files.exists(archivo) && System.nanoTime() < limite) {
+                Thread.sleep(5);
+            }
+        }
+        assertTrue(Files.readString(archivo).contains("0,0,1,0,0,0"));
+    }
+}
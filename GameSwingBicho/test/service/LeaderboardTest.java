@@ -0,0 +1,103 @@
+package service;
+
+import models.GameStatistics;
+import models.TipoBicho;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Leaderboard class.
+ */
+class LeaderboardTest {
+
+    @TempDir
+    Path dir;
+
+    private static GameStatistics partida(int normales, int disparos, int aciertos, int turnos) {
+        GameStatistics s = new GameStatistics();
+        for (int i = 0; i < normales; i++) {
+            s.recordDefeat(TipoBicho.NORMAL);
+        }
+        for (int i = 0; i < disparos; i++) {
+            s.recordShot(i < aciertos);
+        }
+        for (int i = 0; i < turnos; i++) {
+            s.incrementTurns();
+        }
+        return s;
+    }
+
+    @Test
+    void testTopByEachCriterion() throws IOException {
+        try (Leaderboard ranking = new Leaderboard(dir)) {
+            ranking.registrar(partida(3, 10, 5, 20), true);
+            ranking.registrar(partida(7, 4, 4, 9), false);
+            ranking.registrar(partida(5, 0, 0, 6), true);
+            ranking.registrar(partida(7, 8, 2, 30), true);
+
+            assertEquals(4, ranking.getPartidas());
+            assertEquals(List.of(3L, 1L, 2L), ids(ranking.top(Leaderboard.Criterio.PUNTOS, 3)));
+            assertEquals(List.of(1L, 0L, 3L), ids(ranking.top(Leaderboard.Criterio.PRECISION, 10)));
+            assertEquals(List.of(2L, 0L, 3L), ids(ranking.top(Leaderboard.Criterio.TURNOS, 10)));
+            assertEquals(3, ranking.getClasificadas(Leaderboard.Criterio.TURNOS));
+            assertEquals(70, ranking.leer(1).getPuntos());
+        }
+    }
+
+    private static List<Long> ids(List<Leaderboard.Entrada> entradas) {
+        return entradas.stream().map(Leaderboard.Entrada::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void testPercentiles() throws IOException {
+        try (Leaderboard ranking = new Leaderboard(dir)) {
+            for (int i = 1; i <= 100; i++) {
+                ranking.registrar(partida(i, 0, 0, i), true);
+            }
+            assertEquals(50.0, ranking.percentil(Leaderboard.Criterio.PUNTOS, 500), 1e-9);
+            assertEquals(100.0, ranking.percentil(Leaderboard.Criterio.PUNTOS, 5000), 1e-9);
+            assertEquals(0.0, ranking.percentil(Leaderboard.Criterio.PUNTOS, 5), 1e-9);
+            assertEquals(91.0, ranking.percentil(Leaderboard.Criterio.TURNOS, 10), 1e-9);
+            assertEquals(900.0, ranking.valorEnPercentil(Leaderboard.Criterio.PUNTOS, 90), 1e-9);
+            assertEquals(11.0, ranking.valorEnPercentil(Leaderboard.Criterio.TURNOS, 90), 1e-9);
+            assertEquals(-1.0, ranking.valorEnPercentil(Leaderboard.Criterio.PRECISION, 50), 1e-9);
+            assertThrows(IllegalArgumentException.class,
+                () -> ranking.valorEnPercentil(Leaderboard.Criterio.PUNTOS, 101));
+        }
+    }
+
+    @Test
+    void testReopenAndRecoverIndexes() throws IOException {
+        try (Leaderboard ranking = new Leaderboard(dir)) {
+            for (int i = 0; i < 50; i++) {
+                ranking.registrar(partida(i % 13, 5, i % 6, 10 + i), i % 2 == 0);
+            }
+        }
+        try (FileChannel canal = FileChannel.open(dir.resolve("puntos.idx"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, 32);
+            mapa.putLong(16, 20);
+            mapa.putLong(24, 20);
+        }
+        try (Leaderboard ranking = new Leaderboard(dir)) {
+            assertEquals(50, ranking.getPartidas());
+            assertEquals(50, ranking.getClasificadas(Leaderboard.Criterio.PUNTOS));
+            assertEquals(25, ranking.getClasificadas(Leaderboard.Criterio.TURNOS));
+            List<Leaderboard.Entrada> top = ranking.top(Leaderboard.Criterio.PUNTOS, 4);
+            assertEquals(120, top.get(0).getPuntos());
+            assertEquals(120, top.get(2).getPuntos());
+            assertEquals(110, top.get(3).getPuntos());
+            assertTrue(top.get(0).getId() > top.get(1).getId(), "Ties are listed newest first");
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package service;
+
+import models.Bicho;
+import models.GameConstants;
+import models.GameStatistics;
+import models.TableroMapeado;
+import models.TipoBicho;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MultiplayerEngine class.
+ */
+class MultiplayerEngineTest {
+
+    private BichoManager manager;
+    private MultiplayerEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        manager = new BichoManager(3, 3);
+        engine = new MultiplayerEngine(manager, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.close();
+    }
+
+    @Test
+    void testActionsWaitForTick() {
+        manager.getCampo()[0][0] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+        int jugador = engine.addPlayer();
+
+        assertTrue(engine.submit(jugador, MultiplayerEngine.Accion.BULLET, 0, 0));
+        assertEquals(GameConstants.NORMAL_HEALTH, manager.getSalud(0, 0));
+
+        assertEquals(1, engine.tick());
+        assertEquals(GameConstants.NORMAL_HEALTH - GameConstants.BULLET_DAMAGE, manager.getSalud(0, 0));
+        assertEquals(1, engine.getEstadisticas(jugador).getShotsHit());
+        assertEquals(0, engine.tick());
+    }
+
+    @Test
+    void testHitsOnSameCellAreMergedInPlayerOrder() {
+        manager.getCampo()[1][1] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+        int primero = engine.addPlayer();
+        int segundo = engine.addPlayer();
+        int tercero = engine.addPlayer();
+
+        engine.submit(tercero, MultiplayerEngine.Accion.BULLET, 1, 1);
+        engine.submit(segundo, MultiplayerEngine.Accion.BULLET, 1, 1);
+        engine.submit(primero, MultiplayerEngine.Accion.BULLET, 1, 1);
+        engine.tick();
+
+        assertTrue(manager.getBicho(1, 1).estaMuerto());
+        assertEquals(1, engine.getEstadisticas(primero).getShotsHit());
+        assertEquals(0, engine.getEstadisticas(primero).getBichosDefeated());
+        assertEquals(GameConstants.POINTS_NORMAL, engine.getEstadisticas(segundo).getTotalPoints());
+        assertEquals(0, engine.getEstadisticas(tercero).getShotsHit());
+        assertEquals(1, engine.getEstadisticas(tercero).getShotsFired());
+    }
+
+    @Test
+    void testBombAndInvalidCoordinates() {
+        manager.getCampo()[2][2] = new Bicho(GameConstants.ALIEN_HEALTH, TipoBicho.ALIEN);
+        int jugador = engine.addPlayer();
+
+        engine.submit(jugador, MultiplayerEngine.Accion.BOMB, 2, 2);
+        engine.submit(jugador, MultiplayerEngine.Accion.BULLET, 5, 5);
+        engine.tick();
+
+        GameStatistics stats = engine.getEstadisticas(jugador);
+        assertEquals(2, stats.getTurns());
+        assertEquals(1, stats.getBombsUsed());
+        assertEquals(1, stats.getShotsFired());
+        assertEquals(0, stats.getShotsHit());
+        assertEquals(GameConstants.POINTS_ALIEN, stats.getTotalPoints());
+        assertTrue(manager.finDelJuego());
+    }
+
+    @Test
+    void testMutationsRunAfterAttacks() {
+        manager.getCampo()[0][0] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+        manager.getCampo()[0][1] = new Bicho(GameConstants.ALIEN_HEALTH, TipoBicho.ALIEN);
+        int jugador = engine.addPlayer();
+
+        engine.submit(jugador, MultiplayerEngine.Accion.MUTATION, -1, -1);
+        engine.submit(jugador, MultiplayerEngine.Accion.BOMB, 0, 0);
+        engine.tick();
+
+        assertEquals(GameConstants.ALIEN_HEALTH * GameConstants.MUTATION_MULTIPLIER, manager.getSalud(0, 1));
+        assertEquals(1, engine.getEstadisticas(jugador).getMutationsPerformed());
+    }
+
+    @Test
+    void testParallelTickMatchesSequential() {
+        BichoManager secuencial = BichoManager.crearArena(200, 200);
+        secuencial.crearBichosAleatorios();
+        BichoManager paralelo = BichoManager.crearArena(200, 200);
+        paralelo.setCampo(copia(secuencial.getCampo()));
+
+        try (MultiplayerEngine uno = new MultiplayerEngine(secuencial, 1);
+             MultiplayerEngine cuatro = new MultiplayerEngine(paralelo, 4)) {
+            int jugadores = 3000;
+            for (int j = 0; j < jugadores; j++) {
+                uno.addPlayer();
+                cuatro.addPlayer();
+            }
+            java.util.Random random = new java.util.Random(42);
+            for (int t = 0; t < 3; t++) {
+                for (int j = 0; j < jugadores; j++) {
+                    int fila = random.nextInt(20);
+                    int col = random.nextInt(200);
+                    MultiplayerEngine.Accion accion = random.nextInt(10) == 0
+                        ? MultiplayerEngine.Accion.BOMB : MultiplayerEngine.Accion.BULLET;
+                    uno.submit(j, accion, fila, col);
+                    cuatro.submit(j, accion, fila, col);
+                }
+                uno.tick();
+                cuatro.tick();
+            }
+
+            assertEquals(secuencial.getHashCampo(), paralelo.getHashCampo());
+            for (int j = 0; j < jugadores; j++) {
+                assertEquals(uno.getEstadisticas(j).getTotalPoints(), cuatro.getEstadisticas(j).getTotalPoints());
+                assertEquals(uno.getEstadisticas(j).getShotsHit(), cuatro.getEstadisticas(j).getShotsHit());
+            }
+        }
+    }
+
+    @Test
+    void testParallelTickOnPagedBoard(@TempDir Path dir) throws IOException {
+        BichoManager secuencial = BichoManager.crearArena(600, 600);
+        secuencial.crearBichosAleatorios(0.5);
+        Path archivo = dir.resolve("multi.tiles");
+        secuencial.guardarPartidaTeselada(archivo);
+
+        try (BichoManager paginado = BichoManager.abrirPartidaTeselada(archivo);
+             MultiplayerEngine uno = new MultiplayerEngine(secuencial, 1);
+             MultiplayerEngine cuatro = new MultiplayerEngine(paginado, 4)) {
+            java.util.Random random = new java.util.Random(7);
+            for (int j = 0; j < 4 * MultiplayerEngine.PARALLEL_THRESHOLD; j++) {
+                uno.addPlayer();
+                cuatro.addPlayer();
+                int fila = random.nextInt(600);
+                int col = random.nextInt(600);
+                uno.submit(j, MultiplayerEngine.Accion.BULLET, fila, col);
+                cuatro.submit(j, MultiplayerEngine.Accion.BULLET, fila, col);
+            }
+            uno.tick();
+            cuatro.tick();
+
+            assertEquals(secuencial.getHashCampo(), models.Zobrist.calcular(paginado.getVista()));
+        }
+    }
+
+    @Test
+    void testTickIsOneMappedTurn(@TempDir Path dir) throws IOException {
+        TableroMapeado tablero = new TableroMapeado(dir.resolve("multi.bin"), 4, 4);
+        BichoManager mapeado = new BichoManager(tablero);
+        mapeado.aparecer(0, 0, TipoBicho.NORMAL);
+        mapeado.aparecer(1, 1, TipoBicho.ALIEN);
+        try (MultiplayerEngine motor = new MultiplayerEngine(mapeado, 1)) {
+            int a = motor.addPlayer();
+            int b = motor.addPlayer();
+            motor.submit(a, MultiplayerEngine.Accion.BULLET, 0, 0);
+            motor.submit(b, MultiplayerEngine.Accion.BOMB, 1, 1);
+            motor.submit(a, MultiplayerEngine.Accion.MUTATION, 0, 0);
+            long antes = tablero.getSecuencia();
+
+            motor.tick();
+            assertEquals(antes + 2, tablero.getSecuencia(), "Hits and mutations publish together");
+        } finally {
+            tablero.close();
+        }
+    }
+
+    @Test
+    void testPerTickActionLimit() {
+        int jugador = engine.addPlayer();
+        for (int i = 0; i < MultiplayerEngine.MAX_ACTIONS_PER_TICK; i++) {
+            assertTrue(engine.submit(jugador, MultiplayerEngine.Accion.BULLET, 0, 0));
+        }
+        assertFalse(engine.submit(jugador, MultiplayerEngine.Accion.BULLET, 0, 0));
+        engine.tick();
+        assertTrue(engine.submit(jugador, MultiplayerEngine.Accion.BULLET, 0, 0));
+    }
+
+    @Test
+    void testListenersSeeMultiplayerAttacks() {
+        manager.getCampo()[0][0] = new Bicho(GameConstants.NORMAL_HEALTH, TipoBicho.NORMAL);
+        int[] eventos = new int[3];
+        manager.addListener(new GameListener() {
+            @Override
+            public void onHit(int fila, int col, TipoBicho tipo, int saludRestante) {
+                eventos[0]++;
+            }
+
+            @Override
+            public void onKill(int fila, int col, TipoBicho tipo) {
+                eventos[1]++;
+            }
+
+            @Override
+            public void onMiss(int fila, int col) {
+                eventos[2]++;
+            }
+        });
+        int jugador = engine.addPlayer();
+
+        engine.submit(jugador, MultiplayerEngine.Accion.BULLET, 0, 0);
+        engine.submit(jugador, MultiplayerEngine.Accion.BULLET, 0, 0);
+        engine.submit(jugador, MultiplayerEngine.Accion.BULLET, 0, 0);
+        engine.submit(jugador, MultiplayerEngine.Accion.BULLET, 2, 2);
+        engine.tick();
+
+        assertArrayEquals(new int[] {2, 1, 2}, eventos);
+    }
+
+    @Test
+    void testBatchedMutationsMatchSequentialMutations() {
+        BichoManager referencia = new BichoManager(3, 3);
+        int[] saludes = {7, 3, 12, 3, 40, 9};
+        for (int i = 0; i < saludes.length; i++) {
+            manager.getCampo()[i / 3][i % 3] = new Bicho(saludes[i], TipoBicho.NORMAL);
+            referencia.getCampo()[i / 3][i % 3] = new Bicho(saludes[i], TipoBicho.NORMAL);
+        }
+        int jugador = engine.addPlayer();
+        for (int i = 0; i < 5; i++) {
+            engine.submit(jugador, MultiplayerEngine.Accion.MUTATION, -1, -1);
+            referencia.mutarMasDebil();
+        }
+        engine.tick();
+
+        assertTrue(manager.mismoCampo(referencia));
+        assertEquals(5, engine.getEstadisticas(jugador).getMutationsPerformed());
+    }
+
+    private static Bicho[][] copia(Bicho[][] campo) {
+        Bicho[][] copia = new Bicho[campo.length][campo[0].length];
+        for (int i = 0; i < campo.length; i++) {
+            for (int j = 0; j < campo[0].length; j++) {
+                copia[i][j] = new Bicho(campo[i][j].getSalud(), campo[i][j].getTipo());
+            }
+        }
+        return copia;
+    }
+}
@@ -0,0 +1,111 @@
+package service;
+
+import models.GameConstants;
+import models.TipoBicho;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RealTimeMode class.
+ */
+class RealTimeModeTest {
+
+    @Test
+    void testManagerTimerActions() {
+        BichoManager manager = new BichoManager(2, 2);
+        assertTrue(manager.aparecer(0, 0, TipoBicho.NORMAL));
+        assertFalse(manager.aparecer(0, 0, TipoBicho.ALIEN));
+        assertThrows(IllegalArgumentException.class, () -> manager.aparecer(1, 1, TipoBicho.VACIO));
+
+        manager.atacarBala(0, 0);
+        assertTrue(manager.regenerar(0, 0, 3));
+        assertEquals(8, manager.getSalud(0, 0));
+        assertTrue(manager.regenerar(0, 0, 100));
+        assertEquals(GameConstants.NORMAL_HEALTH, manager.getSalud(0, 0));
+        assertFalse(manager.regenerar(0, 0, 1));
+
+        assertTrue(manager.mutarEn(0, 0));
+        assertEquals(20, manager.getSalud(0, 0));
+        assertEquals(0, manager.getEstadisticas().getMutationsPerformed());
+        assertFalse(manager.regenerar(0, 0, 5), "Mutated bichos keep their extra health");
+        assertFalse(manager.mutarEn(1, 1));
+    }
+
+    @Test
+    void testBichosRegenerateAndDeadOnesAreDropped() {
+        BichoManager manager = new BichoManager(3, 3);
+        manager.aparecer(0, 0, TipoBicho.NORMAL);
+        manager.aparecer(2, 2, TipoBicho.ALIEN);
+        RealTimeMode modo = new RealTimeMode(manager, 7);
+        modo.setRegeneracion(5, 2);
+        modo.setMutacion(0);
+        modo.setAparicion(0);
+
+        manager.atacarBala(0, 0);
+        modo.tick();
+        assertEquals(2, modo.getPendientes(), "One regeneration timer per living bicho");
+        manager.atacarBombaEn(2, 2);
+        modo.avanzar(4);
+        assertEquals(GameConstants.NORMAL_HEALTH - 3, manager.getSalud(0, 0),
+            "Each timer fires once within its first period");
+        assertEquals(1, modo.getRegeneraciones());
+        assertEquals(0, manager.getSalud(2, 2));
+        assertEquals(1, modo.getPendientes(), "The dead bicho's timer is dropped when it fires");
+    }
+
+    @Test
+    void testSpawnsAndMutationsStayBounded() {
+        BichoManager manager = new BichoManager(8, 8);
+        RealTimeMode modo = new RealTimeMode(manager, 42);
+        modo.setRegeneracion(3, 1);
+        modo.setMutacion(4);
+        modo.setAparicion(1);
+
+        modo.avanzar(500);
+        assertTrue(modo.getApariciones() > 0);
+        assertTrue(modo.getMutaciones() > 0);
+        assertEquals(500, modo.getTick());
+        int[] vivos = new int[1];
+        manager.recorrerOcupadas((fila, col, tipo, salud) -> {
+            assertTrue(salud <= 2 * GameConstants.ALIEN_HEALTH);
+            vivos[0]++;
+        });
+        assertEquals(modo.getApariciones(), vivos[0]);
+        assertEquals(2 * vivos[0] + 1, modo.getPendientes());
+    }
+
+    @Test
+    void testTimersFollowMovedBichos() {
+        BichoManager manager = new BichoManager(3, 3);
+        manager.aparecer(0, 0, TipoBicho.NORMAL);
+        manager.atacarBala(0, 0);
+        RealTimeMode modo = new RealTimeMode(manager, 3);
+        modo.setRegeneracion(5, 1);
+        modo.setMutacion(0);
+        modo.setAparicion(0);
+        modo.tick();
+        int salud = manager.getSalud(0, 0);
+        long antes = modo.getRegeneraciones();
+
+        manager.moverCelda(0, 8);
+        modo.avanzar(5);
+        assertEquals(antes + 1, modo.getRegeneraciones(), "The moved bicho keeps regenerating");
+        assertEquals(salud + 1, manager.getSalud(2, 2));
+        assertEquals(1, modo.getPendientes());
+    }
+
+    @Test
+    void testBoardResetReschedules() {
+        BichoManager manager = new BichoManager(4, 4);
+        manager.aparecer(1, 1, TipoBicho.NORMAL);
+        RealTimeMode modo = new RealTimeMode(manager, 1);
+        modo.setAparicion(0);
+        modo.tick();
+        assertEquals(2, modo.getPendientes());
+
+        manager.inicializarCampo();
+        modo.tick();
+        assertEquals(0, modo.getPendientes());
+    }
+}
@@ -0,0 +1,194 @@
+package service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SessionRegistry class.
+ */
+class SessionRegistryTest {
+
+    @TempDir
+    Path dir;
+
+    private final AtomicLong reloj = new AtomicLong();
+
+    private SessionRegistry registro() {
+        return new SessionRegistry(dir, 100, reloj::get, false);
+    }
+
+    @Test
+    void testCreateAndRunActions() {
+        SessionRegistry registry = new SessionRegistry();
+        int a = registry.crear(3, 3, false);
+        int b = registry.crear(3, 3, false);
+
+        assertNotEquals(a, b);
+        assertEquals(2, registry.getSesiones());
+        assertTrue(registry.existe(a));
+        registry.ejecutar(a, m -> {
+            m.setSalud(0, 0, 10);
+            return null;
+        });
+        assertEquals(10, (int) registry.ejecutar(a, m -> m.getSalud(0, 0)));
+        assertEquals(0, (int) registry.ejecutar(b, m -> m.getSalud(0, 0)));
+        assertEquals(0, registry.expirarInactivas(), "In-memory registry never evicts");
+    }
+
+    @Test
+    void testUnknownSessionThrows() {
+        SessionRegistry registry = new SessionRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.ejecutar(42, m -> null));
+        assertFalse(registry.eliminar(42));
+    }
+
+    @Test
+    void testIdleSessionsAreEvictedAndReloaded() {
+        SessionRegistry registry = registro();
+        int id = registry.crear(4, 4, true);
+        long hash = registry.ejecutar(id, m -> {
+            m.atacarBala(0, 0);
+            return m.getHashCampo();
+        });
+        int turnos = registry.ejecutar(id, m -> m.getEstadisticas().getTurns());
+
+        reloj.set(50);
+        assertEquals(0, registry.expirarInactivas(), "Not idle long enough");
+        reloj.set(500);
+        assertEquals(1, registry.expirarInactivas());
+        assertEquals(0, registry.getResidentes());
+        assertTrue(Files.exists(dir.resolve("session-" + id + ".json")));
+
+        assertEquals(hash, (long) registry.ejecutar(id, BichoManager::getHashCampo));
+        assertEquals(turnos, (int) registry.ejecutar(id, m -> m.getEstadisticas().getTurns()),
+            "Statistics survive eviction");
+        assertEquals(1, registry.getResidentes());
+        assertFalse(Files.exists(dir.resolve("session-" + id + ".json")));
+    }
+
+    @Test
+    void testOnlyIdleSessionsAreEvicted() {
+        SessionRegistry registry = registro();
+        int viejo = registry.crear(3, 3, false);
+        reloj.set(80);
+        int nuevo = registry.crear(3, 3, false);
+        reloj.set(150);
+
+        assertEquals(1, registry.expirarInactivas());
+        assertEquals(1, registry.getResidentes());
+        assertTrue(registry.existe(viejo));
+        assertTrue(registry.existe(nuevo));
+    }
+
+    @Test
+    void testRemoveEvictedSessionDeletesFile() {
+        SessionRegistry registry = registro();
+        int id = registry.crear(2, 2, true);
+        reloj.set(1000);
+        registry.expirarInactivas();
+
+        assertTrue(registry.eliminar(id));
+        assertFalse(registry.existe(id));
+        assertFalse(Files.exists(dir.resolve("session-" + id + ".json")));
+        assertEquals(0, registry.getSesiones());
+    }
+
+    @Test
+    void testCellCapCountsEvictedSessions() {
+        SessionRegistry registry = new SessionRegistry(dir, 100, reloj::get, false, 50);
+        int id = registry.crear(5, 5, true);
+        reloj.set(1000);
+        registry.expirarInactivas();
+        assertTrue(registry.enDisco(id));
+
+        assertThrows(IllegalStateException.class, () -> registry.crear(6, 6, false));
+        assertEquals(25, registry.getCeldas());
+        registry.crear(5, 5, false);
+        assertEquals(50, registry.getCeldas());
+
+        assertTrue(registry.eliminar(id));
+        assertEquals(25, registry.getCeldas());
+        registry.crear(5, 5, false);
+    }
+
+    @Test
+    void testConcurrentAccessAcrossManySessions() throws InterruptedException {
+        SessionRegistry registry = registro();
+        int sesiones = 2000;
+        int[] ids = new int[sesiones];
+        for (int i = 0; i < sesiones; i++) {
+            ids[i] = registry.crear(2, 2, false);
+        }
+        List<Thread> hilos = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread hilo = new Thread(() -> {
+                for (int id : ids) {
+                    registry.ejecutar(id, m -> {
+                        m.atacarBala(0, 0);
+                        return null;
+                    });
+                }
+            });
+            hilos.add(hilo);
+            hilo.start();
+        }
+        reloj.set(1000);
+        registry.expirarInactivas();
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+
+        for (int id : ids) {
+            assertEquals(4, (int) registry.ejecutar(id, m -> m.getEstadisticas().getTurns()));
+        }
+        assertEquals(sesiones, registry.getSesiones());
+    }
+
+    @Test
+    void testEvictedSessionsSurviveRestart() {
+        SessionRegistry registry = registro();
+        int id = registry.crear(4, 4, true);
+        long hash = registry.ejecutar(id, m -> {
+            m.atacarBala(1, 1);
+            m.atacarBala(2, 2);
+            return m.getHashCampo();
+        });
+        int residente = registry.crear(3, 3, false);
+        reloj.set(1000);
+        registry.ejecutar(residente, m -> null);
+        assertEquals(1, registry.expirarInactivas());
+        registry.close();
+
+        SessionRegistry reiniciado = registro();
+        assertEquals(1, reiniciado.getSesiones());
+        assertTrue(reiniciado.enDisco(id));
+        assertFalse(reiniciado.existe(residente), "Resident sessions are not persisted");
+        assertTrue(reiniciado.crear(2, 2, false) > id, "Ids continue after the saved ones");
+
+        assertEquals(hash, (long) reiniciado.ejecutar(id, BichoManager::getHashCampo));
+        assertEquals(2, (int) reiniciado.ejecutar(id, m -> m.getEstadisticas().getTurns()));
+        assertFalse(Files.exists(dir.resolve("session-" + id + ".meta.json")));
+    }
+
+    @Test
+    void testBackgroundReload() throws Exception {
+        SessionRegistry registry = registro();
+        int id = registry.crear(3, 3, true);
+        reloj.set(1000);
+        registry.expirarInactivas();
+        assertTrue(registry.enDisco(id));
+
+        registry.recargarEnSegundoPlano(id).get();
+        assertFalse(registry.enDisco(id));
+        assertEquals(1, registry.getResidentes());
+        registry.close();
+    }
+}
@@ -0,0 +1,100 @@
+package service;
+
+import models.TableroDenso;
+import models.TipoBicho;
+import models.Zobrist;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SnapshotStore class.
+ */
+class SnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private long contarChunks() throws IOException {
+        try (Stream<Path> archivos = Files.walk(dir.resolve("chunks"))) {
+            return archivos.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    void testRoundTripAndHistory() throws IOException {
+        SnapshotStore almacen = new SnapshotStore(dir);
+        BichoManager manager = BichoManager.crearArena(150, 130);
+        manager.crearBichosAleatorios(0.2);
+        long antes = manager.getHashCampo();
+        long primera = manager.guardarPartida(almacen, "slot-1");
+        manager.atacarBala(0, 0);
+        manager.mutarMasDebil();
+        long despues = manager.getHashCampo();
+        long segunda = manager.guardarPartida(almacen, "slot-1");
+
+        assertEquals(List.of(primera, segunda), almacen.listar("slot-1"));
+        assertEquals(segunda, almacen.ultima("slot-1"));
+        assertTrue(manager.cargarPartida(almacen, "slot-1", primera));
+        assertEquals(antes, manager.getHashCampo());
+        assertTrue(manager.cargarPartida(almacen, "slot-1", segunda));
+        assertEquals(despues, manager.getHashCampo());
+        assertFalse(manager.cargarPartida(almacen, "slot-1", 99));
+        assertFalse(BichoManager.crearArena(10, 10).cargarPartida(almacen, "slot-1", primera));
+    }
+
+    @Test
+    void testUnchangedTilesAreStoredOnce() throws IOException {
+        SnapshotStore almacen = new SnapshotStore(dir);
+        TableroDenso t = new TableroDenso(256, 256);
+        for (int c = 0; c < 256; c++) {
+            t.setCelda(c, c, TipoBicho.NORMAL, c + 1);
+        }
+        almacen.guardar("a", t);
+        long tiles = (256 / SnapshotStore.TILE) * (256 / SnapshotStore.TILE);
+        long chunks = contarChunks();
+        assertTrue(chunks < tiles, "Empty tiles share one chunk");
+
+        t.setCelda(0, 1, TipoBicho.ALIEN, 20);
+        almacen.guardar("a", t);
+        almacen.guardar("b", t);
+
+        assertEquals(chunks + 1, contarChunks());
+        assertEquals(chunks + 1, almacen.getChunksEscritos());
+        assertEquals(3 * tiles - chunks - 1, almacen.getChunksReutilizados());
+    }
+
+    @Test
+    void testGarbageCollection() throws IOException {
+        SnapshotStore almacen = new SnapshotStore(dir);
+        TableroDenso t = new TableroDenso(100, 100);
+        t.setCelda(5, 5, TipoBicho.NORMAL, 3);
+        long vieja = almacen.guardar("s", t);
+        t.setCelda(5, 5, TipoBicho.NORMAL, 2);
+        long nueva = almacen.guardar("s", t);
+
+        assertEquals(0, almacen.recolectar());
+        assertTrue(almacen.eliminar("s", vieja));
+        assertEquals(1, almacen.recolectar());
+
+        TableroDenso copia = new TableroDenso(100, 100);
+        assertTrue(almacen.cargar("s", nueva, copia));
+        assertEquals(Zobrist.calcular(t), Zobrist.calcular(copia));
+    }
+
+    @Test
+    void testRejectsBadSlotNames() throws IOException {
+        SnapshotStore almacen = new SnapshotStore(dir);
+        TableroDenso t = new TableroDenso(2, 2);
+        assertThrows(IllegalArgumentException.class, () -> almacen.guardar("../x", t));
+        assertThrows(IllegalArgumentException.class, () -> almacen.listar(""));
+        assertEquals(-1, almacen.ultima("empty"));
+    }
+}
@@ -0,0 +1,135 @@
+package service;
+
+import models.GameConstants;
+import models.TipoBicho;
+import models.TipoEfecto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StatusEffects class.
+ */
+class StatusEffectsTest {
+
+    @Test
+    void testPoisonKillsAndCountsAsDefeat() {
+        BichoManager manager = new BichoManager(3, 3);
+        manager.aparecer(0, 0, TipoBicho.NORMAL);
+        manager.aparecer(2, 2, TipoBicho.ALIEN);
+        int[] bajas = new int[1];
+        manager.addListener(new GameListener() {
+            @Override
+            public void onKill(int fila, int col, TipoBicho tipo) {
+                bajas[0]++;
+            }
+        });
+        StatusEffects efectos = manager.getEfectos();
+        assertTrue(efectos.aplicar(0, 0, TipoEfecto.VENENO, 3, 5));
+        assertTrue(efectos.aplicar(0, 0, TipoEfecto.VENENO, 1, 2));
+        assertFalse(efectos.aplicar(1, 1, TipoEfecto.QUEMADURA, 1, 1), "Empty cells take no effects");
+
+        manager.atacarBala(2, 2);
+        assertEquals(6, manager.getSalud(0, 0));
+        assertEquals(4, efectos.getTurnosRestantes(0, 0, TipoEfecto.VENENO));
+        manager.atacarBala(2, 2);
+        manager.atacarBala(2, 2);
+
+        assertEquals(0, manager.getSalud(0, 0));
+        assertEquals(1, efectos.getBajas());
+        assertEquals(1, bajas[0]);
+        assertEquals(0, efectos.getAfectados());
+        assertEquals(1, manager.getEstadisticas().getBichosDefeated());
+        assertEquals(3, manager.getEstadisticas().getShotsHit(), "Effect damage is not a shot");
+    }
+
+    @Test
+    void testBurnRefreshesAndRegenerationCaps() {
+        BichoManager manager = new BichoManager(2, 2);
+        manager.aparecer(0, 0, TipoBicho.ALIEN);
+        StatusEffects efectos = manager.getEfectos();
+        efectos.aplicar(0, 0, TipoEfecto.QUEMADURA, 2, 2);
+        efectos.aplicar(0, 0, TipoEfecto.QUEMADURA, 1, 3);
+        efectos.aplicar(0, 0, TipoEfecto.REGENERACION, 5, 6);
+
+        manager.atacarBala(1, 1);
+        assertEquals(GameConstants.ALIEN_HEALTH, manager.getSalud(0, 0), "Healing outweighs the burn");
+        manager.atacarBala(0, 0);
+        assertEquals(GameConstants.ALIEN_HEALTH - 2, manager.getSalud(0, 0));
+        efectos.procesarTurno();
+        efectos.procesarTurno();
+        assertEquals(GameConstants.ALIEN_HEALTH, manager.getSalud(0, 0));
+        assertEquals(0, efectos.getTurnosRestantes(0, 0, TipoEfecto.QUEMADURA));
+        assertTrue(efectos.quitar(0, 0));
+        assertFalse(efectos.quitar(0, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> efectos.aplicar(0, 0, TipoEfecto.VENENO, 0, 1));
+    }
+
+    @Test
+    void testExpiredPoisonDoesNotStackWhenReapplied() {
+        BichoManager manager = new BichoManager(2, 2);
+        manager.aparecer(0, 0, TipoBicho.NORMAL);
+        manager.atacarBala(0, 0);
+        StatusEffects efectos = manager.getEfectos();
+        efectos.aplicar(0, 0, TipoEfecto.VENENO, 1, 1);
+        efectos.aplicar(0, 0, TipoEfecto.REGENERACION, 1, 10);
+        int salud = manager.getSalud(0, 0);
+
+        efectos.procesarTurno();
+        assertEquals(salud, manager.getSalud(0, 0));
+        assertEquals(0, efectos.getTurnosRestantes(0, 0, TipoEfecto.VENENO));
+        efectos.aplicar(0, 0, TipoEfecto.VENENO, 1, 1);
+        efectos.procesarTurno();
+
+        assertEquals(salud, manager.getSalud(0, 0), "The expired poison adds nothing to the new one");
+    }
+
+    @Test
+    void testExpiredRegenerationDoesNotRaiseReappliedOne() {
+        BichoManager manager = new BichoManager(2, 2);
+        manager.aparecer(0, 0, TipoBicho.ALIEN);
+        manager.setSalud(0, 0, 6);
+        StatusEffects efectos = manager.getEfectos();
+        efectos.aplicar(0, 0, TipoEfecto.REGENERACION, 3, 1);
+        efectos.aplicar(0, 0, TipoEfecto.VENENO, 1, 5);
+
+        efectos.procesarTurno();
+        assertEquals(8, manager.getSalud(0, 0));
+        assertEquals(0, efectos.getTurnosRestantes(0, 0, TipoEfecto.REGENERACION));
+        efectos.aplicar(0, 0, TipoEfecto.REGENERACION, 1, 3);
+        efectos.procesarTurno();
+
+        assertEquals(8, manager.getSalud(0, 0), "The new regeneration only cancels the poison");
+    }
+
+    @Test
+    void testManyAffectedBichosAndBoardReset() {
+        BichoManager manager = BichoManager.crearArena(300, 300);
+        StatusEffects efectos = manager.getEfectos();
+        for (int f = 0; f < 300; f++) {
+            for (int c = 0; c < 300; c += 3) {
+                manager.aparecer(f, c, TipoBicho.NORMAL);
+                efectos.aplicar(f, c, TipoEfecto.VENENO, 1, c % 2 == 0 ? 20 : 4);
+            }
+        }
+        assertEquals(30_000, efectos.getAfectados());
+
+        for (int t = 0; t < 4; t++) {
+            efectos.procesarTurno();
+        }
+        assertEquals(15_000, efectos.getAfectados(), "Expired effects free their slots");
+        assertEquals(6, manager.getSalud(0, 3));
+        assertEquals(6, manager.getSalud(0, 0));
+        for (int t = 0; t < 6; t++) {
+            efectos.procesarTurno();
+        }
+        assertEquals(15_000, efectos.getBajas());
+        assertEquals(0, efectos.getAfectados());
+        assertEquals(15_000, manager.getTablero().contarVivos());
+
+        efectos.aplicar(0, 3, TipoEfecto.VENENO, 1, 1);
+        manager.inicializarCampo();
+        assertEquals(0, efectos.getAfectados(), "Replacing the board drops every effect");
+    }
+}
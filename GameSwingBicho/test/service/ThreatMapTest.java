@@ -0,0 +1,87 @@
+package service;
+
+import models.GameConstants;
+import models.TipoBicho;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ThreatMap class.
+ */
+class ThreatMapTest {
+
+    @Test
+    void testBestTargetsFollowActions() {
+        BichoManager manager = new BichoManager(3, 3);
+        manager.aparecer(0, 0, TipoBicho.NORMAL);
+        manager.aparecer(2, 2, TipoBicho.ALIEN);
+        ThreatMap mapa = manager.getMapaAmenazas();
+
+        assertEquals(GameConstants.POINTS_NORMAL / 2.0, mapa.getPuntuacionBala(0, 0), 1e-9);
+        assertEquals(GameConstants.POINTS_ALIEN / 4.0, mapa.getPuntuacionBala(2, 2), 1e-9);
+        assertEquals(8, mapa.mejorObjetivoBomba(), "Bombs go to the alien");
+
+        manager.atacarBala(2, 2);
+        manager.atacarBala(2, 2);
+        assertEquals(8, mapa.mejorObjetivoBala(), "The wounded alien now pays 10 points per bullet");
+        manager.atacarBala(0, 0);
+        assertEquals(0, mapa.mejorObjetivoBala());
+        manager.atacarBombaEn(2, 2);
+        manager.atacarBombaEn(0, 0);
+        assertEquals(-1, mapa.mejorObjetivoBala());
+        assertEquals(-1, mapa.mejorObjetivoBomba());
+        assertEquals(0, mapa.getPuntosBomba(2, 2));
+    }
+
+    @Test
+    void testMatchesFullScanAfterManyChanges() {
+        BichoManager manager = BichoManager.crearArena(120, 90);
+        manager.crearBichosAleatorios(0.3);
+        ThreatMap mapa = manager.getMapaAmenazas();
+        Random random = new Random(4);
+        for (int t = 0; t < 3000; t++) {
+            int f = random.nextInt(120);
+            int c = random.nextInt(90);
+            switch (random.nextInt(4)) {
+                case 0 -> manager.atacarBombaEn(f, c);
+                case 1 -> manager.mutarMasDebil();
+                default -> manager.atacarBala(f, c);
+            }
+            if (t % 500 == 0) {
+                assertEquals(mejorPorEscaneo(manager, mapa), mapa.getPuntuacionBala(
+                    mapa.mejorObjetivoBala() / 90, mapa.mejorObjetivoBala() % 90), 1e-9);
+            }
+        }
+        assertEquals(mejorPorEscaneo(manager, mapa), mapa.getPuntuacionBala(
+            mapa.mejorObjetivoBala() / 90, mapa.mejorObjetivoBala() % 90), 1e-9);
+    }
+
+    @Test
+    void testBoardResetRebuilds() {
+        BichoManager manager = new BichoManager(4, 4);
+        ThreatMap mapa = manager.getMapaAmenazas();
+        assertEquals(-1, mapa.mejorObjetivoBala());
+        manager.crearBichosAleatorios();
+        manager.aparecer(3, 3, TipoBicho.ALIEN);
+        assertTrue(mapa.mejorObjetivoBomba() >= 0);
+        assertEquals(TipoBicho.ALIEN, manager.getTipo(mapa.mejorObjetivoBomba() / 4, mapa.mejorObjetivoBomba() % 4));
+        manager.inicializarCampo();
+        assertEquals(-1, mapa.mejorObjetivoBomba());
+    }
+
+    @Test
+    void testRefusesHugeArenas() {
+        BichoManager manager = BichoManager.crearArena(GameConstants.MAX_ARENA_SIZE, GameConstants.MAX_ARENA_SIZE);
+        assertThrows(IllegalArgumentException.class, manager::getMapaAmenazas);
+    }
+
+    private static double mejorPorEscaneo(BichoManager manager, ThreatMap mapa) {
+        double[] mejor = {0};
+        manager.recorrerOcupadas((fila, col, tipo, salud) ->
+            mejor[0] = Math.max(mejor[0], mapa.getPuntuacionBala(fila, col)));
+        return mejor[0];
+    }
+}
@@ -0,0 +1,115 @@
+package service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimingWheel class.
+ */
+class TimingWheelTest {
+
+    @Test
+    void testTimersFireOnTheirTick() {
+        TimingWheel rueda = new TimingWheel(8, 2);
+        assertEquals(8, rueda.getRanuras());
+        rueda.programar(1, 10, 0);
+        rueda.programar(8, 80, 0);
+        rueda.programar(9, 90, 0);
+        rueda.programar(20, 200, 0);
+
+        List<Long> disparos = new ArrayList<>();
+        for (int t = 0; t < 25; t++) {
+            rueda.avanzar((dato, tipo) -> disparos.add(rueda.getTick() * 1000 + dato));
+        }
+        assertEquals(List.of(1010L, 8080L, 9090L, 20200L), disparos);
+        assertEquals(0, rueda.getPendientes());
+    }
+
+    @Test
+    void testCancelInvalidatesHandle() {
+        TimingWheel rueda = new TimingWheel(4, 4);
+        long a = rueda.programar(3, 1, 0);
+        long b = rueda.programar(3, 2, 0);
+        long c = rueda.programar(3, 3, 0);
+
+        assertTrue(rueda.cancelar(b));
+        assertFalse(rueda.cancelar(b));
+        long d = rueda.programar(3, 4, 0);
+        assertFalse(rueda.cancelar(b), "Recycled entries must not accept stale handles");
+        assertEquals(3, rueda.getPendientes());
+
+        List<Integer> disparados = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            rueda.avanzar((dato, tipo) -> disparados.add(dato));
+        }
+        disparados.sort(null);
+        assertEquals(List.of(1, 3, 4), disparados);
+        assertFalse(rueda.cancelar(a));
+        assertFalse(rueda.cancelar(c));
+        assertFalse(rueda.cancelar(d));
+    }
+
+    @Test
+    void testReassignKeepsDueTick() {
+        TimingWheel rueda = new TimingWheel(4, 4);
+        long a = rueda.programar(6, 1, 0);
+
+        assertTrue(rueda.reasignar(a, 7));
+        List<Long> disparos = new ArrayList<>();
+        for (int t = 0; t < 6; t++) {
+            rueda.avanzar((dato, tipo) -> disparos.add(rueda.getTick() * 1000 + dato));
+        }
+        assertEquals(List.of(6007L), disparos);
+        assertFalse(rueda.reasignar(a, 8), "Fired timers cannot be reassigned");
+    }
+
+    @Test
+    void testCallbacksMayRescheduleAndCancel() {
+        TimingWheel rueda = new TimingWheel(4, 1);
+        long[] otro = {rueda.programar(1, 2, 0)};
+        rueda.programar(1, 1, 0);
+
+        int[] disparos = new int[3];
+        TimingWheel.Disparador d = (dato, tipo) -> {
+            disparos[dato]++;
+            if (dato == 1) {
+                rueda.cancelar(otro[0]);
+                rueda.programar(4, 1, 0);
+            }
+        };
+        assertEquals(2, rueda.avanzar(d), "Both timers were due before the callbacks ran");
+        for (int t = 0; t < 8; t++) {
+            rueda.avanzar(d);
+        }
+        assertEquals(3, disparos[1]);
+        assertEquals(1, disparos[2]);
+    }
+
+    @Test
+    void testClearAndMillionsOfTimers() {
+        TimingWheel rueda = new TimingWheel(4096, 1024);
+        int n = 1_000_000;
+        for (int i = 0; i < n; i++) {
+            rueda.programar(1 + i % 10_000, i, 1);
+        }
+        assertEquals(n, rueda.getPendientes());
+        long[] suma = new long[1];
+        int total = 0;
+        for (int t = 0; t < 100; t++) {
+            total += rueda.avanzar((dato, tipo) -> suma[0] += tipo);
+        }
+        assertEquals(100 * (n / 10_000), total);
+        assertEquals(total, suma[0]);
+
+        long h = rueda.programar(5, 0, 0);
+        rueda.limpiar();
+        assertEquals(0, rueda.getPendientes());
+        assertFalse(rueda.cancelar(h));
+        assertEquals(0, rueda.avanzar((dato, tipo) -> fail("Cleared timers must not fire")));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(0, 1));
+    }
+}
@@ -0,0 +1,111 @@
+package service;
+
+import models.TableroDisperso;
+import models.TipoBicho;
+import models.TipoEfecto;
+import models.TurnTimeSeries;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Allocation regression tests for the turn loop of BichoManager.
+ * <p>
+ * Each test warms the loop up, then plays many turns in rounds and reads
+ * the bytes allocated by the test thread during each round. The board is
+ * reseeded between rounds, outside the measurement, so every round keeps
+ * killing bichos. The budget only covers the measurement itself, so any
+ * per-turn allocation fails the test.
+ * </p>
+ */
+class TurnAllocationTest {
+
+    private static final int TURNOS = 200_000;
+    private static final int RONDAS = 100;
+    private static final long MARGEN = 4096;
+
+    @Test
+    void testDenseTurnsDoNotAllocate() {
+        BichoManager manager = new BichoManager(10, 10);
+        assertSinAsignaciones(manager, () -> manager.crearBichosAleatorios(1.0));
+    }
+
+    @Test
+    void testSparseTurnsWithListenersDoNotAllocate() {
+        BichoManager manager = new BichoManager(new TableroDisperso(50, 50));
+        manager.getMapaAmenazas();
+        manager.setSerieTurnos(new TurnTimeSeries(1024));
+        assertSinAsignaciones(manager, () -> {
+            manager.inicializarCampo();
+            for (int i = 0; i < 2500; i += 7) {
+                manager.aparecer(i / 50, i % 50, i % 3 == 0 ? TipoBicho.ALIEN : TipoBicho.NORMAL);
+            }
+        });
+    }
+
+    private static void assertSinAsignaciones(BichoManager manager, Runnable sembrar) {
+        com.sun.management.ThreadMXBean hilos = bean();
+        int porRonda = TURNOS / RONDAS;
+        for (int r = 0; r < RONDAS; r++) {
+            sembrar.run();
+            jugar(manager, porRonda);
+        }
+        long tid = Thread.currentThread().getId();
+        long bytes = 0;
+        long bajas = 0;
+        long vivos = 0;
+        for (int r = 0; r < RONDAS; r++) {
+            sembrar.run();
+            int derrotados = manager.getEstadisticas().getBichosDefeated();
+            long antes = hilos.getThreadAllocatedBytes(tid);
+            vivos += jugar(manager, porRonda);
+            bytes += hilos.getThreadAllocatedBytes(tid) - antes;
+            bajas += manager.getEstadisticas().getBichosDefeated() - derrotados;
+        }
+        assertTrue(vivos >= 0);
+        assertTrue(bajas >= RONDAS, String.format("Only %d bichos were killed while measuring", bajas));
+        assertTrue(bytes < MARGEN,
+            String.format("%d turns allocated %d bytes", TURNOS, bytes));
+    }
+
+    /**
+     * Plays bullets over every cell, a mutation every ten turns, poison
+     * every fifty turns and a bomb every hundred turns, checking for the end
+     * of the game after each one.
+     */
+    private static long jugar(BichoManager manager, int turnos) {
+        int filas = manager.getFilas();
+        int columnas = manager.getColumnas();
+        long finales = 0;
+        for (int t = 0; t < turnos; t++) {
+            int celda = t % (filas * columnas);
+            manager.atacarBala(celda / columnas, celda % columnas);
+            if (t % 10 == 0) {
+                manager.mutarMasDebil();
+            }
+            if (t % 50 == 0) {
+                manager.getEfectos().aplicar(celda / columnas, celda % columnas, TipoEfecto.VENENO, 1, 3);
+            }
+            if (t % 100 == 0) {
+                manager.atacarBombaEn((celda * 7) % filas, (celda * 13) % columnas);
+            }
+            if (manager.finDelJuego()) {
+                finales++;
+            }
+        }
+        return finales + manager.getEstadisticas().getTotalPoints();
+    }
+
+    private static com.sun.management.ThreadMXBean bean() {
+        java.lang.management.ThreadMXBean hilos = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(hilos instanceof com.sun.management.ThreadMXBean,
+            "Per-thread allocation counters are not available");
+        com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) hilos;
+        Assumptions.assumeTrue(sun.isThreadAllocatedMemorySupported());
+        sun.setThreadAllocatedMemoryEnabled(true);
+        return sun;
+    }
+}
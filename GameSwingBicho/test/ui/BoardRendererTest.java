@@ -0,0 +1,80 @@
+package ui;
+
+import models.TableroDenso;
+import models.TipoBicho;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoardRenderer class.
+ */
+class BoardRendererTest {
+
+    @Test
+    void testTiledRasterMatchesCellByCell() {
+        int filas = BoardRenderer.TILE + 5;
+        int columnas = BoardRenderer.TILE * 2 + 3;
+        TableroDenso tablero = new TableroDenso(filas, columnas);
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            int f = random.nextInt(filas);
+            int c = random.nextInt(columnas);
+            tablero.setCelda(f, c, random.nextBoolean() ? TipoBicho.NORMAL : TipoBicho.ALIEN, random.nextInt(25));
+        }
+        BoardRenderer renderer = new BoardRenderer(3);
+
+        BufferedImage imagen = renderer.rasterizar(tablero);
+        BufferedImage esperada = new BufferedImage(columnas * 3, filas * 3, BufferedImage.TYPE_INT_RGB);
+        for (int f = 0; f < filas; f++) {
+            for (int c = 0; c < columnas; c++) {
+                renderer.dibujarCelda(esperada, f, c, tablero.getTipo(f, c), tablero.getSalud(f, c));
+            }
+        }
+
+        assertEquals(columnas * 3, imagen.getWidth());
+        assertEquals(filas * 3, imagen.getHeight());
+        for (int y = 0; y < imagen.getHeight(); y++) {
+            for (int x = 0; x < imagen.getWidth(); x++) {
+                assertEquals(esperada.getRGB(x, y), imagen.getRGB(x, y));
+            }
+        }
+    }
+
+    @Test
+    void testExportPngDistinguishesStates(@TempDir Path dir) throws Exception {
+        TableroDenso tablero = new TableroDenso(1, 4);
+        tablero.setCelda(0, 0, TipoBicho.NORMAL, 10);
+        tablero.setCelda(0, 1, TipoBicho.NORMAL, 5);
+        tablero.setCelda(0, 2, TipoBicho.ALIEN, 20);
+        Path png = dir.resolve("tablero.png");
+
+        new BoardRenderer(16).exportarPng(tablero, png);
+        BufferedImage leida = ImageIO.read(png.toFile());
+
+        assertEquals(64, leida.getWidth());
+        assertEquals(16, leida.getHeight());
+        int sano = leida.getRGB(8, 8);
+        int herido = leida.getRGB(24, 8);
+        int alien = leida.getRGB(40, 8);
+        int vacio = leida.getRGB(56, 8);
+        assertNotEquals(sano, herido);
+        assertNotEquals(sano, alien);
+        assertNotEquals(sano, vacio);
+        assertEquals(new BoardRenderer(16).rasterizar(tablero).getRGB(40, 8), alien);
+    }
+
+    @Test
+    void testRejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardRenderer(0));
+        assertThrows(IllegalArgumentException.class, () -> new BoardRenderer(257));
+        TableroDenso grande = new TableroDenso(200, 200);
+        assertThrows(IllegalArgumentException.class, () -> new BoardRenderer(256).rasterizar(grande));
+    }
+}
@@ -0,0 +1,44 @@
+package ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LectorConsola class.
+ */
+class LectorConsolaTest {
+
+    private static LectorConsola lector(String texto) {
+        return new LectorConsola(new ByteArrayInputStream(texto.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testReadsTokensLikeScanner() {
+        LectorConsola sc = lector("  3\n\tabc -7 +2\r\n99999999999 ");
+
+        assertTrue(sc.hasNextInt());
+        assertEquals(3, sc.nextInt());
+        assertFalse(sc.hasNextInt());
+        assertThrows(InputMismatchException.class, sc::nextInt);
+        assertEquals("abc", sc.next());
+        assertEquals(-7, sc.nextInt());
+        assertEquals(2, sc.nextInt());
+        assertFalse(sc.hasNextInt(), "Values outside the int range are not ints");
+        assertEquals("99999999999", sc.next());
+    }
+
+    @Test
+    void testExhaustedInput() {
+        LectorConsola sc = lector(" \n ");
+
+        assertFalse(sc.hasNextInt());
+        assertThrows(NoSuchElementException.class, sc::next);
+        assertThrows(NoSuchElementException.class, sc::nextInt);
+    }
+}
@@ -0,0 +1,36 @@
+package ui;
+
+import models.TipoBicho;
+import org.junit.jupiter.api.Test;
+import service.BichoManager;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PanelTablero class.
+ */
+class PanelTableroTest {
+
+    @Test
+    void testRedrawsOnlyChangedCells() {
+        BichoManager manager = new BichoManager(10, 10);
+        manager.aparecer(4, 4, TipoBicho.NORMAL);
+        PanelTablero panel = new PanelTablero(manager, 4);
+        BufferedImage antes = panel.getImagen();
+
+        manager.atacarBala(4, 4);
+
+        assertEquals(1, panel.getCeldasRedibujadas());
+        BufferedImage despues = panel.getImagen();
+        assertNotEquals(antes.getRGB(18, 18), despues.getRGB(18, 18));
+        assertEquals(antes.getRGB(2, 2), despues.getRGB(2, 2));
+        BufferedImage completa = new BoardRenderer(4).rasterizar(manager.getTablero());
+        assertEquals(completa.getRGB(18, 18), despues.getRGB(18, 18));
+
+        panel.desconectar();
+        manager.atacarBala(4, 4);
+        assertEquals(1, panel.getCeldasRedibujadas());
+    }
+}